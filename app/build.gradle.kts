@@ -9,6 +9,9 @@ plugins {
     // Apply the application plugin to add support for building a CLI application in Java.
     application
     java
+
+    // Microbenchmarks en src/jmh/java (./gradlew jmh)
+    alias(libs.plugins.jmh)
 }
 
 repositories {
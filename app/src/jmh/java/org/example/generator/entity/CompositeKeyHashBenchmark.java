@@ -0,0 +1,206 @@
+package org.example.generator.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara las claves compuestas generadas antes (Objects.hash/Objects.equals) con las actuales
+ * (hashCode desenrollado sin varargs ni boxing, equals por tipo) y con el hash cacheado. Las
+ * clases replican la salida de {@link org.example.generator.entity.factory.CompositeClassGenerator}
+ * para una clave (order_id BIGINT, line_no INTEGER, sku VARCHAR).
+ * <p>
+ * Con {@code -prof gc} se ve la diferencia de asignación: la versión con Objects.hash reserva el
+ * array varargs y el boxing en cada llamada salvo que el JIT consiga eliminarlos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositeKeyHashBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private ObjectsHashKey[] objectsHashKeys;
+    private UnrolledKey[] unrolledKeys;
+    private CachedKey[] cachedKeys;
+    private Map<ObjectsHashKey, Integer> objectsHashMap;
+    private Map<UnrolledKey, Integer> unrolledMap;
+    private Map<CachedKey, Integer> cachedMap;
+
+    @Setup
+    public void setUp() {
+        objectsHashKeys = new ObjectsHashKey[KEYS];
+        unrolledKeys = new UnrolledKey[KEYS];
+        cachedKeys = new CachedKey[KEYS];
+        objectsHashMap = new HashMap<>();
+        unrolledMap = new HashMap<>();
+        cachedMap = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            Long orderId = 1_000_000L + i / 8;
+            Integer lineNo = i % 8;
+            String sku = "SKU-" + (i * 7919 % 10_000);
+            objectsHashKeys[i] = new ObjectsHashKey(orderId, lineNo, sku);
+            unrolledKeys[i] = new UnrolledKey(orderId, lineNo, sku);
+            cachedKeys[i] = new CachedKey(orderId, lineNo, sku);
+            // Copias distintas como claves del mapa, para que equals() no corte en this == o
+            objectsHashMap.put(new ObjectsHashKey(orderId, lineNo, sku), i);
+            unrolledMap.put(new UnrolledKey(orderId, lineNo, sku), i);
+            cachedMap.put(new CachedKey(orderId, lineNo, sku), i);
+        }
+    }
+
+    @Benchmark
+    public void objectsHashCode(Blackhole blackhole) {
+        for (ObjectsHashKey key : objectsHashKeys) {
+            blackhole.consume(key.hashCode());
+        }
+    }
+
+    @Benchmark
+    public void unrolledHashCode(Blackhole blackhole) {
+        for (UnrolledKey key : unrolledKeys) {
+            blackhole.consume(key.hashCode());
+        }
+    }
+
+    @Benchmark
+    public void cachedHashCode(Blackhole blackhole) {
+        for (CachedKey key : cachedKeys) {
+            blackhole.consume(key.hashCode());
+        }
+    }
+
+    @Benchmark
+    public void objectsHashLookup(Blackhole blackhole) {
+        for (ObjectsHashKey key : objectsHashKeys) {
+            blackhole.consume(objectsHashMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void unrolledLookup(Blackhole blackhole) {
+        for (UnrolledKey key : unrolledKeys) {
+            blackhole.consume(unrolledMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void cachedLookup(Blackhole blackhole) {
+        for (CachedKey key : cachedKeys) {
+            blackhole.consume(cachedMap.get(key));
+        }
+    }
+
+    /** Salida anterior del generador. */
+    static class ObjectsHashKey {
+        private final Long orderId;
+        private final Integer lineNo;
+        private final String sku;
+
+        ObjectsHashKey(Long orderId, Integer lineNo, String sku) {
+            this.orderId = orderId;
+            this.lineNo = lineNo;
+            this.sku = sku;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ObjectsHashKey that = (ObjectsHashKey) o;
+            return Objects.equals(orderId, that.orderId) && Objects.equals(lineNo, that.lineNo) && Objects.equals(sku, that.sku);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(orderId, lineNo, sku);
+        }
+    }
+
+    /** Salida actual del generador. */
+    static final class UnrolledKey {
+        private final Long orderId;
+        private final Integer lineNo;
+        private final String sku;
+
+        UnrolledKey(Long orderId, Integer lineNo, String sku) {
+            this.orderId = orderId;
+            this.lineNo = lineNo;
+            this.sku = sku;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof UnrolledKey)) return false;
+            UnrolledKey that = (UnrolledKey) o;
+            return (orderId == null ? that.orderId == null : that.orderId != null && orderId.longValue() == that.orderId.longValue())
+                && (lineNo == null ? that.lineNo == null : that.lineNo != null && lineNo.intValue() == that.lineNo.intValue())
+                && (sku == null ? that.sku == null : sku.equals(that.sku));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 1;
+            result = 31 * result + (orderId != null ? Long.hashCode(orderId) : 0);
+            result = 31 * result + (lineNo != null ? lineNo.intValue() : 0);
+            result = 31 * result + (sku != null ? sku.hashCode() : 0);
+            return result;
+        }
+    }
+
+    /** Salida actual con {@code cacheKeyHash: true}. */
+    static final class CachedKey {
+        private final Long orderId;
+        private final Integer lineNo;
+        private final String sku;
+
+        private transient int hash;
+
+        CachedKey(Long orderId, Integer lineNo, String sku) {
+            this.orderId = orderId;
+            this.lineNo = lineNo;
+            this.sku = sku;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CachedKey)) return false;
+            CachedKey that = (CachedKey) o;
+            if (hash != 0 && that.hash != 0 && hash != that.hash) return false;
+            return (orderId == null ? that.orderId == null : that.orderId != null && orderId.longValue() == that.orderId.longValue())
+                && (lineNo == null ? that.lineNo == null : that.lineNo != null && lineNo.intValue() == that.lineNo.intValue())
+                && (sku == null ? that.sku == null : sku.equals(that.sku));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = hash;
+            if (result == 0) {
+                result = 1;
+                result = 31 * result + (orderId != null ? Long.hashCode(orderId) : 0);
+                result = 31 * result + (lineNo != null ? lineNo.intValue() : 0);
+                result = 31 * result + (sku != null ? sku.hashCode() : 0);
+                hash = result;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.generator.template;
+
+import org.example.database.converter.AlterTableProcessor;
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.model.TableMetadata;
+import org.example.generator.entity.EntityGenerator;
+import org.example.generator.entity.EntityGeneratorOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el renderizado de entidades con los generadores escritos a mano, con la plantilla
+ * por defecto (misma salida) y con una plantilla personalizada que recorre las columnas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityRenderBenchmark {
+
+    private static final String SCHEMA = """
+        CREATE TABLE category (
+            id SERIAL PRIMARY KEY,
+            name VARCHAR(100) NOT NULL,
+            description TEXT
+        );
+
+        CREATE TABLE product (
+            id SERIAL PRIMARY KEY,
+            name VARCHAR(100) NOT NULL DEFAULT 'Unnamed Product',
+            price DECIMAL(10,2) NOT NULL,
+            stock INTEGER NOT NULL,
+            created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+            category_id INTEGER REFERENCES category(id)
+        );
+
+        CREATE TABLE order_item (
+            order_id INTEGER NOT NULL,
+            product_id INTEGER NOT NULL REFERENCES product(id),
+            quantity INTEGER NOT NULL,
+            PRIMARY KEY (order_id, product_id)
+        );
+        """;
+
+    private static final String CUSTOM_TEMPLATE = """
+        package {{packageName}};
+
+        {{imports}}
+        @Entity
+        @Table(name = "{{tableName}}")
+        public class {{className}} {
+        {{#columns}}
+
+            @Column(name = "{{columnName}}"{{#notNull}}, nullable = false{{/notNull}})
+            private {{javaType}} {{fieldName}};
+        {{/columns}}
+
+            public {{className}}() {}
+        {{#columns}}
+
+            public {{javaType}} get{{capitalizedName}}() {
+                return {{fieldName}};
+            }
+
+            public void set{{capitalizedName}}({{javaType}} {{fieldName}}) {
+                this.{{fieldName}} = {{fieldName}};
+            }
+        {{/columns}}
+        }
+        """;
+
+    private List<TableMetadata> tables;
+    private EntityGenerator handWritten;
+    private EntityGenerator defaultTemplate;
+    private EntityGenerator customTemplate;
+
+    @Setup
+    public void setUp() {
+        tables = new SchemaProcessor().processSchema(SCHEMA);
+        new AlterTableProcessor().processAlterStatements(tables, SCHEMA);
+        ForeignKeyGraph graph = ForeignKeyGraph.build(tables);
+
+        handWritten = new EntityGenerator(false, graph);
+        defaultTemplate = new EntityGenerator(false, graph, EntityGeneratorOptions.defaults()
+            .withTemplate(TemplateCompiler.compileResource(TemplateCompiler.DEFAULT_ENTITY_TEMPLATE)));
+        customTemplate = new EntityGenerator(false, graph, EntityGeneratorOptions.defaults()
+            .withTemplate(TemplateCompiler.compile("custom", CUSTOM_TEMPLATE)));
+    }
+
+    @Benchmark
+    public void handWritten(Blackhole blackhole) {
+        render(handWritten, blackhole);
+    }
+
+    @Benchmark
+    public void defaultTemplate(Blackhole blackhole) {
+        render(defaultTemplate, blackhole);
+    }
+
+    @Benchmark
+    public void customTemplate(Blackhole blackhole) {
+        render(customTemplate, blackhole);
+    }
+
+    private void render(EntityGenerator generator, Blackhole blackhole) {
+        for (TableMetadata table : tables) {
+            blackhole.consume(generator.generateEntity(table, "com.example.demo"));
+        }
+    }
+}
@@ -52,6 +52,14 @@ public class CommandLineInterface {
                       services, s      Generate service classes
                       controllers, c.  Generate controller classes
                       all, a           Generate all code artifacts
+                    Options:
+                      --full, -f       Regenerate every entity, not only the changed ones
+                      --parallelism, -j N  Render entities on N threads (default: all cores)
+                      --verify         Compile the entities in memory; write nothing if any fails
+                      --dry-run, -n    Print a unified diff of the changes; write nothing
+                      --output-zip, -o F  Write all sources into the zip/source jar F
+                      --low-memory     Stream tables one at a time instead of loading the whole schema
+                  diff, d [path]       Show schema changes since the last generation
                   process, p           Process SQL schema with current configuration
                   version, v           Show the tool's version
                   help, h              Display this help message
@@ -59,6 +67,10 @@ public class CommandLineInterface {
                 Examples:
                   arch generate models   Generate model classes (full command)
                   arch g m               Generate model classes (shorthand)
+                  arch g m --full        Regenerate all model classes
+                  arch g m --verify      Generate model classes only if they compile
+                  arch g m -n            Preview the changes to the model classes
+                  arch g m -o models.zip Package all model classes into a zip
                   arch c custom.yml      Use custom configuration file
                 """
         );
@@ -6,6 +6,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.example.cli.command.impl.CheckCommand;
+import org.example.cli.command.impl.DiffCommand;
 import org.example.cli.command.impl.GenerateCommand;
 import org.example.cli.command.impl.InitCommand;
 import org.example.cli.command.impl.VersionCommand;
@@ -45,6 +46,7 @@ public class CommandRegistry {
         registerCommand("check", "c", new CheckCommand());
         registerCommand("generate", "g", new GenerateCommand());
         registerCommand("version", "v", new VersionCommand());
+        registerCommand("diff", "d", new DiffCommand());
     }
 
     public ExecutorService getExecutor() {
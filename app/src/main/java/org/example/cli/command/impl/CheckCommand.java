@@ -33,6 +33,7 @@ public class CheckCommand implements Command {
                     System.out.println("    - " + path);
                 });
                 System.out.println("• SQL Schema directory: " + config.getSql().getSchema().getDirectory());
+                System.out.println("• Migrations replay: " + config.getSql().getSchema().isMigrations());
 
                 System.out.println("• Base Package: " + config.getOutput().getBasePackage());
                 System.out.println("• lombok enabled: " + config.getOutput().getOptions().isLombok());
@@ -0,0 +1,71 @@
+package org.example.cli.command.impl;
+
+import org.example.cli.command.Command;
+import org.example.configuration.ConfigurationManager;
+import org.example.configuration.model.AppConfiguration;
+import org.example.database.SqlFileProcessorManager;
+import org.example.database.diff.SchemaDiff;
+import org.example.database.diff.SchemaDiffEngine;
+import org.example.database.diff.SchemaSnapshot;
+import org.example.database.diff.SchemaSnapshotStore;
+import org.example.database.model.TableMetadata;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class DiffCommand implements Command {
+
+    @Override
+    public void execute(String[] args) {
+        ConfigurationManager configManager = ConfigurationManager.getInstance();
+        String defaultConfigPath = "arch.yml";
+
+        try {
+            String configPath = args.length > 0 ? args[0] : defaultConfigPath;
+            CompletableFuture<AppConfiguration> configFuture = configManager.loadConfiguration(configPath);
+            AppConfiguration config = configFuture.join();
+
+            SchemaSnapshotStore snapshotStore = new SchemaSnapshotStore(Paths.get(config.getSql().getSchema().getSnapshot()));
+            SchemaSnapshot snapshot = snapshotStore.load();
+            if (snapshot == null) {
+                System.out.println("⚠️  No schema snapshot found at " + snapshotStore.getSnapshotPath()
+                    + "; the next 'arch generate models' will generate every entity");
+            }
+
+            SqlFileProcessorManager sqlManager = new SqlFileProcessorManager();
+            try {
+                List<TableMetadata> tables = sqlManager.loadTables(config.getSql().getSchema()).join();
+                List<TableMetadata> previous = snapshot != null ? snapshot.getTables() : new ArrayList<>();
+
+                SchemaDiff diff = new SchemaDiffEngine().compare(previous, tables);
+                displayDiff(diff, tables.size());
+            } finally {
+                sqlManager.shutdown();
+            }
+
+        } catch (Exception e) {
+            System.err.println("❌ Error computing schema diff: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void displayDiff(SchemaDiff diff, int totalTables) {
+        if (diff.isEmpty()) {
+            System.out.println("✅ Schema unchanged since the last generation (" + totalTables + " tables)");
+            return;
+        }
+
+        System.out.println("Schema changes since the last generation:");
+        diff.describe().forEach(line -> System.out.println("  " + line));
+
+        System.out.println("\nEntities to regenerate (" + diff.getAffectedTables().size() + " of " + totalTables + "):");
+        diff.getAffectedTables().forEach(table -> System.out.println("  • " + table));
+    }
+
+    @Override
+    public String getDescription() {
+        return "Show schema changes since the last generation";
+    }
+}
@@ -4,30 +4,86 @@ import org.example.cli.command.Command;
 import org.example.cli.command.CommandRegistry;
 import org.example.configuration.ConfigurationManager;
 import org.example.configuration.model.AppConfiguration;
+import org.example.database.SchemaModel;
 import org.example.database.SqlFileProcessorManager;
-import org.example.database.converter.AlterTableProcessor;
-import org.example.database.extractor.SchemaProcessor;
-import org.example.database.extractor.index.CreateIndexProcessor;
+import org.example.database.diff.SchemaDiff;
+import org.example.database.diff.SchemaDiffEngine;
+import org.example.database.diff.SchemaSnapshot;
+import org.example.database.diff.SchemaSnapshotStore;
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.graph.GenerationUnit;
 import org.example.database.model.TableMetadata;
-import org.example.database.parser.SqlFileContent;
+import org.example.database.stream.StreamingSchemaLoader;
+import org.example.generator.artifact.ArtifactGenerator;
+import org.example.generator.artifact.ParallelArtifactGenerator;
+import org.example.generator.artifact.PrimaryKey;
+import org.example.generator.artifact.RenderedArtifact;
+import org.example.generator.controller.ControllerGenerator;
 import org.example.generator.docs.DocGenerator;
+import org.example.generator.dto.DtoGenerator;
 import org.example.generator.entity.EntityGenerator;
+import org.example.generator.entity.EntityGeneratorOptions;
+import org.example.generator.entity.ParallelEntityGenerator;
+import org.example.generator.entity.RenderedEntity;
+import org.example.generator.entity.BytecodeEnhancementSnippet;
+import org.example.generator.entity.SequenceAlignmentScript;
+import org.example.generator.entity.UuidV7GeneratorSources;
 import org.example.generator.entity.common.GeneratorUtils;
-
+import org.example.generator.entity.common.EntityPolicy;
+import org.example.generator.entity.common.IdPolicy;
+import org.example.generator.entity.common.NamingEngine;
+import org.example.generator.entity.common.RelationPolicy;
+import org.example.generator.output.BatchFileWriter;
+import org.example.generator.output.GenerationManifest;
+import org.example.generator.output.IncrementalFileWriter;
+import org.example.generator.output.SourceZipWriter;
+import org.example.generator.output.UnifiedDiff;
+import org.example.generator.output.VirtualFileSystem;
+import org.example.generator.repository.RepositoryGenerator;
+import org.example.generator.schedule.ArtifactKind;
+import org.example.generator.schedule.DagScheduler;
+import org.example.generator.schedule.GenerationTask;
+import org.example.generator.schedule.ScheduleReport;
+import org.example.generator.service.ServiceGenerator;
+import org.example.generator.template.Template;
+import org.example.generator.template.TemplateCompiler;
+import org.example.generator.verify.CompileVerifier;
+import org.example.generator.verify.VerificationError;
+import org.example.generator.verify.VerificationResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
-
-import static org.example.database.SqlFileProcessor.consolidateSqlContents;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 public class GenerateCommand implements Command {
 
+    /**
+     * Versión de la salida del generador. Se incrementa con cada cambio en el código generado a
+     * partir de unas mismas opciones, para que las entidades escritas por una versión anterior no
+     * se den por actualizadas.
+     */
+    static final int OUTPUT_VERSION = 1;
+
     private final Map<String, Runnable> subCommands = new HashMap<>();
     private final String DEFAULT_CONFIG_PATH = "arch.yml";
     private final GeneratorUtils generatorUtils = new GeneratorUtils();
+    private GenerateOptions options = new GenerateOptions();
+    private CompletableFuture<SchemaModel> schema;
+    private IncrementalFileWriter fileWriter;
 
     public GenerateCommand() {
         // Register the sub-commands with full names and shorthands
@@ -61,11 +117,16 @@ public class GenerateCommand implements Command {
             return;
         }
 
-        if (args.length == 0) {
+        // Cada ejecución vuelve a leer el esquema y el manifest, una sola vez para todos los generadores
+        resetInvocation();
+
+        if (args.length == 0 || args[0].startsWith("-")) {
+            options = GenerateOptions.parse(args, 0);
             generateAll();
             return;
         }
 
+        options = GenerateOptions.parse(args, 1);
         String subCommand = args[0].toLowerCase();
         Runnable action = subCommands.get(subCommand);
 
@@ -73,7 +134,8 @@ public class GenerateCommand implements Command {
             action.run();
         } else {
             System.err.println("❌ Unknown generate sub-command: " + subCommand);
-            System.err.println("Available options: models (m), repos (r), all (a)");
+            System.err.println("Available options: init (i), models (m), repos (r), services (s), controllers (c), all (a)");
+            System.err.println("Flags: --full (-f), --parallelism (-j) N, --verify, --dry-run (-n), --output-zip (-o) FILE, --low-memory");
         }
     }
 
@@ -98,6 +160,65 @@ public class GenerateCommand implements Command {
         }
     }
 
+    /**
+     * Esquema de la ejecución actual. La primera llamada lanza la carga y las siguientes, también
+     * desde otros hilos, reciben el mismo resultado, así que cada tipo de artefacto adicional solo
+     * cuesta su renderizado.
+     */
+    private synchronized CompletableFuture<SchemaModel> schema() {
+        if (schema == null) {
+            AppConfiguration config = ConfigurationManager.getInstance().getConfiguration();
+            SqlFileProcessorManager sqlManager = new SqlFileProcessorManager();
+            schema = sqlManager.loadTables(config.getSql().getSchema())
+                .thenApply(SchemaModel::of)
+                .whenComplete((model, ex) -> sqlManager.shutdown());
+        }
+        return schema;
+    }
+
+    /**
+     * Espera al esquema compartido e informa del error si no pudo cargarse.
+     *
+     * @return El esquema, o null si falló su carga
+     */
+    private SchemaModel sharedSchema() {
+        try {
+            return schema().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            System.err.println("❌ Error loading schema: " + cause.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Escritor de archivos de la ejecución actual. Todos los generadores comparten el mismo
+     * manifest para que sus entradas no se pisen al guardarlo.
+     */
+    private synchronized IncrementalFileWriter fileWriter() {
+        if (fileWriter == null) {
+            AppConfiguration config = ConfigurationManager.getInstance().getConfiguration();
+            fileWriter = new IncrementalFileWriter(Paths.get(config.getOutput().getManifest()));
+        }
+        return fileWriter;
+    }
+
+    /**
+     * Guarda el manifest compartido; los generadores que terminan a la vez lo hacen de uno en uno.
+     */
+    private synchronized void saveManifest() throws IOException {
+        fileWriter().save();
+    }
+
+    private synchronized void resetInvocation() {
+        schema = null;
+        fileWriter = null;
+
+        // Memo de nombres nuevo en cada ejecución, con las reglas actuales de arch.yml
+        AppConfiguration config = ConfigurationManager.getInstance().getConfiguration();
+        NamingEngine.activate(config.getOutput().getNaming());
+    }
+
     public void generateDocs() {
         DocGenerator dg = new DocGenerator();
         dg.run();
@@ -109,112 +230,697 @@ public class GenerateCommand implements Command {
         String build = config.getApplication().getBuild();
         String basePackage = config.getOutput().getBasePackage();
         boolean useLombok = config.getOutput().getOptions().isLombok();
-        EntityGenerator generator = new EntityGenerator(useLombok);
-
-        // 1. Inicializar procesadores
-        SchemaProcessor extractProcessor = new SchemaProcessor();
-        AlterTableProcessor alterProcessor = new AlterTableProcessor();
-        CreateIndexProcessor indexProcessor = new CreateIndexProcessor();
 
         System.out.println("Generating model classes...");
 
-        SqlFileProcessorManager sqlManager = new SqlFileProcessorManager();
+        SchemaSnapshotStore snapshotStore = new SchemaSnapshotStore(Paths.get(config.getSql().getSchema().getSnapshot()));
 
         try {
-            // 2. Obtener y procesar archivos SQL
-            List<SqlFileContent> sqlContents = sqlManager.processSqlPaths(config.getSql().getSchema()).join();
-            String allSqlStatements = consolidateSqlContents(sqlContents);
+            // Plantilla personalizada de entidad: se compila una sola vez por ejecución
+            String templateFile = config.getOutput().getTemplates().get("entity");
+            Path templatePath = templateFile != null ? Paths.get(templateFile) : null;
+            Template entityTemplate = templatePath != null ? TemplateCompiler.compile(templatePath) : null;
+
+            if (useLowMemory(config)) {
+                generateModelsStreaming(snapshotStore, entityTemplate, basePackage, useLombok, build);
+                return;
+            }
 
-            // 3. Extraer y procesar metadatos
-            List<TableMetadata> tables = extractProcessor.processSchema(allSqlStatements);
+            // 1-4. Obtener las tablas del esquema (archivos consolidados o migraciones), compartidas
+            //      con el resto de generadores de esta ejecución
+            SchemaModel model = schema().join();
+            List<TableMetadata> tables = model.getTables();
 
-            // 4. Aplicar alter statements
-            alterProcessor.processAlterStatements(tables, allSqlStatements);
-            indexProcessor.processCreateIndexStatements(tables, allSqlStatements);
+            // 5. Determinar qué entidades deben regenerarse respecto a la última generación
+            String fingerprint = generatorFingerprint(basePackage, useLombok, build, templatePath);
+            List<TableMetadata> pending = selectTablesToGenerate(tables, snapshotStore.load(), fingerprint,
+                basePackage, build);
 
-            // 5. Generar clases de modelo
+            // 6. Generar clases de modelo en paralelo. Cada componente del grafo de claves
+            //    foráneas es una unidad de trabajo, así los ciclos se generan juntos
+            ForeignKeyGraph graph = model.getForeignKeyGraph();
+            int parallelism = parallelism();
+            ParallelEntityGenerator generator = new ParallelEntityGenerator(new EntityGenerator(useLombok, graph, entityOptions(entityTemplate)), parallelism);
+
+            List<RenderedEntity> rendered = generator.render(pendingUnits(graph, pending), basePackage);
+
+            // Con --verify, compilar en memoria y no escribir nada si alguna entidad falla
+            if (options.isVerify() && !verifyEntities(rendered, basePackage, build, parallelism)) {
+                return;
+            }
+
+            // Destinos alternativos: vista previa sin escribir nada, o un único zip de fuentes
+            if (options.isDryRun()) {
+                previewChanges(rendered, tables, basePackage, build, Paths.get(config.getOutput().getManifest()));
+                return;
+            }
+            if (options.getOutputZip() != null) {
+                writeZip(rendered, basePackage, build);
+                return;
+            }
+
+            // 7. Escribir en lotes, solo los archivos cuyo contenido cambió; los resultados
+            //    se reportan en orden determinista
+            IncrementalFileWriter writer = fileWriter();
+            int written = 0;
+            try (BatchFileWriter batchWriter = new BatchFileWriter(writer)) {
+                for (RenderedEntity entity : rendered) {
+                    batchWriter.submit(generatorUtils.resolveEntityPath(basePackage, entity.getTable().getTableName(), build),
+                        entity.getContent());
+                }
+                for (BatchFileWriter.Result result : batchWriter.finish()) {
+                    if (result.getStatus() != IncrementalFileWriter.Status.UNCHANGED) {
+                        written++;
+                        System.out.println("Entity file " + result.getStatus().name().toLowerCase() + " at: " + result.getFile());
+                    }
+                }
+            }
+
+            // 8. Eliminar las entidades de tablas que ya no existen en el esquema
+            Set<Path> expected = new HashSet<>();
             for (TableMetadata table : tables) {
-                String entity = generator.generateEntity(table, basePackage);
-                generatorUtils.writeEntityFile(basePackage, table.getTableName(), entity, build);
+                expected.add(generatorUtils.resolveEntityPath(basePackage, table.getTableName(), build));
             }
+            writeSupportSources(writer, basePackage, build, expected);
+            List<Path> removed = writer.removeStale(generatorUtils.resolvePackageDirectory(basePackage, build), expected);
+            removed.forEach(file -> System.out.println("Stale entity file removed: " + file));
+
+            // 9. Script de alineación de las secuencias con el allocationSize generado
+            SequenceAlignmentScript alignment = new SequenceAlignmentScript(idPolicy());
+            tables.forEach(alignment::add);
+            writeSequenceAlignment(alignment);
+
+            // 10. Bloque de bytecode enhancement si alguna entidad tiene atributos LAZY
+            BytecodeEnhancementSnippet enhancement = new BytecodeEnhancementSnippet(entityPolicy(), build);
+            tables.forEach(enhancement::add);
+            writeEnhancementSnippet(enhancement, build);
 
-            System.out.println("\n✅ Successfully generated " + tables.size() + " model classes");
+            saveManifest();
+            snapshotStore.save(new SchemaSnapshot(fingerprint, tables));
+
+            System.out.println("\n✅ Successfully generated " + tables.size() + " model classes ("
+                + written + " written, " + (tables.size() - written) + " unchanged, "
+                + removed.size() + " removed)");
 
         } catch (Exception e) {
             System.err.println("❌ Error generating models: " + e.getMessage());
             e.printStackTrace();
+        }
+    }
+
+    /**
+     * Comprueba si {@code --low-memory} puede aplicarse con la configuración y opciones actuales.
+     */
+    private boolean useLowMemory(AppConfiguration config) {
+        if (!options.isLowMemory()) {
+            return false;
+        }
+        if (config.getSql().getSchema().isMigrations()) {
+            System.err.println("⚠️  --low-memory is not supported in migrations mode; using the standard pipeline");
+            return false;
+        }
+        if (options.isVerify() || options.isDryRun()) {
+            System.err.println("⚠️  --low-memory cannot be combined with --verify or --dry-run; using the standard pipeline");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Modo de bajo consumo de memoria: con el índice de relaciones de la primera fase, cada tabla
+     * se reconstruye, renderiza y escribe antes de pasar a la siguiente, así que no se mantienen
+     * en memoria todas las {@link TableMetadata} ni sus fuentes. Lo que sí crece con el número
+     * de tablas es pequeño en comparación: el índice de relaciones, las rutas esperadas y el
+     * manifest de salida.
+     * Se regeneran todas las entidades y el snapshot se invalida, porque no se dispone del
+     * esquema completo para guardarlo.
+     */
+    private void generateModelsStreaming(SchemaSnapshotStore snapshotStore, Template entityTemplate,
+                                         String basePackage, boolean useLombok, String build) throws IOException {
+        AppConfiguration config = ConfigurationManager.getInstance().getConfiguration();
+
+        SqlFileProcessorManager sqlManager = new SqlFileProcessorManager();
+        try (StreamingSchemaLoader loader = sqlManager.indexSchema(config.getSql().getSchema())) {
+            EntityGenerator generator = new EntityGenerator(useLombok, loader.getRelationIndex().toGraph(), entityOptions(entityTemplate));
+
+            if (options.getOutputZip() != null) {
+                String packagePath = basePackage.replace('.', '/');
+                try (SourceZipWriter zip = new SourceZipWriter(options.getOutputZip())) {
+                    loader.forEachTable(table -> {
+                        Path file = generatorUtils.resolveEntityPath(basePackage, table.getTableName(), build);
+                        zip.add(packagePath + "/" + file.getFileName(), generator.generateEntity(table, basePackage));
+                    });
+                    for (Map.Entry<String, String> source : supportSources(basePackage).entrySet()) {
+                        zip.add(packagePath + "/" + source.getKey() + ".java", source.getValue());
+                    }
+                    int entries = zip.finish();
+                    System.out.println("\n✅ Wrote " + entries + " model classes to " + zip.getTarget());
+                }
+                return;
+            }
+
+            IncrementalFileWriter writer = fileWriter();
+            Set<Path> expected = new HashSet<>();
+            SequenceAlignmentScript alignment = new SequenceAlignmentScript(idPolicy());
+            BytecodeEnhancementSnippet enhancement = new BytecodeEnhancementSnippet(entityPolicy(), build);
+            int[] written = new int[1];
+            loader.forEachTable(table -> {
+                Path file = generatorUtils.resolveEntityPath(basePackage, table.getTableName(), build);
+                expected.add(file);
+                alignment.add(table);
+                enhancement.add(table);
+                IncrementalFileWriter.Status status = writer.write(file, generator.generateEntity(table, basePackage));
+                if (status != IncrementalFileWriter.Status.UNCHANGED) {
+                    written[0]++;
+                    System.out.println("Entity file " + status.name().toLowerCase() + " at: " + file);
+                }
+            });
+
+            writeSupportSources(writer, basePackage, build, expected);
+            List<Path> removed = writer.removeStale(generatorUtils.resolvePackageDirectory(basePackage, build), expected);
+            removed.forEach(file -> System.out.println("Stale entity file removed: " + file));
+
+            writeSequenceAlignment(alignment);
+            writeEnhancementSnippet(enhancement, build);
+            saveManifest();
+            snapshotStore.clear();
+
+            int total = loader.getTableCount();
+            System.out.println("\n✅ Successfully generated " + total + " model classes in low-memory mode ("
+                + written[0] + " written, " + (total - written[0]) + " unchanged, "
+                + removed.size() + " removed)");
         } finally {
             sqlManager.shutdown();
         }
     }
 
-    private void generateRepositories() {
-        ConfigurationManager configManager = ConfigurationManager.getInstance();
-        AppConfiguration config = configManager.getConfiguration();
-        String basePackage = config.getOutput().getBasePackage();
+    /**
+     * Renderiza en un sistema de archivos en memoria y muestra, como diff unificado, lo que
+     * cambiaría en disco. No escribe archivos, manifest ni snapshot.
+     */
+    private void previewChanges(List<RenderedEntity> rendered, List<TableMetadata> tables, String basePackage,
+                                String build, Path manifest) throws IOException {
+        VirtualFileSystem vfs = new VirtualFileSystem();
+        for (RenderedEntity entity : rendered) {
+            vfs.write(generatorUtils.resolveEntityPath(basePackage, entity.getTable().getTableName(), build),
+                entity.getContent());
+        }
+
+        Path base = Paths.get("").toAbsolutePath();
+        int created = 0;
+        int updated = 0;
+        for (Map.Entry<Path, String> file : vfs.getFiles().entrySet()) {
+            String name = base.relativize(file.getKey()).toString().replace('\\', '/');
+            String onDisk = Files.exists(file.getKey()) ? Files.readString(file.getKey(), StandardCharsets.UTF_8) : null;
+            String diff = UnifiedDiff.diff(onDisk != null ? "a/" + name : "/dev/null", "b/" + name,
+                onDisk, file.getValue(), UnifiedDiff.DEFAULT_CONTEXT);
+            if (!diff.isEmpty()) {
+                System.out.print(diff);
+                if (onDisk == null) {
+                    created++;
+                } else {
+                    updated++;
+                }
+            }
+        }
+
+        Set<Path> expected = new HashSet<>();
+        for (TableMetadata table : tables) {
+            expected.add(generatorUtils.resolveEntityPath(basePackage, table.getTableName(), build));
+        }
+        IncrementalFileWriter writer = new IncrementalFileWriter(manifest);
+        List<Path> stale = writer.findStale(generatorUtils.resolvePackageDirectory(basePackage, build), expected);
+        for (Path file : stale) {
+            String name = base.relativize(file.toAbsolutePath()).toString().replace('\\', '/');
+            System.out.print(UnifiedDiff.diff("a/" + name, "/dev/null",
+                Files.readString(file, StandardCharsets.UTF_8), null, UnifiedDiff.DEFAULT_CONTEXT));
+        }
 
-        System.out.println("Generating repository classes...");
+        System.out.println("\n✅ Dry run: " + created + " would be created, " + updated + " updated, "
+            + stale.size() + " removed; no source files were written");
+    }
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                // Simulate some work
-                Thread.sleep(500);
-                System.out.println("✅ Generated repository classes at " + basePackage + ".repository");
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+    /**
+     * Escribe todas las entidades en un zip de fuentes. No modifica el proyecto, el manifest ni el snapshot.
+     */
+    private void writeZip(List<RenderedEntity> rendered, String basePackage, String build) throws IOException {
+        String packagePath = basePackage.replace('.', '/');
+        try (SourceZipWriter zip = new SourceZipWriter(options.getOutputZip())) {
+            for (RenderedEntity entity : rendered) {
+                Path file = generatorUtils.resolveEntityPath(basePackage, entity.getTable().getTableName(), build);
+                zip.add(packagePath + "/" + file.getFileName(), entity.getContent());
             }
-        }, CommandRegistry.getInstance().getExecutor()).join();
+            for (Map.Entry<String, String> source : supportSources(basePackage).entrySet()) {
+                zip.add(packagePath + "/" + source.getKey() + ".java", source.getValue());
+            }
+            int entries = zip.finish();
+            System.out.println("\n✅ Wrote " + entries + " model classes to " + zip.getTarget());
+        }
     }
 
-    private void generateServices() {
-        ConfigurationManager configManager = ConfigurationManager.getInstance();
-        AppConfiguration config = configManager.getConfiguration();
-        String basePackage = config.getOutput().getBasePackage();
+    /**
+     * Compila las entidades renderizadas en memoria e informa los errores por tabla.
+     *
+     * @return false si alguna entidad no compila
+     */
+    private boolean verifyEntities(List<RenderedEntity> rendered, String basePackage, String build, int parallelism)
+        throws IOException {
+        CompileVerifier verifier = new CompileVerifier(parallelism, generatorUtils.resolveSourceRoot(build));
+        if (!verifier.isAvailable()) {
+            System.err.println("⚠️  --verify requires a JDK; skipping compile verification");
+            return true;
+        }
+
+        VerificationResult result = verifier.verify(rendered, basePackage, supportSources(basePackage));
+        if (result.isSuccess()) {
+            System.out.println("✅ Verified " + result.getCompiledFiles() + " entities in " + result.getElapsedMillis() + " ms");
+            return true;
+        }
+
+        System.err.println("❌ " + result.getErrors().size() + " compile errors in generated entities:");
+        for (VerificationError error : result.getErrors()) {
+            System.err.println("   " + error);
+        }
+        System.err.println("❌ Verification failed; no files were written");
+        return false;
+    }
+
+    /**
+     * Unidades de generación del grafo restringidas a las tablas pendientes, en orden topológico.
+     */
+    private List<GenerationUnit> pendingUnits(ForeignKeyGraph graph, List<TableMetadata> pending) {
+        Set<String> pendingNames = pending.stream()
+            .map(table -> table.getTableName().toLowerCase())
+            .collect(Collectors.toSet());
+
+        List<GenerationUnit> units = new ArrayList<>();
+        for (List<GenerationUnit> wave : graph.getGenerationWaves()) {
+            for (GenerationUnit unit : wave) {
+                List<TableMetadata> unitTables = unit.getTables().stream()
+                    .filter(table -> pendingNames.contains(table.getTableName().toLowerCase()))
+                    .collect(Collectors.toList());
+                if (!unitTables.isEmpty()) {
+                    units.add(new GenerationUnit(unit.getWave(), unitTables, unit.isCyclic()));
+                }
+            }
+        }
+        return units;
+    }
+
+    /**
+     * Selecciona las tablas cuya entidad debe escribirse. Sin snapshot previo, con opciones de
+     * generación distintas, con {@code --full} o al generar un zip se regeneran todas; en otro caso solo las
+     * afectadas por el diff del esquema y aquellas cuyo archivo ya no existe.
+     */
+    private List<TableMetadata> selectTablesToGenerate(List<TableMetadata> tables, SchemaSnapshot snapshot,
+                                                       String fingerprint, String basePackage, String build) throws Exception {
+        if (options.isFull() || options.getOutputZip() != null || !isSnapshotCurrent(snapshot, fingerprint)) {
+            return tables;
+        }
+
+        SchemaDiff diff = new SchemaDiffEngine().compare(snapshot.getTables(), tables);
+        Set<String> affected = diff.getAffectedTables();
+
+        List<TableMetadata> pending = new ArrayList<>();
+        for (TableMetadata table : tables) {
+            if (affected.contains(table.getTableName().toLowerCase())
+                || !Files.exists(generatorUtils.resolveEntityPath(basePackage, table.getTableName(), build))) {
+                pending.add(table);
+            }
+        }
+        return pending;
+    }
+
+    private RelationPolicy relationPolicy() {
+        return RelationPolicy.of(ConfigurationManager.getInstance().getConfiguration().getOutput().getRelations());
+    }
+
+    private IdPolicy idPolicy() {
+        return IdPolicy.of(ConfigurationManager.getInstance().getConfiguration().getOutput().getIds());
+    }
+
+    /**
+     * Hilos de generación: {@code --parallelism}, si se indicó; si no, {@code output.options.parallelism}
+     * de arch.yml; con 0 en ambos, uno por procesador disponible.
+     */
+    private int parallelism() {
+        int parallelism = options.getParallelism() != null
+            ? options.getParallelism()
+            : ConfigurationManager.getInstance().getConfiguration().getOutput().getOptions().getParallelism();
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
 
-        System.out.println("Generating services interfaces...");
+    private EntityPolicy entityPolicy() {
+        return EntityPolicy.of(ConfigurationManager.getInstance().getConfiguration().getOutput().getEntities());
+    }
+
+    private EntityGeneratorOptions entityOptions(Template entityTemplate) {
+        return EntityGeneratorOptions.defaults()
+            .withTemplate(entityTemplate)
+            .withRelationPolicy(relationPolicy())
+            .withIdPolicy(idPolicy())
+            .withEntityPolicy(entityPolicy());
+    }
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                // Simulate some work
-                Thread.sleep(500);
-                System.out.println("✅ Generated services interfaces at " + basePackage + ".service");
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+    /**
+     * Clases de soporte que se generan junto a las entidades (el generador UUIDv7), por nombre
+     * simple; vacío si la configuración no las necesita.
+     */
+    private Map<String, String> supportSources(String basePackage) {
+        return idPolicy().isUuidV7() ? UuidV7GeneratorSources.render(basePackage) : Map.of();
+    }
+
+    /**
+     * Escribe las clases de soporte en el paquete de las entidades y las añade a los archivos
+     * esperados, para que no se eliminen como obsoletas.
+     */
+    private void writeSupportSources(IncrementalFileWriter writer, String basePackage, String build, Set<Path> expected)
+        throws IOException {
+        Path directory = generatorUtils.resolvePackageDirectory(basePackage, build);
+        for (Map.Entry<String, String> source : supportSources(basePackage).entrySet()) {
+            Path file = directory.resolve(source.getKey() + ".java");
+            expected.add(file);
+            IncrementalFileWriter.Status status = writer.write(file, source.getValue());
+            if (status != IncrementalFileWriter.Status.UNCHANGED) {
+                System.out.println("Support file " + status.name().toLowerCase() + " at: " + file);
             }
-        }, CommandRegistry.getInstance().getExecutor()).join();
+        }
+    }
+
+    /**
+     * Escribe el script que alinea el INCREMENT BY de las secuencias con el allocationSize de las
+     * entidades, si alguna secuencia lo necesita.
+     */
+    private void writeSequenceAlignment(SequenceAlignmentScript script) throws IOException {
+        if (script.isEmpty()) {
+            return;
+        }
+        Path file = Paths.get(ConfigurationManager.getInstance().getConfiguration().getOutput().getIds().getAlignmentScript());
+        IncrementalFileWriter.Status status = fileWriter().write(file, script.render());
+        if (status != IncrementalFileWriter.Status.UNCHANGED) {
+            System.out.println("Sequence alignment script " + status.name().toLowerCase() + " at: " + file);
+        }
+        System.out.println("⚠️  Apply " + file + " to the database before deploying the entities (pooled sequence ids)");
+    }
+
+    private void writeEnhancementSnippet(BytecodeEnhancementSnippet snippet, String build) throws IOException {
+        if (snippet.isEmpty()) {
+            return;
+        }
+        String configured = ConfigurationManager.getInstance().getConfiguration().getOutput().getEntities().getEnhancementSnippet();
+        Path file = Paths.get(configured != null ? configured : BytecodeEnhancementSnippet.defaultFile(build));
+        IncrementalFileWriter.Status status = fileWriter().write(file, snippet.render());
+        if (status != IncrementalFileWriter.Status.UNCHANGED) {
+            System.out.println("Bytecode enhancement snippet " + status.name().toLowerCase() + " at: " + file);
+        }
+        System.out.println("⚠️  Add " + file + " to the build: lazy basic attributes need Hibernate bytecode enhancement");
+    }
+
+    /**
+     * Indica si el snapshot se escribió con la misma versión del generador y las mismas opciones,
+     * de modo que basta con regenerar las tablas afectadas por el diff del esquema.
+     */
+    static boolean isSnapshotCurrent(SchemaSnapshot snapshot, String fingerprint) {
+        return snapshot != null && fingerprint.equals(snapshot.getGeneratorFingerprint());
+    }
+
+    /**
+     * Versión del generador incluida en la huella: {@link #OUTPUT_VERSION} y, si se ejecuta desde
+     * el jar, su Implementation-Version.
+     */
+    static String generatorVersion(int outputVersion, String implementationVersion) {
+        return implementationVersion != null ? outputVersion + "/" + implementationVersion : String.valueOf(outputVersion);
+    }
+
+    private String generatorFingerprint(String basePackage, boolean useLombok, String build, Path template) throws IOException {
+        // Una nueva versión del generador puede cambiar la salida de todas las entidades
+        String version = generatorVersion(OUTPUT_VERSION, GenerateCommand.class.getPackage().getImplementationVersion());
+        String fingerprint = "generator=" + version + "|" + basePackage + "|lombok=" + useLombok + "|build=" + build;
+        if (template != null) {
+            // Un cambio en la plantilla obliga a regenerar todas las entidades
+            fingerprint += "|template=" + GenerationManifest.hash(Files.readAllBytes(template));
+        }
+        String naming = NamingEngine.current().fingerprint();
+        if (!naming.isEmpty()) {
+            // Igual con las reglas de nombres: cambian clases y campos de todas las entidades
+            fingerprint += "|naming=" + GenerationManifest.hash(naming.getBytes(StandardCharsets.UTF_8));
+        }
+        // Y con la política de relaciones, que cambia las anotaciones de las asociaciones
+        fingerprint += "|relations=" + GenerationManifest.hash(relationPolicy().fingerprint().getBytes(StandardCharsets.UTF_8));
+        // Y con la generación de ids (IDENTITY o secuencias)
+        fingerprint += "|ids=" + GenerationManifest.hash(idPolicy().fingerprint().getBytes(StandardCharsets.UTF_8));
+        // Y con el mapeo de las columnas (tipos primitivos, Persistable, atributos LAZY)
+        fingerprint += "|entities=" + GenerationManifest.hash(entityPolicy().fingerprint().getBytes(StandardCharsets.UTF_8));
+        return fingerprint;
+    }
+
+    private void generateRepositories() {
+        generateArtifacts(new RepositoryGenerator());
+    }
+
+    private void generateServices() {
+        // Los servicios convierten las entidades a DTOs: se generan juntos
+        generateArtifacts(new DtoGenerator());
+        generateArtifacts(new ServiceGenerator(isLombokEnabled(), entityOptions(null)));
     }
 
     private void generateControllers() {
-        ConfigurationManager configManager = ConfigurationManager.getInstance();
-        AppConfiguration config = configManager.getConfiguration();
+        generateArtifacts(new ControllerGenerator(isLombokEnabled()));
+    }
+
+    private boolean isLombokEnabled() {
+        return ConfigurationManager.getInstance().getConfiguration().getOutput().getOptions().isLombok();
+    }
+
+    /**
+     * Genera una capa (repositorios, servicios o controladores) para todas las tablas del esquema
+     * compartido y la escribe en {@code <basePackage>.<capa>}. Las clases se renderizan en paralelo
+     * y solo se escriben las que cambian; las de tablas que ya no existen se eliminan.
+     */
+    private void generateArtifacts(ArtifactGenerator generator) {
+        AppConfiguration config = ConfigurationManager.getInstance().getConfiguration();
         String basePackage = config.getOutput().getBasePackage();
+        String build = config.getApplication().getBuild();
+        String artifactPackage = basePackage + "." + generator.getPackageSuffix();
 
-        System.out.println("Generating controllers classes...");
+        System.out.println("Generating " + generator.getDescription() + "...");
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                // Simulate some work
-                Thread.sleep(500);
-                System.out.println("✅ Generated controllers classes at " + basePackage + ".controller");
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+        // Las capas no se compilan ni se previsualizan: con esas opciones no se escriben
+        if (options.isVerify() || options.isDryRun() || options.getOutputZip() != null) {
+            System.err.println("⚠️  --verify, --dry-run and --output-zip only apply to model classes; skipping "
+                + generator.getDescription());
+            return;
+        }
+
+        SchemaModel model = sharedSchema();
+        if (model == null) {
+            return;
+        }
+
+        try {
+            int parallelism = parallelism();
+            ParallelArtifactGenerator artifactGenerator = new ParallelArtifactGenerator(generator, parallelism);
+            List<RenderedArtifact> rendered = artifactGenerator.render(artifactGenerator.supportedTables(model.getTables()), basePackage);
+
+            IncrementalFileWriter writer = fileWriter();
+            Path directory = generatorUtils.resolvePackageDirectory(artifactPackage, build);
+            Set<Path> expected = new HashSet<>();
+            int written = 0;
+            try (BatchFileWriter batchWriter = new BatchFileWriter(writer)) {
+                for (RenderedArtifact artifact : rendered) {
+                    Path file = directory.resolve(artifact.getClassName() + ".java");
+                    expected.add(file);
+                    batchWriter.submit(file, artifact.getContent());
+                }
+                for (BatchFileWriter.Result result : batchWriter.finish()) {
+                    if (result.getStatus() != IncrementalFileWriter.Status.UNCHANGED) {
+                        written++;
+                        System.out.println("File " + result.getStatus().name().toLowerCase() + " at: " + result.getFile());
+                    }
+                }
             }
-        }, CommandRegistry.getInstance().getExecutor()).join();
+
+            List<Path> removed = writer.removeStale(directory, expected);
+            removed.forEach(file -> System.out.println("Stale file removed: " + file));
+            saveManifest();
+
+            System.out.println("✅ Generated " + rendered.size() + " " + generator.getDescription() + " at " + artifactPackage
+                + " (" + written + " written, " + (rendered.size() - written) + " unchanged, "
+                + removed.size() + " removed)");
+        } catch (Exception e) {
+            System.err.println("❌ Error generating " + generator.getDescription() + ": " + e.getMessage());
+            e.printStackTrace();
+        }
     }
 
     private void generateAll() {
         System.out.println("Generating all artifacts...");
 
+        // Las opciones que cambian el destino o el modo de lectura solo afectan a las entidades:
+        // cada capa se genera por separado
+        if (options.isLowMemory() || options.isVerify() || options.isDryRun() || options.getOutputZip() != null) {
+            generateLayersSeparately();
+        } else {
+            generateAllScheduled();
+        }
+
+        System.out.println("✅ All generation tasks completed!");
+    }
+
+    private void generateLayersSeparately() {
+        // El esquema se lee una sola vez; cada generador espera al mismo resultado
+        if (!options.isLowMemory()) {
+            schema();
+        }
+
         CompletableFuture<Void> modelsFuture = CompletableFuture.runAsync(this::generateModels,
             CommandRegistry.getInstance().getExecutor());
 
         CompletableFuture<Void> reposFuture = CompletableFuture.runAsync(this::generateRepositories,
             CommandRegistry.getInstance().getExecutor());
 
+        CompletableFuture<Void> servicesFuture = CompletableFuture.runAsync(this::generateServices,
+            CommandRegistry.getInstance().getExecutor());
+
+        CompletableFuture<Void> controllersFuture = CompletableFuture.runAsync(this::generateControllers,
+            CommandRegistry.getInstance().getExecutor());
+
         // Wait for all tasks to complete
-        CompletableFuture.allOf(modelsFuture, reposFuture).join();
+        CompletableFuture.allOf(modelsFuture, reposFuture, servicesFuture, controllersFuture).join();
+    }
 
-        System.out.println("✅ All generation tasks completed!");
+    /**
+     * Genera todas las capas como un único grafo de tareas (tipo de artefacto × tabla). El
+     * repositorio de una tabla empieza en cuanto se escribe su entidad, el servicio tras el
+     * repositorio y el controlador tras el servicio, sin esperar al resto de tablas. Al terminar
+     * se muestra el informe de tiempos con el camino crítico.
+     */
+    private void generateAllScheduled() {
+        AppConfiguration config = ConfigurationManager.getInstance().getConfiguration();
+        String build = config.getApplication().getBuild();
+        String basePackage = config.getOutput().getBasePackage();
+        boolean useLombok = config.getOutput().getOptions().isLombok();
+        SchemaSnapshotStore snapshotStore = new SchemaSnapshotStore(Paths.get(config.getSql().getSchema().getSnapshot()));
+
+        SchemaModel model = sharedSchema();
+        if (model == null) {
+            return;
+        }
+
+        try {
+            String templateFile = config.getOutput().getTemplates().get("entity");
+            Path templatePath = templateFile != null ? Paths.get(templateFile) : null;
+            Template entityTemplate = templatePath != null ? TemplateCompiler.compile(templatePath) : null;
+
+            // Entidades pendientes respecto a la última generación, como en generateModels
+            String fingerprint = generatorFingerprint(basePackage, useLombok, build, templatePath);
+            Set<String> pending = selectTablesToGenerate(model.getTables(), snapshotStore.load(), fingerprint, basePackage, build)
+                .stream()
+                .map(table -> table.getTableName().toLowerCase())
+                .collect(Collectors.toSet());
+
+            EntityGenerator entityGenerator = new EntityGenerator(useLombok, model.getForeignKeyGraph(), entityOptions(entityTemplate));
+            Map<ArtifactKind, ArtifactGenerator> layers = new EnumMap<>(ArtifactKind.class);
+            layers.put(ArtifactKind.REPOSITORY, new RepositoryGenerator());
+            layers.put(ArtifactKind.DTO, new DtoGenerator());
+            layers.put(ArtifactKind.SERVICE, new ServiceGenerator(useLombok, entityOptions(null)));
+            layers.put(ArtifactKind.CONTROLLER, new ControllerGenerator(useLombok));
+
+            Map<ArtifactKind, Path> directories = new EnumMap<>(ArtifactKind.class);
+            Map<ArtifactKind, Set<Path>> expected = new EnumMap<>(ArtifactKind.class);
+            directories.put(ArtifactKind.ENTITY, generatorUtils.resolvePackageDirectory(basePackage, build));
+            for (Map.Entry<ArtifactKind, ArtifactGenerator> layer : layers.entrySet()) {
+                directories.put(layer.getKey(),
+                    generatorUtils.resolvePackageDirectory(basePackage + "." + layer.getValue().getPackageSuffix(), build));
+            }
+            for (ArtifactKind kind : ArtifactKind.values()) {
+                expected.put(kind, new HashSet<>());
+            }
+
+            IncrementalFileWriter writer = fileWriter();
+            Map<Path, IncrementalFileWriter.Status> results = new ConcurrentHashMap<>();
+            List<GenerationTask> tasks = new ArrayList<>();
+
+            for (TableMetadata table : model.getTables()) {
+                String tableName = table.getTableName();
+                Path entityFile = generatorUtils.resolveEntityPath(basePackage, tableName, build);
+                expected.get(ArtifactKind.ENTITY).add(entityFile);
+
+                GenerationTask previous = null;
+                if (pending.contains(tableName.toLowerCase())) {
+                    int cost = 1 + table.getColumns().size() + table.getRelations().size()
+                        + table.getIndexes().size() + table.getUniqueConstraints().size();
+                    previous = new GenerationTask(ArtifactKind.ENTITY, tableName, cost,
+                        () -> results.put(entityFile, writer.write(entityFile, entityGenerator.generateEntity(table, basePackage))));
+                    tasks.add(previous);
+                }
+
+                if (PrimaryKey.of(table) == null) {
+                    System.err.println("⚠️  Skipping repository, DTO, service and controller of " + tableName + ": "
+                        + PrimaryKey.unsupportedReason(table));
+                    continue;
+                }
+                for (Map.Entry<ArtifactKind, ArtifactGenerator> layer : layers.entrySet()) {
+                    Path file = directories.get(layer.getKey()).resolve(layer.getValue().getClassName(table) + ".java");
+                    expected.get(layer.getKey()).add(file);
+                    GenerationTask task = new GenerationTask(layer.getKey(), tableName, 1,
+                        () -> results.put(file, writer.write(file, layer.getValue().generate(table, basePackage))))
+                        .dependsOn(previous);
+                    tasks.add(task);
+                    previous = task;
+                }
+            }
+
+            int parallelism = parallelism();
+            ScheduleReport report = new DagScheduler(parallelism).run(tasks);
+
+            // Resultados en orden de ruta, independiente del orden en que terminaron las tareas
+            new TreeMap<>(results).forEach((file, status) -> {
+                if (status != IncrementalFileWriter.Status.UNCHANGED) {
+                    System.out.println("File " + status.name().toLowerCase() + " at: " + file);
+                }
+            });
+            for (GenerationTask failed : report.getFailures()) {
+                System.err.println("❌ " + failed + " failed: " + failed.getFailure().getMessage());
+            }
+            if (report.isInterrupted()) {
+                System.err.println("❌ Generation interrupted: " + report.count(GenerationTask.State.SKIPPED)
+                    + " tasks were not run; run the command again to finish them");
+            }
+
+            writeSupportSources(writer, basePackage, build, expected.get(ArtifactKind.ENTITY));
+            int removed = 0;
+            for (ArtifactKind kind : ArtifactKind.values()) {
+                for (Path file : writer.removeStale(directories.get(kind), expected.get(kind))) {
+                    System.out.println("Stale file removed: " + file);
+                    removed++;
+                }
+            }
+
+            SequenceAlignmentScript alignment = new SequenceAlignmentScript(idPolicy());
+            model.getTables().forEach(alignment::add);
+            writeSequenceAlignment(alignment);
+            BytecodeEnhancementSnippet enhancement = new BytecodeEnhancementSnippet(entityPolicy(), build);
+            model.getTables().forEach(enhancement::add);
+            writeEnhancementSnippet(enhancement, build);
+            saveManifest();
+
+            // Si alguna tarea falló o no llegó a ejecutarse, el snapshot no se actualiza para que se reintente
+            if (report.isComplete()) {
+                snapshotStore.save(new SchemaSnapshot(fingerprint, model.getTables()));
+            }
+
+            long written = results.values().stream().filter(status -> status != IncrementalFileWriter.Status.UNCHANGED).count();
+            System.out.println("\n" + report.format());
+            System.out.println((report.isComplete() ? "✅" : "❌") + " Generated " + results.size() + " files for "
+                + model.size() + " tables (" + written + " written, " + (results.size() - written) + " unchanged, "
+                + removed + " removed, " + report.getFailures().size() + " failed, "
+                + report.count(GenerationTask.State.SKIPPED) + " skipped)");
+
+        } catch (Exception e) {
+            System.err.println("❌ Error generating artifacts: " + e.getMessage());
+            e.printStackTrace();
+        }
     }
 
     @Override
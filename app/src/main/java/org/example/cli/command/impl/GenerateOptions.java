@@ -0,0 +1,160 @@
+package org.example.cli.command.impl;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Flags accepted by the generate command after the sub-command, e.g. {@code arch g m --full}.
+ */
+public class GenerateOptions {
+
+    private boolean full;
+    private boolean verify;
+    private boolean dryRun;
+    private boolean lowMemory;
+    private Path outputZip;
+    private Integer parallelism;
+
+    /**
+     * Parses the flags of the generate command.
+     *
+     * @param args Command arguments
+     * @param from Index of the first argument to inspect
+     * @return The parsed options; unknown flags are reported and ignored
+     */
+    public static GenerateOptions parse(String[] args, int from) {
+        GenerateOptions options = new GenerateOptions();
+
+        for (int i = from; i < args.length; i++) {
+            String arg = args[i].toLowerCase();
+            switch (arg) {
+                case "--full":
+                case "-f":
+                    options.setFull(true);
+                    break;
+                case "--verify":
+                    options.setVerify(true);
+                    break;
+                case "--dry-run":
+                case "-n":
+                    options.setDryRun(true);
+                    break;
+                case "--low-memory":
+                    options.setLowMemory(true);
+                    break;
+                case "--output-zip":
+                case "-o":
+                    if (i + 1 < args.length) {
+                        options.setOutputZip(Paths.get(args[++i]));
+                    } else {
+                        System.err.println("⚠️  Missing value for option " + args[i]);
+                    }
+                    break;
+                case "--parallelism":
+                case "-j":
+                    if (i + 1 < args.length) {
+                        options.setParallelism(parseInt(args[++i], arg));
+                    } else {
+                        System.err.println("⚠️  Missing value for option " + args[i]);
+                    }
+                    break;
+                default:
+                    System.err.println("⚠️  Ignoring unknown generate option: " + args[i]);
+            }
+        }
+
+        return options;
+    }
+
+    /**
+     * When set, every entity is regenerated instead of only those affected by schema changes.
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    public void setFull(boolean full) {
+        this.full = full;
+    }
+
+    /**
+     * When set, generated entities are compiled in memory and nothing is written if any of them fails.
+     * Repositories, DTOs, services and controllers are not compiled, so they are skipped.
+     */
+    public boolean isVerify() {
+        return verify;
+    }
+
+    public void setVerify(boolean verify) {
+        this.verify = verify;
+    }
+
+    /**
+     * When set, the generated sources are rendered in memory and printed as a unified diff
+     * against the files on disk; nothing is written.
+     */
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * When set, the schema is read in two streaming passes: the first keeps only a foreign-key
+     * index, the second rebuilds, renders and writes one table at a time. Not every table's
+     * metadata is held in memory at once; the relation index, the expected output paths and the
+     * manifest still grow with the number of tables.
+     */
+    public boolean isLowMemory() {
+        return lowMemory;
+    }
+
+    public void setLowMemory(boolean lowMemory) {
+        this.lowMemory = lowMemory;
+    }
+
+    /**
+     * Zip (or source jar) receiving every generated source instead of the project tree, or null.
+     */
+    public Path getOutputZip() {
+        return outputZip;
+    }
+
+    public void setOutputZip(Path outputZip) {
+        this.outputZip = outputZip;
+    }
+
+    /**
+     * Number of rendering threads requested on the command line, or null to use the configured value.
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    private static Integer parseInt(String value, String option) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("⚠️  Ignoring non-numeric value for " + option + ": " + value);
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GenerateOptions{" +
+            "full=" + full +
+            ", verify=" + verify +
+            ", dryRun=" + dryRun +
+            ", lowMemory=" + lowMemory +
+            ", outputZip=" + outputZip +
+            ", parallelism=" + parallelism +
+            '}';
+    }
+}
@@ -332,6 +332,27 @@ public class YmlConfigurationLoader {
             }
         }
 
+        // Procesar modo migraciones (reproducción ordenada estilo Flyway)
+        Object migrations = schemaMap.get("migrations");
+        if (migrations != null) {
+            if (migrations instanceof Boolean) {
+                schemaConfig.setMigrations((Boolean) migrations);
+            } else {
+                schemaConfig.setMigrations(Boolean.parseBoolean(migrations.toString()));
+            }
+        }
+
+        Object checkpoint = schemaMap.get("checkpoint");
+        if (checkpoint != null && !checkpoint.toString().trim().isEmpty()) {
+            schemaConfig.setCheckpoint(checkpoint.toString().trim());
+        }
+
+        // Snapshot del esquema usado para la generación incremental
+        Object snapshot = schemaMap.get("snapshot");
+        if (snapshot != null && !snapshot.toString().trim().isEmpty()) {
+            schemaConfig.setSnapshot(snapshot.toString().trim());
+        }
+
         // Verificar que al menos una configuración válida esté presente
         if (!hasValidConfiguration) {
             throw new ConfigurationException("Se requiere al menos una configuración válida en 'path' o 'directory' dentro de la sección 'schema'");
@@ -369,9 +390,457 @@ public class YmlConfigurationLoader {
         // Options
         outputConfig.setOptions(parseOutputOptions(outputMap));
 
+        // Manifest de archivos generados (escritura solo si cambian)
+        Object manifest = outputMap.get("manifest");
+        if (manifest != null && !manifest.toString().trim().isEmpty()) {
+            outputConfig.setManifest(manifest.toString().trim());
+        }
+
+        // Plantillas personalizadas por tipo de artefacto
+        Object templates = outputMap.get("templates");
+        if (templates != null) {
+            if (!(templates instanceof Map)) {
+                throw new ConfigurationException("'output.templates' should be a map");
+            }
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) templates).entrySet()) {
+                if (entry.getValue() != null && !entry.getValue().toString().trim().isEmpty()) {
+                    outputConfig.getTemplates().put(entry.getKey().toString(), entry.getValue().toString().trim());
+                }
+            }
+        }
+
+        // Reglas de nombres de clases, campos y plurales
+        Object naming = outputMap.get("naming");
+        if (naming != null) {
+            if (!(naming instanceof Map)) {
+                throw new ConfigurationException("'output.naming' should be a map");
+            }
+            outputConfig.setNaming(parseNamingConfig((Map<?, ?>) naming));
+        }
+
+        // Mapeo de las relaciones (tipo de carga, colecciones inversas, cascada y carga en bloque)
+        Object relations = outputMap.get("relations");
+        if (relations != null) {
+            if (!(relations instanceof Map)) {
+                throw new ConfigurationException("'output.relations' should be a map");
+            }
+            outputConfig.setRelations(parseRelationConfig((Map<?, ?>) relations));
+        }
+
+        // Generación de las claves primarias (IDENTITY o secuencias con optimizador pooled)
+        Object ids = outputMap.get("ids");
+        if (ids != null) {
+            if (!(ids instanceof Map)) {
+                throw new ConfigurationException("'output.ids' should be a map");
+            }
+            outputConfig.setIds(parseIdConfig((Map<?, ?>) ids));
+        }
+
+        // Mapeo de las columnas a campos de la entidad
+        Object entities = outputMap.get("entities");
+        if (entities != null) {
+            if (!(entities instanceof Map)) {
+                throw new ConfigurationException("'output.entities' should be a map");
+            }
+            outputConfig.setEntities(parseEntityConfig((Map<?, ?>) entities));
+        }
+
         return outputConfig;
     }
 
+    /**
+     * Parses the "ids" section from the output configuration map.
+     *
+     * @param idsMap The parsed ids configuration as a map
+     * @return An {@link IdConfig} object containing the key generation options
+     * @throws ConfigurationException if the strategy, the allocation size or the UUID version is not valid
+     */
+    private IdConfig parseIdConfig(Map<?, ?> idsMap) {
+        IdConfig ids = new IdConfig();
+
+        Object strategy = idsMap.get("strategy");
+        if (strategy != null) {
+            String value = strategy.toString().trim().toLowerCase();
+            if (!value.equals("identity") && !value.equals("sequence")) {
+                throw new ConfigurationException("'output.ids.strategy' must be identity or sequence: " + strategy);
+            }
+            ids.setStrategy(value);
+        }
+
+        Object allocationSize = idsMap.get("allocationSize");
+        if (allocationSize != null) {
+            try {
+                ids.setAllocationSize(Integer.parseInt(allocationSize.toString().trim()));
+            } catch (NumberFormatException e) {
+                throw new ConfigurationException("'output.ids.allocationSize' must be an integer: " + allocationSize);
+            }
+            if (ids.getAllocationSize() < 1) {
+                throw new ConfigurationException("'output.ids.allocationSize' must be positive: " + allocationSize);
+            }
+        }
+
+        Object uuid = idsMap.get("uuid");
+        if (uuid != null) {
+            String value = uuid.toString().trim().toLowerCase();
+            if (!value.equals("random") && !value.equals("v7")) {
+                throw new ConfigurationException("'output.ids.uuid' must be random or v7: " + uuid);
+            }
+            ids.setUuid(value);
+        }
+
+        Object alignmentScript = idsMap.get("alignmentScript");
+        if (alignmentScript != null && !alignmentScript.toString().trim().isEmpty()) {
+            ids.setAlignmentScript(alignmentScript.toString().trim());
+        }
+
+        return ids;
+    }
+
+    /**
+     * Parses the "entities" section from the output configuration map.
+     *
+     * @param entitiesMap The parsed entities configuration as a map
+     * @return An {@link EntityConfig} object containing the field mapping options
+     * @throws ConfigurationException if the lazy length threshold is not a non-negative integer or a
+     *                                dynamic statement mode is not valid
+     */
+    private EntityConfig parseEntityConfig(Map<?, ?> entitiesMap) {
+        EntityConfig entities = new EntityConfig();
+
+        Object primitives = entitiesMap.get("primitives");
+        if (primitives != null) {
+            if (primitives instanceof Boolean) {
+                entities.setPrimitives((Boolean) primitives);
+            } else {
+                entities.setPrimitives(Boolean.parseBoolean(primitives.toString()));
+            }
+        }
+
+        Object cacheKeyHash = entitiesMap.get("cacheKeyHash");
+        if (cacheKeyHash != null) {
+            if (cacheKeyHash instanceof Boolean) {
+                entities.setCacheKeyHash((Boolean) cacheKeyHash);
+            } else {
+                entities.setCacheKeyHash(Boolean.parseBoolean(cacheKeyHash.toString()));
+            }
+        }
+
+        Object persistable = entitiesMap.get("persistable");
+        if (persistable != null) {
+            if (persistable instanceof Boolean) {
+                entities.setPersistable((Boolean) persistable);
+            } else {
+                entities.setPersistable(Boolean.parseBoolean(persistable.toString()));
+            }
+        }
+
+        Object lazyColumns = entitiesMap.get("lazyColumns");
+        if (lazyColumns != null) {
+            if (lazyColumns instanceof Boolean) {
+                entities.setLazyColumns((Boolean) lazyColumns);
+            } else {
+                entities.setLazyColumns(Boolean.parseBoolean(lazyColumns.toString()));
+            }
+        }
+
+        // Lista YAML o cadena separada por comas, como la cascada de las relaciones
+        Object lazyTypes = entitiesMap.get("lazyTypes");
+        if (lazyTypes instanceof Map && ((Map<?, ?>) lazyTypes).containsKey("lazyTypes")) {
+            lazyTypes = ((Map<?, ?>) lazyTypes).get("lazyTypes");
+        }
+        if (lazyTypes != null) {
+            List<String> types = new ArrayList<>();
+            List<?> values = lazyTypes instanceof List<?> ? (List<?>) lazyTypes : Arrays.asList(lazyTypes.toString().split(","));
+            for (Object value : values) {
+                String type = value.toString().trim().toUpperCase();
+                if (!type.isEmpty()) {
+                    types.add(type);
+                }
+            }
+            entities.setLazyTypes(types);
+        }
+
+        Object lazyLengthThreshold = entitiesMap.get("lazyLengthThreshold");
+        if (lazyLengthThreshold != null) {
+            try {
+                entities.setLazyLengthThreshold(Integer.parseInt(lazyLengthThreshold.toString().trim()));
+            } catch (NumberFormatException e) {
+                throw new ConfigurationException("'output.entities.lazyLengthThreshold' must be an integer: " + lazyLengthThreshold);
+            }
+            if (entities.getLazyLengthThreshold() < 0) {
+                throw new ConfigurationException("'output.entities.lazyLengthThreshold' must not be negative: " + lazyLengthThreshold);
+            }
+        }
+
+        Object enhancementSnippet = entitiesMap.get("enhancementSnippet");
+        if (enhancementSnippet != null && !enhancementSnippet.toString().trim().isEmpty()) {
+            entities.setEnhancementSnippet(enhancementSnippet.toString().trim());
+        }
+
+        Object dynamicStatements = entitiesMap.get("dynamicStatements");
+        if (dynamicStatements != null) {
+            entities.setDynamicStatements(parseDynamicStatements(dynamicStatements, "output.entities.dynamicStatements"));
+        }
+
+        Object dynamicStatementTables = entitiesMap.get("dynamicStatementTables");
+        if (dynamicStatementTables != null) {
+            if (!(dynamicStatementTables instanceof Map)) {
+                throw new ConfigurationException("'output.entities.dynamicStatementTables' should be a map");
+            }
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) dynamicStatementTables).entrySet()) {
+                String table = entry.getKey().toString().trim();
+                entities.getDynamicStatementTables().put(table,
+                    parseDynamicStatements(entry.getValue(), "output.entities.dynamicStatementTables." + table));
+            }
+        }
+
+        Object generatedColumns = entitiesMap.get("generatedColumns");
+        if (generatedColumns != null) {
+            if (generatedColumns instanceof Boolean) {
+                entities.setGeneratedColumns((Boolean) generatedColumns);
+            } else {
+                entities.setGeneratedColumns(Boolean.parseBoolean(generatedColumns.toString()));
+            }
+        }
+
+        Object immutableKeys = entitiesMap.get("immutableKeys");
+        if (immutableKeys != null) {
+            if (immutableKeys instanceof Boolean) {
+                entities.setImmutableKeys((Boolean) immutableKeys);
+            } else {
+                entities.setImmutableKeys(Boolean.parseBoolean(immutableKeys.toString()));
+            }
+        }
+
+        Object immutableColumns = entitiesMap.get("immutableColumns");
+        if (immutableColumns instanceof Map && ((Map<?, ?>) immutableColumns).containsKey("immutableColumns")) {
+            immutableColumns = ((Map<?, ?>) immutableColumns).get("immutableColumns");
+        }
+        if (immutableColumns != null) {
+            List<String> columns = new ArrayList<>();
+            List<?> values = immutableColumns instanceof List<?> ? (List<?>) immutableColumns : Arrays.asList(immutableColumns.toString().split(","));
+            for (Object value : values) {
+                String column = value.toString().trim().toLowerCase();
+                if (!column.isEmpty()) {
+                    columns.add(column);
+                }
+            }
+            entities.setImmutableColumns(columns);
+        }
+
+        return entities;
+    }
+
+    private String parseDynamicStatements(Object value, String key) {
+        String mode = value == null ? "" : value.toString().trim().toLowerCase();
+        if (!mode.equals("none") && !mode.equals("update") && !mode.equals("insert") && !mode.equals("both")) {
+            throw new ConfigurationException("'" + key + "' must be none, update, insert or both: " + value);
+        }
+        return mode;
+    }
+
+    /**
+     * Parses the "relations" section from the output configuration map.
+     *
+     * @param relationsMap The parsed relations configuration as a map
+     * @return A {@link RelationConfig} object containing the relation options
+     * @throws ConfigurationException if a fetch type, relation mode or cascade type is not valid
+     */
+    private RelationConfig parseRelationConfig(Map<?, ?> relationsMap) {
+        RelationConfig relations = new RelationConfig();
+
+        Object fetch = relationsMap.get("fetch");
+        if (fetch != null) {
+            relations.setFetch(parseFetchType("fetch", fetch));
+        }
+
+        Object overrides = relationsMap.get("fetchOverrides");
+        if (overrides != null) {
+            if (!(overrides instanceof Map)) {
+                throw new ConfigurationException("'output.relations.fetchOverrides' should be a map");
+            }
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) overrides).entrySet()) {
+                String key = entry.getKey().toString().trim().toLowerCase();
+                relations.getFetchOverrides().put(key, parseFetchType("fetchOverrides." + key, entry.getValue()));
+            }
+        }
+
+        // Política de relaciones: global, por tabla y según el número de tablas que referencian a una tabla
+        Object mode = relationsMap.get("mode");
+        if (mode != null) {
+            relations.setMode(parseRelationMode("mode", mode));
+        }
+
+        Object tables = relationsMap.get("tables");
+        if (tables != null) {
+            if (!(tables instanceof Map)) {
+                throw new ConfigurationException("'output.relations.tables' should be a map");
+            }
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) tables).entrySet()) {
+                String key = entry.getKey().toString().trim().toLowerCase();
+                relations.getTables().put(key, parseRelationMode("tables." + key, entry.getValue()));
+            }
+        }
+
+        Object maxInverse = relationsMap.get("maxInverseCollections");
+        if (maxInverse != null) {
+            try {
+                relations.setMaxInverseCollections(Integer.parseInt(maxInverse.toString().trim()));
+            } catch (NumberFormatException e) {
+                throw new ConfigurationException("'output.relations.maxInverseCollections' must be an integer: " + maxInverse);
+            }
+        }
+
+        Object cascade = relationsMap.get("cascade");
+        if (cascade instanceof Map && ((Map<?, ?>) cascade).containsKey("cascade")) {
+            cascade = ((Map<?, ?>) cascade).get("cascade");
+        }
+        if (cascade != null) {
+            List<String> cascadeTypes = new ArrayList<>();
+            List<?> values = cascade instanceof List<?> ? (List<?>) cascade : Arrays.asList(cascade.toString().split(","));
+            for (Object value : values) {
+                String type = value.toString().trim().toUpperCase();
+                if (type.isEmpty() || type.equals("NONE")) {
+                    continue;
+                }
+                if (!List.of("ALL", "PERSIST", "MERGE", "REMOVE", "REFRESH", "DETACH").contains(type)) {
+                    throw new ConfigurationException("'output.relations.cascade' has an unknown cascade type: " + value);
+                }
+                cascadeTypes.add(type);
+            }
+            relations.setCascade(cascadeTypes);
+        }
+
+        Object orphanRemoval = relationsMap.get("orphanRemoval");
+        if (orphanRemoval != null) {
+            if (orphanRemoval instanceof Boolean) {
+                relations.setOrphanRemoval((Boolean) orphanRemoval);
+            } else {
+                relations.setOrphanRemoval(Boolean.parseBoolean(orphanRemoval.toString()));
+            }
+        }
+
+        // Carga de las colecciones inversas en bloque (@BatchSize o SUBSELECT)
+        Object collectionFetch = relationsMap.get("collectionFetch");
+        if (collectionFetch != null) {
+            relations.setCollectionFetch(parseCollectionFetch("collectionFetch", collectionFetch, false));
+        }
+
+        Object batchSize = relationsMap.get("batchSize");
+        if (batchSize != null) {
+            try {
+                relations.setBatchSize(Integer.parseInt(batchSize.toString().trim()));
+            } catch (NumberFormatException e) {
+                throw new ConfigurationException("'output.relations.batchSize' must be an integer: " + batchSize);
+            }
+            if (relations.getBatchSize() < 1) {
+                throw new ConfigurationException("'output.relations.batchSize' must be positive: " + batchSize);
+            }
+        }
+
+        Object collectionOverrides = relationsMap.get("collectionFetchOverrides");
+        if (collectionOverrides != null) {
+            if (!(collectionOverrides instanceof Map)) {
+                throw new ConfigurationException("'output.relations.collectionFetchOverrides' should be a map");
+            }
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) collectionOverrides).entrySet()) {
+                String key = entry.getKey().toString().trim().toLowerCase();
+                relations.getCollectionFetchOverrides().put(key,
+                    parseCollectionFetch("collectionFetchOverrides." + key, entry.getValue(), true));
+            }
+        }
+
+        return relations;
+    }
+
+    private String parseCollectionFetch(String key, Object value, boolean allowBatchSize) {
+        String fetch = value == null ? "" : value.toString().trim().toLowerCase();
+        boolean batchSize = allowBatchSize && !fetch.isEmpty() && fetch.chars().allMatch(Character::isDigit)
+            && Integer.parseInt(fetch) > 0;
+        if (!batchSize && !fetch.equals("select") && !fetch.equals("batch") && !fetch.equals("subselect")) {
+            String allowed = allowBatchSize ? "select, batch, subselect or a batch size" : "select, batch or subselect";
+            throw new ConfigurationException("'output.relations." + key + "' must be " + allowed + ": " + value);
+        }
+        return fetch;
+    }
+
+    private String parseRelationMode(String key, Object value) {
+        String mode = value == null ? "" : value.toString().trim().toLowerCase();
+        if (!mode.equals("bidirectional") && !mode.equals("unidirectional") && !mode.equals("none")) {
+            throw new ConfigurationException("'output.relations." + key + "' must be bidirectional, unidirectional or none: " + value);
+        }
+        return mode;
+    }
+
+    private String parseFetchType(String key, Object value) {
+        String fetch = value == null ? "" : value.toString().trim().toUpperCase();
+        if (!fetch.equals("LAZY") && !fetch.equals("EAGER")) {
+            throw new ConfigurationException("'output.relations." + key + "' must be LAZY or EAGER: " + value);
+        }
+        return fetch;
+    }
+
+    /**
+     * Parses the "naming" section from the output configuration map.
+     *
+     * @param namingMap The parsed naming configuration as a map
+     * @return A {@link NamingConfig} object containing the naming rules
+     * @throws ConfigurationException if a rule section has the wrong shape
+     */
+    private NamingConfig parseNamingConfig(Map<?, ?> namingMap) {
+        NamingConfig naming = new NamingConfig();
+
+        Object prefixes = namingMap.get("stripPrefixes");
+        // Una lista bajo la clave llega envuelta en un mapa con la misma clave, como en 'path'
+        if (prefixes instanceof Map && ((Map<?, ?>) prefixes).containsKey("stripPrefixes")) {
+            prefixes = ((Map<?, ?>) prefixes).get("stripPrefixes");
+        }
+        if (prefixes instanceof List<?>) {
+            for (Object prefix : (List<?>) prefixes) {
+                if (!prefix.toString().trim().isEmpty()) {
+                    naming.getStripPrefixes().add(prefix.toString().trim().toLowerCase());
+                }
+            }
+        } else if (prefixes != null && !prefixes.toString().trim().isEmpty()) {
+            naming.getStripPrefixes().add(prefixes.toString().trim().toLowerCase());
+        }
+
+        parseNamingRules(namingMap, "classes", naming.getClasses());
+        parseNamingRules(namingMap, "fields", naming.getFields());
+        parseNamingRules(namingMap, "plurals", naming.getPlurals());
+
+        for (String name : naming.getClasses().values()) {
+            requireIdentifier("classes", name);
+        }
+        for (String name : naming.getFields().values()) {
+            requireIdentifier("fields", name);
+        }
+        return naming;
+    }
+
+    private void requireIdentifier(String key, String name) {
+        if (!name.matches("[A-Za-z_$][A-Za-z0-9_$]*")) {
+            throw new ConfigurationException("'output.naming." + key + "' value is not a valid Java identifier: " + name);
+        }
+    }
+
+    private void parseNamingRules(Map<?, ?> namingMap, String key, Map<String, String> target) {
+        Object rules = namingMap.get(key);
+        if (rules == null) {
+            return;
+        }
+        if (!(rules instanceof Map)) {
+            throw new ConfigurationException("'output.naming." + key + "' should be a map");
+        }
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) rules).entrySet()) {
+            String value = entry.getValue() == null ? "" : entry.getValue().toString().trim();
+            if (value.isEmpty()) {
+                throw new ConfigurationException("'output.naming." + key + "." + entry.getKey() + "' must not be empty");
+            }
+            target.put(entry.getKey().toString().trim().toLowerCase(), value);
+        }
+    }
+
     /**
      * Parses the "options" section from the output configuration map.
      *
@@ -396,6 +865,15 @@ public class YmlConfigurationLoader {
             }
         }
 
+        Object parallelism = optionsMap.get("parallelism");
+        if (parallelism != null) {
+            try {
+                options.setParallelism(Integer.parseInt(parallelism.toString().trim()));
+            } catch (NumberFormatException e) {
+                throw new ConfigurationException("'output.options.parallelism' must be an integer: " + parallelism);
+            }
+        }
+
         return options;
     }
 
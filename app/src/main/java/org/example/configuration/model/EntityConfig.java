@@ -0,0 +1,188 @@
+package org.example.configuration.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entity field mapping options ({@code output.entities} section).
+ */
+public class EntityConfig {
+    private boolean primitives;
+    private boolean cacheKeyHash;
+    private boolean persistable;
+    private boolean lazyColumns;
+    private List<String> lazyTypes = new ArrayList<>(List.of("BYTEA", "TEXT", "JSONB"));
+    private int lazyLengthThreshold;
+    private String enhancementSnippet;
+    private String dynamicStatements = "none";
+    private Map<String, String> dynamicStatementTables = new LinkedHashMap<>();
+    private boolean generatedColumns;
+    private boolean immutableKeys;
+    private List<String> immutableColumns = new ArrayList<>();
+
+    /**
+     * Whether NOT NULL integer, boolean and floating point columns are generated as primitive
+     * fields ({@code int}, {@code long}, {@code short}, {@code boolean}, {@code float},
+     * {@code double}) instead of wrappers. Primary and foreign key columns keep wrapper types.
+     */
+    public boolean isPrimitives() {
+        return primitives;
+    }
+
+    public void setPrimitives(boolean primitives) {
+        this.primitives = primitives;
+    }
+
+    /**
+     * Whether composite key classes cache their hash code after the first call. Only safe when
+     * the key is not modified once it is used in a map or the persistence context.
+     */
+    public boolean isCacheKeyHash() {
+        return cacheKeyHash;
+    }
+
+    public void setCacheKeyHash(boolean cacheKeyHash) {
+        this.cacheKeyHash = cacheKeyHash;
+    }
+
+    /**
+     * Whether entities with assigned keys (composite keys, or single keys that are not SERIAL,
+     * sequence or UUID backed) implement Spring Data's {@code Persistable} with a transient
+     * {@code isNew} flag, so {@code save()} persists new rows without a select-before-insert.
+     */
+    public boolean isPersistable() {
+        return persistable;
+    }
+
+    public void setPersistable(boolean persistable) {
+        this.persistable = persistable;
+    }
+
+    /**
+     * Whether large-value columns are generated as lazy basic attributes
+     * ({@code @Basic(fetch = FetchType.LAZY)}). Requires Hibernate bytecode enhancement.
+     */
+    public boolean isLazyColumns() {
+        return lazyColumns;
+    }
+
+    public void setLazyColumns(boolean lazyColumns) {
+        this.lazyColumns = lazyColumns;
+    }
+
+    /**
+     * Column types loaded lazily when {@link #isLazyColumns()} is enabled.
+     */
+    public List<String> getLazyTypes() {
+        return lazyTypes;
+    }
+
+    public void setLazyTypes(List<String> lazyTypes) {
+        this.lazyTypes = lazyTypes;
+    }
+
+    /**
+     * VARCHAR/CHAR columns declared with at least this length are also loaded lazily;
+     * 0 disables the length rule.
+     */
+    public int getLazyLengthThreshold() {
+        return lazyLengthThreshold;
+    }
+
+    public void setLazyLengthThreshold(int lazyLengthThreshold) {
+        this.lazyLengthThreshold = lazyLengthThreshold;
+    }
+
+    /**
+     * File that receives the Hibernate bytecode-enhancement plugin block for the build. Defaults to
+     * {@code hibernate-enhancement.gradle} or {@code hibernate-enhancement.xml} depending on
+     * {@code application.build}.
+     */
+    public String getEnhancementSnippet() {
+        return enhancementSnippet;
+    }
+
+    public void setEnhancementSnippet(String enhancementSnippet) {
+        this.enhancementSnippet = enhancementSnippet;
+    }
+
+    /**
+     * Hibernate dynamic SQL for every entity: {@code none}, {@code update} ({@code @DynamicUpdate},
+     * UPDATE statements only set the changed columns), {@code insert} ({@code @DynamicInsert},
+     * INSERT statements skip null columns so database defaults apply) or {@code both}.
+     */
+    public String getDynamicStatements() {
+        return dynamicStatements;
+    }
+
+    public void setDynamicStatements(String dynamicStatements) {
+        this.dynamicStatements = dynamicStatements;
+    }
+
+    /**
+     * Dynamic SQL keyed by table name, overriding {@link #getDynamicStatements()}.
+     */
+    public Map<String, String> getDynamicStatementTables() {
+        return dynamicStatementTables;
+    }
+
+    public void setDynamicStatementTables(Map<String, String> dynamicStatementTables) {
+        this.dynamicStatementTables = dynamicStatementTables;
+    }
+
+    /**
+     * Whether columns whose value is written by the database (DEFAULT, identity and computed
+     * columns) are left out of INSERT statements ({@code insertable = false}) and read back with
+     * Hibernate's {@code @Generated}. Computed columns are always read-only.
+     */
+    public boolean isGeneratedColumns() {
+        return generatedColumns;
+    }
+
+    public void setGeneratedColumns(boolean generatedColumns) {
+        this.generatedColumns = generatedColumns;
+    }
+
+    /**
+     * Whether primary key columns are marked {@code updatable = false}.
+     */
+    public boolean isImmutableKeys() {
+        return immutableKeys;
+    }
+
+    public void setImmutableKeys(boolean immutableKeys) {
+        this.immutableKeys = immutableKeys;
+    }
+
+    /**
+     * Columns never updated after insert, as {@code table.column} or {@code column} (every table);
+     * they are marked {@code updatable = false}.
+     */
+    public List<String> getImmutableColumns() {
+        return immutableColumns;
+    }
+
+    public void setImmutableColumns(List<String> immutableColumns) {
+        this.immutableColumns = immutableColumns;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityConfig{" +
+            "primitives=" + primitives +
+            ", cacheKeyHash=" + cacheKeyHash +
+            ", persistable=" + persistable +
+            ", lazyColumns=" + lazyColumns +
+            ", lazyTypes=" + lazyTypes +
+            ", lazyLengthThreshold=" + lazyLengthThreshold +
+            ", enhancementSnippet='" + enhancementSnippet + '\'' +
+            ", dynamicStatements='" + dynamicStatements + '\'' +
+            ", dynamicStatementTables=" + dynamicStatementTables +
+            ", generatedColumns=" + generatedColumns +
+            ", immutableKeys=" + immutableKeys +
+            ", immutableColumns=" + immutableColumns +
+            '}';
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.configuration.model;
+
+/**
+ * Primary key generation options ({@code output.ids} section).
+ */
+public class IdConfig {
+    private String strategy = "identity";
+    private int allocationSize = 50;
+    private String alignmentScript = "db/sequence-alignment.sql";
+    private String uuid = "random";
+
+    /**
+     * Generation of sequence-backed keys (SERIAL, identity or {@code nextval} columns):
+     * {@code identity} ({@code GenerationType.IDENTITY}) or {@code sequence}
+     * ({@code @SequenceGenerator} with Hibernate's pooled optimizer, which allows JDBC insert batching).
+     */
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(String strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Ids reserved per sequence call when the schema does not declare a larger INCREMENT BY.
+     */
+    public int getAllocationSize() {
+        return allocationSize;
+    }
+
+    public void setAllocationSize(int allocationSize) {
+        this.allocationSize = allocationSize;
+    }
+
+    /**
+     * File that receives the statements aligning each sequence increment with its allocation size.
+     */
+    public String getAlignmentScript() {
+        return alignmentScript;
+    }
+
+    public void setAlignmentScript(String alignmentScript) {
+        this.alignmentScript = alignmentScript;
+    }
+
+    /**
+     * Generation of UUID keys: {@code random} ({@code GenerationType.UUID}, version 4) or
+     * {@code v7} (time-ordered, through a generated {@code @IdGeneratorType} annotation).
+     */
+    public String getUuid() {
+        return uuid;
+    }
+
+    public void setUuid(String uuid) {
+        this.uuid = uuid;
+    }
+
+    @Override
+    public String toString() {
+        return "IdConfig{" +
+            "strategy='" + strategy + '\'' +
+            ", allocationSize=" + allocationSize +
+            ", alignmentScript='" + alignmentScript + '\'' +
+            ", uuid='" + uuid + '\'' +
+            '}';
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.configuration.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User-defined naming rules ({@code output.naming} section). Every rule is optional; without
+ * rules the built-in conventions are used.
+ */
+public class NamingConfig {
+    private List<String> stripPrefixes = new ArrayList<>();
+    private Map<String, String> classes = new LinkedHashMap<>();
+    private Map<String, String> fields = new LinkedHashMap<>();
+    private Map<String, String> plurals = new LinkedHashMap<>();
+
+    /**
+     * Table name prefixes (e.g. {@code tbl_}) removed before deriving class names.
+     */
+    public List<String> getStripPrefixes() {
+        return stripPrefixes;
+    }
+
+    public void setStripPrefixes(List<String> stripPrefixes) {
+        this.stripPrefixes = stripPrefixes;
+    }
+
+    /**
+     * Explicit class names keyed by table name.
+     */
+    public Map<String, String> getClasses() {
+        return classes;
+    }
+
+    public void setClasses(Map<String, String> classes) {
+        this.classes = classes;
+    }
+
+    /**
+     * Explicit field names keyed by column name.
+     */
+    public Map<String, String> getFields() {
+        return fields;
+    }
+
+    public void setFields(Map<String, String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Irregular plurals keyed by singular word, applied to the last word of an identifier.
+     */
+    public Map<String, String> getPlurals() {
+        return plurals;
+    }
+
+    public void setPlurals(Map<String, String> plurals) {
+        this.plurals = plurals;
+    }
+
+    public boolean isEmpty() {
+        return stripPrefixes.isEmpty() && classes.isEmpty() && fields.isEmpty() && plurals.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "NamingConfig{" +
+            "stripPrefixes=" + stripPrefixes +
+            ", classes=" + classes +
+            ", fields=" + fields +
+            ", plurals=" + plurals +
+            '}';
+    }
+}
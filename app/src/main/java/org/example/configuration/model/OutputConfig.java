@@ -1,11 +1,20 @@
 package org.example.configuration.model;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Output configuration section.
  */
 public class OutputConfig {
     private String basePackage;
     private OutputOptions options;
+    private String manifest = ".arch/manifest";
+    private Map<String, String> templates = new LinkedHashMap<>();
+    private NamingConfig naming = new NamingConfig();
+    private RelationConfig relations = new RelationConfig();
+    private IdConfig ids = new IdConfig();
+    private EntityConfig entities = new EntityConfig();
 
     public String getBasePackage() {
         return basePackage;
@@ -23,11 +32,85 @@ public class OutputConfig {
         this.options = options;
     }
 
+    /**
+     * File recording the hash of every generated file, used to skip identical writes and
+     * to remove files that are no longer generated.
+     */
+    public String getManifest() {
+        return manifest;
+    }
+
+    public void setManifest(String manifest) {
+        this.manifest = manifest;
+    }
+
+    /**
+     * Custom template files keyed by artifact kind (currently {@code entity}). Kinds without
+     * an entry use the built-in output.
+     */
+    public Map<String, String> getTemplates() {
+        return templates;
+    }
+
+    public void setTemplates(Map<String, String> templates) {
+        this.templates = templates;
+    }
+
+    /**
+     * Naming rules shared by every generated artifact.
+     */
+    public NamingConfig getNaming() {
+        return naming;
+    }
+
+    public void setNaming(NamingConfig naming) {
+        this.naming = naming;
+    }
+
+    /**
+     * How foreign keys are mapped to entity associations.
+     */
+    public RelationConfig getRelations() {
+        return relations;
+    }
+
+    public void setRelations(RelationConfig relations) {
+        this.relations = relations;
+    }
+
+    /**
+     * How primary key values are generated.
+     */
+    public IdConfig getIds() {
+        return ids;
+    }
+
+    public void setIds(IdConfig ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * How table columns are mapped to entity fields.
+     */
+    public EntityConfig getEntities() {
+        return entities;
+    }
+
+    public void setEntities(EntityConfig entities) {
+        this.entities = entities;
+    }
+
     @Override
     public String toString() {
         return "OutputConfig{" +
             "basePackage='" + basePackage + '\'' +
             ", options=" + options +
+            ", manifest='" + manifest + '\'' +
+            ", templates=" + templates +
+            ", naming=" + naming +
+            ", relations=" + relations +
+            ", ids=" + ids +
+            ", entities=" + entities +
             '}';
     }
 }
\ No newline at end of file
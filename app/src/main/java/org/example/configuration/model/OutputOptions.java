@@ -5,6 +5,7 @@ package org.example.configuration.model;
  */
 public class OutputOptions {
     private boolean lombok;
+    private int parallelism;
 
     public boolean isLombok() {
         return lombok;
@@ -14,10 +15,22 @@ public class OutputOptions {
         this.lombok = lombok;
     }
 
+    /**
+     * Number of threads used to render entities; 0 uses one thread per available processor.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public String toString() {
         return "OutputOptions{" +
             "lombok=" + lombok +
+            ", parallelism=" + parallelism +
             '}';
     }
 }
\ No newline at end of file
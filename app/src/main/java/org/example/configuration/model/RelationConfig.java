@@ -0,0 +1,156 @@
+package org.example.configuration.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Relation mapping options ({@code output.relations} section).
+ */
+public class RelationConfig {
+    private String fetch = "LAZY";
+    private Map<String, String> fetchOverrides = new LinkedHashMap<>();
+    private String mode = "bidirectional";
+    private Map<String, String> tables = new LinkedHashMap<>();
+    private int maxInverseCollections;
+    private List<String> cascade = new ArrayList<>(List.of("ALL"));
+    private boolean orphanRemoval = true;
+    private String collectionFetch = "select";
+    private int batchSize = 16;
+    private Map<String, String> collectionFetchOverrides = new LinkedHashMap<>();
+
+    /**
+     * Default fetch type of the generated {@code @ManyToOne} associations: LAZY or EAGER.
+     */
+    public String getFetch() {
+        return fetch;
+    }
+
+    public void setFetch(String fetch) {
+        this.fetch = fetch;
+    }
+
+    /**
+     * Fetch types keyed by {@code table.column} (one foreign key) or {@code table} (every
+     * foreign key of the table).
+     */
+    public Map<String, String> getFetchOverrides() {
+        return fetchOverrides;
+    }
+
+    public void setFetchOverrides(Map<String, String> fetchOverrides) {
+        this.fetchOverrides = fetchOverrides;
+    }
+
+    /**
+     * Default relation mode: {@code bidirectional} (ManyToOne plus the inverse OneToMany
+     * collection), {@code unidirectional} (ManyToOne only) or {@code none} (foreign keys are
+     * plain columns).
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Relation modes keyed by table name, overriding {@link #getMode()}.
+     */
+    public Map<String, String> getTables() {
+        return tables;
+    }
+
+    public void setTables(Map<String, String> tables) {
+        this.tables = tables;
+    }
+
+    /**
+     * Tables referenced by more than this number of tables get no inverse collections;
+     * 0 disables the limit.
+     */
+    public int getMaxInverseCollections() {
+        return maxInverseCollections;
+    }
+
+    public void setMaxInverseCollections(int maxInverseCollections) {
+        this.maxInverseCollections = maxInverseCollections;
+    }
+
+    /**
+     * Cascade types of the inverse collections ({@code ALL}, {@code PERSIST}, {@code MERGE},
+     * {@code REMOVE}, {@code REFRESH}, {@code DETACH}); empty for no cascade.
+     */
+    public List<String> getCascade() {
+        return cascade;
+    }
+
+    public void setCascade(List<String> cascade) {
+        this.cascade = cascade;
+    }
+
+    /**
+     * Whether the inverse collections use {@code orphanRemoval}.
+     */
+    public boolean isOrphanRemoval() {
+        return orphanRemoval;
+    }
+
+    public void setOrphanRemoval(boolean orphanRemoval) {
+        this.orphanRemoval = orphanRemoval;
+    }
+
+    /**
+     * How inverse collections are initialised: {@code select} (one query per parent, the JPA
+     * default), {@code batch} (Hibernate {@code @BatchSize}) or {@code subselect} (Hibernate
+     * {@code @Fetch(FetchMode.SUBSELECT)}).
+     */
+    public String getCollectionFetch() {
+        return collectionFetch;
+    }
+
+    public void setCollectionFetch(String collectionFetch) {
+        this.collectionFetch = collectionFetch;
+    }
+
+    /**
+     * Batch size used by the {@code batch} collection fetch.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Collection fetch keyed by {@code parent.child} (the referenced table and the table
+     * holding the foreign key): {@code select}, {@code batch}, {@code subselect} or a batch size.
+     */
+    public Map<String, String> getCollectionFetchOverrides() {
+        return collectionFetchOverrides;
+    }
+
+    public void setCollectionFetchOverrides(Map<String, String> collectionFetchOverrides) {
+        this.collectionFetchOverrides = collectionFetchOverrides;
+    }
+
+    @Override
+    public String toString() {
+        return "RelationConfig{" +
+            "fetch='" + fetch + '\'' +
+            ", fetchOverrides=" + fetchOverrides +
+            ", mode='" + mode + '\'' +
+            ", tables=" + tables +
+            ", maxInverseCollections=" + maxInverseCollections +
+            ", cascade=" + cascade +
+            ", orphanRemoval=" + orphanRemoval +
+            ", collectionFetch='" + collectionFetch + '\'' +
+            ", batchSize=" + batchSize +
+            ", collectionFetchOverrides=" + collectionFetchOverrides +
+            '}';
+    }
+}
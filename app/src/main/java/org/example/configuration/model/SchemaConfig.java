@@ -8,6 +8,9 @@ import java.util.List;
 public class SchemaConfig {
     private List<String> path;
     private String directory;
+    private boolean migrations;
+    private String checkpoint = ".arch/migrations.checkpoint";
+    private String snapshot = ".arch/schema.snapshot";
 
     public List<String> getPath() {
         return path;
@@ -25,11 +28,48 @@ public class SchemaConfig {
         this.directory = directory;
     }
 
+    /**
+     * When enabled, the SQL files are replayed as ordered Flyway-style migrations.
+     */
+    public boolean isMigrations() {
+        return migrations;
+    }
+
+    public void setMigrations(boolean migrations) {
+        this.migrations = migrations;
+    }
+
+    /**
+     * File where the schema state after the last applied migration is persisted.
+     */
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    public void setCheckpoint(String checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * File where the schema used by the last generation is persisted, so the next run
+     * only regenerates the entities affected by the changes.
+     */
+    public String getSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(String snapshot) {
+        this.snapshot = snapshot;
+    }
+
     @Override
     public String toString() {
         return "SchemaConfig{" +
             "path=" + path +
             ", directory='" + directory + '\'' +
+            ", migrations=" + migrations +
+            ", checkpoint='" + checkpoint + '\'' +
+            ", snapshot='" + snapshot + '\'' +
             '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package org.example.database;
+
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.RelationMetadata;
+import org.example.database.model.TableConstraintData;
+import org.example.database.model.TableIndexData;
+import org.example.database.model.TableMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copia de solo lectura del esquema ya procesado que comparten todos los generadores de una
+ * misma ejecución (entidades, repositorios, servicios y controladores). Se construye una sola
+ * vez copiando las tablas recibidas, sin modificarlas, y todas sus listas (tablas, columnas,
+ * claves, relaciones, índices y restricciones) son no modificables.
+ * <p>
+ * Las tablas, columnas y relaciones copiadas siguen teniendo setters, pero solo este modelo las
+ * referencia: quien construyó el esquema no puede cambiarlas mientras los hilos de generación
+ * las leen, y los generadores no deben modificarlas.
+ */
+public final class SchemaModel {
+
+    private final List<TableMetadata> tables;
+    private final Map<String, TableMetadata> tablesByName;
+    private final ForeignKeyGraph foreignKeyGraph;
+
+    private SchemaModel(List<TableMetadata> tables) {
+        Map<String, TableMetadata> byName = new LinkedHashMap<>();
+        List<TableMetadata> copies = new ArrayList<>(tables.size());
+        for (TableMetadata table : tables) {
+            TableMetadata copy = copy(table);
+            copies.add(copy);
+            byName.putIfAbsent(copy.getTableName().toLowerCase(), copy);
+        }
+        this.tables = Collections.unmodifiableList(copies);
+        this.tablesByName = Collections.unmodifiableMap(byName);
+        this.foreignKeyGraph = ForeignKeyGraph.build(this.tables);
+    }
+
+    /**
+     * Copia las tablas indicadas con listas de solo lectura y calcula su grafo de claves foráneas.
+     * Las tablas recibidas no se modifican.
+     *
+     * @param tables Tablas del esquema, en orden de esquema
+     * @return La vista de solo lectura del esquema
+     */
+    public static SchemaModel of(List<TableMetadata> tables) {
+        return new SchemaModel(tables);
+    }
+
+    /**
+     * Tablas del esquema, en orden de esquema.
+     */
+    public List<TableMetadata> getTables() {
+        return tables;
+    }
+
+    /**
+     * @param tableName Nombre de la tabla (sin distinguir mayúsculas)
+     * @return La tabla, o null si no existe
+     */
+    public TableMetadata getTable(String tableName) {
+        return tablesByName.get(tableName.toLowerCase());
+    }
+
+    /**
+     * Grafo de claves foráneas, calculado una sola vez para todos los generadores.
+     */
+    public ForeignKeyGraph getForeignKeyGraph() {
+        return foreignKeyGraph;
+    }
+
+    public int size() {
+        return tables.size();
+    }
+
+    private static TableMetadata copy(TableMetadata table) {
+        List<ColumnMetadata> columns = new ArrayList<>();
+        for (ColumnMetadata column : orEmpty(table.getColumns())) {
+            ColumnMetadata copy = new ColumnMetadata(column.getColumnName(), column.getColumnType());
+            copy.setNotNull(column.isNotNull());
+            copy.setDefaultValue(column.getDefaultValue());
+            copy.setSequenceName(column.getSequenceName());
+            copy.setSequenceIncrement(column.getSequenceIncrement());
+            copy.setIdentity(column.getIdentity());
+            copy.setComputed(column.isComputed());
+            columns.add(copy);
+        }
+        List<RelationMetadata> relations = new ArrayList<>();
+        for (RelationMetadata relation : orEmpty(table.getRelations())) {
+            RelationMetadata copy = new RelationMetadata(relation.getSourceColumn(), relation.getTargetTable(),
+                relation.getTargetColumn(), relation.isManyToOne());
+            copy.setInverse(relation.isInverse());
+            relations.add(copy);
+        }
+        List<TableIndexData> indexes = new ArrayList<>();
+        for (TableIndexData index : orEmpty(table.getIndexes())) {
+            indexes.add(new TableIndexData(index.getTableName(), index.getIndexName(),
+                readOnly(index.getTargetColumnName())));
+        }
+        List<TableConstraintData> uniqueConstraints = new ArrayList<>();
+        for (TableConstraintData constraint : orEmpty(table.getUniqueConstraints())) {
+            uniqueConstraints.add(new TableConstraintData(constraint.getTableName(), constraint.getConstraintName(),
+                readOnly(constraint.getTargetColumnNames())));
+        }
+        return new TableMetadata(table.getTableName(), Collections.unmodifiableList(indexes),
+            Collections.unmodifiableList(columns), readOnly(table.getPrimaryKeys()),
+            Collections.unmodifiableList(relations), Collections.unmodifiableList(uniqueConstraints));
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    private static <T> List<T> readOnly(List<T> list) {
+        return list == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaModel{" +
+            "tables=" + tables.size() +
+            '}';
+    }
+}
@@ -1,6 +1,6 @@
 package org.example.database;
 
-import org.example.database.parser.SqlFileContent;
+import org.example.database.migration.MigrationFile;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -15,7 +15,8 @@ public class SqlDirectoryScanner {
 
     /**
      * Expande los paths de configuración, detectando si son directorios o archivos
-     * y devolviendo una lista plana de todos los archivos SQL a procesar.
+     * y devolviendo una lista plana de todos los archivos SQL a procesar. Los archivos
+     * de cada directorio se devuelven en orden de migración (ver {@link MigrationFile}).
      */
     public List<String> expandDirectoriesToSqlFiles(List<String> configPaths) throws IOException {
         List<String> sqlFilePaths = new ArrayList<>();
@@ -24,12 +25,7 @@ public class SqlDirectoryScanner {
             Path path = Paths.get(configPath);
 
             if (Files.isDirectory(path)) {
-                try (Stream<Path> pathStream = Files.walk(path)) {
-                    pathStream.filter(Files::isRegularFile)
-                        .filter(p -> p.toString().toLowerCase().endsWith(".sql"))
-                        .map(Path::toString)
-                        .forEach(sqlFilePaths::add);
-                }
+                sqlFilePaths.addAll(listSqlFilesInDirectory(configPath));
             } else if (Files.isRegularFile(path) || configPath.toLowerCase().endsWith(".sql")) {
                 sqlFilePaths.add(path.toString());
             }
@@ -39,7 +35,8 @@ public class SqlDirectoryScanner {
     }
 
     /**
-     * Escanea un directorio en busca de archivos SQL.
+     * Escanea un directorio en busca de archivos SQL. {@code Files.walk} no garantiza
+     * ningún orden, así que el resultado se ordena por versión de migración y nombre.
      */
     public List<String> listSqlFilesInDirectory(String directoryPath) throws IOException {
         Path path = Paths.get(directoryPath);
@@ -49,10 +46,10 @@ public class SqlDirectoryScanner {
         }
 
         try (Stream<Path> pathStream = Files.walk(path)) {
-            return pathStream.filter(Files::isRegularFile)
+            return MigrationFile.sortPaths(pathStream.filter(Files::isRegularFile)
                 .filter(p -> p.toString().toLowerCase().endsWith(".sql"))
                 .map(Path::toString)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
         }
     }
 }
\ No newline at end of file
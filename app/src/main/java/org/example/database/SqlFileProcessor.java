@@ -5,6 +5,7 @@ import org.example.database.parser.SqlFileContent;
 import org.example.database.parser.SqlStatementParser;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.charset.Charset;
@@ -114,6 +115,19 @@ public class SqlFileProcessor {
         }, fileProcessorPool);
     }
 
+    /**
+     * Streams the statements of a SQL file to a consumer on the calling thread, reading it in
+     * chunks so that neither the file nor its statement list is held in memory.
+     *
+     * @param filePath          Path to the SQL file
+     * @param statementConsumer Receives each statement in file order
+     * @throws IOException If the file cannot be read
+     */
+    public void streamSqlStatements(String filePath, Consumer<String> statementConsumer) throws IOException {
+        Path path = Paths.get(filePath);
+        processFileInChunks(path, detectFileEncoding(path), statementConsumer);
+    }
+
     /**
      * Detects the encoding of a file by sampling the beginning
      *
@@ -121,8 +135,11 @@ public class SqlFileProcessor {
      * @return Detected charset
      */
     private Charset detectFileEncoding(Path path) throws IOException {
-        // Check for BOM (Byte Order Mark) first
-        byte[] bom = Files.readAllBytes(path);
+        // Check for BOM (Byte Order Mark) first; only the first 4 KB are needed
+        byte[] bom;
+        try (InputStream in = Files.newInputStream(path)) {
+            bom = in.readNBytes(4096);
+        }
         if (bom.length >= 3 && bom[0] == (byte) 0xEF && bom[1] == (byte) 0xBB && bom[2] == (byte) 0xBF) {
             return StandardCharsets.UTF_8;
         } else if (bom.length >= 2 && bom[0] == (byte) 0xFE && bom[1] == (byte) 0xFF) {
@@ -1,10 +1,18 @@
 package org.example.database;
 
 import org.example.configuration.model.SchemaConfig;
-import org.example.configuration.model.SqlConfig;
+import org.example.database.converter.AlterTableProcessor;
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.extractor.index.CreateIndexProcessor;
+import org.example.database.extractor.sequence.SequenceProcessor;
+import org.example.database.migration.MigrationCheckpointStore;
+import org.example.database.migration.MigrationReplayEngine;
+import org.example.database.model.TableMetadata;
 import org.example.database.parser.SqlFileContent;
+import org.example.database.stream.StreamingSchemaLoader;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -20,24 +28,7 @@ public class SqlFileProcessorManager {
 
     public CompletableFuture<List<SqlFileContent>> processSqlPaths(SchemaConfig schemaConfig) {
         try {
-            List<String> allPaths = new ArrayList<>();
-
-            // Agregar paths explícitos
-            if (schemaConfig.getPath() != null) {
-                allPaths.addAll(schemaConfig.getPath());
-            }
-
-            // Agregar archivos del directorio si está especificado
-            if (schemaConfig.getDirectory() != null && !schemaConfig.getDirectory().isEmpty()) {
-                try {
-                    allPaths.addAll(sqlDirectoryScanner.listSqlFilesInDirectory(schemaConfig.getDirectory()));
-                } catch (IOException e) {
-                    throw new IOException("Error reading SQL directory: " + schemaConfig.getDirectory(), e);
-                }
-            }
-
-            // Expandir cualquier directorio que pueda estar en los paths
-            List<String> sqlFilePaths = sqlDirectoryScanner.expandDirectoriesToSqlFiles(allPaths);
+            List<String> sqlFilePaths = resolveSqlFilePaths(schemaConfig);
 
             if (sqlFilePaths.isEmpty()) {
                 return CompletableFuture.completedFuture(new ArrayList<>());
@@ -49,6 +40,91 @@ public class SqlFileProcessorManager {
         }
     }
 
+    /**
+     * Construye los metadatos de las tablas del esquema configurado: reproduce las migraciones
+     * cuando el modo migraciones está activo, o consolida todos los archivos en caso contrario.
+     *
+     * @param schemaConfig Configuración del esquema
+     * @return CompletableFuture con las tablas del esquema resultante
+     */
+    public CompletableFuture<List<TableMetadata>> loadTables(SchemaConfig schemaConfig) {
+        if (schemaConfig.isMigrations()) {
+            return replayMigrations(schemaConfig);
+        }
+
+        return processSqlPaths(schemaConfig).thenApply(sqlContents -> {
+            String allSqlStatements = SqlFileProcessor.consolidateSqlContents(sqlContents);
+
+            // Extraer metadatos y aplicar alter/index/sequence statements
+            List<TableMetadata> tables = new SchemaProcessor().processSchema(allSqlStatements);
+            new AlterTableProcessor().processAlterStatements(tables, allSqlStatements);
+            new CreateIndexProcessor().processCreateIndexStatements(tables, allSqlStatements);
+            new SequenceProcessor().processSequenceStatements(tables, allSqlStatements);
+            return tables;
+        });
+    }
+
+    /**
+     * Reproduce los archivos SQL configurados como migraciones versionadas, partiendo del
+     * último checkpoint guardado cuando es posible.
+     *
+     * @param schemaConfig Configuración del esquema (paths, directorio y checkpoint)
+     * @return CompletableFuture con las tablas del esquema resultante
+     */
+    public CompletableFuture<List<TableMetadata>> replayMigrations(SchemaConfig schemaConfig) {
+        try {
+            List<String> sqlFilePaths = resolveSqlFilePaths(schemaConfig);
+            MigrationCheckpointStore store = new MigrationCheckpointStore(Paths.get(schemaConfig.getCheckpoint()));
+
+            return new MigrationReplayEngine(processor, store).replay(sqlFilePaths);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new RuntimeException("Error scanning SQL paths", e));
+        }
+    }
+
+    /**
+     * Primera fase del modo de bajo consumo de memoria: recorre los archivos configurados y
+     * construye el índice de relaciones sin conservar las tablas. El llamador debe cerrar el
+     * cargador devuelto para borrar su archivo temporal.
+     *
+     * @param schemaConfig Configuración del esquema
+     * @return Cargador listo para recorrer las tablas una a una
+     */
+    public StreamingSchemaLoader indexSchema(SchemaConfig schemaConfig) throws IOException {
+        StreamingSchemaLoader loader = new StreamingSchemaLoader(processor);
+        try {
+            loader.indexRelations(resolveSqlFilePaths(schemaConfig));
+            return loader;
+        } catch (IOException | RuntimeException e) {
+            loader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Resuelve la lista plana de archivos SQL a partir de los paths y el directorio configurados.
+     */
+    public List<String> resolveSqlFilePaths(SchemaConfig schemaConfig) throws IOException {
+        List<String> allPaths = new ArrayList<>();
+
+        // Agregar paths explícitos
+        if (schemaConfig.getPath() != null) {
+            allPaths.addAll(schemaConfig.getPath());
+        }
+
+        // Agregar archivos del directorio si está especificado
+        if (schemaConfig.getDirectory() != null && !schemaConfig.getDirectory().isEmpty()) {
+            try {
+                allPaths.addAll(sqlDirectoryScanner.listSqlFilesInDirectory(schemaConfig.getDirectory()));
+            } catch (IOException e) {
+                throw new IOException("Error reading SQL directory: " + schemaConfig.getDirectory(), e);
+            }
+        }
+
+        // Expandir cualquier directorio que pueda estar en los paths
+        return sqlDirectoryScanner.expandDirectoriesToSqlFiles(allPaths);
+    }
+
     public void shutdown() {
         processor.shutdown();
     }
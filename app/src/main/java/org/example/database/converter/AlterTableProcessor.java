@@ -1,34 +1,67 @@
 package org.example.database.converter;
 
 import org.example.database.converter.postgres.PostgresSqlAlterTableStatementExtractor;
+import org.example.database.extractor.sequence.SequenceProcessor;
 import org.example.database.model.*;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class AlterTableProcessor {
+    // ADD COLUMN ... GENERATED ALWAYS AS (expresión) STORED
+    private static final Pattern COMPUTED_COLUMN = Pattern.compile("\\bGENERATED\\s+ALWAYS\\s+AS\\s*\\(", Pattern.CASE_INSENSITIVE);
+
     private SqlAlterTableStatementExtractor alterExtractor = new PostgresSqlAlterTableStatementExtractor();
+    private final SequenceProcessor sequenceProcessor = new SequenceProcessor();
 
     public void processAlterStatements(List<TableMetadata> tables, String schema) {
+        Map<String, TableMetadata> tablesByName = new LinkedHashMap<>();
+        tables.forEach(table -> tablesByName.putIfAbsent(table.getTableName().toLowerCase(), table));
+
+        applyAlterations(tablesByName, schema);
+    }
+
+    /**
+     * Aplica las sentencias ALTER TABLE sobre un modelo indexado por nombre de tabla
+     * (en minúsculas). Los renombrados de tabla actualizan la clave del mapa.
+     *
+     * @param tablesByName Tablas indexadas por nombre normalizado
+     * @param schema       Sentencias SQL a procesar
+     */
+    public void applyAlterations(Map<String, TableMetadata> tablesByName, String schema) {
         List<TableAlteration> alterations = alterExtractor.parseAlterations(schema);
 
         for (TableAlteration alteration : alterations) {
             String tableName = alteration.getTableName().toLowerCase(); // Normalizar nombre
 
-            TableMetadata table = findTable(tables, tableName);
+            TableMetadata table = findTable(tablesByName, tableName);
 
             switch (alteration.getAlterType()) {
                 case ADD_COLUMN:
                     processAddColumn(table, alteration);
                     break;
+                case DROP_COLUMN:
+                    processDropColumn(tablesByName, table, alteration);
+                    break;
                 case MODIFY_COLUMN:
                     processModifyColumn(table, alteration);
                     break;
+                case RENAME_COLUMN:
+                    processRenameColumn(tablesByName, table, alteration);
+                    break;
                 case ADD_CONSTRAINT:
                     processAddConstraint(table, alteration);
                     break;
+                case DROP_CONSTRAINT:
+                    processDropConstraint(table, alteration);
+                    break;
+                case RENAME_TABLE:
+                    processRenameTable(tablesByName, table, alteration);
+                    break;
                 case OTHER:
                     // Puedes manejar otros tipos de alteraciones aquí
                     break;
@@ -36,12 +69,13 @@ public class AlterTableProcessor {
         }
     }
 
-    private TableMetadata findTable(List<TableMetadata> tables, String tableName) {
-        return tables.stream()
-            .filter(t -> t.getTableName().equalsIgnoreCase(tableName))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException(
-                "Tabla '" + tableName + "' referenciada en ALTER TABLE no encontrada"));
+    private TableMetadata findTable(Map<String, TableMetadata> tablesByName, String tableName) {
+        TableMetadata table = tablesByName.get(tableName);
+        if (table == null) {
+            throw new IllegalArgumentException(
+                "Tabla '" + tableName + "' referenciada en ALTER TABLE no encontrada");
+        }
+        return table;
     }
 
     private void processAddColumn(TableMetadata table, TableAlteration alteration) {
@@ -62,6 +96,8 @@ public class AlterTableProcessor {
         column.setColumnType(extractColumnType(statement));
         column.setNotNull(statement.toUpperCase().contains("NOT NULL"));
         column.setDefaultValue(extractDefaultValue(statement));
+        column.setComputed(COMPUTED_COLUMN.matcher(statement).find());
+        sequenceProcessor.bindColumn(table.getTableName(), column, statement);
 
         table.getColumns().add(column);
     }
@@ -99,6 +135,130 @@ public class AlterTableProcessor {
         }
     }
 
+    private void processDropColumn(Map<String, TableMetadata> tablesByName, TableMetadata table, TableAlteration alteration) {
+        String columnName = alteration.getTargetColumn().toLowerCase();
+        boolean ifExists = alteration.getFullStatement().toUpperCase().matches("(?s).*DROP\\s+(?:COLUMN\\s+)?IF\\s+EXISTS.*");
+
+        boolean removed = table.getColumns().removeIf(c -> c.getColumnName().equalsIgnoreCase(columnName));
+        if (!removed) {
+            if (ifExists) {
+                return;
+            }
+            throw new IllegalArgumentException(
+                "Columna '" + columnName + "' no existe en tabla '" + table.getTableName() + "'");
+        }
+
+        // PostgreSQL elimina junto con la columna las restricciones e índices que la usan
+        table.getPrimaryKeys().removeIf(pk -> pk.equalsIgnoreCase(columnName));
+        table.getRelations().removeIf(r -> r.getSourceColumn().equalsIgnoreCase(columnName));
+        table.getUniqueConstraints().removeIf(uc -> containsIgnoreCase(uc.getTargetColumnNames(), columnName));
+        table.getIndexes().removeIf(idx -> containsIgnoreCase(idx.getTargetColumnName(), columnName));
+
+        // Relaciones de otras tablas que apuntaban a la columna eliminada
+        for (TableMetadata other : tablesByName.values()) {
+            other.getRelations().removeIf(r -> r.getTargetTable().equalsIgnoreCase(table.getTableName())
+                && r.getTargetColumn().equalsIgnoreCase(columnName));
+        }
+    }
+
+    private void processRenameColumn(Map<String, TableMetadata> tablesByName, TableMetadata table, TableAlteration alteration) {
+        String oldName = alteration.getTargetColumn().toLowerCase();
+
+        Pattern pattern = Pattern.compile(
+            "(?i)RENAME\\s+(?:COLUMN\\s+)?[\"']?\\w+[\"']?\\s+TO\\s+[\"']?(\\w+)[\"']?",
+            Pattern.CASE_INSENSITIVE);
+        Matcher matcher = pattern.matcher(alteration.getFullStatement());
+        if (!matcher.find()) {
+            return;
+        }
+        String newName = matcher.group(1).toLowerCase();
+
+        ColumnMetadata column = table.getColumns().stream()
+            .filter(c -> c.getColumnName().equalsIgnoreCase(oldName))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Columna '" + oldName + "' no existe en tabla '" + table.getTableName() + "'"));
+        column.setColumnName(newName);
+
+        table.getPrimaryKeys().replaceAll(pk -> pk.equalsIgnoreCase(oldName) ? newName : pk);
+        table.getUniqueConstraints().forEach(uc -> uc.setTargetColumnNames(renameIn(uc.getTargetColumnNames(), oldName, newName)));
+        table.getIndexes().forEach(idx -> idx.setTargetColumnName(renameIn(idx.getTargetColumnName(), oldName, newName)));
+        table.getRelations().forEach(r -> {
+            if (r.getSourceColumn().equalsIgnoreCase(oldName)) {
+                r.setSourceColumn(newName);
+            }
+        });
+
+        // Relaciones de otras tablas (y las inversas de esta) que apuntan a la columna renombrada
+        for (TableMetadata other : tablesByName.values()) {
+            other.getRelations().forEach(r -> {
+                if (r.getTargetTable().equalsIgnoreCase(table.getTableName())
+                    && r.getTargetColumn().equalsIgnoreCase(oldName)) {
+                    r.setTargetColumn(newName);
+                }
+            });
+        }
+    }
+
+    private void processRenameTable(Map<String, TableMetadata> tablesByName, TableMetadata table, TableAlteration alteration) {
+        Pattern pattern = Pattern.compile(
+            "(?i)RENAME\\s+TO\\s+[\"']?(?:\\w+\\.)?(\\w+)[\"']?",
+            Pattern.CASE_INSENSITIVE);
+        Matcher matcher = pattern.matcher(alteration.getFullStatement());
+        if (!matcher.find()) {
+            return;
+        }
+
+        String oldName = table.getTableName();
+        String newName = matcher.group(1).toLowerCase();
+        if (tablesByName.containsKey(newName)) {
+            throw new IllegalArgumentException("La tabla '" + newName + "' ya existe");
+        }
+
+        tablesByName.remove(oldName.toLowerCase());
+        table.setTableName(newName);
+        tablesByName.put(newName, table);
+
+        table.getUniqueConstraints().forEach(uc -> uc.setTableName(newName));
+        table.getIndexes().forEach(idx -> idx.setTableName(newName));
+        for (TableMetadata other : tablesByName.values()) {
+            other.getRelations().forEach(r -> {
+                if (r.getTargetTable().equalsIgnoreCase(oldName)) {
+                    r.setTargetTable(newName);
+                }
+            });
+        }
+    }
+
+    private void processDropConstraint(TableMetadata table, TableAlteration alteration) {
+        Pattern pattern = Pattern.compile(
+            "(?i)DROP\\s+CONSTRAINT\\s+(?:IF\\s+EXISTS\\s+)?[\"']?(\\w+)[\"']?",
+            Pattern.CASE_INSENSITIVE);
+        Matcher matcher = pattern.matcher(alteration.getFullStatement());
+
+        if (matcher.find()) {
+            String constraintName = matcher.group(1);
+            // Los nombres de FK no se conservan en el modelo; solo se pueden retirar las UNIQUE
+            table.getUniqueConstraints().removeIf(uc -> uc.getConstraintName() != null
+                && uc.getConstraintName().equalsIgnoreCase(constraintName));
+        }
+    }
+
+    private boolean containsIgnoreCase(List<String> values, String value) {
+        return values != null && values.stream().anyMatch(v -> v.equalsIgnoreCase(value));
+    }
+
+    private List<String> renameIn(List<String> values, String oldName, String newName) {
+        if (values == null) {
+            return null;
+        }
+        List<String> renamed = new ArrayList<>(values.size());
+        for (String v : values) {
+            renamed.add(v.equalsIgnoreCase(oldName) ? newName : v);
+        }
+        return renamed;
+    }
+
     private void processAddConstraint(TableMetadata table, TableAlteration alteration) {
         String statement = alteration.getFullStatement().toUpperCase();
 
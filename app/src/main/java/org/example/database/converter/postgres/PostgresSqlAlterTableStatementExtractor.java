@@ -13,6 +13,11 @@ import java.util.regex.Pattern;
 
 public class PostgresSqlAlterTableStatementExtractor implements SqlAlterTableStatementExtractor {
 
+    private static final Pattern RENAME_TABLE_PATTERN = Pattern.compile(
+        "\\bRENAME\\s+TO\\s+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern RENAME_BARE_COLUMN_PATTERN = Pattern.compile(
+        "\\bRENAME\\s+[\"']?\\w+[\"']?\\s+TO\\s+", Pattern.CASE_INSENSITIVE);
+
     @Override
     public List<String> extractAlterTableStatements(String sql) {
         List<String> statements = new ArrayList<>();
@@ -79,8 +84,15 @@ public class PostgresSqlAlterTableStatementExtractor implements SqlAlterTableSta
         } else if (normalized.contains("RENAME COLUMN") ||
             (normalized.contains("RENAME") && normalized.contains("TO") && normalized.contains("COLUMN"))) {
             return AlterType.RENAME_COLUMN;
+        } else if (RENAME_TABLE_PATTERN.matcher(alterStatement).find()) {
+            return AlterType.RENAME_TABLE;
+        } else if (RENAME_BARE_COLUMN_PATTERN.matcher(alterStatement).find()) {
+            // RENAME sin la palabra COLUMN también renombra una columna en PostgreSQL
+            return AlterType.RENAME_COLUMN;
         } else if (normalized.contains("ADD CONSTRAINT")) {
             return AlterType.ADD_CONSTRAINT;
+        } else if (normalized.contains("DROP CONSTRAINT")) {
+            return AlterType.DROP_CONSTRAINT;
         }
         return AlterType.OTHER;
     }
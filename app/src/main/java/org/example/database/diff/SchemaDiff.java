@@ -0,0 +1,94 @@
+package org.example.database.diff;
+
+import org.example.database.model.RelationMetadata;
+import org.example.database.model.TableMetadata;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resultado de comparar dos snapshots del esquema: tablas agregadas, eliminadas y modificadas.
+ */
+public class SchemaDiff {
+
+    private final List<TableMetadata> addedTables = new ArrayList<>();
+    private final List<TableMetadata> removedTables = new ArrayList<>();
+    private final List<TableDiff> modifiedTables = new ArrayList<>();
+    private final Set<String> cycleChangedTables = new LinkedHashSet<>();
+
+    public List<TableMetadata> getAddedTables() {
+        return addedTables;
+    }
+
+    public List<TableMetadata> getRemovedTables() {
+        return removedTables;
+    }
+
+    public List<TableDiff> getModifiedTables() {
+        return modifiedTables;
+    }
+
+    /**
+     * Tablas existentes en ambos snapshots cuyo ciclo de claves foráneas cambió de miembros,
+     * en minúsculas.
+     */
+    public Set<String> getCycleChangedTables() {
+        return cycleChangedTables;
+    }
+
+    public boolean isEmpty() {
+        return addedTables.isEmpty() && removedTables.isEmpty() && modifiedTables.isEmpty();
+    }
+
+    /**
+     * Calcula las tablas cuya entidad debe regenerarse: las agregadas, las modificadas y las
+     * tablas referenciadas por una clave foránea que aparece o desaparece, ya que su colección
+     * inversa {@code @OneToMany} se deriva de esa clave foránea. También las tablas cuyo ciclo
+     * de claves foráneas cambió, porque la cascada de sus colecciones depende de él.
+     *
+     * @return Nombres de tabla en minúsculas, en orden de aparición
+     */
+    public Set<String> getAffectedTables() {
+        Set<String> affected = new LinkedHashSet<>();
+
+        for (TableMetadata table : addedTables) {
+            affected.add(table.getTableName().toLowerCase());
+            addTargets(table.getRelations(), affected);
+        }
+        for (TableMetadata table : removedTables) {
+            addTargets(table.getRelations(), affected);
+        }
+        for (TableDiff tableDiff : modifiedTables) {
+            affected.add(tableDiff.getTableName().toLowerCase());
+            addTargets(tableDiff.getAddedRelations(), affected);
+            addTargets(tableDiff.getRemovedRelations(), affected);
+        }
+        affected.addAll(cycleChangedTables);
+
+        return affected;
+    }
+
+    private void addTargets(List<RelationMetadata> relations, Set<String> affected) {
+        for (RelationMetadata relation : relations) {
+            if (!relation.isInverse()) {
+                affected.add(relation.getTargetTable().toLowerCase());
+            }
+        }
+    }
+
+    /**
+     * Describe el diff en líneas legibles para el comando {@code diff}.
+     */
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        addedTables.forEach(t -> lines.add("+ table " + t.getTableName()));
+        removedTables.forEach(t -> lines.add("- table " + t.getTableName()));
+        for (TableDiff tableDiff : modifiedTables) {
+            lines.add("~ table " + tableDiff.getTableName());
+            tableDiff.describe().forEach(line -> lines.add("    " + line));
+        }
+        return lines;
+    }
+}
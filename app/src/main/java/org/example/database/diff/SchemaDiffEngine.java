@@ -0,0 +1,168 @@
+package org.example.database.diff;
+
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.RelationMetadata;
+import org.example.database.model.TableMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Compara dos snapshots de {@link TableMetadata} y produce un {@link SchemaDiff} estructural
+ * (tablas, columnas, claves primarias, relaciones, restricciones únicas e índices).
+ * <p>
+ * Las relaciones inversas no se comparan: se derivan de las claves foráneas de otras tablas
+ * y su efecto se refleja en {@link SchemaDiff#getAffectedTables()}. Lo mismo con los ciclos de
+ * claves foráneas: una clave nueva puede cerrar (o romper) un ciclo entre tablas que no cambian,
+ * y la cascada de sus colecciones depende de pertenecer al ciclo.
+ */
+public class SchemaDiffEngine {
+
+    public SchemaDiff compare(List<TableMetadata> previous, List<TableMetadata> current) {
+        SchemaDiff diff = new SchemaDiff();
+        Map<String, TableMetadata> previousByName = indexByName(previous);
+        Map<String, TableMetadata> currentByName = indexByName(current);
+
+        for (Map.Entry<String, TableMetadata> entry : currentByName.entrySet()) {
+            TableMetadata before = previousByName.get(entry.getKey());
+            if (before == null) {
+                diff.getAddedTables().add(entry.getValue());
+                continue;
+            }
+
+            TableDiff tableDiff = compareTable(before, entry.getValue());
+            if (!tableDiff.isEmpty()) {
+                diff.getModifiedTables().add(tableDiff);
+            }
+        }
+
+        for (Map.Entry<String, TableMetadata> entry : previousByName.entrySet()) {
+            if (!currentByName.containsKey(entry.getKey())) {
+                diff.getRemovedTables().add(entry.getValue());
+            }
+        }
+
+        // Sin cambios no puede cambiar ningún ciclo; así se evita construir los grafos
+        if (!diff.isEmpty()) {
+            compareCycles(previous, current, previousByName, diff);
+        }
+
+        return diff;
+    }
+
+    /**
+     * Marca las tablas (presentes en ambos snapshots) cuyo ciclo de claves foráneas cambió de
+     * miembros, incluida la auto-referencia.
+     */
+    private void compareCycles(List<TableMetadata> previous, List<TableMetadata> current,
+                               Map<String, TableMetadata> previousByName, SchemaDiff diff) {
+        ForeignKeyGraph before = ForeignKeyGraph.build(previous);
+        ForeignKeyGraph after = ForeignKeyGraph.build(current);
+        Map<String, Set<String>> beforeCycles = cycleMembers(before);
+        Map<String, Set<String>> afterCycles = cycleMembers(after);
+
+        for (TableMetadata table : current) {
+            String name = table.getTableName().toLowerCase();
+            if (previousByName.containsKey(name)
+                && !beforeCycles.getOrDefault(name, Collections.emptySet()).equals(afterCycles.getOrDefault(name, Collections.emptySet()))) {
+                diff.getCycleChangedTables().add(name);
+            }
+        }
+    }
+
+    private Map<String, Set<String>> cycleMembers(ForeignKeyGraph graph) {
+        Map<String, Set<String>> members = new LinkedHashMap<>();
+        for (List<String> component : graph.getStronglyConnectedComponents()) {
+            if (graph.isCyclic(component.get(0))) {
+                Set<String> cycle = new TreeSet<>(component);
+                component.forEach(table -> members.put(table, cycle));
+            }
+        }
+        return members;
+    }
+
+    public TableDiff compareTable(TableMetadata before, TableMetadata after) {
+        TableDiff tableDiff = new TableDiff(after.getTableName());
+
+        // 1. Columnas
+        Map<String, ColumnMetadata> beforeColumns = indexColumns(before.getColumns());
+        Map<String, ColumnMetadata> afterColumns = indexColumns(after.getColumns());
+
+        for (Map.Entry<String, ColumnMetadata> entry : afterColumns.entrySet()) {
+            ColumnMetadata old = beforeColumns.get(entry.getKey());
+            if (old == null) {
+                tableDiff.getAddedColumns().add(entry.getValue());
+            } else if (!old.equals(entry.getValue())) {
+                tableDiff.getModifiedColumns().add(new TableDiff.ColumnChange(old, entry.getValue()));
+            }
+        }
+        for (Map.Entry<String, ColumnMetadata> entry : beforeColumns.entrySet()) {
+            if (!afterColumns.containsKey(entry.getKey())) {
+                tableDiff.getRemovedColumns().add(entry.getValue());
+            }
+        }
+
+        // El orden de las columnas define el orden de los campos generados
+        List<String> beforeOrder = new ArrayList<>(beforeColumns.keySet());
+        beforeOrder.retainAll(afterColumns.keySet());
+        List<String> afterOrder = new ArrayList<>(afterColumns.keySet());
+        afterOrder.retainAll(beforeColumns.keySet());
+        tableDiff.setColumnOrderChanged(!beforeOrder.equals(afterOrder));
+
+        // 2. Clave primaria
+        if (!before.getPrimaryKeys().equals(after.getPrimaryKeys())) {
+            tableDiff.setPrimaryKeyChange(before.getPrimaryKeys(), after.getPrimaryKeys());
+        }
+
+        // 3. Relaciones declaradas en la tabla (las inversas son derivadas)
+        List<RelationMetadata> beforeRelations = directRelations(before);
+        List<RelationMetadata> afterRelations = directRelations(after);
+        addMissing(afterRelations, beforeRelations, tableDiff.getAddedRelations());
+        addMissing(beforeRelations, afterRelations, tableDiff.getRemovedRelations());
+
+        // 4. Restricciones únicas e índices
+        addMissing(after.getUniqueConstraints(), before.getUniqueConstraints(), tableDiff.getAddedUniqueConstraints());
+        addMissing(before.getUniqueConstraints(), after.getUniqueConstraints(), tableDiff.getRemovedUniqueConstraints());
+        addMissing(after.getIndexes(), before.getIndexes(), tableDiff.getAddedIndexes());
+        addMissing(before.getIndexes(), after.getIndexes(), tableDiff.getRemovedIndexes());
+
+        return tableDiff;
+    }
+
+    private Map<String, TableMetadata> indexByName(List<TableMetadata> tables) {
+        Map<String, TableMetadata> byName = new LinkedHashMap<>();
+        for (TableMetadata table : tables) {
+            byName.put(table.getTableName().toLowerCase(), table);
+        }
+        return byName;
+    }
+
+    private Map<String, ColumnMetadata> indexColumns(List<ColumnMetadata> columns) {
+        Map<String, ColumnMetadata> byName = new LinkedHashMap<>();
+        for (ColumnMetadata column : columns) {
+            byName.put(column.getColumnName().toLowerCase(), column);
+        }
+        return byName;
+    }
+
+    private List<RelationMetadata> directRelations(TableMetadata table) {
+        return table.getRelations().stream()
+            .filter(r -> !r.isInverse())
+            .collect(Collectors.toList());
+    }
+
+    private <T> void addMissing(List<T> source, List<T> other, List<T> target) {
+        for (T item : source) {
+            if (!other.contains(item)) {
+                target.add(item);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.database.diff;
+
+import org.example.database.model.TableMetadata;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Esquema a partir del cual se generaron las entidades en la última ejecución, junto con
+ * una huella de las opciones de generación usadas (paquete, lombok, build).
+ */
+public class SchemaSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String generatorFingerprint;
+    private List<TableMetadata> tables = new ArrayList<>();
+
+    public SchemaSnapshot() {
+    }
+
+    public SchemaSnapshot(String generatorFingerprint, List<TableMetadata> tables) {
+        this.generatorFingerprint = generatorFingerprint;
+        this.tables = tables;
+    }
+
+    /**
+     * Si las opciones de generación cambian, todas las entidades deben regenerarse.
+     */
+    public String getGeneratorFingerprint() {
+        return generatorFingerprint;
+    }
+
+    public void setGeneratorFingerprint(String generatorFingerprint) {
+        this.generatorFingerprint = generatorFingerprint;
+    }
+
+    public List<TableMetadata> getTables() {
+        return tables;
+    }
+
+    public void setTables(List<TableMetadata> tables) {
+        this.tables = tables;
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaSnapshot{" +
+            "generatorFingerprint='" + generatorFingerprint + '\'' +
+            ", tables=" + tables.size() +
+            '}';
+    }
+}
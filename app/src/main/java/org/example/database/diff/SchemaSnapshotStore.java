@@ -0,0 +1,80 @@
+package org.example.database.diff;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Persiste y recupera el {@link SchemaSnapshot} de la última generación usando la
+ * serialización estándar de Java.
+ */
+public class SchemaSnapshotStore {
+
+    private final Path snapshotPath;
+
+    public SchemaSnapshotStore(Path snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
+
+    /**
+     * Carga el snapshot guardado.
+     *
+     * @return El snapshot, o null si no existe o no puede leerse
+     */
+    public SchemaSnapshot load() {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return null;
+        }
+
+        try (InputStream in = Files.newInputStream(snapshotPath);
+             ObjectInputStream objectIn = new ObjectInputStream(in)) {
+            return (SchemaSnapshot) objectIn.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            System.err.println("⚠️  Snapshot del esquema ilegible, se regenerarán todas las entidades: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Guarda el snapshot a través de un archivo temporal para no dejarlo a medio escribir.
+     *
+     * @param snapshot Snapshot a guardar
+     * @throws IOException Si no se puede escribir el archivo
+     */
+    public void save(SchemaSnapshot snapshot) throws IOException {
+        Path parent = snapshotPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path tempFile = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tempFile);
+             ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+            objectOut.writeObject(snapshot);
+        }
+        try {
+            Files.move(tempFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Elimina el snapshot guardado, de modo que la próxima generación regenere todas las entidades.
+     *
+     * @throws IOException Si no se puede borrar el archivo
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(snapshotPath);
+    }
+
+    public Path getSnapshotPath() {
+        return snapshotPath;
+    }
+}
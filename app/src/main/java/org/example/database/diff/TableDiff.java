@@ -0,0 +1,173 @@
+package org.example.database.diff;
+
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.RelationMetadata;
+import org.example.database.model.TableConstraintData;
+import org.example.database.model.TableIndexData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cambios estructurales de una tabla presente en ambos snapshots del esquema.
+ */
+public class TableDiff {
+
+    private final String tableName;
+    private final List<ColumnMetadata> addedColumns = new ArrayList<>();
+    private final List<ColumnMetadata> removedColumns = new ArrayList<>();
+    private final List<ColumnChange> modifiedColumns = new ArrayList<>();
+    private boolean columnOrderChanged;
+    private List<String> previousPrimaryKeys;
+    private List<String> currentPrimaryKeys;
+    private final List<RelationMetadata> addedRelations = new ArrayList<>();
+    private final List<RelationMetadata> removedRelations = new ArrayList<>();
+    private final List<TableConstraintData> addedUniqueConstraints = new ArrayList<>();
+    private final List<TableConstraintData> removedUniqueConstraints = new ArrayList<>();
+    private final List<TableIndexData> addedIndexes = new ArrayList<>();
+    private final List<TableIndexData> removedIndexes = new ArrayList<>();
+
+    public TableDiff(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<ColumnMetadata> getAddedColumns() {
+        return addedColumns;
+    }
+
+    public List<ColumnMetadata> getRemovedColumns() {
+        return removedColumns;
+    }
+
+    public List<ColumnChange> getModifiedColumns() {
+        return modifiedColumns;
+    }
+
+    public boolean isColumnOrderChanged() {
+        return columnOrderChanged;
+    }
+
+    public void setColumnOrderChanged(boolean columnOrderChanged) {
+        this.columnOrderChanged = columnOrderChanged;
+    }
+
+    public boolean isPrimaryKeyChanged() {
+        return currentPrimaryKeys != null;
+    }
+
+    public List<String> getPreviousPrimaryKeys() {
+        return previousPrimaryKeys;
+    }
+
+    public List<String> getCurrentPrimaryKeys() {
+        return currentPrimaryKeys;
+    }
+
+    public void setPrimaryKeyChange(List<String> previousPrimaryKeys, List<String> currentPrimaryKeys) {
+        this.previousPrimaryKeys = previousPrimaryKeys;
+        this.currentPrimaryKeys = currentPrimaryKeys;
+    }
+
+    public List<RelationMetadata> getAddedRelations() {
+        return addedRelations;
+    }
+
+    public List<RelationMetadata> getRemovedRelations() {
+        return removedRelations;
+    }
+
+    public List<TableConstraintData> getAddedUniqueConstraints() {
+        return addedUniqueConstraints;
+    }
+
+    public List<TableConstraintData> getRemovedUniqueConstraints() {
+        return removedUniqueConstraints;
+    }
+
+    public List<TableIndexData> getAddedIndexes() {
+        return addedIndexes;
+    }
+
+    public List<TableIndexData> getRemovedIndexes() {
+        return removedIndexes;
+    }
+
+    public boolean isEmpty() {
+        return addedColumns.isEmpty() && removedColumns.isEmpty() && modifiedColumns.isEmpty()
+            && !columnOrderChanged && !isPrimaryKeyChanged()
+            && addedRelations.isEmpty() && removedRelations.isEmpty()
+            && addedUniqueConstraints.isEmpty() && removedUniqueConstraints.isEmpty()
+            && addedIndexes.isEmpty() && removedIndexes.isEmpty();
+    }
+
+    /**
+     * Describe cada cambio en una línea legible, en el orden en que se reportan.
+     */
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        addedColumns.forEach(c -> lines.add("+ column " + c.getColumnName() + " " + c.getColumnType()));
+        removedColumns.forEach(c -> lines.add("- column " + c.getColumnName()));
+        modifiedColumns.forEach(c -> lines.add("~ column " + c.getColumnName() + ": " + c.describe()));
+        if (columnOrderChanged) {
+            lines.add("~ column order");
+        }
+        if (isPrimaryKeyChanged()) {
+            lines.add("~ primary key " + previousPrimaryKeys + " -> " + currentPrimaryKeys);
+        }
+        addedRelations.forEach(r -> lines.add("+ foreign key " + r.getSourceColumn() + " -> "
+            + r.getTargetTable() + "(" + r.getTargetColumn() + ")"));
+        removedRelations.forEach(r -> lines.add("- foreign key " + r.getSourceColumn() + " -> "
+            + r.getTargetTable() + "(" + r.getTargetColumn() + ")"));
+        addedUniqueConstraints.forEach(u -> lines.add("+ unique " + u.getConstraintName() + " " + u.getTargetColumnNames()));
+        removedUniqueConstraints.forEach(u -> lines.add("- unique " + u.getConstraintName() + " " + u.getTargetColumnNames()));
+        addedIndexes.forEach(i -> lines.add("+ index " + i.getIndexName() + " " + i.getTargetColumnName()));
+        removedIndexes.forEach(i -> lines.add("- index " + i.getIndexName() + " " + i.getTargetColumnName()));
+        return lines;
+    }
+
+    /**
+     * Una columna que existe en ambos snapshots pero con tipo, nulabilidad o valor por defecto distinto.
+     */
+    public static class ColumnChange {
+        private final ColumnMetadata before;
+        private final ColumnMetadata after;
+
+        public ColumnChange(ColumnMetadata before, ColumnMetadata after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        public String getColumnName() {
+            return after.getColumnName();
+        }
+
+        public ColumnMetadata getBefore() {
+            return before;
+        }
+
+        public ColumnMetadata getAfter() {
+            return after;
+        }
+
+        public String describe() {
+            List<String> parts = new ArrayList<>();
+            if (!before.getColumnType().equals(after.getColumnType())) {
+                parts.add(before.getColumnType() + " -> " + after.getColumnType());
+            }
+            if (before.isNotNull() != after.isNotNull()) {
+                parts.add(after.isNotNull() ? "NOT NULL" : "NULL");
+            }
+            if (!String.valueOf(before.getDefaultValue()).equals(String.valueOf(after.getDefaultValue()))) {
+                parts.add("DEFAULT " + before.getDefaultValue() + " -> " + after.getDefaultValue());
+            }
+            if (parts.isEmpty()) {
+                parts.add(before.getColumnName() + " -> " + after.getColumnName());
+            }
+            return String.join(", ", parts);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.database.extractor;
 
 import org.example.database.extractor.postgres.PostgresSqlCreateTableStatementExtractor;
+import org.example.database.extractor.sequence.SequenceProcessor;
 import org.example.database.model.ColumnMetadata;
 import org.example.database.model.RelationMetadata;
 import org.example.database.model.TableConstraintData;
@@ -15,8 +16,8 @@ import java.util.stream.Collectors;
 
 public class SchemaProcessor {
 
-    private Map<String, List<RelationMetadata>> inverseRelationsMap = new HashMap<>();
     private final SqlCreateTableStatementExtractor extract = new PostgresSqlCreateTableStatementExtractor();
+    private final SequenceProcessor sequenceProcessor = new SequenceProcessor();
 
     public List<TableMetadata> processSchema(String schema) {
         System.out.println("\n====== INICIANDO PROCESAMIENTO DE ESQUEMA ======");
@@ -31,146 +32,201 @@ public class SchemaProcessor {
         for (String statement : statements) {
             tableCounter++;
             System.out.println("\n----- PROCESANDO TABLA #" + tableCounter + " -----");
-            System.out.println("Definición SQL: " + statement);
-
-            TableMetadata table = new TableMetadata();
-            String tableName = extract.extractTableName(statement).toLowerCase(); // Normalizar nombres
-            System.out.println("Nombre de la tabla detectado: " + tableName);
-            table.setTableName(tableName);
-
-            // --- NUEVO: Extraer y almacenar las restricciones UNIQUE a nivel de tabla ---
-            List<TableConstraintData> uniqueConstraints = extract.extractUniqueConstraints(statement);
-            table.setUniqueConstraints(uniqueConstraints); // Asumiendo que TableMetadata tiene un setUniqueConstraints
-            System.out.println("Restricciones UNIQUE detectadas para '" + tableName + "': " + uniqueConstraints.size());
-            for (TableConstraintData uc : uniqueConstraints) {
-                System.out.println("  - Constraint: " + uc.getConstraintName() + ", Columns: " + uc.getTargetColumnNames());
-            }
+            tables.add(buildTable(statement));
+        }
 
-            // Procesar columnas
-            List<ColumnMetadata> columns = new ArrayList<>();
-            List<String> columnDefinitions = extract.extractColumnDefinitions(statement);
-            System.out.println("Se detectaron " + columnDefinitions.size() + " definiciones de columnas");
-
-            int colCounter = 0;
-            for (String columnDef : columnDefinitions) {
-                colCounter++;
-                System.out.println("\n  --- Procesando columna #" + colCounter + " ---");
-                System.out.println("  Definición: " + columnDef);
-
-                ColumnMetadata column = new ColumnMetadata();
-                String columnName = extract.extractColumnName(columnDef).toLowerCase();
-                // Validar que el nombre de la columna no esté vacío
-                if (columnName.trim().isEmpty()) {
-                    System.err.println("ERROR: Nombre de columna vacío en definición: " + columnDef);
-                    throw new IllegalStateException("Nombre de columna vacío en definición: " + columnDef);
-                }
+        // Segunda pasada: agregar relaciones inversas
+        linkInverseRelations(tables);
 
-                System.out.println("  Nombre de columna: " + columnName);
-                column.setColumnName(columnName);
+        // Validar relaciones de claves foráneas
+        System.out.println("\n====== VALIDANDO CLAVES FORÁNEAS ======");
+        try {
+            validateForeignKeys(tables);
+            System.out.println("Validación de claves foráneas completada con éxito");
+        } catch (Exception e) {
+            System.err.println("ERROR durante la validación de claves foráneas: " + e.getMessage());
+            e.printStackTrace();
+        }
 
-                String columnType = extract.extractColumnType(columnDef);
-                System.out.println("  Tipo de columna: " + columnType);
-                column.setColumnType(columnType);
+        System.out.println("\n====== PROCESAMIENTO DE ESQUEMA COMPLETADO ======");
+        System.out.println("Total de tablas procesadas: " + tables.size());
 
-                boolean isNotNull = extract.isNotNullColumn(columnDef);
-                System.out.println("  Es NOT NULL: " + isNotNull);
-                column.setNotNull(isNotNull);
+        return tables;
+    }
 
-                String defaultValue = extract.extractDefaultValue(columnDef);
-                System.out.println("  Valor DEFAULT: " + (defaultValue != null ? defaultValue : "null"));
-                column.setDefaultValue(defaultValue);
+    /**
+     * Construye los metadatos de una tabla a partir de una única sentencia CREATE TABLE.
+     * Solo se registran las relaciones directas; las inversas se agregan con
+     * {@link #linkInverseRelations(List)} una vez conocidas todas las tablas.
+     *
+     * @param statement Sentencia CREATE TABLE completa
+     * @return Metadatos de la tabla
+     */
+    public TableMetadata buildTable(String statement) {
+        System.out.println("Definición SQL: " + statement);
+
+        TableMetadata table = new TableMetadata();
+        String tableName = extract.extractTableName(statement).toLowerCase(); // Normalizar nombres
+        System.out.println("Nombre de la tabla detectado: " + tableName);
+        table.setTableName(tableName);
+
+        // --- NUEVO: Extraer y almacenar las restricciones UNIQUE a nivel de tabla ---
+        List<TableConstraintData> uniqueConstraints = extract.extractUniqueConstraints(statement);
+        table.setUniqueConstraints(uniqueConstraints); // Asumiendo que TableMetadata tiene un setUniqueConstraints
+        System.out.println("Restricciones UNIQUE detectadas para '" + tableName + "': " + uniqueConstraints.size());
+        for (TableConstraintData uc : uniqueConstraints) {
+            System.out.println("  - Constraint: " + uc.getConstraintName() + ", Columns: " + uc.getTargetColumnNames());
+        }
 
-                columns.add(column);
+        // Procesar columnas
+        List<ColumnMetadata> columns = new ArrayList<>();
+        List<String> columnDefinitions = extract.extractColumnDefinitions(statement);
+        System.out.println("Se detectaron " + columnDefinitions.size() + " definiciones de columnas");
+
+        int colCounter = 0;
+        for (String columnDef : columnDefinitions) {
+            colCounter++;
+            System.out.println("\n  --- Procesando columna #" + colCounter + " ---");
+            System.out.println("  Definición: " + columnDef);
+
+            ColumnMetadata column = new ColumnMetadata();
+            String columnName = extract.extractColumnName(columnDef).toLowerCase();
+            // Validar que el nombre de la columna no esté vacío
+            if (columnName.trim().isEmpty()) {
+                System.err.println("ERROR: Nombre de columna vacío en definición: " + columnDef);
+                throw new IllegalStateException("Nombre de columna vacío en definición: " + columnDef);
             }
-            table.setColumns(columns);
-
-            // Procesar claves primarias
-            List<String> primaryKeys = extract.extractPrimaryKeyColumns(statement).stream()
-                .map(String::toLowerCase) // Normalizar claves primarias
-                .toList();
-
-            System.out.println("\n  Se detectaron " + primaryKeys.size() + " claves primarias: " +
-                primaryKeys.stream().collect(Collectors.joining(", ")));
-
-            // Validación de claves primarias
-            for (String pk : primaryKeys) {
-                boolean exists = columns.stream()
-                    .anyMatch(column -> column.getColumnName().equals(pk));
-
-                if (!exists) {
-                    String columnNames = columns.stream()
-                        .map(ColumnMetadata::getColumnName)
-                        .collect(Collectors.joining(", "));
-
-                    System.err.println("ERROR: La clave primaria '" + pk + "' no coincide con ninguna columna.");
-                    System.err.println("DEBUG - Statement: " + statement);
-                    System.err.println("DEBUG - Column definitions: " + extract.extractColumnDefinitions(statement));
-                    System.err.println("DEBUG - Columnas disponibles: " + columnNames);
-
-                    throw new IllegalArgumentException(
-                        String.format("La clave primaria '%s' no coincide con ninguna columna en la tabla '%s'. Columnas disponibles: %s",
-                            pk, tableName, columnNames));
-                } else {
-                    System.out.println("  Validación exitosa: La clave primaria '" + pk + "' existe como columna");
-                }
-            }
-            table.setPrimaryKeys(primaryKeys);
-
-            // Procesar relaciones directas
-            List<RelationMetadata> directRelations = extract.extractTableRelations(statement);
-            System.out.println("\n  Se detectaron " + directRelations.size() + " relaciones directas");
-
-            List<RelationMetadata> relations = new ArrayList<>();
-            int relCounter = 0;
-
-            for (RelationMetadata relation : directRelations) {
-                relCounter++;
-                String sourceColumn = relation.getSourceColumn().toLowerCase();
-                String targetTable = relation.getTargetTable().toLowerCase();
-                String targetColumn = relation.getTargetColumn().toLowerCase();
-
-                System.out.println("  --- Procesando relación #" + relCounter + " ---");
-                System.out.println("  Relación directa: " + tableName + "." + sourceColumn +
-                    " -> " + targetTable + "." + targetColumn +
-                    " (ManyToOne: " + relation.isManyToOne() + ")");
-
-                // Verificar que la columna fuente exista
-                boolean sourceExists = columns.stream()
-                    .anyMatch(column -> column.getColumnName().equals(sourceColumn));
-                if (!sourceExists) {
-                    System.err.println("ADVERTENCIA: La columna fuente '" + sourceColumn +
-                        "' de la relación no existe en la tabla '" + tableName + "'");
-                }
 
-                // Agregar relación directa
-                relations.add(new RelationMetadata(
-                    sourceColumn,
-                    targetTable,
-                    targetColumn,
-                    relation.isManyToOne()));
+            System.out.println("  Nombre de columna: " + columnName);
+            column.setColumnName(columnName);
 
-                // Registrar relación inversa (One-to-Many)
-                System.out.println("  Registrando relación inversa: " + targetTable + "." + targetColumn +
-                    " -> " + tableName + "." + sourceColumn +
-                    " (ManyToOne: " + !relation.isManyToOne() + ")");
+            String columnType = extract.extractColumnType(columnDef);
+            System.out.println("  Tipo de columna: " + columnType);
+            column.setColumnType(columnType);
 
-                inverseRelationsMap
-                    .computeIfAbsent(targetTable, k -> new ArrayList<>())
-                    .add(new RelationMetadata(
-                        targetColumn,
-                        tableName,
-                        sourceColumn,
-                        !relation.isManyToOne())); // Relación inversa cambia el tipo
+            boolean isNotNull = extract.isNotNullColumn(columnDef);
+            System.out.println("  Es NOT NULL: " + isNotNull);
+            column.setNotNull(isNotNull);
+
+            String defaultValue = extract.extractDefaultValue(columnDef);
+            System.out.println("  Valor DEFAULT: " + (defaultValue != null ? defaultValue : "null"));
+            column.setDefaultValue(defaultValue);
+
+            boolean computed = extract.isComputedColumn(columnDef);
+            if (computed) {
+                System.out.println("  Columna calculada (GENERATED ALWAYS AS)");
+            }
+            column.setComputed(computed);
+
+            // Secuencia implícita (SERIAL, identity) o de DEFAULT nextval(...)
+            sequenceProcessor.bindColumn(tableName, column, columnDef);
+            if (column.getSequenceName() != null) {
+                System.out.println("  Secuencia: " + column.getSequenceName());
             }
-            table.setRelations(relations);
-            tables.add(table);
 
-            System.out.println("Tabla '" + tableName + "' procesada exitosamente.");
+            columns.add(column);
+        }
+        table.setColumns(columns);
+
+        // Procesar claves primarias
+        List<String> primaryKeys = extract.extractPrimaryKeyColumns(statement).stream()
+            .map(String::toLowerCase) // Normalizar claves primarias
+            .collect(Collectors.toList()); // Mutable: ALTER TABLE puede agregar o quitar claves
+
+        System.out.println("\n  Se detectaron " + primaryKeys.size() + " claves primarias: " +
+            primaryKeys.stream().collect(Collectors.joining(", ")));
+
+        // Validación de claves primarias
+        for (String pk : primaryKeys) {
+            boolean exists = columns.stream()
+                .anyMatch(column -> column.getColumnName().equals(pk));
+
+            if (!exists) {
+                String columnNames = columns.stream()
+                    .map(ColumnMetadata::getColumnName)
+                    .collect(Collectors.joining(", "));
+
+                System.err.println("ERROR: La clave primaria '" + pk + "' no coincide con ninguna columna.");
+                System.err.println("DEBUG - Statement: " + statement);
+                System.err.println("DEBUG - Column definitions: " + extract.extractColumnDefinitions(statement));
+                System.err.println("DEBUG - Columnas disponibles: " + columnNames);
+
+                throw new IllegalArgumentException(
+                    String.format("La clave primaria '%s' no coincide con ninguna columna en la tabla '%s'. Columnas disponibles: %s",
+                        pk, tableName, columnNames));
+            } else {
+                System.out.println("  Validación exitosa: La clave primaria '" + pk + "' existe como columna");
+            }
         }
+        table.setPrimaryKeys(primaryKeys);
+
+        // Procesar relaciones directas
+        List<RelationMetadata> directRelations = extract.extractTableRelations(statement);
+        System.out.println("\n  Se detectaron " + directRelations.size() + " relaciones directas");
+
+        List<RelationMetadata> relations = new ArrayList<>();
+        int relCounter = 0;
+
+        for (RelationMetadata relation : directRelations) {
+            relCounter++;
+            String sourceColumn = relation.getSourceColumn().toLowerCase();
+            String targetTable = relation.getTargetTable().toLowerCase();
+            String targetColumn = relation.getTargetColumn().toLowerCase();
+
+            System.out.println("  --- Procesando relación #" + relCounter + " ---");
+            System.out.println("  Relación directa: " + tableName + "." + sourceColumn +
+                " -> " + targetTable + "." + targetColumn +
+                " (ManyToOne: " + relation.isManyToOne() + ")");
+
+            // Verificar que la columna fuente exista
+            boolean sourceExists = columns.stream()
+                .anyMatch(column -> column.getColumnName().equals(sourceColumn));
+            if (!sourceExists) {
+                System.err.println("ADVERTENCIA: La columna fuente '" + sourceColumn +
+                    "' de la relación no existe en la tabla '" + tableName + "'");
+            }
 
-        // Segunda pasada: agregar relaciones inversas
+            // Agregar relación directa
+            relations.add(new RelationMetadata(
+                sourceColumn,
+                targetTable,
+                targetColumn,
+                relation.isManyToOne()));
+        }
+        table.setRelations(relations);
+
+        System.out.println("Tabla '" + tableName + "' procesada exitosamente.");
+        return table;
+    }
+
+    /**
+     * Registra en cada tabla las relaciones inversas (One-to-Many) derivadas de las claves
+     * foráneas directas del resto de tablas. Las inversas registradas previamente se
+     * descartan, por lo que puede invocarse de nuevo tras aplicar nuevas alteraciones.
+     *
+     * @param tables Tablas del esquema
+     */
+    public void linkInverseRelations(List<TableMetadata> tables) {
         System.out.println("\n====== PROCESANDO RELACIONES INVERSAS ======");
 
+        Map<String, List<RelationMetadata>> inverseRelationsMap = new HashMap<>();
+        for (TableMetadata table : tables) {
+            table.getRelations().removeIf(RelationMetadata::isInverse);
+
+            for (RelationMetadata relation : table.getRelations()) {
+                RelationMetadata inverse = new RelationMetadata(
+                    relation.getTargetColumn(),
+                    table.getTableName(),
+                    relation.getSourceColumn(),
+                    !relation.isManyToOne()); // Relación inversa cambia el tipo
+                inverse.setInverse(true);
+
+                inverseRelationsMap
+                    .computeIfAbsent(relation.getTargetTable(), k -> new ArrayList<>())
+                    .add(inverse);
+            }
+        }
+
         for (TableMetadata table : tables) {
             System.out.println("\nProcesando relaciones inversas para tabla: " + table.getTableName());
 
@@ -190,21 +246,6 @@ public class SchemaProcessor {
                 System.out.println("  No se encontraron relaciones inversas");
             }
         }
-
-        // Validar relaciones de claves foráneas
-        System.out.println("\n====== VALIDANDO CLAVES FORÁNEAS ======");
-        try {
-            validateForeignKeys(tables);
-            System.out.println("Validación de claves foráneas completada con éxito");
-        } catch (Exception e) {
-            System.err.println("ERROR durante la validación de claves foráneas: " + e.getMessage());
-            e.printStackTrace();
-        }
-
-        System.out.println("\n====== PROCESAMIENTO DE ESQUEMA COMPLETADO ======");
-        System.out.println("Total de tablas procesadas: " + tables.size());
-
-        return tables;
     }
 
     private void validateForeignKeys(List<TableMetadata> tables) {
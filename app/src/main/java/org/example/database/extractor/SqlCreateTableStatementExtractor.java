@@ -15,6 +15,7 @@ public interface SqlCreateTableStatementExtractor {
     boolean isNotNullColumn(String columnDefinition);
     boolean isUniqueColumn(String columnDefinition, String fullTableDDL);
     String extractDefaultValue(String columnDefinition);
+    boolean isComputedColumn(String columnDefinition);
     List<String> extractPrimaryKeyColumns(String sql);
     List<RelationMetadata> extractTableRelations(String sql);
     List<TableConstraintData> extractUniqueConstraints(String sql);
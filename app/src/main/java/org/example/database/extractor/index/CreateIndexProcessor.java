@@ -4,21 +4,37 @@ import org.example.database.extractor.index.postgres.PostgresSqlCreateIndexState
 import org.example.database.model.TableIndexData;
 import org.example.database.model.TableMetadata;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class CreateIndexProcessor {
 
     private SqlCreateIndexStatementExtractor extractor = new PostgresSqlCreateIndexStatementExtractor();
 
     public void processCreateIndexStatements(List<TableMetadata> tables, String schema) {
+        Map<String, TableMetadata> tablesByName = new LinkedHashMap<>();
+        tables.forEach(table -> tablesByName.putIfAbsent(table.getTableName().toLowerCase(), table));
+
+        processCreateIndexStatements(tablesByName, schema);
+    }
+
+    /**
+     * Aplica las sentencias CREATE INDEX sobre un modelo indexado por nombre de tabla
+     * (en minúsculas), evitando recorrer la lista de tablas por cada índice.
+     *
+     * @param tablesByName Tablas indexadas por nombre normalizado
+     * @param schema       Sentencias SQL a procesar
+     */
+    public void processCreateIndexStatements(Map<String, TableMetadata> tablesByName, String schema) {
         List<TableIndexData> indexDataList = indexData(schema);
 
         indexDataList.forEach(indexData -> {
             // Busca la tabla correspondiente
-            tables.stream()
-                .filter(table -> table.getTableName().equalsIgnoreCase(indexData.getTableName()))
-                .findFirst()
-                .ifPresent(table -> table.getIndexes().add(indexData));
+            TableMetadata table = tablesByName.get(indexData.getTableName().toLowerCase());
+            if (table != null) {
+                table.getIndexes().add(indexData);
+            }
         });
     }
 
@@ -13,6 +13,8 @@ import java.util.stream.Collectors;
 
 public class PostgresSqlCreateTableStatementExtractor implements SqlCreateTableStatementExtractor {
 
+    private static final Pattern COMPUTED_COLUMN_PATTERN = Pattern.compile("\\bGENERATED\\s+ALWAYS\\s+AS\\s*\\(", Pattern.CASE_INSENSITIVE);
+
     @Override
     public List<String> extractCreateTableStatements(String sql) {
         List<String> statements = new ArrayList<>();
@@ -136,6 +138,12 @@ public class PostgresSqlCreateTableStatementExtractor implements SqlCreateTableS
         return notNullPattern.matcher(columnDefinition).matches();
     }
 
+    @Override
+    public boolean isComputedColumn(String columnDefinition) {
+        // GENERATED ALWAYS AS (expresión) STORED; "AS IDENTITY" no lleva paréntesis
+        return COMPUTED_COLUMN_PATTERN.matcher(columnDefinition).find();
+    }
+
     @Override
     public boolean isUniqueColumn(String columnDefinition, String fullTableDDL) {
         // 1. Verificar si la columna tiene UNIQUE explícito en su definición
@@ -201,7 +209,11 @@ public class PostgresSqlCreateTableStatementExtractor implements SqlCreateTableS
 
         Pattern pkPattern = Pattern.compile(
             // Captura PKs simples
-            "(?:(?:\\(|,)\\s*([\"\\w.-]+)\\s+(?:INTEGER|SERIAL|UUID|NUMERIC|BIGINT|VARCHAR|TEXT|TIMESTAMP|DATE|DECIMAL)(?:\\([^)]*\\))?\\s*(?:NOT\\s+NULL\\s+)?(?:UNIQUE\\s+)?(?:CONSTRAINT\\s+\\w+\\s+)?PRIMARY\\s+KEY\\b)" +
+            "(?:(?:\\(|,)\\s*([\"\\w.-]+)\\s+(?:INTEGER|SERIAL|BIGSERIAL|SMALLSERIAL|UUID|NUMERIC|BIGINT|VARCHAR|TEXT|TIMESTAMP|DATE|DECIMAL)(?:\\([^)]*\\))?\\s*" +
+                // Valor por defecto (p. ej. nextval) o columna identity antes de PRIMARY KEY
+                "(?:DEFAULT\\s+(?:'[^']*'|[\\w.]+(?:\\s*\\([^)]*\\))?)(?:::\\w+)?\\s+)?" +
+                "(?:GENERATED\\s+(?:ALWAYS|BY\\s+DEFAULT)\\s+AS\\s+IDENTITY(?:\\s*\\([^)]*\\))?\\s+)?" +
+                "(?:NOT\\s+NULL\\s+)?(?:UNIQUE\\s+)?(?:CONSTRAINT\\s+\\w+\\s+)?PRIMARY\\s+KEY\\b)" +
                 "|" +
                 // Captura PKs compuestas
                 "(?:CONSTRAINT\\s+[\"\\w.-]+\\s+)?PRIMARY\\s+KEY\\s*\\(([^)]+)\\)",
@@ -0,0 +1,102 @@
+package org.example.database.extractor.sequence;
+
+import org.example.database.extractor.sequence.postgres.PostgresSqlSequenceStatementExtractor;
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.TableMetadata;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Enlaza las columnas con las secuencias que generan sus valores y con su INCREMENT BY.
+ * <p>
+ * {@link #bindColumn(String, ColumnMetadata, String)} resuelve la secuencia de cada columna al
+ * crearla: la implícita de SERIAL y de las columnas identity, o la de {@code DEFAULT nextval(...)}.
+ * Las sentencias CREATE SEQUENCE y ALTER SEQUENCE se registran en orden con
+ * {@link #registerSequenceStatements(String)} y su incremento se aplica después a las columnas
+ * con {@link #applyIncrements(Collection)}, de modo que no importa si la secuencia se declara
+ * antes o después de la tabla.
+ */
+public class SequenceProcessor {
+
+    private final SqlSequenceStatementExtractor extractor = new PostgresSqlSequenceStatementExtractor();
+    private final Map<String, Integer> increments = new HashMap<>();
+
+    public void processSequenceStatements(List<TableMetadata> tables, String schema) {
+        registerSequenceStatements(schema);
+        applyIncrements(tables);
+    }
+
+    /**
+     * Resuelve la secuencia de una columna a partir de su definición.
+     *
+     * @param tableName        Nombre de la tabla al crear la columna (la secuencia implícita
+     *                         conserva ese nombre aunque la tabla se renombre después)
+     * @param column           Columna ya construida, con su tipo y valor por defecto
+     * @param columnDefinition Definición SQL de la columna
+     */
+    public void bindColumn(String tableName, ColumnMetadata column, String columnDefinition) {
+        String identity = extractor.extractIdentityGeneration(columnDefinition);
+        String sequence = extractor.extractNextvalSequence(column.getDefaultValue());
+
+        if (identity != null) {
+            // "GENERATED BY DEFAULT AS IDENTITY" no es un valor DEFAULT de la columna
+            column.setDefaultValue(null);
+            column.setIdentity(identity);
+            Integer increment = extractor.extractIncrement(columnDefinition);
+            column.setSequenceIncrement(increment != null ? increment : 0);
+        }
+        if (sequence == null && (identity != null || column.getColumnType().toUpperCase().contains("SERIAL"))) {
+            // Nombre que PostgreSQL asigna a la secuencia implícita
+            sequence = tableName.toLowerCase() + "_" + column.getColumnName().toLowerCase() + "_seq";
+        }
+        column.setSequenceName(sequence);
+    }
+
+    /**
+     * Registra el incremento de las sentencias CREATE SEQUENCE y ALTER SEQUENCE, en orden.
+     */
+    public void registerSequenceStatements(String sql) {
+        for (String statement : extractor.extractSequenceStatements(sql)) {
+            String name = extractor.extractSequenceName(statement);
+            Integer increment = extractor.extractIncrement(statement);
+            if (name == null) {
+                continue;
+            }
+            if (increment != null) {
+                increments.put(name, increment);
+            } else if (statement.regionMatches(true, 0, "CREATE", 0, 6)) {
+                // Una secuencia creada sin INCREMENT BY incrementa de uno en uno
+                increments.put(name, 0);
+            }
+        }
+    }
+
+    /**
+     * Asigna a las columnas el incremento registrado de su secuencia.
+     */
+    public void applyIncrements(Collection<TableMetadata> tables) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        for (TableMetadata table : tables) {
+            applyIncrements(table);
+        }
+    }
+
+    /**
+     * Asigna a las columnas de una tabla el incremento registrado de su secuencia.
+     */
+    public void applyIncrements(TableMetadata table) {
+        for (ColumnMetadata column : table.getColumns()) {
+            if (column.getSequenceName() != null) {
+                Integer increment = increments.get(column.getSequenceName());
+                if (increment != null) {
+                    column.setSequenceIncrement(increment);
+                }
+            }
+        }
+    }
+}
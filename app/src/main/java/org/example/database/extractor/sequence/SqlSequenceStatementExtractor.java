@@ -0,0 +1,23 @@
+package org.example.database.extractor.sequence;
+
+import java.util.List;
+
+public interface SqlSequenceStatementExtractor {
+
+    List<String> extractSequenceStatements(String sql);
+    String extractSequenceName(String sequenceStatement);
+    Integer extractIncrement(String sequenceStatement);
+    String extractIdentityGeneration(String columnDefinition);
+    String extractNextvalSequence(String defaultValue);
+
+}
+
+/*
+| Origen de la secuencia   | Sentencia SQL                                                                 |
+|--------------------------|------------------------------------------------------------------------------|
+| Secuencia explícita      | `CREATE SEQUENCE order_seq INCREMENT BY 50;`                                  |
+| Cambio de incremento     | `ALTER SEQUENCE order_seq INCREMENT BY 50;`                                   |
+| Columna con nextval      | `id BIGINT DEFAULT nextval('order_seq') PRIMARY KEY`                          |
+| SERIAL / BIGSERIAL       | `id BIGSERIAL PRIMARY KEY` (secuencia implícita orders_id_seq)                |
+| Columna identity         | `id BIGINT GENERATED BY DEFAULT AS IDENTITY (INCREMENT BY 50) PRIMARY KEY`    |
+*/
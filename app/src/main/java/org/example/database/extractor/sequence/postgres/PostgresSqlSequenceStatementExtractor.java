@@ -0,0 +1,79 @@
+package org.example.database.extractor.sequence.postgres;
+
+import org.example.database.extractor.sequence.SqlSequenceStatementExtractor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class PostgresSqlSequenceStatementExtractor implements SqlSequenceStatementExtractor {
+
+    // Sentencias CREATE SEQUENCE y ALTER SEQUENCE completas, hasta el punto y coma
+    private static final Pattern SEQUENCE_STATEMENT_PATTERN = Pattern.compile(
+        "\\b(?:CREATE|ALTER)\\s+SEQUENCE\\s+[^;]*;?",
+        Pattern.CASE_INSENSITIVE);
+
+    // Nombre de la secuencia, con esquema y comillas opcionales
+    private static final Pattern SEQUENCE_NAME_PATTERN = Pattern.compile(
+        "(?:CREATE|ALTER)\\s+SEQUENCE\\s+(?:IF\\s+(?:NOT\\s+)?EXISTS\\s+)?([\"\\w.]+)",
+        Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern INCREMENT_PATTERN = Pattern.compile(
+        "\\bINCREMENT\\s+(?:BY\\s+)?(-?\\d+)",
+        Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern IDENTITY_PATTERN = Pattern.compile(
+        "\\bGENERATED\\s+(ALWAYS|BY\\s+DEFAULT)\\s+AS\\s+IDENTITY\\b",
+        Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern NEXTVAL_PATTERN = Pattern.compile(
+        "nextval\\s*\\(\\s*'([^']+)'",
+        Pattern.CASE_INSENSITIVE);
+
+    @Override
+    public List<String> extractSequenceStatements(String sql) {
+        List<String> statements = new ArrayList<>();
+        if (sql == null || sql.isEmpty()) {
+            return statements;
+        }
+
+        Matcher matcher = SEQUENCE_STATEMENT_PATTERN.matcher(sql);
+        while (matcher.find()) {
+            statements.add(matcher.group().trim());
+        }
+        return statements;
+    }
+
+    @Override
+    public String extractSequenceName(String sequenceStatement) {
+        Matcher matcher = SEQUENCE_NAME_PATTERN.matcher(sequenceStatement);
+        return matcher.find() ? cleanName(matcher.group(1)) : null;
+    }
+
+    @Override
+    public Integer extractIncrement(String sequenceStatement) {
+        Matcher matcher = INCREMENT_PATTERN.matcher(sequenceStatement);
+        return matcher.find() ? Integer.valueOf(matcher.group(1)) : null;
+    }
+
+    @Override
+    public String extractIdentityGeneration(String columnDefinition) {
+        Matcher matcher = IDENTITY_PATTERN.matcher(columnDefinition);
+        return matcher.find() ? matcher.group(1).toUpperCase().replaceAll("\\s+", " ") : null;
+    }
+
+    @Override
+    public String extractNextvalSequence(String defaultValue) {
+        if (defaultValue == null) {
+            return null;
+        }
+        Matcher matcher = NEXTVAL_PATTERN.matcher(defaultValue);
+        return matcher.find() ? cleanName(matcher.group(1)) : null;
+    }
+
+    // Sin comillas ni esquema, en minúsculas
+    private static String cleanName(String name) {
+        return name.replaceAll("\"", "").replaceAll(".*\\.", "").toLowerCase();
+    }
+}
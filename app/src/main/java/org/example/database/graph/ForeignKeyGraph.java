@@ -0,0 +1,265 @@
+package org.example.database.graph;
+
+import org.example.database.model.RelationMetadata;
+import org.example.database.model.TableMetadata;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Grafo dirigido de claves foráneas del esquema. Cada arista va de la tabla que declara la
+ * clave foránea (hija) a la tabla referenciada (padre); las relaciones inversas no generan
+ * aristas porque se derivan de las directas.
+ * <p>
+ * Los nombres de tabla se manejan en minúsculas. Las componentes fuertemente conexas se
+ * calculan con el algoritmo de Tarjan (iterativo) y se devuelven en orden topológico:
+ * las tablas referenciadas antes que las que las referencian.
+ */
+public class ForeignKeyGraph {
+
+    private final Map<String, TableMetadata> tables = new LinkedHashMap<>();
+    private final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+    private final Map<String, Set<String>> dependents = new LinkedHashMap<>();
+
+    private List<List<String>> components = new ArrayList<>();
+    private Map<String, Integer> componentIndex = new HashMap<>();
+
+    private ForeignKeyGraph() {
+    }
+
+    /**
+     * Construye el grafo a partir de las relaciones directas de las tablas. Las claves
+     * foráneas hacia tablas que no forman parte del esquema se ignoran.
+     *
+     * @param tableList Tablas del esquema
+     * @return El grafo de claves foráneas
+     */
+    public static ForeignKeyGraph build(List<TableMetadata> tableList) {
+        ForeignKeyGraph graph = new ForeignKeyGraph();
+
+        for (TableMetadata table : tableList) {
+            String name = table.getTableName().toLowerCase();
+            graph.tables.put(name, table);
+            graph.dependencies.put(name, new LinkedHashSet<>());
+            graph.dependents.put(name, new LinkedHashSet<>());
+        }
+
+        for (TableMetadata table : tableList) {
+            String child = table.getTableName().toLowerCase();
+            for (RelationMetadata relation : table.getRelations()) {
+                String parent = relation.getTargetTable().toLowerCase();
+                if (relation.isInverse() || !graph.tables.containsKey(parent)) {
+                    continue;
+                }
+                graph.dependencies.get(child).add(parent);
+                graph.dependents.get(parent).add(child);
+            }
+        }
+
+        graph.computeComponents();
+        return graph;
+    }
+
+    public Set<String> getTableNames() {
+        return Collections.unmodifiableSet(tables.keySet());
+    }
+
+    public TableMetadata getTable(String tableName) {
+        return tables.get(tableName.toLowerCase());
+    }
+
+    /**
+     * Tablas referenciadas por las claves foráneas de la tabla (aristas salientes).
+     */
+    public Set<String> getDependencies(String tableName) {
+        return Collections.unmodifiableSet(dependencies.getOrDefault(tableName.toLowerCase(), Collections.emptySet()));
+    }
+
+    /**
+     * Tablas que declaran claves foráneas hacia la tabla (aristas entrantes).
+     */
+    public Set<String> getDependents(String tableName) {
+        return Collections.unmodifiableSet(dependents.getOrDefault(tableName.toLowerCase(), Collections.emptySet()));
+    }
+
+    public int getFanOut(String tableName) {
+        return getDependencies(tableName).size();
+    }
+
+    public int getFanIn(String tableName) {
+        return getDependents(tableName).size();
+    }
+
+    public boolean isSelfReferencing(String tableName) {
+        return getDependencies(tableName).contains(tableName.toLowerCase());
+    }
+
+    /**
+     * Indica si la tabla participa en un ciclo de claves foráneas (incluida la auto-referencia).
+     */
+    public boolean isCyclic(String tableName) {
+        String name = tableName.toLowerCase();
+        Integer component = componentIndex.get(name);
+        return component != null && (components.get(component).size() > 1 || isSelfReferencing(name));
+    }
+
+    /**
+     * Indica si dos tablas pertenecen al mismo ciclo, es decir, cada una es alcanzable desde la otra.
+     */
+    public boolean isInSameCycle(String tableA, String tableB) {
+        String a = tableA.toLowerCase();
+        String b = tableB.toLowerCase();
+        if (a.equals(b)) {
+            return isSelfReferencing(a);
+        }
+        Integer componentA = componentIndex.get(a);
+        return componentA != null && componentA.equals(componentIndex.get(b));
+    }
+
+    /**
+     * Componentes fuertemente conexas en orden topológico (dependencias primero). Dentro de
+     * cada componente las tablas conservan el orden del esquema.
+     */
+    public List<List<String>> getStronglyConnectedComponents() {
+        return components;
+    }
+
+    /**
+     * Orden topológico de las tablas: cada tabla aparece después de las tablas que referencia,
+     * salvo dentro de un ciclo, donde se mantiene el orden del esquema.
+     */
+    public List<String> getTopologicalOrder() {
+        List<String> order = new ArrayList<>();
+        getStronglyConnectedComponents().forEach(order::addAll);
+        return order;
+    }
+
+    /**
+     * Agrupa las tablas en oleadas de generación. Cada componente fuertemente conexa forma una
+     * unidad de trabajo, y una unidad va en la oleada siguiente a la más alta de sus dependencias,
+     * de modo que las unidades de una misma oleada son independientes entre sí.
+     *
+     * @return Oleadas en orden de ejecución
+     */
+    public List<List<GenerationUnit>> getGenerationWaves() {
+        List<List<String>> sccs = getStronglyConnectedComponents();
+        int[] waveOf = new int[sccs.size()];
+        List<List<GenerationUnit>> waves = new ArrayList<>();
+
+        for (int i = 0; i < sccs.size(); i++) {
+            List<String> component = sccs.get(i);
+
+            // Las componentes vienen en orden topológico, sus dependencias ya tienen oleada
+            int wave = 0;
+            for (String table : component) {
+                for (String dependency : dependencies.get(table)) {
+                    int dependencyComponent = componentIndex.get(dependency);
+                    if (dependencyComponent != i) {
+                        wave = Math.max(wave, waveOf[dependencyComponent] + 1);
+                    }
+                }
+            }
+            waveOf[i] = wave;
+
+            while (waves.size() <= wave) {
+                waves.add(new ArrayList<>());
+            }
+            List<TableMetadata> unitTables = new ArrayList<>();
+            component.forEach(table -> unitTables.add(tables.get(table)));
+            waves.get(wave).add(new GenerationUnit(wave, unitTables, isCyclic(component.get(0))));
+        }
+
+        return waves;
+    }
+
+    private void computeComponents() {
+        Map<String, Integer> schemaOrder = new HashMap<>();
+        for (String table : tables.keySet()) {
+            schemaOrder.put(table, schemaOrder.size());
+        }
+
+        Map<String, Integer> index = new HashMap<>();
+        Map<String, Integer> lowLink = new HashMap<>();
+        Deque<String> stack = new ArrayDeque<>();
+        Set<String> onStack = new HashSet<>();
+        List<List<String>> result = new ArrayList<>();
+        int counter = 0;
+
+        for (String root : tables.keySet()) {
+            if (index.containsKey(root)) {
+                continue;
+            }
+
+            // DFS iterativa para no depender de la profundidad de la pila con esquemas grandes
+            Deque<String> path = new ArrayDeque<>();
+            Deque<Iterator<String>> pending = new ArrayDeque<>();
+            index.put(root, counter);
+            lowLink.put(root, counter++);
+            stack.push(root);
+            onStack.add(root);
+            path.push(root);
+            pending.push(dependencies.get(root).iterator());
+
+            while (!path.isEmpty()) {
+                String node = path.peek();
+                Iterator<String> edges = pending.peek();
+
+                if (edges.hasNext()) {
+                    String next = edges.next();
+                    if (!index.containsKey(next)) {
+                        index.put(next, counter);
+                        lowLink.put(next, counter++);
+                        stack.push(next);
+                        onStack.add(next);
+                        path.push(next);
+                        pending.push(dependencies.get(next).iterator());
+                    } else if (onStack.contains(next)) {
+                        lowLink.put(node, Math.min(lowLink.get(node), index.get(next)));
+                    }
+                    continue;
+                }
+
+                path.pop();
+                pending.pop();
+                if (!path.isEmpty()) {
+                    String caller = path.peek();
+                    lowLink.put(caller, Math.min(lowLink.get(caller), lowLink.get(node)));
+                }
+
+                if (lowLink.get(node).equals(index.get(node))) {
+                    List<String> component = new ArrayList<>();
+                    String member;
+                    do {
+                        member = stack.pop();
+                        onStack.remove(member);
+                        component.add(member);
+                    } while (!member.equals(node));
+
+                    component.sort(Comparator.comparing(schemaOrder::get));
+                    result.add(component);
+                }
+            }
+        }
+
+        Map<String, Integer> byTable = new HashMap<>();
+        for (int i = 0; i < result.size(); i++) {
+            for (String table : result.get(i)) {
+                byTable.put(table, i);
+            }
+        }
+
+        this.components = result;
+        this.componentIndex = byTable;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.database.graph;
+
+import org.example.database.model.TableMetadata;
+
+import java.util.List;
+
+/**
+ * Grupo de tablas que se generan juntas: una componente fuertemente conexa del grafo de
+ * claves foráneas. Una unidad con más de una tabla (o con una auto-referencia) es un ciclo.
+ */
+public class GenerationUnit {
+
+    private final int wave;
+    private final List<TableMetadata> tables;
+    private final boolean cyclic;
+
+    public GenerationUnit(int wave, List<TableMetadata> tables, boolean cyclic) {
+        this.wave = wave;
+        this.tables = tables;
+        this.cyclic = cyclic;
+    }
+
+    /**
+     * Oleada en la que puede generarse la unidad: todas sus dependencias pertenecen a oleadas anteriores.
+     */
+    public int getWave() {
+        return wave;
+    }
+
+    public List<TableMetadata> getTables() {
+        return tables;
+    }
+
+    public boolean isCyclic() {
+        return cyclic;
+    }
+
+    @Override
+    public String toString() {
+        return "GenerationUnit{" +
+            "wave=" + wave +
+            ", tables=" + tables.stream().map(TableMetadata::getTableName).toList() +
+            ", cyclic=" + cyclic +
+            '}';
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.database.migration;
+
+import org.example.database.model.TableMetadata;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estado del esquema tras aplicar un prefijo ordenado de migraciones. Las tablas se
+ * guardan solo con sus relaciones directas; las inversas se recalculan al cargar.
+ */
+public class MigrationCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String lastAppliedVersion;
+    private Map<String, Long> appliedChecksums = new LinkedHashMap<>();
+    private List<TableMetadata> tables = new ArrayList<>();
+
+    public MigrationCheckpoint() {
+    }
+
+    public MigrationCheckpoint(String lastAppliedVersion, Map<String, Long> appliedChecksums, List<TableMetadata> tables) {
+        this.lastAppliedVersion = lastAppliedVersion;
+        this.appliedChecksums = appliedChecksums;
+        this.tables = tables;
+    }
+
+    public String getLastAppliedVersion() {
+        return lastAppliedVersion;
+    }
+
+    public void setLastAppliedVersion(String lastAppliedVersion) {
+        this.lastAppliedVersion = lastAppliedVersion;
+    }
+
+    /**
+     * Archivos aplicados, en orden de aplicación, con el CRC32 de su contenido.
+     */
+    public Map<String, Long> getAppliedChecksums() {
+        return appliedChecksums;
+    }
+
+    public void setAppliedChecksums(Map<String, Long> appliedChecksums) {
+        this.appliedChecksums = appliedChecksums;
+    }
+
+    public List<TableMetadata> getTables() {
+        return tables;
+    }
+
+    public void setTables(List<TableMetadata> tables) {
+        this.tables = tables;
+    }
+
+    @Override
+    public String toString() {
+        return "MigrationCheckpoint{" +
+            "lastAppliedVersion='" + lastAppliedVersion + '\'' +
+            ", appliedFiles=" + appliedChecksums.size() +
+            ", tables=" + tables.size() +
+            '}';
+    }
+}
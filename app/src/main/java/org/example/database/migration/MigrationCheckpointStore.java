@@ -0,0 +1,71 @@
+package org.example.database.migration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Persiste y recupera {@link MigrationCheckpoint} usando la serialización estándar de Java.
+ */
+public class MigrationCheckpointStore {
+
+    private final Path checkpointPath;
+
+    public MigrationCheckpointStore(Path checkpointPath) {
+        this.checkpointPath = checkpointPath;
+    }
+
+    /**
+     * Carga el checkpoint guardado.
+     *
+     * @return El checkpoint, o null si no existe o no puede leerse
+     */
+    public MigrationCheckpoint load() {
+        if (!Files.isRegularFile(checkpointPath)) {
+            return null;
+        }
+
+        try (InputStream in = Files.newInputStream(checkpointPath);
+             ObjectInputStream objectIn = new ObjectInputStream(in)) {
+            return (MigrationCheckpoint) objectIn.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            System.err.println("⚠️  Checkpoint de migraciones ilegible, se reprocesará todo el historial: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Guarda el checkpoint escribiendo primero un archivo temporal, de modo que una
+     * interrupción nunca deje un checkpoint a medio escribir.
+     *
+     * @param checkpoint Checkpoint a guardar
+     * @throws IOException Si no se puede escribir el archivo
+     */
+    public void save(MigrationCheckpoint checkpoint) throws IOException {
+        Path parent = checkpointPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path tempFile = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tempFile);
+             ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+            objectOut.writeObject(checkpoint);
+        }
+        try {
+            Files.move(tempFile, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, checkpointPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public Path getCheckpointPath() {
+        return checkpointPath;
+    }
+}
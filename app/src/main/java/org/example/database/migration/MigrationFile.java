@@ -0,0 +1,123 @@
+package org.example.database.migration;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Archivo SQL de migración. Reconoce la convención de nombres de Flyway
+ * ({@code V1__init.sql}, {@code V1_2__add_col.sql}, {@code V2.1__x.sql}); el resto de
+ * archivos se consideran no versionados y se ordenan por nombre después de los versionados.
+ */
+public class MigrationFile {
+
+    private static final Pattern VERSIONED_PATTERN = Pattern.compile(
+        "^V(\\d+(?:[._]\\d+)*)__(.*)\\.sql$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Orden de aplicación: versionados por versión numérica y, a continuación,
+     * los no versionados por nombre de archivo.
+     */
+    public static final Comparator<MigrationFile> APPLY_ORDER = (a, b) -> {
+        if (a.isVersioned() != b.isVersioned()) {
+            return a.isVersioned() ? -1 : 1;
+        }
+        if (a.isVersioned()) {
+            int byVersion = compareVersions(a.versionParts, b.versionParts);
+            if (byVersion != 0) {
+                return byVersion;
+            }
+        }
+        int byName = a.getFileName().compareToIgnoreCase(b.getFileName());
+        return byName != 0 ? byName : a.getPath().compareTo(b.getPath());
+    };
+
+    private final String path;
+    private final String fileName;
+    private final String version;
+    private final String description;
+    private final List<Long> versionParts;
+
+    public MigrationFile(String path) {
+        this.path = path;
+        Path fileNamePath = Paths.get(path).getFileName();
+        this.fileName = fileNamePath != null ? fileNamePath.toString() : path;
+
+        Matcher matcher = VERSIONED_PATTERN.matcher(fileName);
+        if (matcher.matches()) {
+            this.version = matcher.group(1).replace('_', '.');
+            this.description = matcher.group(2).replace('_', ' ');
+            this.versionParts = parseVersion(this.version);
+        } else {
+            this.version = null;
+            this.description = fileName;
+            this.versionParts = List.of();
+        }
+    }
+
+    /**
+     * Ordena rutas de archivos SQL según {@link #APPLY_ORDER}.
+     *
+     * @param paths Rutas de archivos SQL
+     * @return Nueva lista ordenada
+     */
+    public static List<String> sortPaths(List<String> paths) {
+        return paths.stream()
+            .map(MigrationFile::new)
+            .sorted(APPLY_ORDER)
+            .map(MigrationFile::getPath)
+            .toList();
+    }
+
+    private static List<Long> parseVersion(String version) {
+        List<Long> parts = new ArrayList<>();
+        for (String part : version.split("\\.")) {
+            parts.add(Long.parseLong(part));
+        }
+        return parts;
+    }
+
+    private static int compareVersions(List<Long> a, List<Long> b) {
+        int length = Math.max(a.size(), b.size());
+        for (int i = 0; i < length; i++) {
+            long left = i < a.size() ? a.get(i) : 0L;
+            long right = i < b.size() ? b.get(i) : 0L;
+            if (left != right) {
+                return Long.compare(left, right);
+            }
+        }
+        return 0;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isVersioned() {
+        return version != null;
+    }
+
+    @Override
+    public String toString() {
+        return "MigrationFile{" +
+            "fileName='" + fileName + '\'' +
+            ", version='" + version + '\'' +
+            '}';
+    }
+}
@@ -0,0 +1,275 @@
+package org.example.database.migration;
+
+import org.example.database.SqlFileProcessor;
+import org.example.database.converter.AlterTableProcessor;
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.extractor.index.CreateIndexProcessor;
+import org.example.database.extractor.sequence.SequenceProcessor;
+import org.example.database.model.TableMetadata;
+import org.example.database.parser.SqlFileContent;
+import org.example.database.parser.SqlStatementParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Reproduce un directorio de migraciones (convención Flyway) en orden de versión sobre un
+ * modelo indexado por nombre de tabla, aplicando CREATE TABLE, ALTER TABLE, CREATE INDEX,
+ * DROP TABLE, DROP INDEX, CREATE SEQUENCE y ALTER SEQUENCE en secuencia.
+ * <p>
+ * Tras cada ejecución se guarda un {@link MigrationCheckpoint}. Si los archivos ya aplicados
+ * siguen siendo un prefijo inalterado del directorio, la siguiente ejecución parte del
+ * checkpoint y solo aplica los archivos nuevos; en cualquier otro caso se reprocesa todo.
+ */
+public class MigrationReplayEngine {
+
+    private static final Pattern DROP_TABLE_PATTERN = Pattern.compile(
+        "^DROP\\s+TABLE\\s+(IF\\s+EXISTS\\s+)?(.+?)(?:\\s+(?:CASCADE|RESTRICT))?\\s*;?$",
+        Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern DROP_INDEX_PATTERN = Pattern.compile(
+        "^DROP\\s+INDEX\\s+(?:CONCURRENTLY\\s+)?(?:IF\\s+EXISTS\\s+)?(.+?)(?:\\s+(?:CASCADE|RESTRICT))?\\s*;?$",
+        Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final SqlFileProcessor fileProcessor;
+    private final MigrationCheckpointStore checkpointStore;
+    private final SchemaProcessor schemaProcessor = new SchemaProcessor();
+    private final AlterTableProcessor alterProcessor = new AlterTableProcessor();
+    private final CreateIndexProcessor indexProcessor = new CreateIndexProcessor();
+    private final SequenceProcessor sequenceProcessor = new SequenceProcessor();
+
+    public MigrationReplayEngine(SqlFileProcessor fileProcessor, MigrationCheckpointStore checkpointStore) {
+        this.fileProcessor = fileProcessor;
+        this.checkpointStore = checkpointStore;
+    }
+
+    /**
+     * Reproduce las migraciones indicadas y devuelve el esquema resultante, con las
+     * relaciones inversas ya enlazadas.
+     *
+     * @param filePaths Rutas de los archivos de migración, en cualquier orden
+     * @return CompletableFuture con las tablas del esquema final
+     */
+    public CompletableFuture<List<TableMetadata>> replay(List<String> filePaths) {
+        List<MigrationFile> migrations = filePaths.stream()
+            .map(MigrationFile::new)
+            .sorted(MigrationFile.APPLY_ORDER)
+            .toList();
+
+        Map<String, Long> checksums = new LinkedHashMap<>();
+        try {
+            for (MigrationFile migration : migrations) {
+                checksums.put(migration.getPath(), checksum(migration.getPath()));
+            }
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        MigrationCheckpoint checkpoint = resumableCheckpoint(checksums);
+        Map<String, TableMetadata> tablesByName = new LinkedHashMap<>();
+        Map<String, Long> applied = new LinkedHashMap<>();
+        String lastVersion = null;
+
+        if (checkpoint != null) {
+            checkpoint.getTables().forEach(table -> tablesByName.put(table.getTableName().toLowerCase(), table));
+            applied.putAll(checkpoint.getAppliedChecksums());
+            lastVersion = checkpoint.getLastAppliedVersion();
+        }
+
+        List<MigrationFile> pending = migrations.subList(applied.size(), migrations.size());
+        System.out.println("Migraciones: " + migrations.size() + " archivos, " + applied.size() +
+            " desde checkpoint, " + pending.size() + " por aplicar");
+
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(finish(tablesByName));
+        }
+
+        String startVersion = lastVersion;
+        return fileProcessor.processSqlFiles(pending.stream().map(MigrationFile::getPath).toList())
+            .thenApply(contents -> {
+                String version = startVersion;
+                for (int i = 0; i < contents.size(); i++) {
+                    MigrationFile migration = pending.get(i);
+                    applyFile(tablesByName, migration, contents.get(i));
+                    applied.put(migration.getPath(), checksums.get(migration.getPath()));
+                    if (migration.isVersioned()) {
+                        version = migration.getVersion();
+                    }
+                }
+
+                sequenceProcessor.applyIncrements(tablesByName.values());
+                saveCheckpoint(new MigrationCheckpoint(version, applied, new ArrayList<>(tablesByName.values())));
+                return finish(tablesByName);
+            });
+    }
+
+    /**
+     * Aplica una única sentencia SQL sobre el modelo indexado.
+     *
+     * @param tablesByName Tablas indexadas por nombre normalizado
+     * @param statement    Sentencia SQL (puede incluir comentarios iniciales)
+     */
+    public void applyStatement(Map<String, TableMetadata> tablesByName, String statement) {
+        String sql = SqlStatementParser.stripComments(statement);
+        if (sql.isEmpty()) {
+            return;
+        }
+        if (!sql.endsWith(";")) {
+            sql += ";";
+        }
+
+        String normalized = sql.toUpperCase().replaceAll("\\s+", " ");
+        if (normalized.startsWith("CREATE TABLE ")) {
+            applyCreateTable(tablesByName, sql, normalized.startsWith("CREATE TABLE IF NOT EXISTS "));
+        } else if (normalized.startsWith("ALTER TABLE ")) {
+            alterProcessor.applyAlterations(tablesByName, sql);
+        } else if (normalized.startsWith("CREATE INDEX ") || normalized.startsWith("CREATE UNIQUE INDEX ")) {
+            indexProcessor.processCreateIndexStatements(tablesByName, sql);
+        } else if (normalized.startsWith("DROP TABLE ")) {
+            applyDropTable(tablesByName, sql);
+        } else if (normalized.startsWith("DROP INDEX ")) {
+            applyDropIndex(tablesByName, sql);
+        } else if (normalized.startsWith("CREATE SEQUENCE ") || normalized.startsWith("ALTER SEQUENCE ")) {
+            // Las tablas creadas después toman el incremento al crearse; las anteriores al
+            // terminar la reproducción
+            sequenceProcessor.registerSequenceStatements(sql);
+        }
+        // Otras sentencias (INSERT, ...) no afectan al modelo
+    }
+
+    private void applyFile(Map<String, TableMetadata> tablesByName, MigrationFile migration, SqlFileContent content) {
+        System.out.println("Aplicando migración: " + migration.getFileName());
+        for (String statement : content.getSqlStatements()) {
+            try {
+                applyStatement(tablesByName, statement);
+            } catch (RuntimeException e) {
+                throw new IllegalStateException(
+                    "Error aplicando la migración '" + migration.getFileName() + "': " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private void applyCreateTable(Map<String, TableMetadata> tablesByName, String sql, boolean ifNotExists) {
+        TableMetadata table = schemaProcessor.buildTable(sql);
+        String key = table.getTableName().toLowerCase();
+
+        if (tablesByName.containsKey(key)) {
+            if (ifNotExists) {
+                return;
+            }
+            throw new IllegalArgumentException("La tabla '" + key + "' ya existe");
+        }
+        tablesByName.put(key, table);
+        sequenceProcessor.applyIncrements(table);
+    }
+
+    private void applyDropTable(Map<String, TableMetadata> tablesByName, String sql) {
+        Matcher matcher = DROP_TABLE_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            return;
+        }
+        boolean ifExists = matcher.group(1) != null;
+
+        for (String name : matcher.group(2).split("\\s*,\\s*")) {
+            String tableName = cleanName(name);
+            if (tablesByName.remove(tableName) == null) {
+                if (ifExists) {
+                    continue;
+                }
+                throw new IllegalArgumentException(
+                    "Tabla '" + tableName + "' referenciada en DROP TABLE no encontrada");
+            }
+
+            // Las claves foráneas que apuntaban a la tabla desaparecen con ella (CASCADE)
+            for (TableMetadata other : tablesByName.values()) {
+                other.getRelations().removeIf(r -> r.getTargetTable().equalsIgnoreCase(tableName));
+            }
+        }
+    }
+
+    private void applyDropIndex(Map<String, TableMetadata> tablesByName, String sql) {
+        Matcher matcher = DROP_INDEX_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            return;
+        }
+
+        for (String name : matcher.group(1).split("\\s*,\\s*")) {
+            String indexName = cleanName(name);
+            for (TableMetadata table : tablesByName.values()) {
+                table.getIndexes().removeIf(idx -> idx.getIndexName() != null
+                    && idx.getIndexName().equalsIgnoreCase(indexName));
+            }
+        }
+    }
+
+    private MigrationCheckpoint resumableCheckpoint(Map<String, Long> checksums) {
+        MigrationCheckpoint checkpoint = checkpointStore.load();
+        if (checkpoint == null) {
+            return null;
+        }
+
+        // Los archivos aplicados deben ser un prefijo, sin cambios, del orden actual
+        Iterator<Map.Entry<String, Long>> current = checksums.entrySet().iterator();
+        for (Map.Entry<String, Long> appliedFile : checkpoint.getAppliedChecksums().entrySet()) {
+            if (!current.hasNext()) {
+                System.out.println("⚠️  Se eliminaron migraciones ya aplicadas; se reprocesará todo el historial");
+                return null;
+            }
+            Map.Entry<String, Long> file = current.next();
+            if (!file.getKey().equals(appliedFile.getKey())) {
+                System.out.println("⚠️  Nueva migración '" + file.getKey() +
+                    "' anterior a la última aplicada; se reprocesará todo el historial");
+                return null;
+            }
+            if (!file.getValue().equals(appliedFile.getValue())) {
+                System.out.println("⚠️  La migración '" + file.getKey() +
+                    "' cambió desde el último checkpoint; se reprocesará todo el historial");
+                return null;
+            }
+        }
+        return checkpoint;
+    }
+
+    private void saveCheckpoint(MigrationCheckpoint checkpoint) {
+        try {
+            checkpointStore.save(checkpoint);
+            System.out.println("Checkpoint de migraciones guardado en " + checkpointStore.getCheckpointPath() +
+                " (versión " + checkpoint.getLastAppliedVersion() + ")");
+        } catch (IOException e) {
+            // El checkpoint es solo una optimización; no debe impedir la generación
+            System.err.println("⚠️  No se pudo guardar el checkpoint de migraciones: " + e.getMessage());
+        }
+    }
+
+    private List<TableMetadata> finish(Map<String, TableMetadata> tablesByName) {
+        List<TableMetadata> tables = new ArrayList<>(tablesByName.values());
+        schemaProcessor.linkInverseRelations(tables);
+        return tables;
+    }
+
+    private long checksum(String path) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(Paths.get(path))) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private String cleanName(String name) {
+        return name.replaceAll("\"", "").replaceAll(".*\\.", "").trim().toLowerCase();
+    }
+}
@@ -6,5 +6,7 @@ public enum AlterType {
     MODIFY_COLUMN,
     ADD_CONSTRAINT,
     RENAME_COLUMN,
+    DROP_CONSTRAINT,
+    RENAME_TABLE,
     OTHER
 }
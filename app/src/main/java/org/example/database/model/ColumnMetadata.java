@@ -1,10 +1,24 @@
 package org.example.database.model;
 
-public class ColumnMetadata {
+import java.io.Serializable;
+import java.util.Objects;
+
+public class ColumnMetadata implements Serializable {
+
+    // Se incrementa al añadir campos: los checkpoints y snapshots guardados con la versión anterior
+    // se descartan en lugar de cargarse con los campos nuevos vacíos.
+    // 2: sequenceName, sequenceIncrement e identity
+    // 3: computed
+    private static final long serialVersionUID = 3L;
+
     private String columnName;
     private String columnType;
     private boolean isNotNull;
     private String defaultValue;
+    private String sequenceName;
+    private int sequenceIncrement;
+    private String identity;
+    private boolean computed;
 
     // Constructores
     public ColumnMetadata() {
@@ -49,6 +63,75 @@ public class ColumnMetadata {
         this.defaultValue = defaultValue;
     }
 
+    /**
+     * Secuencia que genera los valores de la columna: la implícita de SERIAL o de una columna
+     * identity ({@code tabla_columna_seq}) o la indicada en {@code DEFAULT nextval(...)}.
+     *
+     * @return Nombre de la secuencia sin esquema, o null si la columna no usa una secuencia
+     */
+    public String getSequenceName() {
+        return sequenceName;
+    }
+
+    public void setSequenceName(String sequenceName) {
+        this.sequenceName = sequenceName;
+    }
+
+    /**
+     * @return INCREMENT BY declarado de la secuencia, o 0 si no se declaró (PostgreSQL usa 1)
+     */
+    public int getSequenceIncrement() {
+        return sequenceIncrement;
+    }
+
+    public void setSequenceIncrement(int sequenceIncrement) {
+        this.sequenceIncrement = sequenceIncrement;
+    }
+
+    /**
+     * @return "ALWAYS" o "BY DEFAULT" si es una columna {@code GENERATED ... AS IDENTITY}; null si no
+     */
+    public String getIdentity() {
+        return identity;
+    }
+
+    public void setIdentity(String identity) {
+        this.identity = identity;
+    }
+
+    /**
+     * @return Si es una columna calculada ({@code GENERATED ALWAYS AS (...) STORED}), cuyo valor
+     * escribe siempre la base de datos
+     */
+    public boolean isComputed() {
+        return computed;
+    }
+
+    public void setComputed(boolean computed) {
+        this.computed = computed;
+    }
+
+    // Métodos equals y hashCode para comparar snapshots del esquema
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ColumnMetadata that = (ColumnMetadata) o;
+        return Objects.equals(columnName, that.columnName) &&
+            Objects.equals(columnType, that.columnType) &&
+            isNotNull == that.isNotNull &&
+            Objects.equals(defaultValue, that.defaultValue) &&
+            Objects.equals(sequenceName, that.sequenceName) &&
+            sequenceIncrement == that.sequenceIncrement &&
+            Objects.equals(identity, that.identity) &&
+            computed == that.computed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(columnName, columnType, isNotNull, defaultValue, sequenceName, sequenceIncrement, identity, computed);
+    }
+
     @Override
     public String toString() {
         return "ColumnMetadata{" +
@@ -56,6 +139,10 @@ public class ColumnMetadata {
                ", columnType='" + columnType + '\'' +
                ", isNotNull=" + isNotNull +
                ", defaultValue='" + defaultValue + '\'' +
+               ", sequenceName='" + sequenceName + '\'' +
+               ", sequenceIncrement=" + sequenceIncrement +
+               ", identity='" + identity + '\'' +
+               ", computed=" + computed +
                '}';
     }
 }
\ No newline at end of file
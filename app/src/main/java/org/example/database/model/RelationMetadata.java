@@ -1,10 +1,17 @@
 package org.example.database.model;
 
-public class RelationMetadata {
+import java.io.Serializable;
+import java.util.Objects;
+
+public class RelationMetadata implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private String sourceColumn;
     private String targetTable;
     private String targetColumn;
     private boolean isManyToOne;
+    private boolean inverse;
 
     // Constructores
     public RelationMetadata() {
@@ -50,6 +57,18 @@ public class RelationMetadata {
         isManyToOne = manyToOne;
     }
 
+    /**
+     * Indica si la relación fue registrada como inversa (lado OneToMany) a partir de
+     * la clave foránea de otra tabla, en lugar de estar declarada en esta tabla.
+     */
+    public boolean isInverse() {
+        return inverse;
+    }
+
+    public void setInverse(boolean inverse) {
+        this.inverse = inverse;
+    }
+
     public String getMappedByField() {
         String[] parts = targetColumn.split("_");
         StringBuilder fieldName = new StringBuilder(parts[0]);
@@ -63,6 +82,24 @@ public class RelationMetadata {
     }
 
 
+    // Métodos equals y hashCode para comparar snapshots del esquema
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RelationMetadata that = (RelationMetadata) o;
+        return Objects.equals(sourceColumn, that.sourceColumn) &&
+            Objects.equals(targetTable, that.targetTable) &&
+            Objects.equals(targetColumn, that.targetColumn) &&
+            isManyToOne == that.isManyToOne &&
+            inverse == that.inverse;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sourceColumn, targetTable, targetColumn, isManyToOne, inverse);
+    }
+
     @Override
     public String toString() {
         return "RelationMetadata{" +
@@ -70,6 +107,7 @@ public class RelationMetadata {
             ", targetTable='" + targetTable + '\'' +
             ", targetColumn='" + targetColumn + '\'' +
             ", isManyToOne=" + isManyToOne +
+            ", inverse=" + inverse +
             '}';
     }
 }
\ No newline at end of file
@@ -1,9 +1,12 @@
 package org.example.database.model;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
 
-public class TableConstraintData {
+public class TableConstraintData implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private String tableName;
     private String constraintName;
@@ -1,8 +1,13 @@
 package org.example.database.model;
 
+import java.io.Serializable;
 import java.util.List;
+import java.util.Objects;
+
+public class TableIndexData implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
-public class TableIndexData {
 
     private String tableName;
     private String indexName;
@@ -41,6 +46,22 @@ public class TableIndexData {
         this.targetColumnName = targetColumnName;
     }
 
+    // Métodos equals y hashCode para comparar snapshots del esquema
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TableIndexData that = (TableIndexData) o;
+        return Objects.equals(tableName, that.tableName) &&
+            Objects.equals(indexName, that.indexName) &&
+            Objects.equals(targetColumnName, that.targetColumnName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableName, indexName, targetColumnName);
+    }
+
     @Override
     public String toString() {
         return "TableIndexData{" +
@@ -1,9 +1,13 @@
 package org.example.database.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
-public class TableMetadata {
+public class TableMetadata implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private String tableName;
     private List<TableIndexData> indexes = new ArrayList<>();
     private List<ColumnMetadata> columns = new ArrayList<>();
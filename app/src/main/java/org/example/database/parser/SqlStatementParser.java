@@ -2,8 +2,12 @@ package org.example.database.parser;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 public class SqlStatementParser {
+    private static final Pattern BLOCK_COMMENT = Pattern.compile("/\\*[^*]*\\*+(?:[^/*][^*]*\\*+)*/");
+    private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\n]*");
+
     private StringBuilder remainingContent = new StringBuilder();
     private boolean inSingleLineComment = false;
     private boolean inMultiLineComment = false;
@@ -44,15 +48,18 @@ public class SqlStatementParser {
             if (!inQuote && !inDoubleQuote) {
                 if (!inMultiLineComment && !inSingleLineComment && c == '-' && i + 1 < content.length() && content.charAt(i + 1) == '-') {
                     inSingleLineComment = true;
-                    i++; // Skip next '-'
+                    currentStatement.append(c);
+                    c = content.charAt(++i); // Consumir el segundo '-' conservándolo en la sentencia
                 } else if (!inMultiLineComment && !inSingleLineComment && c == '/' && i + 1 < content.length() && content.charAt(i + 1) == '*') {
                     inMultiLineComment = true;
-                    i++; // Skip next '*'
+                    currentStatement.append(c);
+                    c = content.charAt(++i); // Consumir el '*' conservándolo en la sentencia
                 } else if (inSingleLineComment && (c == '\n' || c == '\r')) {
                     inSingleLineComment = false;
                 } else if (inMultiLineComment && c == '*' && i + 1 < content.length() && content.charAt(i + 1) == '/') {
                     inMultiLineComment = false;
-                    i++; // Skip next '/'
+                    currentStatement.append(c);
+                    c = content.charAt(++i); // Consumir el '/' conservándolo en la sentencia
                 }
             }
 
@@ -85,4 +92,16 @@ public class SqlStatementParser {
     public String getRemainingContent() {
         return remainingContent.toString();
     }
+
+    /**
+     * Remove block and line comments from a single statement, so that it can be classified by
+     * its leading keywords
+     *
+     * @param statement SQL statement as returned by {@link #parseStatements(String)}
+     * @return The statement without comments, trimmed
+     */
+    public static String stripComments(String statement) {
+        String withoutBlocks = BLOCK_COMMENT.matcher(statement).replaceAll(" ");
+        return LINE_COMMENT.matcher(withoutBlocks).replaceAll("").trim();
+    }
 }
@@ -0,0 +1,133 @@
+package org.example.database.stream;
+
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.model.RelationMetadata;
+import org.example.database.model.TableMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice compacto de las claves foráneas del esquema: para cada tabla, sus relaciones directas
+ * y las tablas que la referencian. Es lo único que se conserva de todas las tablas en el modo
+ * de bajo consumo de memoria; columnas, índices y restricciones se descartan tras procesar
+ * cada tabla.
+ */
+public class RelationIndex {
+
+    private final Map<String, List<RelationMetadata>> directRelations = new LinkedHashMap<>();
+    private final Map<String, List<RelationMetadata>> inverseRelations = new HashMap<>();
+    private final Map<String, String> names = new HashMap<>();
+
+    /**
+     * Registra las relaciones directas (no inversas) de una tabla.
+     */
+    public void addTable(String tableName, List<RelationMetadata> relations) {
+        List<RelationMetadata> direct = new ArrayList<>(relations.size());
+        for (RelationMetadata relation : relations) {
+            if (!relation.isInverse()) {
+                direct.add(new RelationMetadata(intern(relation.getSourceColumn()), intern(relation.getTargetTable()),
+                    intern(relation.getTargetColumn()), relation.isManyToOne()));
+            }
+        }
+        directRelations.put(intern(tableName.toLowerCase()), direct);
+    }
+
+    /**
+     * Aplica a las relaciones que apuntan a {@code oldTable} el renombrado de la tabla o de
+     * sus columnas, y elimina las que apuntan a columnas borradas, como haría un ALTER TABLE
+     * sobre el esquema completo.
+     */
+    public void renameTarget(String oldTable, String newTable, Map<String, String> renamedColumns, List<String> droppedColumns) {
+        for (List<RelationMetadata> relations : directRelations.values()) {
+            relations.removeIf(r -> r.getTargetTable().equals(oldTable) && droppedColumns.contains(r.getTargetColumn()));
+            for (RelationMetadata relation : relations) {
+                if (relation.getTargetTable().equals(oldTable)) {
+                    relation.setTargetTable(intern(newTable));
+                    String column = renamedColumns.get(relation.getTargetColumn());
+                    if (column != null) {
+                        relation.setTargetColumn(intern(column));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calcula las relaciones inversas. Debe llamarse una vez registradas todas las tablas.
+     */
+    public void linkInverseRelations() {
+        inverseRelations.clear();
+        directRelations.forEach((table, relations) -> {
+            for (RelationMetadata relation : relations) {
+                RelationMetadata inverse = new RelationMetadata(
+                    relation.getTargetColumn(),
+                    table,
+                    relation.getSourceColumn(),
+                    !relation.isManyToOne());
+                inverse.setInverse(true);
+                inverseRelations.computeIfAbsent(relation.getTargetTable(), k -> new ArrayList<>()).add(inverse);
+            }
+        });
+        names.clear();
+    }
+
+    /**
+     * Relaciones de la tabla (directas seguidas de inversas) en objetos nuevos, listos para
+     * asignarse a sus metadatos.
+     */
+    public List<RelationMetadata> relationsOf(String tableName) {
+        String key = tableName.toLowerCase();
+        List<RelationMetadata> relations = new ArrayList<>();
+        for (RelationMetadata relation : directRelations.getOrDefault(key, Collections.emptyList())) {
+            relations.add(copy(relation));
+        }
+        for (RelationMetadata relation : inverseRelations.getOrDefault(key, Collections.emptyList())) {
+            relations.add(copy(relation));
+        }
+        return relations;
+    }
+
+    /**
+     * Tablas registradas, en orden de esquema.
+     */
+    public List<String> getTableNames() {
+        return new ArrayList<>(directRelations.keySet());
+    }
+
+    public int size() {
+        return directRelations.size();
+    }
+
+    /**
+     * Grafo de claves foráneas construido con tablas que solo contienen su nombre y sus relaciones.
+     */
+    public ForeignKeyGraph toGraph() {
+        List<TableMetadata> skeletons = new ArrayList<>(directRelations.size());
+        directRelations.forEach((table, relations) -> {
+            TableMetadata skeleton = new TableMetadata();
+            skeleton.setTableName(table);
+            skeleton.setRelations(relations);
+            skeletons.add(skeleton);
+        });
+        return ForeignKeyGraph.build(skeletons);
+    }
+
+    private static RelationMetadata copy(RelationMetadata relation) {
+        RelationMetadata copy = new RelationMetadata(relation.getSourceColumn(), relation.getTargetTable(),
+            relation.getTargetColumn(), relation.isManyToOne());
+        copy.setInverse(relation.isInverse());
+        return copy;
+    }
+
+    /**
+     * Comparte las cadenas repetidas (nombres de tabla y columnas como {@code id}).
+     */
+    private String intern(String value) {
+        return value == null ? null : names.computeIfAbsent(value, v -> v);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.database.stream;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Archivo temporal donde se vuelcan las sentencias SQL durante la lectura del esquema, para
+ * poder recuperarlas después por posición sin mantenerlas en memoria. Cada registro es la
+ * longitud (int) seguida del texto en UTF-8.
+ */
+public class StatementSpool implements AutoCloseable {
+
+    private final Path file;
+    private final DataOutputStream out;
+    private FileChannel reader;
+    private long size;
+
+    public StatementSpool() throws IOException {
+        this.file = Files.createTempFile("arch-statements", ".spool");
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024));
+    }
+
+    /**
+     * Añade una sentencia al final del archivo.
+     *
+     * @return Posición con la que se recupera la sentencia
+     */
+    public long append(String statement) throws IOException {
+        byte[] bytes = statement.getBytes(StandardCharsets.UTF_8);
+        long offset = size;
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        size += 4 + bytes.length;
+        return offset;
+    }
+
+    /**
+     * Lee la sentencia guardada en la posición indicada. La primera lectura cierra la escritura.
+     */
+    public String read(long offset) throws IOException {
+        if (reader == null) {
+            out.close();
+            reader = FileChannel.open(file, StandardOpenOption.READ);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(4);
+        readFully(header, offset);
+        ByteBuffer body = ByteBuffer.allocate(header.getInt(0));
+        readFully(body, offset + 4);
+        return new String(body.array(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Tamaño del archivo en bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (reader != null) {
+                reader.close();
+            } else {
+                out.close();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (reader.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of statement spool at " + position);
+            }
+        }
+    }
+}
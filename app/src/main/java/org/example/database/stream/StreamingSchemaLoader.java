@@ -0,0 +1,291 @@
+package org.example.database.stream;
+
+import org.example.database.SqlFileProcessor;
+import org.example.database.converter.AlterTableProcessor;
+import org.example.database.converter.SqlAlterTableStatementExtractor;
+import org.example.database.converter.postgres.PostgresSqlAlterTableStatementExtractor;
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.extractor.SqlCreateTableStatementExtractor;
+import org.example.database.extractor.index.CreateIndexProcessor;
+import org.example.database.extractor.index.SqlCreateIndexStatementExtractor;
+import org.example.database.extractor.index.postgres.PostgresSqlCreateIndexStatementExtractor;
+import org.example.database.extractor.postgres.PostgresSqlCreateTableStatementExtractor;
+import org.example.database.extractor.sequence.SequenceProcessor;
+import org.example.database.model.AlterType;
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.TableAlteration;
+import org.example.database.model.TableMetadata;
+import org.example.database.parser.SqlStatementParser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Carga del esquema en dos fases con memoria acotada, para esquemas con decenas de miles de tablas.
+ * <ol>
+ *   <li>{@link #indexRelations(List)}: lee los archivos SQL sentencia a sentencia, vuelca cada
+ *   CREATE TABLE / ALTER TABLE / CREATE INDEX a un {@link StatementSpool} en disco y construye
+ *   el {@link RelationIndex} con las claves foráneas de todas las tablas.</li>
+ *   <li>{@link #forEachTable(TableConsumer)}: reconstruye las tablas de una en una desde el
+ *   spool, les asigna sus relaciones directas e inversas y las entrega para generarlas.</li>
+ * </ol>
+ * En memoria solo quedan el índice de relaciones, el incremento de cada secuencia y, por tabla,
+ * las posiciones de sus sentencias.
+ * Las sentencias se aplican con los mismos procesadores que la carga normal.
+ */
+public class StreamingSchemaLoader implements AutoCloseable {
+
+    private static final Pattern RENAME_TABLE_PATTERN = Pattern.compile(
+        "(?i)RENAME\\s+TO\\s+[\"']?(?:\\w+\\.)?(\\w+)[\"']?");
+
+    private final SqlFileProcessor processor;
+    private final StatementSpool spool;
+    private final SchemaProcessor schemaProcessor = new SchemaProcessor();
+    private final AlterTableProcessor alterProcessor = new AlterTableProcessor();
+    private final CreateIndexProcessor indexProcessor = new CreateIndexProcessor();
+    private final SequenceProcessor sequenceProcessor = new SequenceProcessor();
+    private final SqlCreateTableStatementExtractor createExtractor = new PostgresSqlCreateTableStatementExtractor();
+    private final SqlAlterTableStatementExtractor alterExtractor = new PostgresSqlAlterTableStatementExtractor();
+    private final SqlCreateIndexStatementExtractor indexExtractor = new PostgresSqlCreateIndexStatementExtractor();
+
+    private final List<TableEntry> tables = new ArrayList<>();
+    private final Map<String, TableEntry> tablesByName = new HashMap<>();
+    private RelationIndex relationIndex;
+
+    public StreamingSchemaLoader(SqlFileProcessor processor) throws IOException {
+        this.processor = processor;
+        this.spool = new StatementSpool();
+    }
+
+    /**
+     * Fase uno: recorre los archivos una sola vez y construye el índice de relaciones.
+     *
+     * @param sqlFilePaths Archivos SQL del esquema, en orden
+     * @return Índice con las relaciones directas e inversas de todas las tablas
+     */
+    public RelationIndex indexRelations(List<String> sqlFilePaths) throws IOException {
+        for (String path : sqlFilePaths) {
+            try {
+                processor.streamSqlStatements(path, this::spoolStatement);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        for (TableEntry entry : tablesByName.values()) {
+            if (entry.createOffset < 0 && entry.alterCount > 0) {
+                throw new IllegalArgumentException(
+                    "Tabla '" + entry.names.get(0) + "' referenciada en ALTER TABLE no encontrada");
+            }
+        }
+
+        // Relaciones directas de cada tabla tras sus ALTER; los renombrados y columnas
+        // eliminadas se propagan después a las relaciones que apuntan a la tabla
+        relationIndex = new RelationIndex();
+        List<Runnable> targetUpdates = new ArrayList<>();
+        for (TableEntry entry : tables) {
+            TableMetadata table = materialize(entry, false, targetUpdates);
+            relationIndex.addTable(table.getTableName(), table.getRelations());
+        }
+        targetUpdates.forEach(Runnable::run);
+        relationIndex.linkInverseRelations();
+
+        System.out.println("Relation index built: " + tables.size() + " tables, "
+            + (spool.size() / 1024) + " KB of statements spooled");
+        return relationIndex;
+    }
+
+    /**
+     * Fase dos: reconstruye cada tabla por separado y la entrega al consumidor. La tabla no se
+     * conserva después de la llamada.
+     */
+    public void forEachTable(TableConsumer consumer) throws IOException {
+        if (relationIndex == null) {
+            throw new IllegalStateException("indexRelations must be called before forEachTable");
+        }
+        for (TableEntry entry : tables) {
+            TableMetadata table = materialize(entry, true, null);
+            table.setRelations(relationIndex.relationsOf(table.getTableName()));
+            consumer.accept(table);
+        }
+    }
+
+    /**
+     * Índice construido en la fase uno, o null si aún no se ha llamado a {@link #indexRelations(List)}.
+     */
+    public RelationIndex getRelationIndex() {
+        return relationIndex;
+    }
+
+    /**
+     * Número de tablas del esquema.
+     */
+    public int getTableCount() {
+        return tables.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        spool.close();
+    }
+
+    private void spoolStatement(String statement) {
+        try {
+            String sql = SqlStatementParser.stripComments(statement);
+            if (sql.isEmpty()) {
+                return;
+            }
+            if (!sql.endsWith(";")) {
+                sql += ";";
+            }
+
+            String prefix = sql.substring(0, Math.min(sql.length(), 64)).toUpperCase().replaceAll("\\s+", " ");
+            if (prefix.startsWith("CREATE TABLE ")) {
+                for (String create : createExtractor.extractCreateTableStatements(sql)) {
+                    String name = createExtractor.extractTableName(create).toLowerCase();
+                    TableEntry entry = entry(name);
+                    if (entry.createOffset >= 0) {
+                        System.err.println("⚠️  Ignoring duplicate CREATE TABLE " + name);
+                        continue;
+                    }
+                    entry.createOffset = spool.append(create);
+                    tables.add(entry);
+                }
+            } else if (prefix.startsWith("ALTER TABLE ")) {
+                String name = alterExtractor.extractTableName(sql);
+                if (name == null) {
+                    return;
+                }
+                TableEntry entry = entry(name.toLowerCase());
+                entry.addAlter(spool.append(sql));
+
+                // Las sentencias posteriores usan el nombre nuevo de la tabla
+                for (TableAlteration alteration : alterExtractor.parseAlterations(sql)) {
+                    if (alteration.getAlterType() == AlterType.RENAME_TABLE) {
+                        Matcher matcher = RENAME_TABLE_PATTERN.matcher(alteration.getFullStatement());
+                        if (matcher.find()) {
+                            String newName = matcher.group(1).toLowerCase();
+                            tablesByName.put(newName, entry);
+                            entry.names.add(newName);
+                        }
+                    }
+                }
+            } else if (prefix.startsWith("CREATE SEQUENCE ") || prefix.startsWith("ALTER SEQUENCE ")) {
+                // Solo se conserva el incremento; se asigna a las columnas al reconstruir las tablas
+                sequenceProcessor.registerSequenceStatements(sql);
+            } else if (prefix.startsWith("CREATE INDEX ") || prefix.startsWith("CREATE UNIQUE INDEX ")) {
+                String name = indexExtractor.extractTableName(sql);
+                if (name != null) {
+                    entry(name.replaceAll("\"", "").replaceAll(".*\\.", "").toLowerCase()).addIndex(spool.append(sql));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private TableEntry entry(String name) {
+        return tablesByName.computeIfAbsent(name, TableEntry::new);
+    }
+
+    /**
+     * Reconstruye una tabla aplicando sus sentencias en orden.
+     *
+     * @param withIndexes   Si se aplican también los CREATE INDEX y el incremento de las secuencias
+     * @param targetUpdates Si no es null, recibe la propagación de renombrados y columnas eliminadas
+     */
+    private TableMetadata materialize(TableEntry entry, boolean withIndexes, List<Runnable> targetUpdates) throws IOException {
+        TableMetadata table = schemaProcessor.buildTable(spool.read(entry.createOffset));
+        String originalName = table.getTableName();
+
+        Map<ColumnMetadata, String> originalColumns = new IdentityHashMap<>();
+        table.getColumns().forEach(column -> originalColumns.put(column, column.getColumnName()));
+
+        Map<String, TableMetadata> byName = new LinkedHashMap<>();
+        byName.put(originalName, table);
+        for (int i = 0; i < entry.alterCount; i++) {
+            alterProcessor.applyAlterations(byName, spool.read(entry.alterOffsets[i]));
+        }
+
+        if (withIndexes && entry.indexCount > 0) {
+            // Los índices pueden referirse a la tabla por cualquiera de sus nombres
+            Map<String, TableMetadata> byAnyName = new LinkedHashMap<>();
+            entry.names.forEach(name -> byAnyName.put(name, table));
+            byAnyName.put(table.getTableName(), table);
+            for (int i = 0; i < entry.indexCount; i++) {
+                indexProcessor.processCreateIndexStatements(byAnyName, spool.read(entry.indexOffsets[i]));
+            }
+        }
+
+        if (withIndexes) {
+            sequenceProcessor.applyIncrements(table);
+        }
+
+        if (targetUpdates != null) {
+            Map<String, String> renamed = new HashMap<>();
+            List<String> dropped = new ArrayList<>();
+            Map<ColumnMetadata, Boolean> remaining = new IdentityHashMap<>();
+            table.getColumns().forEach(column -> remaining.put(column, Boolean.TRUE));
+            originalColumns.forEach((column, name) -> {
+                if (!remaining.containsKey(column)) {
+                    dropped.add(name);
+                } else if (!column.getColumnName().equals(name)) {
+                    renamed.put(name, column.getColumnName());
+                }
+            });
+
+            String finalName = table.getTableName();
+            if (!finalName.equals(originalName) || !renamed.isEmpty() || !dropped.isEmpty()) {
+                targetUpdates.add(() -> relationIndex.renameTarget(originalName, finalName, renamed, dropped));
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Recibe cada tabla reconstruida en la fase dos.
+     */
+    @FunctionalInterface
+    public interface TableConsumer {
+        void accept(TableMetadata table) throws IOException;
+    }
+
+    /**
+     * Posiciones en el spool de las sentencias de una tabla.
+     */
+    private static final class TableEntry {
+        private final List<String> names = new ArrayList<>(1);
+        private long createOffset = -1;
+        private long[] alterOffsets = new long[0];
+        private int alterCount;
+        private long[] indexOffsets = new long[0];
+        private int indexCount;
+
+        private TableEntry(String name) {
+            names.add(name);
+        }
+
+        private void addAlter(long offset) {
+            if (alterCount == alterOffsets.length) {
+                alterOffsets = Arrays.copyOf(alterOffsets, Math.max(2, alterCount * 2));
+            }
+            alterOffsets[alterCount++] = offset;
+        }
+
+        private void addIndex(long offset) {
+            if (indexCount == indexOffsets.length) {
+                indexOffsets = Arrays.copyOf(indexOffsets, Math.max(2, indexCount * 2));
+            }
+            indexOffsets[indexCount++] = offset;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.generator.artifact;
+
+import org.example.database.model.TableMetadata;
+
+/**
+ * Generador de una capa de la aplicación (repositorio, servicio, controlador) a partir de la
+ * tabla de una entidad. Las implementaciones no guardan estado mutable, de modo que una misma
+ * instancia puede usarse desde varios hilos.
+ */
+public interface ArtifactGenerator {
+
+    /**
+     * Nombre de la capa en plural, para los mensajes (p. ej. {@code repository classes}).
+     */
+    String getDescription();
+
+    /**
+     * Subpaquete, relativo al paquete base, en el que se escriben las clases generadas.
+     */
+    String getPackageSuffix();
+
+    /**
+     * @param table Tabla de la entidad
+     * @return Nombre de la clase generada para la tabla
+     */
+    String getClassName(TableMetadata table);
+
+    /**
+     * @param table       Tabla de la entidad
+     * @param basePackage Paquete de las entidades
+     * @return Código fuente de la clase
+     */
+    String generate(TableMetadata table, String basePackage);
+}
@@ -0,0 +1,92 @@
+package org.example.generator.artifact;
+
+import org.example.database.model.TableMetadata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Genera las clases de una capa para varias tablas en paralelo sobre un pool de tamaño fijo.
+ * Las tablas se reparten en bloques contiguos, uno por hilo, porque cada clase cuesta lo mismo
+ * con independencia del tamaño de la tabla. El resultado conserva el orden de entrada.
+ */
+public class ParallelArtifactGenerator {
+
+    private final ArtifactGenerator generator;
+    private final int parallelism;
+
+    /**
+     * @param generator   Generador de la capa compartido por todos los hilos
+     * @param parallelism Número de hilos; 0 o negativo usa un hilo por procesador disponible
+     */
+    public ParallelArtifactGenerator(ArtifactGenerator generator, int parallelism) {
+        this.generator = generator;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Tablas cuya clave primaria admite la capa (ver {@link PrimaryKey}). Las demás se omiten
+     * con un aviso: no reciben repositorio, servicio ni controlador.
+     *
+     * @param tables Tablas del esquema
+     * @return Tablas admitidas, en el orden de {@code tables}
+     */
+    public List<TableMetadata> supportedTables(List<TableMetadata> tables) {
+        List<TableMetadata> supported = new ArrayList<>(tables.size());
+        for (TableMetadata table : tables) {
+            if (PrimaryKey.of(table) != null) {
+                supported.add(table);
+            } else {
+                System.err.println("⚠️  Skipping " + generator.getClassName(table) + ": "
+                    + PrimaryKey.unsupportedReason(table));
+            }
+        }
+        return supported;
+    }
+
+    /**
+     * @param tables      Tablas de las entidades
+     * @param basePackage Paquete de las entidades
+     * @return Clases generadas, en el orden de {@code tables}
+     */
+    public List<RenderedArtifact> render(List<TableMetadata> tables, String basePackage) {
+        RenderedArtifact[] slots = new RenderedArtifact[tables.size()];
+        int threads = Math.min(parallelism, tables.size());
+        if (threads <= 1) {
+            renderRange(tables, basePackage, slots, 0, tables.size());
+            return Arrays.asList(slots);
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "arch-" + generator.getPackageSuffix() + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            int chunk = (tables.size() + threads - 1) / threads;
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int from = 0; from < tables.size(); from += chunk) {
+                int start = from;
+                int end = Math.min(tables.size(), from + chunk);
+                futures.add(CompletableFuture.runAsync(() -> renderRange(tables, basePackage, slots, start, end), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+        return Arrays.asList(slots);
+    }
+
+    private void renderRange(List<TableMetadata> tables, String basePackage, RenderedArtifact[] slots, int start, int end) {
+        for (int i = start; i < end; i++) {
+            TableMetadata table = tables.get(i);
+            slots[i] = new RenderedArtifact(table, generator.getClassName(table), generator.generate(table, basePackage));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.generator.artifact;
+
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.RelationMetadata;
+import org.example.database.model.TableMetadata;
+import org.example.generator.entity.common.PostgreSQLToJavaType;
+import org.example.generator.entity.common.UtilsFactory;
+
+/**
+ * Clave primaria de una entidad tal como la genera {@code EntityGenerator}: tipo Java, import
+ * necesario y nombre del campo. Solo se admiten claves simples que son un campo propio de la
+ * entidad; las claves compuestas se generan como clase anidada no pública y las claves que son
+ * a la vez clave foránea no tienen campo {@code @Id}.
+ */
+public final class PrimaryKey {
+
+    private final String javaType;
+    private final String importStatement;
+    private final String fieldName;
+
+    private PrimaryKey(String javaType, String importStatement, String fieldName) {
+        this.javaType = javaType;
+        this.importStatement = importStatement;
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * @param table Tabla de la entidad
+     * @return La clave primaria, o null si la tabla no tiene una clave admitida
+     */
+    public static PrimaryKey of(TableMetadata table) {
+        if (table.getPrimaryKeys().size() != 1) {
+            return null;
+        }
+        String columnName = table.getPrimaryKeys().get(0);
+        for (RelationMetadata relation : table.getRelations()) {
+            if (relation.isManyToOne() && relation.getSourceColumn().equalsIgnoreCase(columnName)) {
+                return null;
+            }
+        }
+        for (ColumnMetadata column : table.getColumns()) {
+            if (column.getColumnName().equals(columnName)) {
+                return new PrimaryKey(PostgreSQLToJavaType.getJavaType(column.getColumnType()),
+                    PostgreSQLToJavaType.getImportStatement(column.getColumnType()),
+                    UtilsFactory.generateFieldName(columnName));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Motivo por el que {@link #of(TableMetadata)} no admite la tabla, para los avisos.
+     */
+    public static String unsupportedReason(TableMetadata table) {
+        if (table.getPrimaryKeys().isEmpty()) {
+            return "it has no primary key";
+        }
+        if (table.getPrimaryKeys().size() > 1) {
+            return "composite primary keys are not supported";
+        }
+        return "its primary key is also a foreign key";
+    }
+
+    public String getJavaType() {
+        return javaType;
+    }
+
+    /**
+     * Import del tipo de la clave, o null si pertenece a {@code java.lang}.
+     */
+    public String getImportStatement() {
+        return importStatement;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getSetterName() {
+        return "set" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+    }
+}
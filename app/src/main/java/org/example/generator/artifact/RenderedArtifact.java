@@ -0,0 +1,31 @@
+package org.example.generator.artifact;
+
+import org.example.database.model.TableMetadata;
+
+/**
+ * Código fuente de una clase de capa generada para una tabla, listo para escribirse.
+ */
+public class RenderedArtifact {
+
+    private final TableMetadata table;
+    private final String className;
+    private final String content;
+
+    public RenderedArtifact(TableMetadata table, String className, String content) {
+        this.table = table;
+        this.className = className;
+        this.content = content;
+    }
+
+    public TableMetadata getTable() {
+        return table;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getContent() {
+        return content;
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.generator.controller;
+
+import org.example.database.model.TableMetadata;
+import org.example.generator.artifact.ArtifactGenerator;
+import org.example.generator.artifact.PrimaryKey;
+import org.example.generator.dto.DtoGenerator;
+import org.example.generator.entity.common.UtilsFactory;
+import org.example.generator.service.ServiceGenerator;
+
+/**
+ * Genera un controlador REST por entidad que expone las operaciones de su servicio bajo
+ * {@code /api/<tabla en plural>}. Las peticiones y respuestas usan el DTO de la entidad: la
+ * entidad JPA no se serializa, porque sus proxies LAZY y sus colecciones bidireccionales no
+ * se pueden convertir a JSON.
+ */
+public class ControllerGenerator implements ArtifactGenerator {
+
+    public static final String PACKAGE_SUFFIX = "controller";
+
+    private final boolean useLombok;
+
+    public ControllerGenerator(boolean useLombok) {
+        this.useLombok = useLombok;
+    }
+
+    @Override
+    public String getDescription() {
+        return "controller classes";
+    }
+
+    @Override
+    public String getPackageSuffix() {
+        return PACKAGE_SUFFIX;
+    }
+
+    @Override
+    public String getClassName(TableMetadata table) {
+        return UtilsFactory.generateClassName(table.getTableName()) + "Controller";
+    }
+
+    /**
+     * Ruta base del recurso: el plural de la entidad, en minúsculas y con guiones. Sale del
+     * motor de nombres, así que sigue las mismas reglas que la colección OneToMany.
+     */
+    public static String resourcePath(TableMetadata table) {
+        String plural = UtilsFactory.generateCollectionFieldName(table.getTableName());
+        StringBuilder path = new StringBuilder("/api/");
+        for (int i = 0; i < plural.length(); i++) {
+            char c = plural.charAt(i);
+            if (Character.isUpperCase(c)) {
+                path.append('-').append(Character.toLowerCase(c));
+            } else {
+                path.append(c);
+            }
+        }
+        return path.toString();
+    }
+
+    @Override
+    public String generate(TableMetadata table, String basePackage) {
+        String entityName = UtilsFactory.generateClassName(table.getTableName());
+        String entityVariable = Character.toLowerCase(entityName.charAt(0)) + entityName.substring(1);
+        String dtoName = DtoGenerator.dtoName(table);
+        String serviceName = ServiceGenerator.serviceName(table);
+        String serviceVariable = Character.toLowerCase(serviceName.charAt(0)) + serviceName.substring(1);
+        String className = getClassName(table);
+        PrimaryKey primaryKey = PrimaryKey.of(table);
+        String idType = primaryKey.getJavaType();
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("package ").append(basePackage).append('.').append(PACKAGE_SUFFIX).append(";\n\n");
+
+        // 1. Imports
+        builder.append("import ").append(basePackage).append('.').append(DtoGenerator.PACKAGE_SUFFIX)
+            .append('.').append(dtoName).append(";\n");
+        builder.append("import ").append(basePackage).append('.').append(ServiceGenerator.PACKAGE_SUFFIX)
+            .append('.').append(serviceName).append(";\n");
+        if (useLombok) {
+            builder.append("import lombok.RequiredArgsConstructor;\n");
+        }
+        builder.append("import org.springframework.http.HttpStatus;\n");
+        builder.append("import org.springframework.http.ResponseEntity;\n");
+        builder.append("import org.springframework.web.bind.annotation.*;\n\n");
+        builder.append("import java.util.List;\n");
+        if (primaryKey.getImportStatement() != null) {
+            builder.append(primaryKey.getImportStatement()).append("\n");
+        }
+        builder.append("\n");
+
+        // 2. Declaración de clase
+        builder.append("@RestController\n");
+        if (useLombok) {
+            builder.append("@RequiredArgsConstructor\n");
+        }
+        builder.append("@RequestMapping(\"").append(resourcePath(table)).append("\")\n")
+            .append("public class ").append(className).append(" {\n\n")
+            .append("    private final ").append(serviceName).append(" ").append(serviceVariable).append(";\n\n");
+
+        // 3. Constructor para la inyección del servicio
+        if (!useLombok) {
+            builder.append("    public ").append(className).append("(").append(serviceName).append(" ")
+                .append(serviceVariable).append(") {\n")
+                .append("        this.").append(serviceVariable).append(" = ").append(serviceVariable).append(";\n")
+                .append("    }\n\n");
+        }
+
+        // 4. Endpoints
+        builder.append("    @GetMapping\n")
+            .append("    public List<").append(dtoName).append("> findAll() {\n")
+            .append("        return ").append(serviceVariable).append(".findAll();\n")
+            .append("    }\n\n");
+
+        builder.append("    @GetMapping(\"/{id}\")\n")
+            .append("    public ResponseEntity<").append(dtoName).append("> findById(@PathVariable ")
+            .append(idType).append(" id) {\n")
+            .append("        return ").append(serviceVariable).append(".findById(id)\n")
+            .append("            .map(ResponseEntity::ok)\n")
+            .append("            .orElse(ResponseEntity.notFound().build());\n")
+            .append("    }\n\n");
+
+        builder.append("    @PostMapping\n")
+            .append("    public ResponseEntity<").append(dtoName).append("> create(@RequestBody ")
+            .append(dtoName).append(" ").append(entityVariable).append(") {\n")
+            .append("        return ResponseEntity.status(HttpStatus.CREATED).body(")
+            .append(serviceVariable).append(".create(").append(entityVariable).append("));\n")
+            .append("    }\n\n");
+
+        builder.append("    @PutMapping(\"/{id}\")\n")
+            .append("    public ResponseEntity<").append(dtoName).append("> update(@PathVariable ")
+            .append(idType).append(" id, @RequestBody ").append(dtoName).append(" ").append(entityVariable).append(") {\n")
+            .append("        return ").append(serviceVariable).append(".update(id, ").append(entityVariable).append(")\n")
+            .append("            .map(ResponseEntity::ok)\n")
+            .append("            .orElse(ResponseEntity.notFound().build());\n")
+            .append("    }\n\n");
+
+        builder.append("    @DeleteMapping(\"/{id}\")\n")
+            .append("    public ResponseEntity<Void> delete(@PathVariable ").append(idType).append(" id) {\n")
+            .append("        if (!").append(serviceVariable).append(".existsById(id)) {\n")
+            .append("            return ResponseEntity.notFound().build();\n")
+            .append("        }\n")
+            .append("        ").append(serviceVariable).append(".deleteById(id);\n")
+            .append("        return ResponseEntity.noContent().build();\n")
+            .append("    }\n");
+
+        builder.append("}");
+        return builder.toString();
+    }
+}
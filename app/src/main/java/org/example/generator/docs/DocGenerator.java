@@ -59,11 +59,60 @@ public class DocGenerator {
                   - "file2.sql"
             
                 directory: "directory" # Directory where the SQL files are located
+                migrations: false # true to replay V1__x.sql, V2__y.sql... in version order
+                checkpoint: ".arch/migrations.checkpoint" # Schema state after the last applied migration
+                snapshot: ".arch/schema.snapshot" # Schema used by the last generation (incremental regeneration)
             
             output:
               basePackage: "com.example.demo" # Separate by periods or slashes, consider Windows option as well
+              manifest: ".arch/manifest" # Hashes of the generated files, used to skip identical writes
+              templates:
+                entity: "templates/entity.java.tmpl" # Optional custom entity template
+              naming: # Optional naming rules, applied to every generated artifact
+                stripPrefixes:
+                  - "tbl_" # Table prefixes removed from class names
+                classes:
+                  tbl_address: PostalAddress # Class name for a table
+                fields:
+                  usr_nm: userName # Field name for a column
+                plurals:
+                  person: people # Irregular plurals, applied to the last word
+              relations:
+                fetch: LAZY # Fetch type of @ManyToOne associations: LAZY (default) or EAGER
+                fetchOverrides:
+                  orders.customer_id: EAGER # Per foreign key (table.column) or per table
+                mode: bidirectional # bidirectional, unidirectional (no inverse collections) or none (plain FK columns)
+                tables:
+                  customer: unidirectional # Per-table mode
+                maxInverseCollections: 10 # Tables referenced by more tables get no collections, 0 = no limit
+                cascade: ALL # Cascade of inverse collections, e.g. "PERSIST, MERGE" or NONE
+                orphanRemoval: true
+                collectionFetch: batch # Inverse collections: select (default), batch (@BatchSize) or subselect (@Fetch(SUBSELECT))
+                batchSize: 16 # Default @BatchSize of batch collections
+                collectionFetchOverrides:
+                  customer.orders: subselect # Per collection (parent.child) or per parent table; a number is a batch size
+              ids:
+                strategy: identity # identity (default) or sequence: @SequenceGenerator with the pooled optimizer, enables JDBC insert batching
+                allocationSize: 50 # Ids per nextval when the schema does not declare a larger INCREMENT BY
+                alignmentScript: db/sequence-alignment.sql # ALTER SEQUENCE statements that align the increments with allocationSize
+                uuid: random # UUID keys: random (GenerationType.UUID, v4) or v7 (time-ordered, generates UuidV7 and UuidV7Generator)
+              entities:
+                primitives: false # NOT NULL integer, boolean and floating point columns as int/long/short/boolean/float/double (keys keep wrappers)
+                cacheKeyHash: false # Composite key classes cache their hashCode (only for keys never modified after use)
+                persistable: false # Entities with assigned keys implement Persistable<ID>: save() skips the select-before-insert
+                lazyColumns: false # @Basic(fetch = LAZY) for large columns; writes the Hibernate bytecode-enhancement block to add to the build
+                lazyTypes: BYTEA, TEXT, JSONB # Column types loaded lazily
+                lazyLengthThreshold: 0 # VARCHAR/CHAR columns with at least this length are lazy too, 0 = disabled
+                enhancementSnippet: hibernate-enhancement.gradle # Defaults to hibernate-enhancement.gradle or .xml by application.build
+                dynamicStatements: none # none, update (@DynamicUpdate: only changed columns), insert (@DynamicInsert: skips null columns) or both
+                dynamicStatementTables:
+                  orders: update # Per-table dynamic SQL
+                generatedColumns: false # DEFAULT/identity/computed columns get insertable = false and @Generated (computed columns are always read-only)
+                immutableKeys: false # Primary key columns get updatable = false
+                immutableColumns: created_at, orders.customer_id # Columns (or table.column) marked updatable = false
               options:
                 lombok: false # true/false to enable/disable Lombok
+                parallelism: 0 # Threads used to render entities, 0 = one per available processor
             ```
             
             ## SQL Schema Structure
@@ -108,6 +157,75 @@ public class DocGenerator {
             ADD CONSTRAINT fk_product_category FOREIGN KEY (category_id) REFERENCES category(id) ON DELETE CASCADE;
             ```
             
+            ## Migration Folders
+            
+            When `sql.schema.migrations` is `true`, the SQL files are treated as Flyway migrations: they are
+            ordered by version (`V1__init.sql`, `V2__add_column.sql`, ...) and `CREATE`/`ALTER`/`DROP`/`RENAME`
+            statements are applied in sequence. The resulting schema is stored in the checkpoint file, so adding
+            a new `V413__...sql` only replays that file. Editing or inserting an older migration triggers a full replay.
+            
+            ## Repositories, Services and Controllers
+            
+            `arch g r`, `arch g s` and `arch g c` generate a Spring Data `JpaRepository`, a `@Service` with
+            transactional CRUD methods and a `@RestController` under `/api/<table plural>` for each entity, in
+            the `repository`, `service` and `controller` sub-packages of `basePackage`. Services and controllers
+            exchange a `record` per entity, generated with the services in the `dto` sub-package, instead of the
+            JPA entity: foreign keys are sent as the id of the referenced row, so lazy proxies and bidirectional
+            collections are never serialized. `arch g a` generates every layer from a single parse of the
+            schema as one task graph: a table's repository starts as soon as its entity is written, its DTO and
+            service after the repository and its controller after the service, and a timing report with the
+            critical path is printed at the end. The project needs
+            `spring-boot-starter-data-jpa` and `spring-boot-starter-web`. Tables without a primary key, with a
+            composite key or whose key is also a foreign key are skipped with a warning.
+            
+            ## Incremental Generation
+            
+            Each `arch g m` run stores the generated schema in the snapshot file. The next run compares the
+            current schema against it and only rewrites the entities of changed tables, plus the tables whose
+            `@OneToMany` collections depend on a foreign key that was added or removed. Run `arch diff` to see
+            the pending changes, or `arch g m --full` to regenerate every entity.
+            
+            Files whose content did not change are never rewritten, so their modification time is preserved
+            and Gradle/Maven do not recompile them. Entities of tables that no longer exist are deleted,
+            unless they were edited by hand since they were generated.
+            
+            Run `arch g m --verify` to compile the generated entities in memory before writing them. Errors are
+            reported with the table that produced them and no file is written if any entity fails to compile.
+            Verification needs Archetype to run on a JDK.
+            
+            `arch g m --dry-run` renders the entities in memory and prints a unified diff against the files on
+            disk without writing anything, which is useful for CI previews and code review.
+            `arch g m --output-zip sources.zip` writes every entity into a single zip (or source jar) instead of
+            the project tree; identical output produces an identical archive, so it can feed a build cache.
+            
+            For very large schemas, `arch g m --low-memory` reads the SQL files in two streaming passes: the
+            first keeps only an index of the foreign keys, the second rebuilds, renders and writes one table at
+            a time. The table metadata is never held in memory all at once; only the foreign-key index, the
+            expected file paths and the manifest grow with the schema, which helps generation fit in
+            memory-capped containers (e.g. `eclipse-temurin:17-jre` with `-XX:MaxRAMPercentage`). Every entity is regenerated
+            and the snapshot is discarded; migrations mode, `--verify` and `--dry-run` use the standard pipeline.
+            
+            ## Custom Templates
+            
+            Set `output.templates.entity` to a template file to change the generated entities. Templates use
+            `{{variable}}`, `{{#section}}...{{/section}}` (conditional, or repeated for lists) and
+            `{{^section}}...{{/section}}` (when the value is false or empty). Available variables: `packageName`,
+            `className`, `tableName`, `lombok`, `hasCompositeKey`, `persistable`, `dynamicUpdate`, `dynamicInsert`,
+            the generated blocks `imports`,
+            `classAnnotations`, `classDeclaration`, `fields`, `constructors`, `accessors`, `persistableMembers`,
+            `compositeKey`, and
+            the lists `columns` (`columnName`, `fieldName`, `capitalizedName`, `javaType`, `columnType`,
+            `notNull`, `primaryKey`, `defaultValue`, `computed`, `generated`, `immutable`) and `relations`. Inside lists, `@first`, `@last` and
+            `@index` are available. The built-in template is:
+            
+            ```
+            package {{packageName}};
+            
+            {{imports}}{{classAnnotations}}{{classDeclaration}}{{fields}}{{constructors}}{{accessors}}{{persistableMembers}}{{compositeKey}}}
+            ```
+            
+            The template is compiled once per run; changing it regenerates every entity.
+            
             With this configuration and the correct schema, you can run `arc generate models or arc g m` to generate the corresponding Java entity classes.
             
             Ready to get started!
@@ -0,0 +1,83 @@
+package org.example.generator.dto;
+
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.TableMetadata;
+import org.example.generator.artifact.ArtifactGenerator;
+import org.example.generator.entity.common.PostgreSQLToJavaType;
+import org.example.generator.entity.common.UtilsFactory;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Genera un record por entidad con los valores de sus columnas, que los controladores usan
+ * como cuerpo de las peticiones y respuestas en lugar de la entidad JPA. Las claves foráneas
+ * se exponen por su valor, no como la entidad referenciada, de modo que el JSON no depende de
+ * los proxies LAZY ni de las colecciones bidireccionales de la entidad.
+ */
+public class DtoGenerator implements ArtifactGenerator {
+
+    public static final String PACKAGE_SUFFIX = "dto";
+
+    @Override
+    public String getDescription() {
+        return "DTO records";
+    }
+
+    @Override
+    public String getPackageSuffix() {
+        return PACKAGE_SUFFIX;
+    }
+
+    @Override
+    public String getClassName(TableMetadata table) {
+        return dtoName(table);
+    }
+
+    /**
+     * Nombre del DTO de una tabla, también usado por los servicios y controladores.
+     */
+    public static String dtoName(TableMetadata table) {
+        return UtilsFactory.generateClassName(table.getTableName()) + "Dto";
+    }
+
+    /**
+     * Nombre del componente del record para la columna: el mismo que el del campo de la entidad.
+     */
+    public static String componentName(ColumnMetadata column) {
+        return UtilsFactory.generateFieldName(column.getColumnName());
+    }
+
+    @Override
+    public String generate(TableMetadata table, String basePackage) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("package ").append(basePackage).append('.').append(PACKAGE_SUFFIX).append(";\n\n");
+
+        // 1. Imports de los tipos de las columnas, sin repetir
+        Set<String> imports = new TreeSet<>();
+        for (ColumnMetadata column : table.getColumns()) {
+            String importStatement = PostgreSQLToJavaType.getImportStatement(column.getColumnType());
+            if (importStatement != null) {
+                imports.add(importStatement);
+            }
+        }
+        for (String importStatement : imports) {
+            builder.append(importStatement).append("\n");
+        }
+        if (!imports.isEmpty()) {
+            builder.append("\n");
+        }
+
+        // 2. Un componente por columna, con el tipo wrapper para admitir valores ausentes
+        builder.append("public record ").append(dtoName(table)).append("(\n");
+        for (int i = 0; i < table.getColumns().size(); i++) {
+            ColumnMetadata column = table.getColumns().get(i);
+            builder.append("    ").append(PostgreSQLToJavaType.getJavaType(column.getColumnType()))
+                .append(" ").append(componentName(column))
+                .append(i < table.getColumns().size() - 1 ? ",\n" : "\n");
+        }
+        builder.append(") {\n")
+            .append("}");
+        return builder.toString();
+    }
+}
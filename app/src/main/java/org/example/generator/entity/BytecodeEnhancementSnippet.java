@@ -0,0 +1,107 @@
+package org.example.generator.entity;
+
+import org.example.database.model.TableMetadata;
+import org.example.generator.entity.common.EntityPolicy;
+import org.example.generator.entity.common.IdPolicy;
+import org.example.generator.entity.common.RelationPolicy;
+import org.example.generator.entity.common.TableGenerationContext;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Bloque del plugin de bytecode enhancement de Hibernate para el build del proyecto (Gradle o
+ * Maven, según {@code application.build}). Sin enhancement Hibernate ignora
+ * {@code @Basic(fetch = FetchType.LAZY)} y carga las columnas grandes con la fila.
+ * <p>
+ * No se modifica el build del usuario: el bloque se escribe en un archivo aparte para copiarlo.
+ * Se alimenta tabla a tabla con {@link #add(TableMetadata)}, igual que
+ * {@link SequenceAlignmentScript}, y solo se escribe si alguna entidad tiene atributos LAZY.
+ */
+public final class BytecodeEnhancementSnippet {
+
+    // Versión del plugin de Gradle; debe coincidir con la de Hibernate del proyecto
+    static final String HIBERNATE_VERSION = "6.6.4.Final";
+
+    private final EntityPolicy entityPolicy;
+    private final boolean maven;
+    private final Set<String> tables = new TreeSet<>();
+
+    /**
+     * @param build Tipo de build ("gradle" o "maven")
+     */
+    public BytecodeEnhancementSnippet(EntityPolicy entityPolicy, String build) {
+        this.entityPolicy = entityPolicy;
+        this.maven = "maven".equalsIgnoreCase(build);
+    }
+
+    /**
+     * Archivo por defecto del bloque según el tipo de build.
+     */
+    public static String defaultFile(String build) {
+        return "maven".equalsIgnoreCase(build) ? "hibernate-enhancement.xml" : "hibernate-enhancement.gradle";
+    }
+
+    /**
+     * Registra la tabla si su entidad tiene atributos LAZY.
+     */
+    public synchronized void add(TableMetadata table) {
+        if (entityPolicy.isLazyColumns()
+            && TableGenerationContext.of(table, RelationPolicy.defaults(), IdPolicy.defaults(), entityPolicy).hasLazyColumns()) {
+            tables.add(table.getTableName());
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return tables.isEmpty();
+    }
+
+    /**
+     * @return Contenido del bloque, o una cadena vacía si ninguna entidad lo necesita
+     */
+    public synchronized String render() {
+        if (tables.isEmpty()) {
+            return "";
+        }
+        return maven ? renderMaven() : renderGradle();
+    }
+
+    private String renderGradle() {
+        return "// Hibernate bytecode enhancement: lazy basic attributes (@Basic(fetch = FetchType.LAZY)) are only\n"
+            + "// honoured on enhanced entities. Entities with lazy attributes: " + String.join(", ", tables) + "\n"
+            + "// Add the plugin to the plugins block of the build (Groovy or Kotlin DSL) using the project's\n"
+            + "// Hibernate version, and the hibernate block at the top level.\n\n"
+            + "plugins {\n"
+            + "    id(\"org.hibernate.orm\") version \"" + HIBERNATE_VERSION + "\"\n"
+            + "}\n\n"
+            + "hibernate {\n"
+            + "    enhancement {\n"
+            + "        enableLazyInitialization = true\n"
+            + "        enableDirtyTracking = true\n"
+            + "    }\n"
+            + "}\n";
+    }
+
+    private String renderMaven() {
+        return "<!-- Hibernate bytecode enhancement: lazy basic attributes (@Basic(fetch = FetchType.LAZY)) are only\n"
+            + "     honoured on enhanced entities. Entities with lazy attributes: " + String.join(", ", tables) + "\n"
+            + "     Add the plugin to <build><plugins> of the pom.xml. hibernate.version is managed by the\n"
+            + "     Spring Boot parent; otherwise set it to the project's Hibernate version. -->\n"
+            + "<plugin>\n"
+            + "    <groupId>org.hibernate.orm.tooling</groupId>\n"
+            + "    <artifactId>hibernate-enhance-maven-plugin</artifactId>\n"
+            + "    <version>${hibernate.version}</version>\n"
+            + "    <executions>\n"
+            + "        <execution>\n"
+            + "            <configuration>\n"
+            + "                <enableLazyInitialization>true</enableLazyInitialization>\n"
+            + "                <enableDirtyTracking>true</enableDirtyTracking>\n"
+            + "            </configuration>\n"
+            + "            <goals>\n"
+            + "                <goal>enhance</goal>\n"
+            + "            </goals>\n"
+            + "        </execution>\n"
+            + "    </executions>\n"
+            + "</plugin>\n";
+    }
+}
@@ -1,8 +1,20 @@
 package org.example.generator.entity;
 
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.RelationMetadata;
 import org.example.database.model.TableMetadata;
+import org.example.generator.entity.common.TableGenerationContext;
 import org.example.generator.entity.common.UtilsFactory;
 import org.example.generator.entity.factory.*;
+import org.example.generator.template.Template;
+import org.example.generator.template.TemplateFragment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public class EntityGenerator {
 
@@ -13,45 +25,71 @@ public class EntityGenerator {
     private final ClassConstructorsGenerator classConstructorsGenerator;
     private final ClassGetterAndSetterGenerator classGetterAndSetterGenerator;
     private final CompositeClassGenerator compositeClassGenerator;
+    private final PersistableGenerator persistableGenerator;
+    private final EntityGeneratorOptions options;
 
     public EntityGenerator(boolean useLombok) {
+        this(useLombok, null);
+    }
+
+    public EntityGenerator(boolean useLombok, ForeignKeyGraph foreignKeyGraph) {
+        this(useLombok, foreignKeyGraph, EntityGeneratorOptions.defaults());
+    }
+
+    /**
+     * @param options Plantilla de salida y políticas de arch.yml aplicadas a cada tabla
+     */
+    public EntityGenerator(boolean useLombok, ForeignKeyGraph foreignKeyGraph, EntityGeneratorOptions options) {
         this.useLombok = useLombok;
+        this.options = options;
         this.importGenerator = new ImportGenerator(useLombok);
         this.classAnnotationGenerator = new ClassAnnotationGenerator(useLombok);
         this.classConstructorsGenerator = new ClassConstructorsGenerator(useLombok);
         this.classGetterAndSetterGenerator = new ClassGetterAndSetterGenerator(useLombok);
         this.compositeClassGenerator = new CompositeClassGenerator(useLombok);
-        this.classCoreGenerator = new ClassCoreGenerator();
+        this.persistableGenerator = new PersistableGenerator(useLombok);
+        this.classCoreGenerator = new ClassCoreGenerator(foreignKeyGraph);
     }
 
     public String generateEntity(TableMetadata table, String packageName) {
+        // Datos derivados de la tabla, calculados una vez para todos los generadores
+        TableGenerationContext context = TableGenerationContext.of(
+            table, options.getRelationPolicy(), options.getIdPolicy(), options.getEntityPolicy());
+
+        Template template = options.getTemplate();
+        if (template != null) {
+            return template.render(buildModel(context, packageName));
+        }
+
         StringBuilder entityBuilder = new StringBuilder();
 
         // 0. Agregar declaración del paquete
         entityBuilder.append("package ").append(packageName).append(";\n\n");
 
         // 1. Generar imports
-        importGenerator.generateImports(table, entityBuilder);
+        importGenerator.generateImports(context, entityBuilder);
 
         // 2. Generar anotaciones de clase
-        classAnnotationGenerator.generateClassAnnotations(table, entityBuilder);
+        classAnnotationGenerator.generateClassAnnotations(context, entityBuilder);
 
         // 3. Generar declaración de clase
-        String className = UtilsFactory.generateClassName(table.getTableName());
-        classCoreGenerator.generateClassDeclaration(className, table, entityBuilder);
+        classCoreGenerator.generateClassDeclaration(context, entityBuilder);
 
         // 4. Generar campos con sus anotaciones
-        classCoreGenerator.generateFields(table, entityBuilder);
+        classCoreGenerator.generateFields(context, entityBuilder);
 
         // 5. Generar constructores
-        classConstructorsGenerator.generateConstructors(table, className, entityBuilder);
+        classConstructorsGenerator.generateConstructors(context, entityBuilder);
 
         // 6. Generar getters y setters
-        classGetterAndSetterGenerator.generateGettersAndSetters(table, entityBuilder);
+        classGetterAndSetterGenerator.generateGettersAndSetters(context, entityBuilder);
 
-        // 7. Si tiene clave primaria compuesta, generar clase estática al final
-        if (UtilsFactory.needsCompositeKey(table)) {
-            compositeClassGenerator.generateCompositeKeyClass(table, entityBuilder);
+        // 7. Implementación de Persistable (solo entidades con clave asignada)
+        persistableGenerator.generatePersistable(context, entityBuilder);
+
+        // 8. Si tiene clave primaria compuesta, generar clase estática al final
+        if (context.isCompositeKey()) {
+            compositeClassGenerator.generateCompositeKeyClass(context, entityBuilder);
         }
 
         // Cerrar la clase
@@ -59,4 +97,83 @@ public class EntityGenerator {
 
         return entityBuilder.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * Modelo expuesto a las plantillas. Los bloques generados se entregan como fragmentos que
+     * escriben directo en el buffer de la plantilla; las listas de columnas y relaciones solo se
+     * construyen si la plantilla las usa.
+     */
+    private Map<String, Object> buildModel(TableGenerationContext context, String packageName) {
+        TableMetadata table = context.getTable();
+        String className = context.getClassName();
+        boolean compositeKey = context.isCompositeKey();
+
+        Map<String, Object> model = new HashMap<>();
+        model.put("packageName", packageName);
+        model.put("className", className);
+        model.put("tableName", table.getTableName());
+        model.put("lombok", useLombok);
+        model.put("hasCompositeKey", compositeKey);
+        model.put("persistable", context.isPersistable());
+        model.put("dynamicUpdate", context.getDynamicStatements().isDynamicUpdate());
+        model.put("dynamicInsert", context.getDynamicStatements().isDynamicInsert());
+
+        model.put("imports", (TemplateFragment) out -> importGenerator.generateImports(context, out));
+        model.put("classAnnotations", (TemplateFragment) out -> classAnnotationGenerator.generateClassAnnotations(context, out));
+        model.put("classDeclaration", (TemplateFragment) out -> classCoreGenerator.generateClassDeclaration(context, out));
+        model.put("fields", (TemplateFragment) out -> classCoreGenerator.generateFields(context, out));
+        model.put("constructors", (TemplateFragment) out -> classConstructorsGenerator.generateConstructors(context, out));
+        model.put("accessors", (TemplateFragment) out -> classGetterAndSetterGenerator.generateGettersAndSetters(context, out));
+        model.put("persistableMembers", (TemplateFragment) out -> persistableGenerator.generatePersistable(context, out));
+        model.put("compositeKey", (TemplateFragment) out -> {
+            if (compositeKey) {
+                compositeClassGenerator.generateCompositeKeyClass(context, out);
+            }
+        });
+
+        model.put("columns", (Supplier<List<Map<String, Object>>>) () -> columnModels(context));
+        model.put("relations", (Supplier<List<Map<String, Object>>>) () -> relationModels(context));
+        return model;
+    }
+
+    private static List<Map<String, Object>> columnModels(TableGenerationContext context) {
+        TableMetadata table = context.getTable();
+        List<Map<String, Object>> columns = new ArrayList<>(table.getColumns().size());
+        for (ColumnMetadata column : table.getColumns()) {
+            String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
+            Map<String, Object> model = new HashMap<>();
+            model.put("columnName", column.getColumnName());
+            model.put("columnType", column.getColumnType());
+            model.put("fieldName", fieldName);
+            model.put("capitalizedName", Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1));
+            model.put("javaType", context.getJavaType(column));
+            model.put("notNull", column.isNotNull());
+            model.put("primaryKey", context.isPrimaryKey(column.getColumnName()));
+            model.put("defaultValue", column.getDefaultValue());
+            model.put("sequenceName", column.getSequenceName());
+            model.put("computed", column.isComputed());
+            model.put("generated", context.isGeneratedColumn(column));
+            model.put("immutable", context.isImmutableColumn(column));
+            columns.add(model);
+        }
+        return columns;
+    }
+
+    private static List<Map<String, Object>> relationModels(TableGenerationContext context) {
+        List<Map<String, Object>> relations = new ArrayList<>(context.getRelations().size());
+        for (RelationMetadata relation : context.getRelations()) {
+            Map<String, Object> model = new HashMap<>();
+            model.put("sourceColumn", relation.getSourceColumn());
+            model.put("targetTable", relation.getTargetTable());
+            model.put("targetColumn", relation.getTargetColumn());
+            model.put("targetClassName", UtilsFactory.generateClassName(relation.getTargetTable()));
+            model.put("manyToOne", relation.isManyToOne());
+            model.put("fetch", relation.isManyToOne() ? context.getFetchType(relation) : null);
+            model.put("collectionFetch", relation.isManyToOne() ? null : context.getCollectionFetch(relation).name());
+            model.put("batchSize", relation.isManyToOne() ? null : context.getBatchSize(relation));
+            model.put("inverse", relation.isInverse());
+            relations.add(model);
+        }
+        return relations;
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.generator.entity;
+
+import org.example.generator.entity.common.EntityPolicy;
+import org.example.generator.entity.common.IdPolicy;
+import org.example.generator.entity.common.RelationPolicy;
+import org.example.generator.template.Template;
+
+/**
+ * Opciones del {@link EntityGenerator}: la plantilla de salida y las políticas de arch.yml que
+ * se aplican a cada tabla.
+ * <p>
+ * Es inmutable: {@link #defaults()} devuelve la configuración sin reglas del usuario y cada
+ * método {@code with...} devuelve una copia con ese valor cambiado.
+ */
+public final class EntityGeneratorOptions {
+
+    private static final EntityGeneratorOptions DEFAULTS =
+        new EntityGeneratorOptions(null, RelationPolicy.defaults(), IdPolicy.defaults(), EntityPolicy.defaults());
+
+    private final Template template;
+    private final RelationPolicy relationPolicy;
+    private final IdPolicy idPolicy;
+    private final EntityPolicy entityPolicy;
+
+    private EntityGeneratorOptions(Template template, RelationPolicy relationPolicy, IdPolicy idPolicy,
+                                   EntityPolicy entityPolicy) {
+        this.template = template;
+        this.relationPolicy = relationPolicy;
+        this.idPolicy = idPolicy;
+        this.entityPolicy = entityPolicy;
+    }
+
+    /**
+     * Salida por defecto y políticas sin reglas del usuario.
+     */
+    public static EntityGeneratorOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param template Plantilla compilada de la entidad; si es null se usa la salida por defecto
+     */
+    public EntityGeneratorOptions withTemplate(Template template) {
+        return new EntityGeneratorOptions(template, relationPolicy, idPolicy, entityPolicy);
+    }
+
+    /**
+     * @param relationPolicy Política de mapeo de las relaciones (tipo de carga, colecciones y cascada)
+     */
+    public EntityGeneratorOptions withRelationPolicy(RelationPolicy relationPolicy) {
+        return new EntityGeneratorOptions(template, relationPolicy, idPolicy, entityPolicy);
+    }
+
+    /**
+     * @param idPolicy Política de generación de las claves primarias (IDENTITY o secuencias)
+     */
+    public EntityGeneratorOptions withIdPolicy(IdPolicy idPolicy) {
+        return new EntityGeneratorOptions(template, relationPolicy, idPolicy, entityPolicy);
+    }
+
+    /**
+     * @param entityPolicy Política de mapeo de las entidades (tipos primitivos, hash de claves, Persistable)
+     */
+    public EntityGeneratorOptions withEntityPolicy(EntityPolicy entityPolicy) {
+        return new EntityGeneratorOptions(template, relationPolicy, idPolicy, entityPolicy);
+    }
+
+    public Template getTemplate() {
+        return template;
+    }
+
+    public RelationPolicy getRelationPolicy() {
+        return relationPolicy;
+    }
+
+    public IdPolicy getIdPolicy() {
+        return idPolicy;
+    }
+
+    public EntityPolicy getEntityPolicy() {
+        return entityPolicy;
+    }
+}
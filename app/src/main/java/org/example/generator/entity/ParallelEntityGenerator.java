@@ -0,0 +1,119 @@
+package org.example.generator.entity;
+
+import org.example.database.graph.GenerationUnit;
+import org.example.database.model.TableMetadata;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Genera el código de varias entidades en paralelo sobre un pool de tamaño fijo.
+ * <p>
+ * Las unidades se encolan de mayor a menor coste estimado (columnas, relaciones, índices y
+ * restricciones), de modo que las tablas más grandes no quedan al final de la cola alargando
+ * la ejecución. El resultado se devuelve siempre en el orden de entrada, independientemente
+ * del orden en que terminen los hilos, y el contenido no depende del número de hilos porque
+ * los generadores de {@code factory} no guardan estado mutable.
+ */
+public class ParallelEntityGenerator {
+
+    private final EntityGenerator generator;
+    private final int parallelism;
+
+    /**
+     * @param generator   Generador de entidades compartido por todos los hilos
+     * @param parallelism Número de hilos; 0 o negativo usa un hilo por procesador disponible
+     */
+    public ParallelEntityGenerator(EntityGenerator generator, int parallelism) {
+        this.generator = generator;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Genera todas las tablas de las unidades indicadas. Las tablas de una misma unidad
+     * (un ciclo de claves foráneas) se generan juntas en el mismo hilo.
+     *
+     * @param units       Unidades de generación
+     * @param packageName Paquete de las entidades
+     * @return Entidades generadas, en el mismo orden en que aparecen en {@code units}
+     */
+    public List<RenderedEntity> render(List<GenerationUnit> units, String packageName) {
+        List<RenderedEntity[]> slots = new ArrayList<>();
+        for (GenerationUnit unit : units) {
+            slots.add(new RenderedEntity[unit.getTables().size()]);
+        }
+
+        if (parallelism == 1 || units.size() <= 1) {
+            for (int i = 0; i < units.size(); i++) {
+                renderUnit(units.get(i), packageName, slots.get(i));
+            }
+            return flatten(slots);
+        }
+
+        // Programación "largest first": se encolan primero las unidades más costosas
+        List<Integer> schedule = new ArrayList<>();
+        for (int i = 0; i < units.size(); i++) {
+            schedule.add(i);
+        }
+        schedule.sort(Comparator.comparingInt((Integer i) -> estimateCost(units.get(i))).reversed()
+            .thenComparingInt(i -> i));
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, units.size()), threadFactory());
+        try {
+            CompletableFuture<?>[] futures = schedule.stream()
+                .map(i -> CompletableFuture.runAsync(() -> renderUnit(units.get(i), packageName, slots.get(i)), executor))
+                .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        return flatten(slots);
+    }
+
+    /**
+     * Coste estimado de generar una unidad, proporcional al número de campos y anotaciones que produce.
+     */
+    public static int estimateCost(GenerationUnit unit) {
+        int cost = 0;
+        for (TableMetadata table : unit.getTables()) {
+            cost += 1 + table.getColumns().size() + table.getRelations().size()
+                + table.getIndexes().size() + table.getUniqueConstraints().size();
+        }
+        return cost;
+    }
+
+    private void renderUnit(GenerationUnit unit, String packageName, RenderedEntity[] slot) {
+        List<TableMetadata> tables = unit.getTables();
+        for (int i = 0; i < tables.size(); i++) {
+            slot[i] = new RenderedEntity(tables.get(i), generator.generateEntity(tables.get(i), packageName));
+        }
+    }
+
+    private List<RenderedEntity> flatten(List<RenderedEntity[]> slots) {
+        List<RenderedEntity> result = new ArrayList<>();
+        for (RenderedEntity[] slot : slots) {
+            result.addAll(List.of(slot));
+        }
+        return result;
+    }
+
+    private ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "arch-render-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
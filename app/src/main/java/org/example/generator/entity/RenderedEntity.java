@@ -0,0 +1,25 @@
+package org.example.generator.entity;
+
+import org.example.database.model.TableMetadata;
+
+/**
+ * Código fuente generado para una tabla, listo para escribirse.
+ */
+public class RenderedEntity {
+
+    private final TableMetadata table;
+    private final String content;
+
+    public RenderedEntity(TableMetadata table, String content) {
+        this.table = table;
+        this.content = content;
+    }
+
+    public TableMetadata getTable() {
+        return table;
+    }
+
+    public String getContent() {
+        return content;
+    }
+}
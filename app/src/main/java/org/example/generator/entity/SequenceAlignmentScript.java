@@ -0,0 +1,81 @@
+package org.example.generator.entity;
+
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.TableMetadata;
+import org.example.generator.entity.common.IdPolicy;
+import org.example.generator.entity.common.UtilsFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Script SQL que alinea el INCREMENT BY de las secuencias con el allocationSize de los
+ * {@code @SequenceGenerator} generados. El optimizador pooled de Hibernate interpreta cada
+ * nextval como el final de un bloque de allocationSize ids; con un incremento distinto los ids
+ * se solaparían, e Hibernate rechaza el arranque al validar la secuencia.
+ * <p>
+ * Se alimenta tabla a tabla con {@link #add(TableMetadata)}, así sirve también para el modo de
+ * bajo consumo de memoria. Las sentencias se ordenan por tabla para que el script sea estable.
+ */
+public final class SequenceAlignmentScript {
+
+    private final IdPolicy idPolicy;
+    private final Map<String, String> statements = new TreeMap<>();
+
+    public SequenceAlignmentScript(IdPolicy idPolicy) {
+        this.idPolicy = idPolicy;
+    }
+
+    /**
+     * Añade las sentencias de las claves primarias de la tabla que lo necesiten.
+     */
+    public synchronized void add(TableMetadata table) {
+        if (idPolicy.getStrategy() != IdPolicy.Strategy.SEQUENCE || UtilsFactory.needsCompositeKey(table)) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder();
+        for (ColumnMetadata column : table.getColumns()) {
+            if (!table.getPrimaryKeys().contains(column.getColumnName()) || !idPolicy.usesSequence(column)) {
+                continue;
+            }
+            int allocationSize = idPolicy.allocationSize(column);
+            int increment = Math.max(1, column.getSequenceIncrement());
+            if (column.getIdentity() != null) {
+                // La secuencia de una columna identity se modifica a través de la tabla
+                String alter = "ALTER TABLE " + table.getTableName() + " ALTER COLUMN " + column.getColumnName();
+                if (increment != allocationSize) {
+                    sql.append(alter).append(" SET INCREMENT BY ").append(allocationSize).append(";\n");
+                }
+                if (column.getIdentity().equals("ALWAYS")) {
+                    // Hibernate inserta el id obtenido de la secuencia
+                    sql.append(alter).append(" SET GENERATED BY DEFAULT;\n");
+                }
+            } else if (increment != allocationSize) {
+                sql.append("ALTER SEQUENCE ").append(column.getSequenceName())
+                    .append(" INCREMENT BY ").append(allocationSize).append(";\n");
+            }
+        }
+        if (sql.length() > 0) {
+            statements.put(table.getTableName(), sql.toString());
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return statements.isEmpty();
+    }
+
+    /**
+     * @return Contenido del script, o una cadena vacía si no hay nada que alinear
+     */
+    public synchronized String render() {
+        if (statements.isEmpty()) {
+            return "";
+        }
+        StringBuilder script = new StringBuilder()
+            .append("-- Aligns each sequence INCREMENT BY with the allocationSize of its @SequenceGenerator.\n")
+            .append("-- Hibernate's pooled optimizer reserves allocationSize ids per nextval call.\n")
+            .append("-- Apply it as a migration before deploying the generated entities.\n\n");
+        statements.values().forEach(script::append);
+        return script.toString();
+    }
+}
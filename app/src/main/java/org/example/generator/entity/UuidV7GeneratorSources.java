@@ -0,0 +1,89 @@
+package org.example.generator.entity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Clases de soporte que se generan junto a las entidades cuando las claves UUID usan UUIDv7:
+ * la anotación {@value #ANNOTATION}, marcada con {@code @IdGeneratorType}, y el generador
+ * {@value #GENERATOR}.
+ * <p>
+ * Un UUIDv7 empieza por la marca de tiempo en milisegundos, así que los ids consecutivos caen en
+ * la última página del índice B-tree en lugar de en páginas aleatorias como los UUID v4: menos
+ * divisiones de página y menos volumen de WAL en tablas con muchas escrituras.
+ */
+public final class UuidV7GeneratorSources {
+
+    public static final String ANNOTATION = "UuidV7";
+    public static final String GENERATOR = "UuidV7Generator";
+
+    private UuidV7GeneratorSources() {
+    }
+
+    /**
+     * @param packageName Paquete de las entidades
+     * @return Código fuente por nombre simple de clase
+     */
+    public static Map<String, String> render(String packageName) {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put(ANNOTATION, "package " + packageName + ";\n\n" + """
+            import org.hibernate.annotations.IdGeneratorType;
+
+            import java.lang.annotation.ElementType;
+            import java.lang.annotation.Retention;
+            import java.lang.annotation.RetentionPolicy;
+            import java.lang.annotation.Target;
+
+            /**
+             * Primary key generated as a time-ordered UUIDv7 (RFC 9562) by {@link UuidV7Generator}.
+             */
+            @IdGeneratorType(UuidV7Generator.class)
+            @Retention(RetentionPolicy.RUNTIME)
+            @Target({ElementType.FIELD, ElementType.METHOD})
+            public @interface UuidV7 {
+            }
+            """);
+        sources.put(GENERATOR, "package " + packageName + ";\n\n" + """
+            import org.hibernate.engine.spi.SharedSessionContractImplementor;
+            import org.hibernate.generator.BeforeExecutionGenerator;
+            import org.hibernate.generator.EventType;
+            import org.hibernate.generator.EventTypeSets;
+
+            import java.security.SecureRandom;
+            import java.util.EnumSet;
+            import java.util.UUID;
+            import java.util.concurrent.atomic.AtomicLong;
+
+            /**
+             * UUIDv7 generator: 48-bit Unix timestamp in milliseconds, a 12-bit counter that keeps
+             * ids increasing within the same millisecond and 62 random bits.
+             */
+            public class UuidV7Generator implements BeforeExecutionGenerator {
+
+                private static final SecureRandom RANDOM = new SecureRandom();
+                private static final AtomicLong LAST = new AtomicLong();
+
+                @Override
+                public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                                       EventType eventType) {
+                    return next();
+                }
+
+                @Override
+                public EnumSet<EventType> getEventTypes() {
+                    return EventTypeSets.INSERT_ONLY;
+                }
+
+                public static UUID next() {
+                    // Timestamp and counter packed in one value; a full counter moves on to the next millisecond
+                    long now = System.currentTimeMillis() << 12;
+                    long stamp = LAST.updateAndGet(last -> Math.max(last + 1, now));
+                    long msb = ((stamp >>> 12) << 16) | 0x7000L | (stamp & 0x0FFFL);
+                    long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+                    return new UUID(msb, lsb);
+                }
+            }
+            """);
+        return sources;
+    }
+}
@@ -0,0 +1,210 @@
+package org.example.generator.entity.common;
+
+import org.example.configuration.model.EntityConfig;
+import org.example.database.model.ColumnMetadata;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Decide cómo se mapean las columnas a campos de la entidad, a partir de la sección
+ * {@code output.entities} de arch.yml.
+ * <p>
+ * Con {@code primitives: true} las columnas NOT NULL enteras, booleanas y de coma flotante se
+ * generan con tipos primitivos: la entidad no guarda un objeto por valor y los getters y setters
+ * no hacen boxing. Las claves primarias y foráneas conservan el wrapper, porque null indica una
+ * entidad aún no persistida o una referencia sin asignar.
+ * <p>
+ * Con {@code cacheKeyHash: true} las clases de clave compuesta guardan su hashCode tras el
+ * primer cálculo, como String; solo es correcto si la clave no cambia después de usarse, por
+ * eso con Lombok se generan sin {@code @Setter}.
+ * <p>
+ * Con {@code persistable: true} las entidades con clave asignada (compuesta, o simple sin
+ * SERIAL, secuencia ni UUID) implementan {@code Persistable<ID>}. Spring Data decide si una
+ * entidad es nueva mirando si su id es null; con una clave asignada nunca lo es, así que
+ * {@code save()} hace merge y lanza un SELECT antes de cada INSERT. El flag transitorio
+ * {@code isNew}, que se apaga en @PostLoad y @PostPersist, permite hacer persist directamente.
+ * <p>
+ * Con {@code lazyColumns: true} las columnas de valores grandes (por tipo, o VARCHAR/CHAR a partir
+ * de una longitud) se anotan {@code @Basic(fetch = FetchType.LAZY)} y no viajan con cada fila.
+ * Hibernate solo respeta la carga diferida de atributos básicos con bytecode enhancement
+ * ({@link org.example.generator.entity.BytecodeEnhancementSnippet}).
+ * <p>
+ * Forma de las sentencias: {@link DynamicStatements} activa el SQL dinámico de Hibernate por
+ * tabla ({@code @DynamicUpdate} solo escribe las columnas modificadas, {@code @DynamicInsert}
+ * omite las nulas para que apliquen los DEFAULT). Con {@code generatedColumns: true} las columnas
+ * que escribe la base de datos (DEFAULT, identity, calculadas) se excluyen del INSERT y se
+ * releen con {@code @Generated}; las claves y las columnas de {@code immutableColumns} se
+ * excluyen del UPDATE con {@code updatable = false}.
+ */
+public final class EntityPolicy {
+
+    private static final EntityPolicy DEFAULTS = new EntityPolicy(new EntityConfig());
+
+    /**
+     * SQL dinámico de Hibernate de una entidad.
+     */
+    public enum DynamicStatements {
+        NONE, UPDATE, INSERT, BOTH;
+
+        static DynamicStatements parse(String value) {
+            return value == null ? NONE : valueOf(value.trim().toUpperCase());
+        }
+
+        public boolean isDynamicUpdate() {
+            return this == UPDATE || this == BOTH;
+        }
+
+        public boolean isDynamicInsert() {
+            return this == INSERT || this == BOTH;
+        }
+    }
+
+    private final boolean primitives;
+    private final boolean cacheKeyHash;
+    private final boolean persistable;
+    private final boolean lazyColumns;
+    private final Set<String> lazyTypes;
+    private final int lazyLengthThreshold;
+    private final DynamicStatements defaultDynamicStatements;
+    private final Map<String, DynamicStatements> dynamicStatementTables;
+    private final boolean generatedColumns;
+    private final boolean immutableKeys;
+    private final Set<String> immutableColumns;
+
+    private EntityPolicy(EntityConfig config) {
+        this.primitives = config.isPrimitives();
+        this.cacheKeyHash = config.isCacheKeyHash();
+        this.persistable = config.isPersistable();
+        this.lazyColumns = config.isLazyColumns();
+        this.lazyTypes = new TreeSet<>();
+        config.getLazyTypes().forEach(type -> lazyTypes.add(type.trim().toUpperCase()));
+        this.lazyLengthThreshold = Math.max(0, config.getLazyLengthThreshold());
+        this.defaultDynamicStatements = DynamicStatements.parse(config.getDynamicStatements());
+        this.dynamicStatementTables = new HashMap<>();
+        config.getDynamicStatementTables().forEach((table, mode) -> dynamicStatementTables.put(table.toLowerCase(), DynamicStatements.parse(mode)));
+        this.generatedColumns = config.isGeneratedColumns();
+        this.immutableKeys = config.isImmutableKeys();
+        this.immutableColumns = new TreeSet<>();
+        config.getImmutableColumns().forEach(column -> immutableColumns.add(column.trim().toLowerCase()));
+    }
+
+    /**
+     * Política sin reglas del usuario.
+     */
+    public static EntityPolicy defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param config Sección de entidades de arch.yml; null usa la política por defecto
+     */
+    public static EntityPolicy of(EntityConfig config) {
+        return config != null ? new EntityPolicy(config) : DEFAULTS;
+    }
+
+    public boolean isPrimitives() {
+        return primitives;
+    }
+
+    /**
+     * Si las clases de clave compuesta cachean su hashCode.
+     */
+    public boolean isCacheKeyHash() {
+        return cacheKeyHash;
+    }
+
+    /**
+     * Si las entidades con clave asignada implementan Persistable.
+     */
+    public boolean isPersistable() {
+        return persistable;
+    }
+
+    /**
+     * Si las columnas de valores grandes se cargan de forma diferida.
+     */
+    public boolean isLazyColumns() {
+        return lazyColumns;
+    }
+
+    /**
+     * Si la columna es de valores grandes: su tipo está en {@code lazyTypes}, o es VARCHAR/CHAR
+     * con una longitud declarada de al menos {@code lazyLengthThreshold}.
+     */
+    public boolean isLazy(ColumnMetadata column) {
+        if (!lazyColumns) {
+            return false;
+        }
+        String type = column.getColumnType().toUpperCase();
+        int parenthesis = type.indexOf('(');
+        String baseType = (parenthesis >= 0 ? type.substring(0, parenthesis) : type).trim();
+        if (lazyTypes.contains(baseType)) {
+            return true;
+        }
+        if (lazyLengthThreshold > 0 && parenthesis >= 0 && (baseType.equals("VARCHAR") || baseType.equals("CHAR"))) {
+            String length = type.substring(parenthesis + 1).replaceAll("\\D+", "");
+            return !length.isEmpty() && length.length() < 10 && Integer.parseInt(length) >= lazyLengthThreshold;
+        }
+        return false;
+    }
+
+    /**
+     * SQL dinámico de la entidad de una tabla.
+     */
+    public DynamicStatements dynamicStatements(String tableName) {
+        return dynamicStatementTables.getOrDefault(tableName.toLowerCase(), defaultDynamicStatements);
+    }
+
+    /**
+     * Si las columnas que escribe la base de datos se excluyen del INSERT y se anotan @Generated.
+     */
+    public boolean isGeneratedColumns() {
+        return generatedColumns;
+    }
+
+    /**
+     * Si las columnas de la clave primaria se marcan {@code updatable = false}.
+     */
+    public boolean isImmutableKeys() {
+        return immutableKeys;
+    }
+
+    /**
+     * Si la columna está en {@code immutableColumns}, por {@code tabla.columna} o solo por nombre.
+     */
+    public boolean isImmutable(String tableName, String columnName) {
+        if (immutableColumns.isEmpty()) {
+            return false;
+        }
+        String column = columnName.toLowerCase();
+        return immutableColumns.contains(column) || immutableColumns.contains(tableName.toLowerCase() + "." + column);
+    }
+
+    /**
+     * Tipo Java del campo de una columna que no es clave primaria ni foránea: el primitivo si la
+     * política lo permite y la columna es NOT NULL, o el wrapper en otro caso.
+     */
+    public String javaType(ColumnMetadata column) {
+        if (primitives && column.isNotNull()) {
+            String primitive = PostgreSQLToJavaType.getPrimitiveType(column.getColumnType());
+            if (primitive != null) {
+                return primitive;
+            }
+        }
+        return PostgreSQLToJavaType.getJavaType(column.getColumnType());
+    }
+
+    /**
+     * Huella de la política, para regenerar las entidades cuando cambia.
+     */
+    public String fingerprint() {
+        return "primitives=" + primitives + ";cacheKeyHash=" + cacheKeyHash + ";persistable=" + persistable
+            + ";lazyColumns=" + lazyColumns + ";lazyTypes=" + lazyTypes + ";lazyLengthThreshold=" + lazyLengthThreshold
+            + ";dynamicStatements=" + defaultDynamicStatements + ";dynamicStatementTables=" + new TreeMap<>(dynamicStatementTables)
+            + ";generatedColumns=" + generatedColumns + ";immutableKeys=" + immutableKeys + ";immutableColumns=" + immutableColumns;
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.generator.entity.common;
+
+import org.example.configuration.model.IdConfig;
+import org.example.database.model.ColumnMetadata;
+
+/**
+ * Decide cómo se generan los valores de las claves primarias, a partir de la sección
+ * {@code output.ids} de arch.yml.
+ * <p>
+ * Con {@link Strategy#IDENTITY} (por defecto) las claves SERIAL usan
+ * {@code GenerationType.IDENTITY}. Hibernate necesita insertar cada fila para conocer su id, así
+ * que desactiva el batching JDBC de inserts.
+ * <p>
+ * Con {@link Strategy#SEQUENCE} las claves respaldadas por una secuencia (SERIAL, identity o
+ * {@code DEFAULT nextval(...)}) usan {@code @SequenceGenerator} con {@code allocationSize > 1}:
+ * Hibernate aplica el optimizador pooled, reserva un bloque de ids por cada nextval y puede
+ * agrupar los inserts. El INCREMENT BY de la secuencia debe coincidir con el allocationSize;
+ * si el esquema ya declara un incremento mayor que uno se usa ese, y en otro caso se genera un
+ * script de alineación ({@link org.example.generator.entity.SequenceAlignmentScript}).
+ * <p>
+ * Las claves UUID usan por defecto {@code GenerationType.UUID} (versión 4, aleatoria). Con
+ * {@code uuid: v7} se anotan con el generador UUIDv7 que se genera junto a las entidades
+ * ({@link org.example.generator.entity.UuidV7GeneratorSources}).
+ */
+public final class IdPolicy {
+
+    private static final IdPolicy DEFAULTS = new IdPolicy(new IdConfig());
+
+    /**
+     * Generación de las claves respaldadas por una secuencia.
+     */
+    public enum Strategy {
+        IDENTITY, SEQUENCE;
+
+        static Strategy parse(String value) {
+            return value == null ? IDENTITY : valueOf(value.trim().toUpperCase());
+        }
+    }
+
+    private final Strategy strategy;
+    private final int allocationSize;
+    private final boolean uuidV7;
+
+    private IdPolicy(IdConfig config) {
+        this.strategy = Strategy.parse(config.getStrategy());
+        this.allocationSize = Math.max(1, config.getAllocationSize());
+        this.uuidV7 = "v7".equalsIgnoreCase(config.getUuid());
+    }
+
+    /**
+     * Política sin reglas del usuario.
+     */
+    public static IdPolicy defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param config Sección de ids de arch.yml; null usa la política por defecto
+     */
+    public static IdPolicy of(IdConfig config) {
+        return config != null ? new IdPolicy(config) : DEFAULTS;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Si la columna de clave primaria se genera con @SequenceGenerator.
+     */
+    public boolean usesSequence(ColumnMetadata column) {
+        return strategy == Strategy.SEQUENCE && column.getSequenceName() != null;
+    }
+
+    /**
+     * allocationSize del @SequenceGenerator de la columna: el INCREMENT BY declarado si es mayor
+     * que uno, o el configurado.
+     */
+    public int allocationSize(ColumnMetadata column) {
+        return column.getSequenceIncrement() > 1 ? column.getSequenceIncrement() : allocationSize;
+    }
+
+    /**
+     * Si las claves UUID usan el generador UUIDv7.
+     */
+    public boolean isUuidV7() {
+        return uuidV7;
+    }
+
+    /**
+     * Si la columna de clave primaria se anota con el generador UUIDv7.
+     */
+    public boolean usesUuidV7(ColumnMetadata column) {
+        return uuidV7 && column.getColumnType().toUpperCase().contains("UUID");
+    }
+
+    /**
+     * Huella de la política, para regenerar las entidades cuando cambia.
+     */
+    public String fingerprint() {
+        return "strategy=" + strategy + ";allocationSize=" + allocationSize + ";uuidV7=" + uuidV7;
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.generator.entity.common;
+
+import org.example.configuration.model.NamingConfig;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Motor de nombres de clases, campos y plurales. Aplica primero las reglas definidas en la
+ * sección {@code output.naming} de arch.yml y después las convenciones por defecto.
+ * <p>
+ * Cada identificador se calcula una sola vez por ejecución: los resultados se guardan en
+ * tablas de memo, de modo que los distintos generadores (entidades, repositorios, servicios,
+ * controladores) obtienen siempre el mismo nombre sin volver a dividir ni reconstruir cadenas.
+ * Es seguro usarlo desde varios hilos.
+ */
+public final class NamingEngine {
+
+    // Casos especiales en inglés para términos comunes en programación
+    private static final Map<String, String> SPECIAL_PLURALS = Map.of(
+        "user", "users",
+        "person", "people",
+        "child", "children");
+
+    private static volatile NamingEngine active = new NamingEngine(new NamingConfig());
+
+    private final List<String> stripPrefixes;
+    private final Map<String, String> classRules;
+    private final Map<String, String> fieldRules;
+    private final Map<String, String> pluralRules;
+
+    private final Map<String, String> classNames = new ConcurrentHashMap<>();
+    private final Map<String, String> fieldNames = new ConcurrentHashMap<>();
+    private final Map<String, String> plurals = new ConcurrentHashMap<>();
+    private final Map<String, String> collectionFieldNames = new ConcurrentHashMap<>();
+
+    public NamingEngine(NamingConfig rules) {
+        // Los prefijos más largos primero, para que "tbl_app_" gane a "tbl_"
+        List<String> prefixes = new ArrayList<>(rules.getStripPrefixes());
+        prefixes.sort(Comparator.comparingInt(String::length).reversed());
+        this.stripPrefixes = List.copyOf(prefixes);
+        this.classRules = new HashMap<>(rules.getClasses());
+        this.fieldRules = new HashMap<>(rules.getFields());
+        this.pluralRules = new HashMap<>(rules.getPlurals());
+    }
+
+    /**
+     * Motor de la ejecución actual.
+     */
+    public static NamingEngine current() {
+        return active;
+    }
+
+    /**
+     * Instala un motor nuevo, con sus memos vacíos, para la ejecución que empieza.
+     *
+     * @param rules Reglas de arch.yml; null equivale a no tener reglas
+     * @return El motor instalado
+     */
+    public static NamingEngine activate(NamingConfig rules) {
+        NamingEngine engine = new NamingEngine(rules != null ? rules : new NamingConfig());
+        active = engine;
+        return engine;
+    }
+
+    /**
+     * Nombre de la clase de una tabla, en PascalCase.
+     */
+    public String className(String tableName) {
+        return classNames.computeIfAbsent(tableName, this::computeClassName);
+    }
+
+    /**
+     * Nombre del campo de una columna, en camelCase.
+     */
+    public String fieldName(String columnName) {
+        return fieldNames.computeIfAbsent(columnName, this::computeFieldName);
+    }
+
+    /**
+     * Plural de un identificador; las reglas se aplican a su última palabra.
+     */
+    public String plural(String identifier) {
+        if (identifier == null || identifier.isEmpty()) {
+            return identifier;
+        }
+        return plurals.computeIfAbsent(identifier, this::computePlural);
+    }
+
+    /**
+     * Nombre del campo de colección (OneToMany) que apunta a una tabla: el plural de su
+     * clase en camelCase.
+     */
+    public String collectionFieldName(String tableName) {
+        return collectionFieldNames.computeIfAbsent(tableName, table -> {
+            String className = className(table);
+            return plural(Character.toLowerCase(className.charAt(0)) + className.substring(1));
+        });
+    }
+
+    /**
+     * Huella de las reglas, para detectar cambios entre ejecuciones. Vacía si no hay reglas.
+     */
+    public String fingerprint() {
+        if (stripPrefixes.isEmpty() && classRules.isEmpty() && fieldRules.isEmpty() && pluralRules.isEmpty()) {
+            return "";
+        }
+        return "strip=" + stripPrefixes
+            + ";classes=" + new TreeMap<>(classRules)
+            + ";fields=" + new TreeMap<>(fieldRules)
+            + ";plurals=" + new TreeMap<>(pluralRules);
+    }
+
+    private String computeClassName(String tableName) {
+        String explicit = classRules.get(tableName.toLowerCase());
+        if (explicit != null) {
+            return explicit;
+        }
+
+        // Normalizar el nombre: eliminar caracteres no válidos
+        String sanitized = tableName.replaceAll("[^a-zA-Z0-9_]", "_").toLowerCase();
+        for (String prefix : stripPrefixes) {
+            if (sanitized.startsWith(prefix) && sanitized.length() > prefix.length()) {
+                sanitized = sanitized.substring(prefix.length());
+                break;
+            }
+        }
+
+        // Transformar a PascalCase
+        StringBuilder className = new StringBuilder(sanitized.length());
+        boolean capitalizeNext = true;
+        for (int i = 0; i < sanitized.length(); i++) {
+            char c = sanitized.charAt(i);
+            if (c == '_') {
+                capitalizeNext = true;
+            } else {
+                className.append(capitalizeNext ? Character.toUpperCase(c) : c);
+                capitalizeNext = false;
+            }
+        }
+        return className.toString();
+    }
+
+    private String computeFieldName(String columnName) {
+        String explicit = fieldRules.get(columnName.toLowerCase());
+        if (explicit != null) {
+            return explicit;
+        }
+
+        // 1. Convertir a minúsculas y dividir por guiones bajos
+        String[] parts = columnName.toLowerCase().split("_");
+
+        // 2. Determinar si es un campo ID
+        boolean isIdField = parts.length > 0 && parts[parts.length - 1].equals("id");
+
+        // 3. Si es solo "id", retornar directamente
+        if (parts.length == 1 && isIdField) {
+            return "id";
+        }
+
+        // 4. Construir el nombre del campo, ignorando la parte "id" final de un campo ID
+        StringBuilder fieldName = new StringBuilder(columnName.length());
+        int last = isIdField ? parts.length - 1 : parts.length;
+        for (int i = 0; i < last; i++) {
+            String part = parts[i];
+            if (i == 0) {
+                // Primera palabra en minúscula
+                fieldName.append(part);
+            } else if (!part.isEmpty()) {
+                // Capitalizar las siguientes palabras
+                fieldName.append(Character.toUpperCase(part.charAt(0))).append(part, 1, part.length());
+            }
+        }
+
+        // 5. Agregar el sufijo "Id" si es un campo de ID foráneo
+        if (isIdField && parts.length > 1) {
+            fieldName.append("Id");
+        }
+        return fieldName.toString();
+    }
+
+    private String computePlural(String input) {
+        String lower = input.toLowerCase();
+
+        // Reglas del usuario o casos especiales sobre el identificador completo
+        String explicit = pluralRules.get(lower);
+        if (explicit == null) {
+            explicit = SPECIAL_PLURALS.get(lower);
+        }
+        if (explicit != null) {
+            return explicit;
+        }
+
+        // Reglas del usuario sobre la última palabra (snake_case o camelCase)
+        if (!pluralRules.isEmpty()) {
+            int start = lastWordStart(input);
+            if (start > 0) {
+                String word = pluralRules.get(input.substring(start).toLowerCase());
+                if (word != null) {
+                    String head = input.substring(0, start);
+                    return Character.isUpperCase(input.charAt(start))
+                        ? head + Character.toUpperCase(word.charAt(0)) + word.substring(1)
+                        : head + word;
+                }
+            }
+        }
+
+        // Si ya termina en s, retornar como está
+        if (input.endsWith("s")) {
+            return input;
+        }
+
+        // Reglas para español
+        if (input.endsWith("z")) {
+            return input.substring(0, input.length() - 1) + "ces";
+        }
+
+        if (input.endsWith("n") || input.endsWith("l") || input.endsWith("r") ||
+            input.endsWith("d") || input.endsWith("j") ||
+            input.endsWith("ch") || input.endsWith("sh")) {
+            return input + "es";
+        }
+
+        // Regla por defecto
+        return input + "s";
+    }
+
+    private static int lastWordStart(String identifier) {
+        for (int i = identifier.length() - 1; i > 0; i--) {
+            char c = identifier.charAt(i);
+            if (c == '_') {
+                return i + 1;
+            }
+            if (Character.isUpperCase(c)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
@@ -5,14 +5,14 @@ public enum PostgreSQLToJavaType {
     SERIAL("Integer"),
     BIGSERIAL("Long"),
     SMALLSERIAL("Short"),
-    INT("Integer"),
-    INTEGER("Integer"),
-    BIGINT("Long"),
-    SMALLINT("Short"),
+    INT("Integer", "int"),
+    INTEGER("Integer", "int"),
+    BIGINT("Long", "long"),
+    SMALLINT("Short", "short"),
     DECIMAL("BigDecimal"),
     NUMERIC("BigDecimal"),
-    REAL("Float"),
-    DOUBLE("Double"),
+    REAL("Float", "float"),
+    DOUBLE("Double", "double"),
 
     // Texto
     VARCHAR("String"),
@@ -26,8 +26,8 @@ public enum PostgreSQLToJavaType {
     // TIMESTAMPTZ("OffsetDateTime"),
 
     // Booleanos
-    BOOLEAN("Boolean"),
-    BOOL("Boolean"),
+    BOOLEAN("Boolean", "boolean"),
+    BOOL("Boolean", "boolean"),
 
     // Binarios
     BYTE("byte[]"),
@@ -36,9 +36,16 @@ public enum PostgreSQLToJavaType {
     UUID("UUID");
 
     private final String javaType;
+    // Tipo primitivo equivalente; null si el tipo no tiene o es de una columna autogenerada (SERIAL)
+    private final String primitiveType;
 
     PostgreSQLToJavaType(String javaType) {
+        this(javaType, null);
+    }
+
+    PostgreSQLToJavaType(String javaType, String primitiveType) {
         this.javaType = javaType;
+        this.primitiveType = primitiveType;
     }
 
     public String getJavaType() {
@@ -57,6 +64,20 @@ public enum PostgreSQLToJavaType {
         }
     }
 
+    /**
+     * @return El tipo primitivo del tipo PostgreSQL (int, long, short, boolean, float, double),
+     * o null si no tiene equivalente primitivo
+     */
+    public static String getPrimitiveType(String postgresType) {
+        String baseType = postgresType.replaceAll("\\(.*\\)", "").trim().toUpperCase();
+
+        try {
+            return valueOf(baseType).primitiveType;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public static String getImportStatement(String postgresType) {
         String javaType = getJavaType(postgresType);
         switch (javaType) {
@@ -0,0 +1,272 @@
+package org.example.generator.entity.common;
+
+import org.example.common.exception.ConfigurationException;
+import org.example.configuration.model.RelationConfig;
+import org.example.database.model.RelationMetadata;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Decide cómo se mapea cada relación de las entidades generadas, a partir de la sección
+ * {@code output.relations} de arch.yml.
+ * <p>
+ * Por defecto las asociaciones @ManyToOne son LAZY: el EAGER implícito de JPA arrastra toda
+ * la cadena de padres en cada lectura. Se puede volver a EAGER de forma global, por tabla o
+ * por clave foránea.
+ * <p>
+ * El modo de cada tabla decide qué asociaciones se generan:
+ * <ul>
+ *   <li>{@link Mode#BIDIRECTIONAL}: @ManyToOne en la tabla y colecciones @OneToMany hacia las
+ *   tablas que la referencian.</li>
+ *   <li>{@link Mode#UNIDIRECTIONAL}: solo @ManyToOne; la tabla no expone colecciones.</li>
+ *   <li>{@link Mode#NONE}: sus claves foráneas son columnas simples y no expone colecciones.</li>
+ * </ul>
+ * Una tabla referenciada por más de {@code maxInverseCollections} tablas tampoco recibe
+ * colecciones: en tablas muy referenciadas cada colección es un posible N+1 y la cascada
+ * recorre todas en cada merge o delete.
+ * <p>
+ * Las colecciones inversas pueden cargarse en bloque con las extensiones de Hibernate
+ * ({@link CollectionFetch}): al recorrer N padres se inicializan sus colecciones con una consulta
+ * por lote, o con una sola subconsulta, en lugar de una consulta por padre.
+ */
+public final class RelationPolicy {
+
+    public static final String LAZY = "LAZY";
+    public static final String EAGER = "EAGER";
+
+    private static final RelationPolicy DEFAULTS = new RelationPolicy(new RelationConfig());
+
+    /**
+     * Asociaciones que se generan para una tabla.
+     */
+    public enum Mode {
+        BIDIRECTIONAL, UNIDIRECTIONAL, NONE;
+
+        static Mode parse(String key, String value) {
+            if (value == null) {
+                return BIDIRECTIONAL;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new ConfigurationException("'output.relations." + key + "' must be bidirectional, unidirectional or none: " + value);
+            }
+        }
+    }
+
+    /**
+     * Carga de las colecciones inversas.
+     */
+    public enum CollectionFetch {
+        /** Una consulta por colección (comportamiento de JPA). */
+        SELECT,
+        /** {@code @BatchSize}: las colecciones pendientes se cargan por lotes. */
+        BATCH,
+        /** {@code @Fetch(FetchMode.SUBSELECT)}: todas las colecciones pendientes en una consulta. */
+        SUBSELECT;
+
+        static CollectionFetch parse(String key, String value) {
+            if (value == null) {
+                return SELECT;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new ConfigurationException("'output.relations." + key + "' must be select, batch or subselect: " + value);
+            }
+        }
+    }
+
+    private final String defaultFetch;
+    private final Map<String, String> fetchOverrides;
+    private final Mode defaultMode;
+    private final Map<String, Mode> tableModes;
+    private final int maxInverseCollections;
+    private final List<String> cascade;
+    private final boolean orphanRemoval;
+    private final CollectionFetch defaultCollectionFetch;
+    private final int defaultBatchSize;
+    private final Map<String, CollectionFetch> collectionFetchOverrides;
+    private final Map<String, Integer> batchSizeOverrides;
+
+    /**
+     * @throws ConfigurationException Si un tipo de carga, modo o carga de colección no es válido;
+     *                                el mensaje indica la clave de arch.yml y los valores admitidos
+     */
+    private RelationPolicy(RelationConfig config) {
+        this.defaultFetch = parseFetch("fetch", config.getFetch());
+        this.fetchOverrides = new HashMap<>();
+        config.getFetchOverrides().forEach((key, value) ->
+            fetchOverrides.put(key.toLowerCase(), parseFetch("fetchOverrides." + key, value)));
+        this.defaultMode = Mode.parse("mode", config.getMode());
+        this.tableModes = new HashMap<>();
+        config.getTables().forEach((table, mode) -> tableModes.put(table.toLowerCase(), Mode.parse("tables." + table, mode)));
+        this.maxInverseCollections = Math.max(0, config.getMaxInverseCollections());
+        this.cascade = List.copyOf(config.getCascade());
+        this.orphanRemoval = config.isOrphanRemoval();
+        this.defaultCollectionFetch = CollectionFetch.parse("collectionFetch", config.getCollectionFetch());
+        this.defaultBatchSize = Math.max(1, config.getBatchSize());
+        this.collectionFetchOverrides = new HashMap<>();
+        this.batchSizeOverrides = new HashMap<>();
+        config.getCollectionFetchOverrides().forEach((key, value) -> {
+            String relation = key.toLowerCase();
+            String fetch = value.trim();
+            // Un número equivale a "batch" con ese tamaño de lote
+            if (!fetch.isEmpty() && fetch.chars().allMatch(Character::isDigit)) {
+                collectionFetchOverrides.put(relation, CollectionFetch.BATCH);
+                batchSizeOverrides.put(relation, Math.max(1, Integer.parseInt(fetch)));
+            } else {
+                try {
+                    collectionFetchOverrides.put(relation, CollectionFetch.valueOf(fetch.toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    throw new ConfigurationException("'output.relations.collectionFetchOverrides." + key
+                        + "' must be select, batch, subselect or a batch size: " + value);
+                }
+            }
+        });
+    }
+
+    /**
+     * El tipo de carga se escribe tal cual en {@code FetchType.X}: solo se admiten LAZY y EAGER.
+     */
+    private static String parseFetch(String key, String value) {
+        if (value == null) {
+            return LAZY;
+        }
+        String fetch = value.trim().toUpperCase();
+        if (!fetch.equals(LAZY) && !fetch.equals(EAGER)) {
+            throw new ConfigurationException("'output.relations." + key + "' must be LAZY or EAGER: " + value);
+        }
+        return fetch;
+    }
+
+    /**
+     * Política sin reglas del usuario.
+     */
+    public static RelationPolicy defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param config Sección de relaciones de arch.yml; null usa la política por defecto
+     * @throws ConfigurationException Si la sección tiene un valor no admitido
+     */
+    public static RelationPolicy of(RelationConfig config) {
+        return config != null ? new RelationPolicy(config) : DEFAULTS;
+    }
+
+    /**
+     * Tipo de carga (LAZY o EAGER) de la relación ManyToOne de una tabla.
+     *
+     * @param tableName Tabla que contiene la clave foránea
+     * @param relation  Relación ManyToOne
+     */
+    public String fetchType(String tableName, RelationMetadata relation) {
+        if (!fetchOverrides.isEmpty()) {
+            String table = tableName.toLowerCase();
+            String fetch = fetchOverrides.get(table + "." + relation.getSourceColumn().toLowerCase());
+            if (fetch == null) {
+                fetch = fetchOverrides.get(table);
+            }
+            if (fetch != null) {
+                return fetch;
+            }
+        }
+        return defaultFetch;
+    }
+
+    /**
+     * Modo de relación de una tabla.
+     */
+    public Mode mode(String tableName) {
+        return tableModes.getOrDefault(tableName.toLowerCase(), defaultMode);
+    }
+
+    /**
+     * Si las claves foráneas de la tabla se generan como @ManyToOne.
+     */
+    public boolean mapsForeignKeys(String tableName) {
+        return mode(tableName) != Mode.NONE;
+    }
+
+    /**
+     * Si la tabla padre recibe la colección @OneToMany hacia una tabla que la referencia.
+     *
+     * @param parentTable Tabla referenciada
+     * @param childTable  Tabla que contiene la clave foránea
+     * @param fanIn       Número de tablas distintas que referencian a la tabla padre
+     */
+    public boolean generatesCollection(String parentTable, String childTable, int fanIn) {
+        return mode(parentTable) == Mode.BIDIRECTIONAL
+            && mapsForeignKeys(childTable)
+            && (maxInverseCollections == 0 || fanIn <= maxInverseCollections);
+    }
+
+    /**
+     * Tipos de cascada de las colecciones inversas; vacío si no llevan cascada.
+     */
+    public List<String> getCascade() {
+        return cascade;
+    }
+
+    /**
+     * Si las colecciones inversas llevan orphanRemoval.
+     */
+    public boolean isOrphanRemoval() {
+        return orphanRemoval;
+    }
+
+    /**
+     * Carga de la colección inversa de la tabla padre hacia una tabla que la referencia.
+     * Las reglas se buscan por {@code padre.hija} y después por {@code padre}.
+     *
+     * @param parentTable Tabla referenciada, que contiene la colección
+     * @param childTable  Tabla que contiene la clave foránea
+     */
+    public CollectionFetch collectionFetch(String parentTable, String childTable) {
+        if (!collectionFetchOverrides.isEmpty()) {
+            String parent = parentTable.toLowerCase();
+            CollectionFetch fetch = collectionFetchOverrides.get(parent + "." + childTable.toLowerCase());
+            if (fetch == null) {
+                fetch = collectionFetchOverrides.get(parent);
+            }
+            if (fetch != null) {
+                return fetch;
+            }
+        }
+        return defaultCollectionFetch;
+    }
+
+    /**
+     * Tamaño de lote de la colección inversa cuando su carga es {@link CollectionFetch#BATCH}.
+     */
+    public int batchSize(String parentTable, String childTable) {
+        if (!batchSizeOverrides.isEmpty()) {
+            String parent = parentTable.toLowerCase();
+            Integer size = batchSizeOverrides.get(parent + "." + childTable.toLowerCase());
+            if (size == null && !collectionFetchOverrides.containsKey(parent + "." + childTable.toLowerCase())) {
+                size = batchSizeOverrides.get(parent);
+            }
+            if (size != null) {
+                return size;
+            }
+        }
+        return defaultBatchSize;
+    }
+
+    /**
+     * Huella de la política, para regenerar las entidades cuando cambia.
+     */
+    public String fingerprint() {
+        return "fetch=" + defaultFetch + ";fetchOverrides=" + new TreeMap<>(fetchOverrides)
+            + ";mode=" + defaultMode + ";tables=" + new TreeMap<>(tableModes)
+            + ";maxInverseCollections=" + maxInverseCollections
+            + ";cascade=" + cascade + ";orphanRemoval=" + orphanRemoval
+            + ";collectionFetch=" + defaultCollectionFetch + ";batchSize=" + defaultBatchSize
+            + ";collectionFetchOverrides=" + new TreeMap<>(collectionFetchOverrides)
+            + ";batchSizeOverrides=" + new TreeMap<>(batchSizeOverrides);
+    }
+}
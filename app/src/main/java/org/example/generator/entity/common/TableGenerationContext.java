@@ -0,0 +1,339 @@
+package org.example.generator.entity.common;
+
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.RelationMetadata;
+import org.example.database.model.TableMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Datos derivados de una tabla que comparten todos los generadores de su entidad. Se calcula
+ * una sola vez por tabla, de modo que las comprobaciones por columna (si es clave primaria,
+ * si es FK de una relación ManyToOne, buscar una columna por nombre) son consultas a un
+ * conjunto o mapa en lugar de recorrer listas. En tablas con cientos de columnas el recorrido
+ * por columna hacía la generación cuadrática.
+ * <p>
+ * También aplica la {@link RelationPolicy}: {@link #getRelations()} solo devuelve las relaciones
+ * que se generan como asociaciones, así que los generadores no repiten esa decisión.
+ * <p>
+ * Es inmutable mientras no se modifiquen los metadatos de la tabla.
+ */
+public final class TableGenerationContext {
+
+    private final TableMetadata table;
+    private final String className;
+    private final boolean compositeKey;
+    private final Set<String> primaryKeys;
+    private final List<RelationMetadata> relations;
+    private final Set<String> manyToOneColumns;
+    private final Map<String, ColumnMetadata> columnsByName;
+    private final Map<String, ColumnMetadata> columnsByLowerName;
+    private final boolean generatedPrimaryKey;
+    private final boolean sequencePrimaryKey;
+    private final boolean assignedPrimaryKey;
+    private final RelationPolicy relationPolicy;
+    private final IdPolicy idPolicy;
+    private final EntityPolicy entityPolicy;
+    private final Set<String> foreignKeyColumns;
+
+    private TableGenerationContext(TableMetadata table, RelationPolicy relationPolicy, IdPolicy idPolicy,
+                                   EntityPolicy entityPolicy) {
+        this.table = table;
+        this.relationPolicy = relationPolicy;
+        this.idPolicy = idPolicy;
+        this.entityPolicy = entityPolicy;
+        this.className = UtilsFactory.generateClassName(table.getTableName());
+        this.compositeKey = UtilsFactory.needsCompositeKey(table);
+        this.primaryKeys = Collections.unmodifiableSet(new HashSet<>(table.getPrimaryKeys()));
+
+        // Número de tablas distintas que referencian a esta tabla
+        Set<String> referencingTables = new HashSet<>();
+        for (RelationMetadata relation : table.getRelations()) {
+            if (!relation.isManyToOne()) {
+                referencingTables.add(relation.getTargetTable().toLowerCase());
+            }
+        }
+
+        List<RelationMetadata> mapped = new ArrayList<>(table.getRelations().size());
+        Set<String> manyToOne = new HashSet<>();
+        Set<String> foreignKeys = new HashSet<>();
+        boolean mapsForeignKeys = relationPolicy.mapsForeignKeys(table.getTableName());
+        for (RelationMetadata relation : table.getRelations()) {
+            if (relation.isManyToOne()) {
+                foreignKeys.add(relation.getSourceColumn());
+                if (mapsForeignKeys) {
+                    mapped.add(relation);
+                    manyToOne.add(relation.getSourceColumn());
+                }
+            } else if (relationPolicy.generatesCollection(table.getTableName(), relation.getTargetTable(), referencingTables.size())) {
+                mapped.add(relation);
+            }
+        }
+        this.relations = Collections.unmodifiableList(mapped);
+        this.manyToOneColumns = Collections.unmodifiableSet(manyToOne);
+        this.foreignKeyColumns = Collections.unmodifiableSet(foreignKeys);
+
+        Map<String, ColumnMetadata> byName = new HashMap<>();
+        Map<String, ColumnMetadata> byLowerName = new HashMap<>();
+        boolean generated = false;
+        boolean sequence = false;
+        boolean uuid = false;
+        for (ColumnMetadata column : table.getColumns()) {
+            // Ante nombres repetidos gana la primera columna, como en la búsqueda lineal
+            byName.putIfAbsent(column.getColumnName(), column);
+            byLowerName.putIfAbsent(column.getColumnName().toLowerCase(), column);
+            if (primaryKeys.contains(column.getColumnName())) {
+                String type = column.getColumnType().toUpperCase();
+                generated |= type.contains("SERIAL") || (type.contains("UUID") && !idPolicy.usesUuidV7(column));
+                sequence |= !compositeKey && idPolicy.usesSequence(column);
+                uuid |= type.contains("UUID");
+            }
+        }
+        this.columnsByName = Collections.unmodifiableMap(byName);
+        this.columnsByLowerName = Collections.unmodifiableMap(byLowerName);
+        this.generatedPrimaryKey = generated || sequence;
+        this.sequencePrimaryKey = sequence;
+        this.assignedPrimaryKey = compositeKey || (!primaryKeys.isEmpty() && !generated && !sequence && !uuid);
+    }
+
+    /**
+     * Calcula el contexto de generación de la tabla con la política de relaciones por defecto.
+     */
+    public static TableGenerationContext of(TableMetadata table) {
+        return of(table, RelationPolicy.defaults());
+    }
+
+    /**
+     * Calcula el contexto de generación de la tabla.
+     */
+    public static TableGenerationContext of(TableMetadata table, RelationPolicy relationPolicy) {
+        return of(table, relationPolicy, IdPolicy.defaults());
+    }
+
+    /**
+     * Calcula el contexto de generación de la tabla con sus políticas de relaciones y de ids.
+     */
+    public static TableGenerationContext of(TableMetadata table, RelationPolicy relationPolicy, IdPolicy idPolicy) {
+        return of(table, relationPolicy, idPolicy, EntityPolicy.defaults());
+    }
+
+    /**
+     * Calcula el contexto de generación de la tabla con todas sus políticas.
+     */
+    public static TableGenerationContext of(TableMetadata table, RelationPolicy relationPolicy, IdPolicy idPolicy,
+                                            EntityPolicy entityPolicy) {
+        return new TableGenerationContext(table, relationPolicy, idPolicy, entityPolicy);
+    }
+
+    public TableMetadata getTable() {
+        return table;
+    }
+
+    /**
+     * Nombre de la clase de la entidad.
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Si la tabla necesita una clase de clave compuesta (@EmbeddedId).
+     */
+    public boolean isCompositeKey() {
+        return compositeKey;
+    }
+
+    public boolean isPrimaryKey(String columnName) {
+        return primaryKeys.contains(columnName);
+    }
+
+    /**
+     * Relaciones que se generan como asociaciones (@ManyToOne o colección @OneToMany), en el
+     * orden de la tabla.
+     */
+    public List<RelationMetadata> getRelations() {
+        return relations;
+    }
+
+    /**
+     * Si la columna es la columna de origen de una relación ManyToOne generada como
+     * asociación; si no, se genera como columna simple.
+     */
+    public boolean isManyToOneColumn(String columnName) {
+        return manyToOneColumns.contains(columnName);
+    }
+
+    /**
+     * @return La columna con ese nombre exacto, o null si no existe
+     */
+    public ColumnMetadata getColumn(String columnName) {
+        return columnsByName.get(columnName);
+    }
+
+    /**
+     * @return La columna con ese nombre sin distinguir mayúsculas, o null si no existe
+     */
+    public ColumnMetadata findColumnIgnoreCase(String columnName) {
+        return columnsByLowerName.get(columnName.toLowerCase());
+    }
+
+    /**
+     * Tipo de carga (LAZY o EAGER) de una relación ManyToOne de la tabla.
+     */
+    public String getFetchType(RelationMetadata relation) {
+        return relationPolicy.fetchType(table.getTableName(), relation);
+    }
+
+    /**
+     * Carga de la colección inversa hacia la tabla que referencia a esta.
+     */
+    public RelationPolicy.CollectionFetch getCollectionFetch(RelationMetadata relation) {
+        return relationPolicy.collectionFetch(table.getTableName(), relation.getTargetTable());
+    }
+
+    /**
+     * Tamaño de lote de la colección inversa cuando se carga con @BatchSize.
+     */
+    public int getBatchSize(RelationMetadata relation) {
+        return relationPolicy.batchSize(table.getTableName(), relation.getTargetTable());
+    }
+
+    /**
+     * Política de relaciones con la que se generó el contexto.
+     */
+    public RelationPolicy getRelationPolicy() {
+        return relationPolicy;
+    }
+
+    /**
+     * Política de generación de ids con la que se generó el contexto.
+     */
+    public IdPolicy getIdPolicy() {
+        return idPolicy;
+    }
+
+    /**
+     * Política de mapeo de columnas con la que se generó el contexto.
+     */
+    public EntityPolicy getEntityPolicy() {
+        return entityPolicy;
+    }
+
+    /**
+     * Tipo Java del campo de la columna. Las claves primarias y foráneas usan siempre el wrapper;
+     * el resto puede ser primitivo según la {@link EntityPolicy}.
+     */
+    public String getJavaType(ColumnMetadata column) {
+        String columnName = column.getColumnName();
+        if (primaryKeys.contains(columnName) || foreignKeyColumns.contains(columnName)) {
+            return PostgreSQLToJavaType.getJavaType(column.getColumnType());
+        }
+        return entityPolicy.javaType(column);
+    }
+
+    /**
+     * Si la columna se genera como atributo básico LAZY. Las claves primarias y foráneas se
+     * cargan siempre con la fila.
+     */
+    public boolean isLazyColumn(ColumnMetadata column) {
+        String columnName = column.getColumnName();
+        return !primaryKeys.contains(columnName) && !foreignKeyColumns.contains(columnName) && entityPolicy.isLazy(column);
+    }
+
+    /**
+     * Si la entidad tiene algún atributo básico LAZY.
+     */
+    public boolean hasLazyColumns() {
+        if (!entityPolicy.isLazyColumns()) {
+            return false;
+        }
+        for (ColumnMetadata column : table.getColumns()) {
+            if (isLazyColumn(column)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * SQL dinámico (@DynamicUpdate / @DynamicInsert) de la entidad.
+     */
+    public EntityPolicy.DynamicStatements getDynamicStatements() {
+        return entityPolicy.dynamicStatements(table.getTableName());
+    }
+
+    /**
+     * Si la base de datos escribe el valor de la columna al insertar (DEFAULT, identity o
+     * calculada) y la política pide excluirla del INSERT. Las claves se tratan aparte: su valor
+     * lo genera @GeneratedValue o lo asigna la aplicación.
+     */
+    public boolean isGeneratedColumn(ColumnMetadata column) {
+        String columnName = column.getColumnName();
+        if (!entityPolicy.isGeneratedColumns() || primaryKeys.contains(columnName) || foreignKeyColumns.contains(columnName)) {
+            return false;
+        }
+        return column.isComputed() || column.getDefaultValue() != null || column.getIdentity() != null;
+    }
+
+    /**
+     * Si la columna no debe aparecer en los UPDATE: calculada, clave primaria (con
+     * {@code immutableKeys}) o declarada en {@code immutableColumns}.
+     */
+    public boolean isImmutableColumn(ColumnMetadata column) {
+        String columnName = column.getColumnName();
+        return column.isComputed()
+            || (entityPolicy.isImmutableKeys() && primaryKeys.contains(columnName))
+            || entityPolicy.isImmutable(table.getTableName(), columnName);
+    }
+
+    /**
+     * Si alguna columna de la clave primaria lleva @GeneratedValue: SERIAL, UUID (salvo con
+     * UUIDv7) o, con la estrategia de secuencias, cualquier columna respaldada por una secuencia.
+     */
+    public boolean hasGeneratedPrimaryKey() {
+        return generatedPrimaryKey;
+    }
+
+    /**
+     * Si la clave primaria se genera con @SequenceGenerator.
+     */
+    public boolean hasSequencePrimaryKey() {
+        return sequencePrimaryKey;
+    }
+
+    /**
+     * Si la clave la asigna la aplicación: compuesta, o simple sin SERIAL, secuencia ni UUID.
+     */
+    public boolean isAssignedPrimaryKey() {
+        return assignedPrimaryKey;
+    }
+
+    /**
+     * Si la entidad implementa Persistable: la política lo pide y la clave la asigna la
+     * aplicación (compuesta, o simple sin SERIAL, secuencia ni UUID).
+     */
+    public boolean isPersistable() {
+        return entityPolicy.isPersistable() && assignedPrimaryKey;
+    }
+
+    /**
+     * Tipo Java del id de la entidad: la clase @EmbeddedId (calificada, para poder usarla en la
+     * cabecera de la clase) o el wrapper de la clave simple; null si la tabla no tiene clave primaria.
+     */
+    public String getIdType() {
+        if (compositeKey) {
+            return className + "." + className + "Id";
+        }
+        if (primaryKeys.isEmpty()) {
+            return null;
+        }
+        ColumnMetadata column = columnsByName.get(table.getPrimaryKeys().get(0));
+        return column != null ? PostgreSQLToJavaType.getJavaType(column.getColumnType()) : null;
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.generator.entity.factory;
 
 import org.example.database.model.*;
+import org.example.generator.entity.common.EntityPolicy;
+import org.example.generator.entity.common.TableGenerationContext;
 import org.example.generator.entity.common.UtilsFactory;
 
 import java.util.*;
@@ -14,35 +16,59 @@ public class ClassAnnotationGenerator {
         this.useLombok = useLombok;
     }
 
-    public void generateClassAnnotations(TableMetadata table, StringBuilder builder) {
+    public void generateClassAnnotations(TableGenerationContext context, StringBuilder builder) {
+        TableMetadata table = context.getTable();
         builder.append("@Entity\n");
 
         if (useLombok) {
             builder.append("@Getter\n");
             builder.append("@Setter\n");
 
-            List<String> foreignKeyFields = table.getRelations().stream()
-                .filter(RelationMetadata::isManyToOne)
-                .map(relation -> UtilsFactory.generateFieldName(relation.getSourceColumn()))
-                .collect(Collectors.toList());
+            // Las asociaciones son proxies LAZY (ManyToOne) o colecciones diferidas (OneToMany):
+            // toString no debe recorrerlas para que un log no dispare su inicialización
+            Set<String> excludedFields = new LinkedHashSet<>();
+            for (RelationMetadata relation : context.getRelations()) {
+                excludedFields.add(relation.isManyToOne()
+                    ? UtilsFactory.generateFieldName(relation.getSourceColumn())
+                    : UtilsFactory.generateCollectionFieldName(relation.getTargetTable()));
+            }
+            // Igual con los atributos LAZY: leerlos en toString lanza una consulta por campo
+            for (ColumnMetadata column : table.getColumns()) {
+                if (context.isLazyColumn(column)) {
+                    excludedFields.add(UtilsFactory.generateFieldName(column.getColumnName()));
+                }
+            }
 
-            boolean hasMapsId = table.getRelations().stream()
-                .filter(RelationMetadata::isManyToOne)
-                .anyMatch(rel -> table.getPrimaryKeys().contains(rel.getSourceColumn()));
+            // El flag isNew de Persistable es estado interno, no un dato de la entidad. Se excluye
+            // aquí y no con @ToString.Exclude: Lombok ignora esa anotación si hay exclude = {...}
+            if (context.isPersistable()) {
+                excludedFields.add("isNew");
+            }
 
-            if (!foreignKeyFields.isEmpty() && !hasMapsId) {
+            if (!excludedFields.isEmpty()) {
                 builder.append("@ToString(exclude = {");
-                for (int i = 0; i < foreignKeyFields.size(); i++) {
-                    builder.append("\"").append(foreignKeyFields.get(i)).append("\"");
-                    if (i < foreignKeyFields.size() - 1) builder.append(", ");
-                }
+                builder.append(excludedFields.stream()
+                    .map(field -> "\"" + field + "\"")
+                    .collect(Collectors.joining(", ")));
                 builder.append("})\n");
             } else {
                 builder.append("@ToString\n");
             }
 
             builder.append("@NoArgsConstructor\n");
-            builder.append("@AllArgsConstructor\n");
+            // En las entidades Persistable el constructor se declara sin el flag isNew
+            if (!context.isPersistable()) {
+                builder.append("@AllArgsConstructor\n");
+            }
+        }
+
+        // SQL dinámico: UPDATE solo con las columnas modificadas, INSERT sin las nulas
+        EntityPolicy.DynamicStatements dynamicStatements = context.getDynamicStatements();
+        if (dynamicStatements.isDynamicUpdate()) {
+            builder.append("@DynamicUpdate\n");
+        }
+        if (dynamicStatements.isDynamicInsert()) {
+            builder.append("@DynamicInsert\n");
         }
 
         String tableName = table.getTableName().toLowerCase();
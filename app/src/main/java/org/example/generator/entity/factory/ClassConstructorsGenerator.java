@@ -3,13 +3,13 @@ package org.example.generator.entity.factory;
 import org.example.database.model.ColumnMetadata;
 import org.example.database.model.RelationMetadata;
 import org.example.database.model.TableMetadata;
-import org.example.generator.entity.common.PostgreSQLToJavaType;
+import org.example.generator.entity.common.TableGenerationContext;
 import org.example.generator.entity.common.UtilsFactory;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 public class ClassConstructorsGenerator {
 
@@ -19,12 +19,19 @@ public class ClassConstructorsGenerator {
         this.useLombok = useLombok;
     }
 
-    public void generateConstructors(TableMetadata table, String className, StringBuilder builder) {
-        // Si Lombok está habilitado, no generar constructores
+    public void generateConstructors(TableGenerationContext context, StringBuilder builder) {
+        // Con Lombok los constructores salen de @NoArgsConstructor y @AllArgsConstructor, salvo
+        // en las entidades Persistable: el flag isNew no debe ser un parámetro del constructor
         if (useLombok) {
+            if (context.isPersistable()) {
+                generateLombokAllArgsConstructor(context, builder);
+            }
             return;
         }
 
+        TableMetadata table = context.getTable();
+        String className = context.getClassName();
+
         // Constructor vacío
         builder.append("    public ").append(className).append("() {}\n\n");
 
@@ -33,26 +40,23 @@ public class ClassConstructorsGenerator {
 
         List<String> constructorParams = new ArrayList<>();
 
-        if (UtilsFactory.needsCompositeKey(table)) {
+        if (context.isCompositeKey()) {
             constructorParams.add(className + "Id id");
 
             // Agregar campos no-FK y no-PK
             for (ColumnMetadata column : table.getColumns()) {
-                boolean isForeignKey = table.getRelations().stream()
-                    .anyMatch(rel -> rel.getSourceColumn().equals(column.getColumnName()) && rel.isManyToOne());
-                if (!table.getPrimaryKeys().contains(column.getColumnName()) && !isForeignKey) {
-                    String javaType = PostgreSQLToJavaType.getJavaType(column.getColumnType());
+                boolean isForeignKey = context.isManyToOneColumn(column.getColumnName());
+                if (!context.isPrimaryKey(column.getColumnName()) && !isForeignKey) {
+                    String javaType = context.getJavaType(column);
                     String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
                     constructorParams.add(javaType + " " + fieldName);
                 }
             }
 
             // Agregar campos FK (relaciones ManyToOne)
-            for (RelationMetadata relation : table.getRelations()) {
+            for (RelationMetadata relation : context.getRelations()) {
                 if (relation.isManyToOne()) {
-                    String targetClass = Arrays.stream(relation.getTargetTable().toLowerCase().split("_"))
-                        .map(word -> Character.toUpperCase(word.charAt(0)) + word.substring(1))
-                        .collect(Collectors.joining());
+                    String targetClass = UtilsFactory.generateClassName(relation.getTargetTable());
                     String fieldName = UtilsFactory.generateFieldName(relation.getSourceColumn());
                     constructorParams.add(targetClass + " " + fieldName);
                 }
@@ -65,16 +69,15 @@ public class ClassConstructorsGenerator {
 
             // Asignar campos no-FK y no-PK
             for (ColumnMetadata column : table.getColumns()) {
-                boolean isForeignKey = table.getRelations().stream()
-                    .anyMatch(rel -> rel.getSourceColumn().equals(column.getColumnName()) && rel.isManyToOne());
-                if (!table.getPrimaryKeys().contains(column.getColumnName()) && !isForeignKey) {
+                boolean isForeignKey = context.isManyToOneColumn(column.getColumnName());
+                if (!context.isPrimaryKey(column.getColumnName()) && !isForeignKey) {
                     String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
                     builder.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
                 }
             }
 
             // Asignar campos FK
-            for (RelationMetadata relation : table.getRelations()) {
+            for (RelationMetadata relation : context.getRelations()) {
                 if (relation.isManyToOne()) {
                     String fieldName = UtilsFactory.generateFieldName(relation.getSourceColumn());
                     builder.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
@@ -83,21 +86,18 @@ public class ClassConstructorsGenerator {
         } else {
             // Agregar campos no-FK
             for (ColumnMetadata column : table.getColumns()) {
-                boolean isForeignKey = table.getRelations().stream()
-                    .anyMatch(rel -> rel.getSourceColumn().equals(column.getColumnName()) && rel.isManyToOne());
+                boolean isForeignKey = context.isManyToOneColumn(column.getColumnName());
                 if (!isForeignKey) {
-                    String javaType = PostgreSQLToJavaType.getJavaType(column.getColumnType());
+                    String javaType = context.getJavaType(column);
                     String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
                     constructorParams.add(javaType + " " + fieldName);
                 }
             }
 
             // Agregar campos FK (relaciones ManyToOne)
-            for (RelationMetadata relation : table.getRelations()) {
+            for (RelationMetadata relation : context.getRelations()) {
                 if (relation.isManyToOne()) {
-                    String targetClass = Arrays.stream(relation.getTargetTable().toLowerCase().split("_"))
-                        .map(word -> Character.toUpperCase(word.charAt(0)) + word.substring(1))
-                        .collect(Collectors.joining());
+                    String targetClass = UtilsFactory.generateClassName(relation.getTargetTable());
                     String fieldName = UtilsFactory.generateFieldName(relation.getSourceColumn());
                     constructorParams.add(targetClass + " " + fieldName);
                 }
@@ -108,8 +108,7 @@ public class ClassConstructorsGenerator {
 
             // Asignar campos no-FK
             for (ColumnMetadata column : table.getColumns()) {
-                boolean isForeignKey = table.getRelations().stream()
-                    .anyMatch(rel -> rel.getSourceColumn().equals(column.getColumnName()) && rel.isManyToOne());
+                boolean isForeignKey = context.isManyToOneColumn(column.getColumnName());
                 if (!isForeignKey) {
                     String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
                     builder.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
@@ -117,7 +116,7 @@ public class ClassConstructorsGenerator {
             }
 
             // Asignar campos FK
-            for (RelationMetadata relation : table.getRelations()) {
+            for (RelationMetadata relation : context.getRelations()) {
                 if (relation.isManyToOne()) {
                     String fieldName = UtilsFactory.generateFieldName(relation.getSourceColumn());
                     builder.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
@@ -127,4 +126,56 @@ public class ClassConstructorsGenerator {
 
         builder.append("    }\n\n");
     }
-}
\ No newline at end of file
+
+    /**
+     * Mismo constructor que generaría {@code @AllArgsConstructor} (todos los campos en el orden en
+     * que se declaran, colecciones incluidas) pero sin el flag {@code isNew}, para no cambiar la
+     * firma que ya usa el código existente.
+     */
+    private void generateLombokAllArgsConstructor(TableGenerationContext context, StringBuilder builder) {
+        TableMetadata table = context.getTable();
+        String className = context.getClassName();
+        boolean compositeKey = context.isCompositeKey();
+
+        // Tipo de cada campo por nombre, en el orden de ClassCoreGenerator.generateFields
+        List<String> fieldNames = new ArrayList<>();
+        List<String> fieldTypes = new ArrayList<>();
+        if (compositeKey) {
+            fieldNames.add("id");
+            fieldTypes.add(className + "Id");
+        }
+        for (ColumnMetadata column : table.getColumns()) {
+            boolean isForeignKey = context.isManyToOneColumn(column.getColumnName());
+            if (!isForeignKey && !(compositeKey && context.isPrimaryKey(column.getColumnName()))) {
+                fieldNames.add(UtilsFactory.generateFieldName(column.getColumnName()));
+                fieldTypes.add(context.getJavaType(column));
+            }
+        }
+        Set<String> collectionFields = new LinkedHashSet<>();
+        for (RelationMetadata relation : context.getRelations()) {
+            String targetClass = UtilsFactory.generateClassName(relation.getTargetTable());
+            if (relation.isManyToOne()) {
+                fieldNames.add(UtilsFactory.generateFieldName(relation.getSourceColumn()));
+                fieldTypes.add(targetClass);
+            } else {
+                String pluralFieldName = UtilsFactory.generateCollectionFieldName(relation.getTargetTable());
+                if (collectionFields.add(pluralFieldName)) {
+                    fieldNames.add(pluralFieldName);
+                    fieldTypes.add("Set<" + targetClass + ">");
+                }
+            }
+        }
+
+        List<String> constructorParams = new ArrayList<>();
+        for (int i = 0; i < fieldNames.size(); i++) {
+            constructorParams.add(fieldTypes.get(i) + " " + fieldNames.get(i));
+        }
+        builder.append("    public ").append(className).append("(")
+            .append(String.join(", ", constructorParams))
+            .append(") {\n");
+        for (String fieldName : fieldNames) {
+            builder.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
+        }
+        builder.append("    }\n\n");
+    }
+}
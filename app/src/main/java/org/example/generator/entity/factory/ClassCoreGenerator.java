@@ -1,63 +1,67 @@
 package org.example.generator.entity.factory;
 
+import org.example.database.graph.ForeignKeyGraph;
 import org.example.database.model.ColumnMetadata;
 import org.example.database.model.RelationMetadata;
 import org.example.database.model.TableMetadata;
-import org.example.generator.entity.common.PostgreSQLToJavaType;
+import org.example.generator.entity.common.RelationPolicy;
+import org.example.generator.entity.common.TableGenerationContext;
 import org.example.generator.entity.common.UtilsFactory;
 
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 public class ClassCoreGenerator {
 
-    public void generateClassDeclaration(String className, TableMetadata table, StringBuilder builder) {
-        // Si la clase tiene clave compuesta, debe implementar Serializable
-        if (UtilsFactory.needsCompositeKey(table)) {
-            builder.append("public class ").append(className)
-                .append(" {\n\n");
-        } else {
-            builder.append("public class ").append(className).append(" {\n\n");
-        }
+    private final ForeignKeyGraph foreignKeyGraph;
+
+    public ClassCoreGenerator() {
+        this(null);
     }
 
-    public void generateFields(TableMetadata table, StringBuilder builder) {
-        Set<String> foreignKeyColumns = new HashSet<>();
-        Set<String> processedOneToManyFields = new HashSet<>();
+    /**
+     * @param foreignKeyGraph Grafo de claves foráneas del esquema, usado para detectar relaciones
+     *                        dentro de un ciclo; puede ser null si no está disponible
+     */
+    public ClassCoreGenerator(ForeignKeyGraph foreignKeyGraph) {
+        this.foreignKeyGraph = foreignKeyGraph;
+    }
 
-        // Recolectar las columnas que son FKs de relaciones ManyToOne
-        for (RelationMetadata relation : table.getRelations()) {
-            if (relation.isManyToOne()) {
-                foreignKeyColumns.add(relation.getSourceColumn());
-            }
+    public void generateClassDeclaration(TableGenerationContext context, StringBuilder builder) {
+        builder.append("public class ").append(context.getClassName());
+        if (context.isPersistable()) {
+            builder.append(" implements Persistable<").append(context.getIdType()).append(">");
         }
+        builder.append(" {\n\n");
+    }
 
-        if (UtilsFactory.needsCompositeKey(table)) {
-            String className = UtilsFactory.generateClassName(table.getTableName());
+    public void generateFields(TableGenerationContext context, StringBuilder builder) {
+        TableMetadata table = context.getTable();
+        boolean compositeKey = context.isCompositeKey();
+        Set<String> processedOneToManyFields = new HashSet<>();
+
+        if (compositeKey) {
             builder.append("    @EmbeddedId\n")
                 .append("    private ")
-                .append(className)
+                .append(context.getClassName())
                 .append("Id id;\n\n");
         }
 
         // Generar campos para las columnas
         for (ColumnMetadata column : table.getColumns()) {
-            boolean isForeignKey = foreignKeyColumns.contains(column.getColumnName());
-            boolean isPartOfCompositeKey = UtilsFactory.needsCompositeKey(table)
-                && table.getPrimaryKeys().contains(column.getColumnName());
-            boolean isForeignKeyInCompositeKey = UtilsFactory.needsCompositeKey(table)
-                && isForeignKey;
-
-            if (!isForeignKey && !isPartOfCompositeKey && !isForeignKeyInCompositeKey) {
-                generateFieldAnnotations(column, table.getPrimaryKeys(), builder);
-                generateFieldDeclaration(column, builder);
+            boolean isForeignKey = context.isManyToOneColumn(column.getColumnName());
+            boolean isPrimaryKey = context.isPrimaryKey(column.getColumnName());
+
+            // Las columnas de la clave compuesta van en la clase @EmbeddedId
+            if (!isForeignKey && !(compositeKey && isPrimaryKey)) {
+                generateFieldAnnotations(context, column, isPrimaryKey, builder);
+                generateFieldDeclaration(context, column, builder);
             }
         }
 
         // Generar campos para las relaciones
-        for (RelationMetadata relation : table.getRelations()) {
+        for (RelationMetadata relation : context.getRelations()) {
             String targetClass = UtilsFactory.generateClassName(relation.getTargetTable());
 
             if (relation.isManyToOne()) {
@@ -72,19 +76,17 @@ public class ClassCoreGenerator {
                                                      );
 
                 // Buscar la ColumnMetadata correspondiente a la columna fuente de la relación
-                Optional<ColumnMetadata> sourceColumnMetadata = table.getColumns().stream()
-                    .filter(col -> col.getColumnName().equalsIgnoreCase(relation.getSourceColumn()))
-                    .findFirst();
+                ColumnMetadata sourceColumnMetadata = context.findColumnIgnoreCase(relation.getSourceColumn());
 
                 boolean isNullable = true; // Por defecto, una FK podría ser nullable
-                if (sourceColumnMetadata.isPresent()) {
-                    isNullable = !sourceColumnMetadata.get().isNotNull();
+                if (sourceColumnMetadata != null) {
+                    isNullable = !sourceColumnMetadata.isNotNull();
                 }
 
 
-                builder.append("    @ManyToOne\n");
+                builder.append("    @ManyToOne(fetch = FetchType.").append(context.getFetchType(relation)).append(")\n");
 
-                if (UtilsFactory.needsCompositeKey(table)) {
+                if (compositeKey) {
                     builder.append("    @MapsId(\"")
                         .append(UtilsFactory.generateFieldName(relation.getSourceColumn()))
                         .append("\")\n");
@@ -94,8 +96,11 @@ public class ClassCoreGenerator {
                     .append("        name = \"")
                     .append(relation.getSourceColumn())
                     .append("\",\n")
-                    .append("        nullable = ").append(isNullable).append(",\n")
-                    .append("        foreignKey = @ForeignKey(name = \"")
+                    .append("        nullable = ").append(isNullable).append(",\n");
+                if (sourceColumnMetadata != null && context.isImmutableColumn(sourceColumnMetadata)) {
+                    builder.append("        updatable = false,\n");
+                }
+                builder.append("        foreignKey = @ForeignKey(name = \"")
                     .append(foreignKeyName)
                     .append("\")\n")
                     .append("    )\n")
@@ -106,20 +111,26 @@ public class ClassCoreGenerator {
                     .append(";\n\n");
             } else {
                 // Relaciones OneToMany
-                String pluralFieldName = UtilsFactory.toPlural(UtilsFactory.generateFieldName(relation.getTargetTable()));
+                String pluralFieldName = UtilsFactory.generateCollectionFieldName(relation.getTargetTable());
 
                 if (!processedOneToManyFields.contains(pluralFieldName)) {
                     processedOneToManyFields.add(pluralFieldName);
 
                     String targetFieldName = UtilsFactory.generateFieldName(relation.getTargetColumn());
 
+                    appendCollectionFetch(context, relation, builder);
                     builder.append("    @OneToMany(\n")
                         .append("        mappedBy = \"")
                         .append(targetFieldName) // Usar el campo relacionado en la clase destino
-                        .append("\",\n")
-                        .append("        cascade = CascadeType.ALL,\n")
-                        .append("        orphanRemoval = true\n")
-                        .append("    )\n")
+                        .append("\"");
+
+                    // Dentro de un ciclo (p. ej. auto-referencia) la cascada y orphanRemoval
+                    // propagarían operaciones de vuelta hacia la propia tabla
+                    if (!isCyclicRelation(table, relation)) {
+                        appendCascade(context.getRelationPolicy(), builder);
+                    }
+
+                    builder.append("\n    )\n")
                         .append("    private Set<")
                         .append(targetClass)
                         .append("> ")
@@ -130,14 +141,60 @@ public class ClassCoreGenerator {
         }
     }
 
-    private void generateFieldAnnotations(ColumnMetadata column, List<String> primaryKeys, StringBuilder builder) {
+    /**
+     * Añade la carga en bloque de la colección (extensiones de Hibernate) según la política.
+     */
+    private void appendCollectionFetch(TableGenerationContext context, RelationMetadata relation, StringBuilder builder) {
+        RelationPolicy.CollectionFetch fetch = context.getCollectionFetch(relation);
+        if (fetch == RelationPolicy.CollectionFetch.BATCH) {
+            builder.append("    @BatchSize(size = ").append(context.getBatchSize(relation)).append(")\n");
+        } else if (fetch == RelationPolicy.CollectionFetch.SUBSELECT) {
+            builder.append("    @Fetch(FetchMode.SUBSELECT)\n");
+        }
+    }
+
+    /**
+     * Añade la cascada y orphanRemoval configurados en la política de relaciones.
+     */
+    private void appendCascade(RelationPolicy policy, StringBuilder builder) {
+        List<String> cascade = policy.getCascade();
+        if (cascade.size() == 1) {
+            builder.append(",\n        cascade = CascadeType.").append(cascade.get(0));
+        } else if (cascade.size() > 1) {
+            builder.append(",\n        cascade = {");
+            for (int i = 0; i < cascade.size(); i++) {
+                builder.append(i > 0 ? ", " : "").append("CascadeType.").append(cascade.get(i));
+            }
+            builder.append("}");
+        }
+        if (policy.isOrphanRemoval()) {
+            builder.append(",\n        orphanRemoval = true");
+        }
+    }
+
+    private boolean isCyclicRelation(TableMetadata table, RelationMetadata relation) {
+        return foreignKeyGraph != null
+            && foreignKeyGraph.isInSameCycle(table.getTableName(), relation.getTargetTable());
+    }
+
+    private void generateFieldAnnotations(TableGenerationContext context, ColumnMetadata column, boolean isPrimaryKey, StringBuilder builder) {
         // Si es parte de la clave primaria
-        if (primaryKeys.contains(column.getColumnName())) {
+        if (isPrimaryKey) {
             builder.append("    @Id\n");
-            if (column.getColumnType().toUpperCase().contains("SERIAL")) {
+            if (context.getIdPolicy().usesSequence(column)) {
+                // Secuencia con optimizador pooled: permite agrupar los inserts en lotes JDBC
+                String sequence = column.getSequenceName();
+                builder.append("    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = \"").append(sequence).append("\")\n")
+                    .append("    @SequenceGenerator(name = \"").append(sequence)
+                    .append("\", sequenceName = \"").append(sequence)
+                    .append("\", allocationSize = ").append(context.getIdPolicy().allocationSize(column)).append(")\n");
+            } else if (column.getColumnType().toUpperCase().contains("SERIAL")) {
                 builder.append("    @GeneratedValue(strategy = GenerationType.IDENTITY)\n");
             }
-            if (column.getColumnType().toUpperCase().contains("UUID")) {
+            if (context.getIdPolicy().usesUuidV7(column)) {
+                // Generador UUIDv7 generado en el paquete de las entidades
+                builder.append("    @UuidV7\n");
+            } else if (column.getColumnType().toUpperCase().contains("UUID")) {
                 builder.append("    @GeneratedValue(strategy = GenerationType.UUID)\n");
             }
         }
@@ -147,6 +204,19 @@ public class ClassCoreGenerator {
             builder.append("    @Lob\n");
         }
 
+        // Columnas de valores grandes: no se cargan con la fila (requiere bytecode enhancement)
+        if (context.isLazyColumn(column)) {
+            builder.append("    @Basic(fetch = FetchType.LAZY)\n");
+        }
+
+        // Valor escrito por la base de datos: Hibernate lo relee tras el INSERT (y el UPDATE si es calculada)
+        boolean generated = context.isGeneratedColumn(column);
+        if (generated) {
+            builder.append(column.isComputed()
+                ? "    @Generated(event = {EventType.INSERT, EventType.UPDATE})\n"
+                : "    @Generated\n");
+        }
+
         // Generar @Column con sus propiedades
         builder.append("    @Column(name = \"").append(column.getColumnName()).append("\"");
 
@@ -160,6 +230,14 @@ public class ClassCoreGenerator {
             builder.append(", length = ").append(length);
         }
 
+        // Columnas que escribe la base de datos o que no cambian tras el INSERT
+        if (generated || column.isComputed()) {
+            builder.append(", insertable = false");
+        }
+        if (context.isImmutableColumn(column)) {
+            builder.append(", updatable = false");
+        }
+
         // Si tiene valor por defecto, incluirlo en columnDefinition
         if (column.getDefaultValue() != null) {
             builder.append(", columnDefinition = \"")
@@ -172,8 +250,8 @@ public class ClassCoreGenerator {
         builder.append(")\n");
     }
 
-    private void generateFieldDeclaration(ColumnMetadata column, StringBuilder builder) {
-        String javaType = PostgreSQLToJavaType.getJavaType(column.getColumnType());
+    private void generateFieldDeclaration(TableGenerationContext context, ColumnMetadata column, StringBuilder builder) {
+        String javaType = context.getJavaType(column);
         String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
 
         builder.append("    private ").append(javaType).append(" ")
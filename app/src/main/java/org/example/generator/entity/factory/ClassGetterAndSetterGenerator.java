@@ -3,13 +3,11 @@ package org.example.generator.entity.factory;
 import org.example.database.model.ColumnMetadata;
 import org.example.database.model.RelationMetadata;
 import org.example.database.model.TableMetadata;
-import org.example.generator.entity.common.PostgreSQLToJavaType;
+import org.example.generator.entity.common.TableGenerationContext;
 import org.example.generator.entity.common.UtilsFactory;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class ClassGetterAndSetterGenerator {
 
@@ -19,15 +17,16 @@ public class ClassGetterAndSetterGenerator {
         this.useLombok = useLombok;
     }
 
-    public void generateGettersAndSetters(TableMetadata table, StringBuilder builder) {
+    public void generateGettersAndSetters(TableGenerationContext context, StringBuilder builder) {
         // Si Lombok está habilitado, no generar getters y setters
         if (useLombok) {
             return;
         }
 
-        if (UtilsFactory.needsCompositeKey(table)) {
-            String className = UtilsFactory.generateFieldName(table.getTableName());
-            className = className.substring(0, 1).toUpperCase() + className.substring(1);
+        TableMetadata table = context.getTable();
+
+        if (context.isCompositeKey()) {
+            String className = context.getClassName();
 
             builder.append("    public ").append(className).append("Id getId() {\n")
                 .append("        return id;\n")
@@ -38,29 +37,27 @@ public class ClassGetterAndSetterGenerator {
                 .append("    }\n\n");
 
             for (ColumnMetadata column : table.getColumns()) {
-                boolean isForeignKey = table.getRelations().stream()
-                    .anyMatch(rel -> rel.getSourceColumn().equals(column.getColumnName()) && rel.isManyToOne());
-                if (!table.getPrimaryKeys().contains(column.getColumnName()) && !isForeignKey) {
-                    generateGetterAndSetter(column, builder);
+                boolean isForeignKey = context.isManyToOneColumn(column.getColumnName());
+                if (!context.isPrimaryKey(column.getColumnName()) && !isForeignKey) {
+                    generateGetterAndSetter(context, column, builder);
                 }
             }
         } else {
             for (ColumnMetadata column : table.getColumns()) {
-                boolean isForeignKey = table.getRelations().stream()
-                    .anyMatch(rel -> rel.getSourceColumn().equals(column.getColumnName()) && rel.isManyToOne());
+                boolean isForeignKey = context.isManyToOneColumn(column.getColumnName());
                 if (!isForeignKey) {
-                    generateGetterAndSetter(column, builder);
+                    generateGetterAndSetter(context, column, builder);
                 }
             }
         }
 
-        generateRelationGettersAndSetters(table, builder);
+        generateRelationGettersAndSetters(context, builder);
     }
 
-    private void generateGetterAndSetter(ColumnMetadata column, StringBuilder builder) {
+    private void generateGetterAndSetter(TableGenerationContext context, ColumnMetadata column, StringBuilder builder) {
         String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
         String capitalizedField = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
-        String javaType = PostgreSQLToJavaType.getJavaType(column.getColumnType());
+        String javaType = context.getJavaType(column);
 
         // Getter
         builder.append("    public ").append(javaType).append(" get")
@@ -76,20 +73,18 @@ public class ClassGetterAndSetterGenerator {
             .append("    }\n\n");
     }
 
-    private void generateRelationGettersAndSetters(TableMetadata table, StringBuilder builder) {
+    private void generateRelationGettersAndSetters(TableGenerationContext context, StringBuilder builder) {
         Set<String> processedFields = new HashSet<>();
 
-        for (RelationMetadata relation : table.getRelations()) {
-            String targetClass = Arrays.stream(relation.getTargetTable().toLowerCase().split("_"))
-                .map(word -> Character.toUpperCase(word.charAt(0)) + word.substring(1))
-                .collect(Collectors.joining());
+        for (RelationMetadata relation : context.getRelations()) {
+            String targetClass = UtilsFactory.generateClassName(relation.getTargetTable());
 
             if (relation.isManyToOne()) {
                 String fieldName = UtilsFactory.generateFieldName(relation.getSourceColumn());
                 generateRelationGetterAndSetter(fieldName, targetClass, false, builder);
             } else {
                 // Para OneToMany usar el nombre en plural de la clase objetivo
-                String pluralField = UtilsFactory.toPlural(relation.getTargetTable().toLowerCase());
+                String pluralField = UtilsFactory.generateCollectionFieldName(relation.getTargetTable());
                 if (!processedFields.contains(pluralField)) {
                     processedFields.add(pluralField);
                     generateRelationGetterAndSetter(pluralField, targetClass, true, builder);
@@ -99,13 +94,9 @@ public class ClassGetterAndSetterGenerator {
     }
 
     private void generateRelationGetterAndSetter(String fieldName, String targetClass, boolean isCollection, StringBuilder builder) {
-        String capitalizedField = Arrays.stream(fieldName.split("_"))
-            .map(word -> Character.toUpperCase(word.charAt(0)) + word.substring(1))
-            .collect(Collectors.joining());
-
-        String camelCaseField = Character.toLowerCase(capitalizedField.charAt(0)) +
-            (capitalizedField.length() > 1 ? capitalizedField.substring(1) : "");
-
+        // El nombre ya viene del motor de nombres, igual que el del campo
+        String capitalizedField = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        String camelCaseField = fieldName;
 
         String type = isCollection ? "Set<" + targetClass + ">" : targetClass;
 
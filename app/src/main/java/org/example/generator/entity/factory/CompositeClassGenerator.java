@@ -3,8 +3,12 @@ package org.example.generator.entity.factory;
 import org.example.database.model.ColumnMetadata;
 import org.example.database.model.TableMetadata;
 import org.example.generator.entity.common.PostgreSQLToJavaType;
+import org.example.generator.entity.common.TableGenerationContext;
 import org.example.generator.entity.common.UtilsFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class CompositeClassGenerator {
 
     private final boolean useLombok;
@@ -13,38 +17,53 @@ public class CompositeClassGenerator {
         this.useLombok = useLombok;
     }
 
-    public void generateCompositeKeyClass(TableMetadata table, StringBuilder builder) {
-        String className = UtilsFactory.generateFieldName(table.getTableName());
-        className = className.substring(0, 1).toUpperCase() + className.substring(1);
+    public void generateCompositeKeyClass(TableGenerationContext context, StringBuilder builder) {
+        TableMetadata table = context.getTable();
+        String className = context.getClassName();
+        boolean cacheHash = context.getEntityPolicy().isCacheKeyHash();
 
         // Inicia la clase embebida
         builder.append("\n    @Embeddable\n");
 
         if (useLombok) {
             builder.append("    @Getter\n");
-            builder.append("    @Setter\n");
+            // Con el hash cacheado la clave no debe cambiar: sin setters, solo se asigna en el
+            // constructor. Los campos no son final porque JPA no lo permite en los embebibles.
+            if (!cacheHash) {
+                builder.append("    @Setter\n");
+            }
             builder.append("    @ToString\n");
             builder.append("    @NoArgsConstructor\n");
             builder.append("    @AllArgsConstructor\n");
-            builder.append("    @EqualsAndHashCode\n"); // Usa Lombok para generar equals() y hashCode()
+            // Usa Lombok para generar equals() y hashCode()
+            if (cacheHash) {
+                builder.append("    @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)\n");
+            } else {
+                builder.append("    @EqualsAndHashCode\n");
+            }
         }
 
-        builder.append("    static class ").append(className).append("Id implements Serializable {\n");
+        // final: equals() puede usar instanceof sin romper la simetría con subclases
+        builder.append("    static final class ").append(className).append("Id implements Serializable {\n");
 
         // Genera los campos de la clave compuesta
+        List<String> fieldNames = new ArrayList<>(table.getPrimaryKeys().size());
+        List<String> javaTypes = new ArrayList<>(table.getPrimaryKeys().size());
         for (String primaryKey : table.getPrimaryKeys()) {
-            ColumnMetadata column = table.getColumns().stream()
-                .filter(c -> c.getColumnName().equals(primaryKey))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                    "No se encontró una columna para la clave primaria: " + primaryKey + " en la tabla: " + table.getTableName()));
+            ColumnMetadata column = context.getColumn(primaryKey);
+            if (column == null) {
+                throw new IllegalArgumentException(
+                    "No se encontró una columna para la clave primaria: " + primaryKey + " en la tabla: " + table.getTableName());
+            }
 
             String javaType = PostgreSQLToJavaType.getJavaType(column.getColumnType());
             String fieldName = UtilsFactory.generateFieldName(primaryKey);
+            fieldNames.add(fieldName);
+            javaTypes.add(javaType);
 
             builder.append("        @Column(name = \"")
                 .append(primaryKey.toLowerCase())
-                .append("\")\n")
+                .append(context.isImmutableColumn(column) ? "\", updatable = false)\n" : "\")\n")
                 .append("        private ")
                 .append(javaType)
                 .append(" ")
@@ -54,46 +73,147 @@ public class CompositeClassGenerator {
 
         // Genera equals() y hashCode() si Lombok no está habilitado
         if (!useLombok) {
-            // Generar equals()
-            builder.append("\n        @Override\n")
-                .append("        public boolean equals(Object o) {\n")
-                .append("            if (this == o) return true;\n")
-                .append("            if (o == null || getClass() != o.getClass()) return false;\n")
-                .append("            ")
-                .append(className).append("Id that = (").append(className).append("Id) o;\n")
-                .append("            return ");
-
-            for (int i = 0; i < table.getPrimaryKeys().size(); i++) {
-                String fieldName = UtilsFactory.generateFieldName(table.getPrimaryKeys().get(i));
-                builder.append("java.util.Objects.equals(").append(fieldName).append(", that.").append(fieldName).append(")");
-                if (i < table.getPrimaryKeys().size() - 1) {
-                    builder.append(" && ");
-                } else {
-                    builder.append(";\n");
-                }
+            if (cacheHash) {
+                // transient: no se persiste ni se serializa; 0 significa "sin calcular"
+                builder.append("\n        private transient int hash;\n");
             }
+            generateEquals(className, fieldNames, javaTypes, cacheHash, builder);
+            generateHashCode(fieldNames, javaTypes, cacheHash, builder);
+        }
+
+        builder.append("    }\n");
+    }
+
+    /**
+     * equals() con una comparación específica por tipo. Los campos numéricos y booleanos se
+     * comparan primero, porque son más baratos que String o UUID y suelen descartar antes.
+     */
+    private void generateEquals(String className, List<String> fieldNames, List<String> javaTypes, boolean cacheHash,
+                                StringBuilder builder) {
+        builder.append("\n        @Override\n")
+            .append("        public boolean equals(Object o) {\n")
+            .append("            if (this == o) return true;\n")
+            .append("            if (!(o instanceof ").append(className).append("Id)) return false;\n")
+            .append("            ")
+            .append(className).append("Id that = (").append(className).append("Id) o;\n");
+
+        if (cacheHash) {
+            // Si ambos hashes ya están calculados y difieren, las claves no pueden ser iguales
+            builder.append("            if (hash != 0 && that.hash != 0 && hash != that.hash) return false;\n");
+        }
+
+        List<Integer> order = new ArrayList<>(fieldNames.size());
+        for (int i = 0; i < fieldNames.size(); i++) {
+            if (isPrimitiveWrapper(javaTypes.get(i))) {
+                order.add(i);
+            }
+        }
+        for (int i = 0; i < fieldNames.size(); i++) {
+            if (!isPrimitiveWrapper(javaTypes.get(i))) {
+                order.add(i);
+            }
+        }
 
-            builder.append("        }\n");
-
-            // Generar hashCode()
-            builder.append("\n        @Override\n")
-                .append("        public int hashCode() {\n")
-                .append("            return java.util.Objects.hash(");
-
-            for (int i = 0; i < table.getPrimaryKeys().size(); i++) {
-                String fieldName = UtilsFactory.generateFieldName(table.getPrimaryKeys().get(i));
-                builder.append(fieldName);
-                if (i < table.getPrimaryKeys().size() - 1) {
-                    builder.append(", ");
-                } else {
-                    builder.append(");\n");
-                }
+        builder.append("            return ");
+        for (int i = 0; i < order.size(); i++) {
+            int index = order.get(i);
+            if (i > 0) {
+                builder.append("\n                && ");
             }
+            builder.append(equalsExpression(fieldNames.get(index), javaTypes.get(index)));
+        }
+        builder.append(";\n");
+        builder.append("        }\n");
+    }
 
-            builder.append("        }\n");
+    /**
+     * hashCode() desenrollado, sin el array varargs de Objects.hash y sin boxing. Usa la misma
+     * fórmula que {@code Objects.hash(...)}, salvo para los byte[]: se hashean por contenido con
+     * Arrays.hashCode, coherente con equals(), mientras que Objects.hash usaría su identidad.
+     */
+    private void generateHashCode(List<String> fieldNames, List<String> javaTypes, boolean cacheHash, StringBuilder builder) {
+        String indent = cacheHash ? "                " : "            ";
+        builder.append("\n        @Override\n")
+            .append("        public int hashCode() {\n");
+
+        if (cacheHash) {
+            builder.append("            int result = hash;\n")
+                .append("            if (result == 0) {\n")
+                .append(indent).append("result = 1;\n");
+        } else {
+            builder.append(indent).append("int result = 1;\n");
         }
 
-        builder.append("    }\n");
+        for (int i = 0; i < fieldNames.size(); i++) {
+            builder.append(indent).append("result = 31 * result + ")
+                .append(hashExpression(fieldNames.get(i), javaTypes.get(i))).append(";\n");
+        }
+
+        if (cacheHash) {
+            builder.append("                hash = result;\n")
+                .append("            }\n");
+        }
+        builder.append("            return result;\n")
+            .append("        }\n");
+    }
+
+    private static boolean isPrimitiveWrapper(String javaType) {
+        switch (javaType) {
+            case "Integer":
+            case "Long":
+            case "Short":
+            case "Boolean":
+            case "Float":
+            case "Double":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Comparación nula-segura del campo con el de {@code that}. Los wrappers se comparan por su
+     * valor primitivo; Float y Double con compare() para mantener la semántica de equals().
+     */
+    private static String equalsExpression(String field, String javaType) {
+        String other = "that." + field;
+        switch (javaType) {
+            case "Integer":
+            case "Long":
+            case "Short":
+            case "Boolean":
+                String value = javaType.equals("Integer") ? "intValue" : javaType.toLowerCase() + "Value";
+                return "(" + field + " == null ? " + other + " == null : " + other + " != null && "
+                    + field + "." + value + "() == " + other + "." + value + "())";
+            case "Float":
+            case "Double":
+                return "(" + field + " == null ? " + other + " == null : " + other + " != null && "
+                    + javaType + ".compare(" + field + ", " + other + ") == 0)";
+            case "byte[]":
+                return "java.util.Arrays.equals(" + field + ", " + other + ")";
+            default:
+                return "(" + field + " == null ? " + other + " == null : " + field + ".equals(" + other + "))";
+        }
+    }
+
+    /**
+     * Hash nulo-seguro del campo, igual al de su hashCode(); los wrappers se desempaquetan.
+     */
+    private static String hashExpression(String field, String javaType) {
+        switch (javaType) {
+            case "Integer":
+                return "(" + field + " != null ? " + field + ".intValue() : 0)";
+            case "Long":
+            case "Short":
+            case "Boolean":
+            case "Float":
+            case "Double":
+                return "(" + field + " != null ? " + javaType + ".hashCode(" + field + ") : 0)";
+            case "byte[]":
+                return "java.util.Arrays.hashCode(" + field + ")";
+            default:
+                return "(" + field + " != null ? " + field + ".hashCode() : 0)";
+        }
     }
 
 }
\ No newline at end of file
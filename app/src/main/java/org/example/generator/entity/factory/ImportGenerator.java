@@ -4,7 +4,8 @@ import org.example.database.model.ColumnMetadata;
 import org.example.database.model.RelationMetadata;
 import org.example.database.model.TableMetadata;
 import org.example.generator.entity.common.PostgreSQLToJavaType;
-import org.example.generator.entity.common.UtilsFactory;
+import org.example.generator.entity.common.RelationPolicy;
+import org.example.generator.entity.common.TableGenerationContext;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -17,7 +18,8 @@ public class ImportGenerator {
         this.useLombok = useLombok;
     }
 
-    public void generateImports(TableMetadata table, StringBuilder builder) {
+    public void generateImports(TableGenerationContext context, StringBuilder builder) {
+        TableMetadata table = context.getTable();
         Set<String> imports = new HashSet<>();
 
         // Agregar imports básicos
@@ -31,46 +33,74 @@ public class ImportGenerator {
             imports.add("import lombok.Setter;");
             imports.add("import lombok.ToString;");
             imports.add("import lombok.NoArgsConstructor;");
-            imports.add("import lombok.AllArgsConstructor;");
+            // Las entidades Persistable declaran su constructor para dejar fuera el flag isNew;
+            // la clase de la clave compuesta sigue usando @AllArgsConstructor
+            if (!context.isPersistable() || context.isCompositeKey()) {
+                imports.add("import lombok.AllArgsConstructor;");
+            }
+            if (context.isPersistable()) {
+                imports.add("import lombok.AccessLevel;");
+            }
 
             // Solo añadir EqualsAndHashCode si se necesita una clase compuesta
-            if (UtilsFactory.needsCompositeKey(table)) {
+            if (context.isCompositeKey()) {
                 imports.add("import lombok.EqualsAndHashCode;");
             }
         }
 
         // Otros imports relacionados con JPA según el esquema
-        if (UtilsFactory.needsCompositeKey(table)) {
+        if (context.isCompositeKey()) {
             imports.add("import jakarta.persistence.EmbeddedId;");
             imports.add("import jakarta.persistence.Embeddable;");
             imports.add("import java.io.Serializable;");
         } else {
             imports.add("import jakarta.persistence.Id;");
-            if (table.getColumns().stream()
-                .filter(c -> table.getPrimaryKeys().contains(c.getColumnName()))
-                .anyMatch(c -> c.getColumnType().toUpperCase().contains("SERIAL"))) {
+            if (context.hasGeneratedPrimaryKey()) {
                 imports.add("import jakarta.persistence.GeneratedValue;");
                 imports.add("import jakarta.persistence.GenerationType;");
             }
+            if (context.hasSequencePrimaryKey()) {
+                imports.add("import jakarta.persistence.SequenceGenerator;");
+            }
         }
 
-        boolean usesMapsId = table.getRelations().stream()
+        // Persistable: flag isNew transitorio y callbacks que lo apagan
+        if (context.isPersistable()) {
+            imports.add("import org.springframework.data.domain.Persistable;");
+            imports.add("import jakarta.persistence.Transient;");
+            imports.add("import jakarta.persistence.PostLoad;");
+            imports.add("import jakarta.persistence.PostPersist;");
+        }
+
+        boolean usesMapsId = context.getRelations().stream()
             .anyMatch(RelationMetadata::isManyToOne); // Si hay relaciones ManyToOne que usan @MapsId
 
-        if (usesMapsId && UtilsFactory.needsCompositeKey(table)) {
+        if (usesMapsId && context.isCompositeKey()) {
             imports.add("import jakarta.persistence.MapsId;");
         }
 
-        for (RelationMetadata relation : table.getRelations()) {
+        for (RelationMetadata relation : context.getRelations()) {
             if (relation.isManyToOne()) {
                 imports.add("import jakarta.persistence.ManyToOne;");
+                imports.add("import jakarta.persistence.FetchType;");
                 imports.add("import jakarta.persistence.JoinColumn;");
                 imports.add("import jakarta.persistence.ForeignKey;");
             } else {
                 imports.add("import jakarta.persistence.OneToMany;");
-                imports.add("import jakarta.persistence.CascadeType;");
+                if (!context.getRelationPolicy().getCascade().isEmpty()) {
+                    imports.add("import jakarta.persistence.CascadeType;");
+                }
                 imports.add("import java.util.Set;");
                 imports.add("import java.util.HashSet;");
+
+                // Carga en bloque de la colección
+                RelationPolicy.CollectionFetch fetch = context.getCollectionFetch(relation);
+                if (fetch == RelationPolicy.CollectionFetch.BATCH) {
+                    imports.add("import org.hibernate.annotations.BatchSize;");
+                } else if (fetch == RelationPolicy.CollectionFetch.SUBSELECT) {
+                    imports.add("import org.hibernate.annotations.Fetch;");
+                    imports.add("import org.hibernate.annotations.FetchMode;");
+                }
             }
         }
 
@@ -85,7 +115,30 @@ public class ImportGenerator {
             imports.add("import jakarta.persistence.Index;");
         }
 
+        if (table.getColumns().stream().anyMatch(c -> c.getColumnType().equalsIgnoreCase("BYTEA"))) {
+            imports.add("import jakarta.persistence.Lob;");
+        }
+
+        if (context.hasLazyColumns()) {
+            imports.add("import jakarta.persistence.Basic;");
+            imports.add("import jakarta.persistence.FetchType;");
+        }
+
+        // SQL dinámico y columnas generadas por la base de datos
+        if (context.getDynamicStatements().isDynamicUpdate()) {
+            imports.add("import org.hibernate.annotations.DynamicUpdate;");
+        }
+        if (context.getDynamicStatements().isDynamicInsert()) {
+            imports.add("import org.hibernate.annotations.DynamicInsert;");
+        }
+
         for (ColumnMetadata column : table.getColumns()) {
+            if (context.isGeneratedColumn(column)) {
+                imports.add("import org.hibernate.annotations.Generated;");
+                if (column.isComputed()) {
+                    imports.add("import org.hibernate.generator.EventType;");
+                }
+            }
             String importStatement = PostgreSQLToJavaType.getImportStatement(column.getColumnType());
             if (importStatement != null && !importStatement.contains("java.lang.")) {
                 imports.add(importStatement);
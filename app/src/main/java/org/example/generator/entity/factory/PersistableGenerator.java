@@ -0,0 +1,53 @@
+package org.example.generator.entity.factory;
+
+import org.example.generator.entity.common.TableGenerationContext;
+import org.example.generator.entity.common.UtilsFactory;
+
+/**
+ * Genera la implementación de {@code Persistable<ID>} de las entidades con clave asignada: un
+ * flag transitorio {@code isNew} que empieza en true y se apaga cuando la entidad se carga o se
+ * inserta. Así {@code save()} de Spring Data hace persist de las entidades nuevas sin el SELECT
+ * previo del merge.
+ */
+public class PersistableGenerator {
+
+    private final boolean useLombok;
+
+    public PersistableGenerator(boolean useLombok) {
+        this.useLombok = useLombok;
+    }
+
+    public void generatePersistable(TableGenerationContext context, StringBuilder builder) {
+        if (!context.isPersistable()) {
+            return;
+        }
+
+        builder.append("    @Transient\n");
+        if (useLombok) {
+            // El @Setter de la clase no debe exponer el flag (toString lo excluye en la clase)
+            builder.append("    @Setter(AccessLevel.NONE)\n");
+        }
+        builder.append("    private boolean isNew = true;\n\n");
+
+        // Sin Lombok, getId() ya existe si el campo del id se llama "id". Con Lombok se declara
+        // siempre: implementa Persistable de forma explícita y Lombok no genera otro getter
+        String idField = context.isCompositeKey() ? "id" : UtilsFactory.generateFieldName(context.getTable().getPrimaryKeys().get(0));
+        if (useLombok || !idField.equals("id")) {
+            builder.append("    @Override\n")
+                .append("    public ").append(context.getIdType()).append(" getId() {\n")
+                .append("        return ").append(idField).append(";\n")
+                .append("    }\n\n");
+        }
+
+        builder.append("    @Override\n")
+            .append("    public boolean isNew() {\n")
+            .append("        return isNew;\n")
+            .append("    }\n\n");
+
+        builder.append("    @PostLoad\n")
+            .append("    @PostPersist\n")
+            .append("    void markNotNew() {\n")
+            .append("        this.isNew = false;\n")
+            .append("    }\n\n");
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.generator.output;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Etapa de escritura de la salida generada. Los archivos se agrupan en lotes que se escriben
+ * en un grupo pequeño de hilos de E/S, de modo que miles de archivos pequeños no esperan uno
+ * tras otro a sus llamadas al sistema de archivos.
+ * <p>
+ * Se alimenta desde un único hilo con {@link #submit(Path, String)} y se cierra con
+ * {@link #finish()}, que devuelve los resultados en el orden en que se enviaron.
+ */
+public class BatchFileWriter implements AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final IncrementalFileWriter writer;
+    private final int batchSize;
+    private final ExecutorService ioExecutor;
+    private final List<CompletableFuture<List<Result>>> batches = new ArrayList<>();
+    private List<Path> currentFiles = new ArrayList<>();
+    private List<String> currentContents = new ArrayList<>();
+
+    public BatchFileWriter(IncrementalFileWriter writer) {
+        this(writer, Math.min(4, Runtime.getRuntime().availableProcessors()), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param writer    Escritor que decide si cada archivo cambió
+     * @param ioThreads Hilos dedicados a la escritura
+     * @param batchSize Archivos por lote
+     */
+    public BatchFileWriter(IncrementalFileWriter writer, int ioThreads, int batchSize) {
+        this.writer = writer;
+        this.batchSize = Math.max(1, batchSize);
+        AtomicInteger counter = new AtomicInteger();
+        this.ioExecutor = Executors.newFixedThreadPool(Math.max(1, ioThreads), runnable -> {
+            Thread thread = new Thread(runnable, "arch-writer-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Encola un archivo; el lote se envía a escribir cuando se completa.
+     */
+    public void submit(Path file, String content) {
+        currentFiles.add(file);
+        currentContents.add(content);
+        if (currentFiles.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Envía el último lote y espera a que terminen todas las escrituras.
+     *
+     * @return Resultado de cada archivo, en el orden de envío
+     * @throws IOException La primera excepción producida al escribir
+     */
+    public List<Result> finish() throws IOException {
+        flush();
+
+        List<Result> results = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<Result>> batch : batches) {
+                results.addAll(batch.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                UncheckedIOException cause = (UncheckedIOException) e.getCause();
+                throw new IOException(cause.getMessage(), cause.getCause());
+            }
+            throw e;
+        } finally {
+            batches.clear();
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        ioExecutor.shutdown();
+    }
+
+    private void flush() {
+        if (currentFiles.isEmpty()) {
+            return;
+        }
+
+        List<Path> files = currentFiles;
+        List<String> contents = currentContents;
+        currentFiles = new ArrayList<>();
+        currentContents = new ArrayList<>();
+
+        batches.add(CompletableFuture.supplyAsync(() -> writeBatch(files, contents), ioExecutor));
+    }
+
+    private List<Result> writeBatch(List<Path> files, List<String> contents) {
+        List<Result> results = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            try {
+                results.add(new Result(files.get(i), writer.write(files.get(i), contents.get(i))));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error writing " + files.get(i), e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Resultado de la escritura de un archivo.
+     */
+    public static class Result {
+        private final Path file;
+        private final IncrementalFileWriter.Status status;
+
+        public Result(Path file, IncrementalFileWriter.Status status) {
+            this.file = file;
+            this.status = status;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public IncrementalFileWriter.Status getStatus() {
+            return status;
+        }
+    }
+}
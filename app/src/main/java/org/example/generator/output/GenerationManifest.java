@@ -0,0 +1,136 @@
+package org.example.generator.output;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de los archivos generados en la última ejecución: hash SHA-256 del contenido,
+ * tamaño y fecha de modificación de cada archivo.
+ * <p>
+ * Se guarda como texto plano, una línea por archivo ({@code hash tamaño mtime ruta}), ordenado
+ * por ruta para que el archivo sea estable entre ejecuciones.
+ */
+public class GenerationManifest {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Carga un manifest existente.
+     *
+     * @param manifestPath Ruta del manifest
+     * @return El manifest leído, o uno vacío si no existe o no puede leerse
+     */
+    public static GenerationManifest load(Path manifestPath) {
+        GenerationManifest manifest = new GenerationManifest();
+        if (!Files.isRegularFile(manifestPath)) {
+            return manifest;
+        }
+
+        try {
+            for (String line : Files.readAllLines(manifestPath, StandardCharsets.UTF_8)) {
+                String[] parts = line.split(" ", 4);
+                if (parts.length == 4) {
+                    manifest.entries.put(parts[3], new Entry(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("⚠️  Manifest de generación ilegible, se compararán los archivos en disco: " + e.getMessage());
+            manifest.entries.clear();
+        }
+        return manifest;
+    }
+
+    /**
+     * Guarda el manifest a través de un archivo temporal para no dejarlo a medio escribir.
+     */
+    public void save(Path manifestPath) throws IOException {
+        Path parent = manifestPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        List<String> lines = new ArrayList<>();
+        new TreeMap<>(entries).forEach((key, entry) ->
+            lines.add(entry.getHash() + " " + entry.getSize() + " " + entry.getLastModified() + " " + key));
+
+        Path tempFile = manifestPath.resolveSibling(manifestPath.getFileName() + ".tmp");
+        Files.write(tempFile, lines, StandardCharsets.UTF_8);
+        try {
+            Files.move(tempFile, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, manifestPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public Entry get(String key) {
+        return entries.get(key);
+    }
+
+    public void put(String key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    public void remove(String key) {
+        entries.remove(key);
+    }
+
+    public Set<String> keys() {
+        return entries.keySet();
+    }
+
+    /**
+     * Calcula el hash SHA-256 en hexadecimal de un contenido.
+     */
+    public static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Estado registrado de un archivo generado.
+     */
+    public static class Entry {
+        private final String hash;
+        private final long size;
+        private final long lastModified;
+
+        public Entry(String hash, long size, long lastModified) {
+            this.hash = hash;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+    }
+}
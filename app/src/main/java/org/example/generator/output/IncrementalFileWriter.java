@@ -0,0 +1,183 @@
+package org.example.generator.output;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Escribe archivos generados solo cuando su contenido cambia, para no alterar la fecha de
+ * modificación de los archivos idénticos y mantener incrementales las compilaciones de
+ * Gradle o Maven.
+ * <p>
+ * Un archivo cuyo tamaño y fecha coinciden con los del {@link GenerationManifest} se compara
+ * por hash sin leerlo; en otro caso se compara con el contenido en disco.
+ */
+public class IncrementalFileWriter {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        UNCHANGED
+    }
+
+    private final Path manifestPath;
+    private final GenerationManifest manifest;
+    private final Path baseDirectory;
+    private final Set<Path> createdDirectories = ConcurrentHashMap.newKeySet();
+
+    public IncrementalFileWriter(Path manifestPath) {
+        this.manifestPath = manifestPath;
+        this.manifest = GenerationManifest.load(manifestPath);
+        this.baseDirectory = Paths.get("").toAbsolutePath();
+    }
+
+    /**
+     * Escribe el archivo si no existe o si su contenido es distinto.
+     *
+     * @param file    Archivo de destino
+     * @param content Contenido generado
+     * @return Lo que se hizo con el archivo
+     * @throws IOException Si no se puede leer o escribir el archivo
+     */
+    public Status write(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String hash = GenerationManifest.hash(bytes);
+        String key = key(file);
+
+        BasicFileAttributes attributes = readAttributes(file);
+        Status status;
+        if (attributes != null) {
+            if (isUnchanged(file, attributes, manifest.get(key), hash, bytes)) {
+                manifest.put(key, new GenerationManifest.Entry(hash, attributes.size(),
+                    attributes.lastModifiedTime().toMillis()));
+                return Status.UNCHANGED;
+            }
+            status = Status.UPDATED;
+        } else {
+            ensureDirectory(file.toAbsolutePath().getParent());
+            status = Status.CREATED;
+        }
+
+        Files.write(file, bytes);
+        manifest.put(key, new GenerationManifest.Entry(hash, bytes.length, Files.getLastModifiedTime(file).toMillis()));
+        return status;
+    }
+
+    /**
+     * Elimina los archivos registrados directamente en {@code directory} que ya no se generan.
+     * Los archivos modificados a mano desde la última generación se conservan con un aviso.
+     *
+     * @param directory Directorio de los archivos generados (no recursivo)
+     * @param keep      Archivos que siguen siendo parte de la salida
+     * @return Archivos eliminados
+     */
+    public List<Path> removeStale(Path directory, Set<Path> keep) throws IOException {
+        List<Path> removed = new ArrayList<>();
+
+        for (String key : staleKeys(directory, keep)) {
+            Path file = resolve(key);
+            GenerationManifest.Entry entry = manifest.get(key);
+            manifest.remove(key);
+            if (!Files.isRegularFile(file)) {
+                continue;
+            }
+
+            if (isGeneratedContent(file, entry)) {
+                Files.delete(file);
+                removed.add(file);
+            } else {
+                System.err.println("⚠️  Keeping " + file + ": it is no longer generated but was modified by hand");
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Archivos que {@link #removeStale(Path, Set)} eliminaría, sin modificar nada.
+     */
+    public List<Path> findStale(Path directory, Set<Path> keep) throws IOException {
+        List<Path> stale = new ArrayList<>();
+        for (String key : staleKeys(directory, keep)) {
+            Path file = resolve(key);
+            if (Files.isRegularFile(file) && isGeneratedContent(file, manifest.get(key))) {
+                stale.add(file);
+            }
+        }
+        return stale;
+    }
+
+    private List<String> staleKeys(Path directory, Set<Path> keep) {
+        Path normalizedDirectory = directory.toAbsolutePath().normalize();
+        Set<String> keepKeys = keep.stream().map(this::key).collect(Collectors.toSet());
+        List<String> stale = new ArrayList<>();
+
+        for (String key : manifest.keys()) {
+            if (!keepKeys.contains(key) && normalizedDirectory.equals(resolve(key).getParent())) {
+                stale.add(key);
+            }
+        }
+        return stale;
+    }
+
+    private boolean isGeneratedContent(Path file, GenerationManifest.Entry entry) throws IOException {
+        return GenerationManifest.hash(Files.readAllBytes(file)).equals(entry.getHash());
+    }
+
+    private Path resolve(String key) {
+        return baseDirectory.resolve(key.replace('/', File.separatorChar)).normalize();
+    }
+
+    /**
+     * Guarda el manifest con el estado de esta ejecución.
+     */
+    public void save() throws IOException {
+        manifest.save(manifestPath);
+    }
+
+    private BasicFileAttributes readAttributes(Path file) throws IOException {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Crea cada directorio de paquete una sola vez por ejecución.
+     */
+    private void ensureDirectory(Path directory) throws IOException {
+        if (!createdDirectories.contains(directory)) {
+            Files.createDirectories(directory);
+            createdDirectories.add(directory);
+        }
+    }
+
+    private boolean isUnchanged(Path file, BasicFileAttributes attributes, GenerationManifest.Entry entry,
+                                String hash, byte[] bytes) throws IOException {
+        if (attributes.size() != bytes.length) {
+            return false;
+        }
+        if (entry != null && entry.getSize() == attributes.size()
+            && entry.getLastModified() == attributes.lastModifiedTime().toMillis()) {
+            return entry.getHash().equals(hash);
+        }
+        return Arrays.equals(Files.readAllBytes(file), bytes);
+    }
+
+    private String key(Path file) {
+        Path absolute = file.toAbsolutePath().normalize();
+        Path relative = absolute.startsWith(baseDirectory) ? baseDirectory.relativize(absolute) : absolute;
+        return relative.toString().replace(File.separatorChar, '/');
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.generator.output;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resuelve la raíz del proyecto y el directorio de fuentes donde se escriben los archivos
+ * generados. El resultado se calcula una sola vez por directorio de trabajo y tipo de build,
+ * en lugar de repetir la búsqueda de marcadores del proyecto para cada archivo.
+ */
+public class SourceRootResolver {
+
+    private final Map<Path, Path> projectRoots = new ConcurrentHashMap<>();
+    private final Map<String, Path> sourceRoots = new ConcurrentHashMap<>();
+
+    /**
+     * Devuelve el directorio de fuentes Java del proyecto para el tipo de build indicado,
+     * creándolo si todavía no existe.
+     *
+     * @param buildType El tipo de build ("gradle" o "maven")
+     * @return El directorio de fuentes
+     * @throws IOException Si no se puede determinar la raíz del proyecto o crear el directorio
+     */
+    public Path resolveSourceRoot(String buildType) throws IOException {
+        // Obtener el directorio actual desde donde se ejecuta el comando
+        Path currentDirectory = Paths.get(System.getProperty("user.dir"));
+        String key = currentDirectory + "|" + String.valueOf(buildType).toLowerCase();
+
+        try {
+            return sourceRoots.computeIfAbsent(key, k -> {
+                try {
+                    return computeSourceRoot(currentDirectory, buildType);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Devuelve la raíz del proyecto que contiene el directorio indicado.
+     */
+    public Path resolveProjectRoot(Path startDir) {
+        return projectRoots.computeIfAbsent(startDir, this::findProjectRoot);
+    }
+
+    private Path computeSourceRoot(Path currentDirectory, String buildType) throws IOException {
+        // Lista de posibles estructuras para buscar en el proyecto
+        List<String> possibleStructures = new ArrayList<>();
+
+        // Determinar posibles estructuras según el tipo de build
+        if ("gradle".equalsIgnoreCase(buildType)) {
+            possibleStructures.add("app/src/main/java");
+            possibleStructures.add("src/main/java");
+            // Otras posibles estructuras para Gradle
+        } else if ("maven".equalsIgnoreCase(buildType)) {
+            possibleStructures.add("src/main/java");
+            // Otras posibles estructuras para Maven
+        } else {
+            throw new IllegalArgumentException("Build type must be 'gradle' or 'maven'");
+        }
+
+        // Buscar la estructura correcta, empezando por el directorio actual y ascendiendo hasta encontrar una estructura válida
+        Path projectRoot = resolveProjectRoot(currentDirectory);
+        if (projectRoot == null) {
+            throw new IOException("Could not determine project root directory");
+        }
+
+        // Buscar la estructura correcta de directorios
+        Path sourceRoot = null;
+        for (String structure : possibleStructures) {
+            Path potentialSourceRoot = projectRoot.resolve(structure.replace("/", File.separator));
+            if (Files.exists(potentialSourceRoot) && Files.isDirectory(potentialSourceRoot)) {
+                sourceRoot = potentialSourceRoot;
+                break;
+            }
+        }
+
+        // Si no se encontró ninguna estructura válida, usar el directorio por defecto según el tipo de build
+        if (sourceRoot == null) {
+            String defaultPath;
+            if ("gradle".equalsIgnoreCase(buildType)) {
+                defaultPath = "app/src/main/java";
+            } else {
+                defaultPath = "src/main/java";
+            }
+            sourceRoot = projectRoot.resolve(defaultPath.replace("/", File.separator));
+            Files.createDirectories(sourceRoot); // Crear el directorio si no existe
+            System.out.println("Created default source directory: " + sourceRoot);
+        }
+
+        return sourceRoot;
+    }
+
+    /**
+     * Encuentra el directorio raíz del proyecto buscando marcadores de proyectos
+     * como archivos build.gradle, pom.xml, .git, etc.
+     *
+     * @param startDir El directorio desde donde comenzar la búsqueda
+     * @return El directorio raíz del proyecto o null si no se encuentra
+     */
+    private Path findProjectRoot(Path startDir) {
+        // Marcadores que indican la raíz de un proyecto
+        String[] projectMarkers = {
+            "build.gradle", "build.gradle.kts", "pom.xml", "settings.gradle",
+            "settings.gradle.kts", ".git", "gradle", "arch.yml"
+        };
+
+        Path current = startDir;
+        // Limitar la búsqueda a un número razonable de niveles para evitar llegar hasta la raíz del sistema
+        int maxLevels = 10;
+        int level = 0;
+
+        while (current != null && level < maxLevels) {
+            // Verificar si alguno de los marcadores existe en el directorio actual
+            for (String marker : projectMarkers) {
+                if (Files.exists(current.resolve(marker))) {
+                    return current;
+                }
+            }
+
+            // Subir un nivel en la jerarquía de directorios
+            current = current.getParent();
+            level++;
+        }
+
+        // Si llegamos aquí, no encontramos la raíz del proyecto
+        return startDir; // Devolver el directorio original como fallback
+    }
+
+}
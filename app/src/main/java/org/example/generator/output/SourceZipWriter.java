@@ -0,0 +1,89 @@
+package org.example.generator.output;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Escribe las fuentes generadas en un único zip (o source jar) a medida que se producen, en
+ * lugar de miles de archivos pequeños. Las entradas llevan una fecha fija, de modo que la misma
+ * salida produce exactamente los mismos bytes y el archivo puede usarse como entrada de una
+ * caché de compilación.
+ * <p>
+ * El zip se construye en un archivo temporal y se mueve a su destino al cerrarse.
+ */
+public class SourceZipWriter implements AutoCloseable {
+
+    /**
+     * 1980-02-01 00:00; las fechas anteriores a 1980 no se representan en formato DOS.
+     */
+    private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 2, 1, 0, 0);
+
+    private final Path target;
+    private final Path temporary;
+    private final ZipOutputStream zip;
+    private final long entryTime;
+    private int entries;
+    private boolean completed;
+
+    public SourceZipWriter(Path target) throws IOException {
+        this.target = target.toAbsolutePath();
+        Files.createDirectories(this.target.getParent());
+        this.temporary = Files.createTempFile(this.target.getParent(), this.target.getFileName().toString(), ".tmp");
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary), 64 * 1024);
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        // La fecha DOS se guarda en hora local: el instante se calcula en la zona con la que
+        // ZipEntry la convertirá para que los campos sean los mismos en cualquier zona horaria
+        this.entryTime = ENTRY_TIME.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Añade una fuente al zip.
+     *
+     * @param entryName Ruta dentro del zip, con {@code /} como separador (p. ej. {@code com/example/User.java})
+     * @param content   Contenido del archivo
+     */
+    public void add(String entryName, String content) throws IOException {
+        ZipEntry entry = new ZipEntry(entryName);
+        entry.setTime(entryTime);
+        zip.putNextEntry(entry);
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+        entries++;
+    }
+
+    /**
+     * Cierra el zip y lo mueve a su destino.
+     *
+     * @return Número de entradas escritas
+     */
+    public int finish() throws IOException {
+        zip.close();
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        completed = true;
+        return entries;
+    }
+
+    public Path getTarget() {
+        return target;
+    }
+
+    /**
+     * Si no se llamó a {@link #finish()}, descarta el zip incompleto.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!completed) {
+            zip.close();
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package org.example.generator.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Diff por líneas en formato unificado ({@code diff -u}), calculado con el algoritmo de Myers.
+ */
+public final class UnifiedDiff {
+
+    public static final int DEFAULT_CONTEXT = 3;
+
+    private UnifiedDiff() {
+    }
+
+    /**
+     * @param oldName Nombre mostrado en la cabecera {@code ---} (p. ej. {@code /dev/null})
+     * @param newName Nombre mostrado en la cabecera {@code +++}
+     * @param oldText Contenido anterior, o null si el archivo no existía
+     * @param newText Contenido nuevo, o null si el archivo se elimina
+     * @param context Líneas de contexto alrededor de cada cambio
+     * @return El diff, o una cadena vacía si no hay diferencias
+     */
+    public static String diff(String oldName, String newName, String oldText, String newText, int context) {
+        List<String> a = lines(oldText);
+        List<String> b = lines(newText);
+        List<Edit> edits = edits(a, b);
+
+        StringBuilder out = new StringBuilder();
+        int i = 0;
+        while (i < edits.size()) {
+            // Buscar el siguiente cambio
+            while (i < edits.size() && edits.get(i).type == ' ') {
+                i++;
+            }
+            if (i == edits.size()) {
+                break;
+            }
+
+            // El hunk se extiende mientras los cambios estén separados por menos de 2 * context líneas
+            int start = Math.max(0, i - context);
+            int end = i;
+            int lastChange = i;
+            while (end < edits.size()) {
+                if (edits.get(end).type != ' ') {
+                    lastChange = end;
+                } else if (end - lastChange > 2 * context) {
+                    break;
+                }
+                end++;
+            }
+            end = Math.min(edits.size(), lastChange + context + 1);
+
+            if (out.length() == 0) {
+                out.append("--- ").append(oldName).append('\n')
+                    .append("+++ ").append(newName).append('\n');
+            }
+            appendHunk(out, edits, start, end);
+            i = end;
+        }
+        return out.toString();
+    }
+
+    private static void appendHunk(StringBuilder out, List<Edit> edits, int start, int end) {
+        int oldStart = -1;
+        int newStart = -1;
+        int oldCount = 0;
+        int newCount = 0;
+        for (int k = start; k < end; k++) {
+            Edit edit = edits.get(k);
+            if (edit.type != '+') {
+                if (oldStart < 0) {
+                    oldStart = edit.oldLine;
+                }
+                oldCount++;
+            }
+            if (edit.type != '-') {
+                if (newStart < 0) {
+                    newStart = edit.newLine;
+                }
+                newCount++;
+            }
+        }
+        // Un rango vacío se numera con la línea anterior, como en diff -u
+        if (oldStart < 0) {
+            oldStart = edits.get(start).oldLine - 1;
+        }
+        if (newStart < 0) {
+            newStart = edits.get(start).newLine - 1;
+        }
+
+        out.append("@@ -").append(range(oldStart, oldCount)).append(" +").append(range(newStart, newCount)).append(" @@\n");
+        for (int k = start; k < end; k++) {
+            Edit edit = edits.get(k);
+            out.append(edit.type).append(edit.text).append('\n');
+        }
+    }
+
+    private static String range(int start, int count) {
+        return count == 1 ? String.valueOf(start) : start + "," + count;
+    }
+
+    private static List<String> lines(String text) {
+        List<String> lines = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return lines;
+        }
+        int from = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(text.substring(from, i));
+                from = i + 1;
+            }
+        }
+        if (from < text.length()) {
+            lines.add(text.substring(from));
+        }
+        return lines;
+    }
+
+    /**
+     * Secuencia mínima de ediciones (Myers, O((N+M)·D)).
+     */
+    private static List<Edit> edits(List<String> a, List<String> b) {
+        int n = a.size();
+        int m = b.size();
+
+        // Archivos nuevos o eliminados: no hace falta buscar el camino mínimo
+        if (n == 0 || m == 0) {
+            List<Edit> edits = new ArrayList<>(n + m);
+            for (int i = 0; i < n; i++) {
+                edits.add(new Edit('-', a.get(i), i + 1, 1));
+            }
+            for (int j = 0; j < m; j++) {
+                edits.add(new Edit('+', b.get(j), 1, j + 1));
+            }
+            return edits;
+        }
+
+        int max = n + m;
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        int finalD = 0;
+        search:
+        for (int d = 0; d <= max; d++) {
+            trace.add(v.clone());
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+                if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                    x = v[offset + k + 1];
+                } else {
+                    x = v[offset + k - 1] + 1;
+                }
+                int y = x - k;
+                while (x < n && y < m && a.get(x).equals(b.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    finalD = d;
+                    break search;
+                }
+            }
+        }
+
+        // Reconstruir el camino desde el final
+        List<Edit> edits = new ArrayList<>();
+        int x = n;
+        int y = m;
+        for (int d = finalD; d > 0; d--) {
+            int[] previous = trace.get(d);
+            int k = x - y;
+            int previousK = (k == -d || (k != d && previous[offset + k - 1] < previous[offset + k + 1])) ? k + 1 : k - 1;
+            int previousX = previous[offset + previousK];
+            int previousY = previousX - previousK;
+
+            while (x > previousX && y > previousY) {
+                edits.add(new Edit(' ', a.get(x - 1), x, y));
+                x--;
+                y--;
+            }
+            if (x == previousX) {
+                edits.add(new Edit('+', b.get(y - 1), x + 1, y));
+            } else {
+                edits.add(new Edit('-', a.get(x - 1), x, y + 1));
+            }
+            x = previousX;
+            y = previousY;
+        }
+        while (x > 0 && y > 0) {
+            edits.add(new Edit(' ', a.get(x - 1), x, y));
+            x--;
+            y--;
+        }
+
+        List<Edit> ordered = new ArrayList<>(edits.size());
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            ordered.add(edits.get(i));
+        }
+        return ordered;
+    }
+
+    /**
+     * Una línea del diff con su número en el archivo anterior y en el nuevo (base 1).
+     */
+    private static final class Edit {
+        private final char type;
+        private final String text;
+        private final int oldLine;
+        private final int newLine;
+
+        private Edit(char type, String text, int oldLine, int newLine) {
+            this.type = type;
+            this.text = text;
+            this.oldLine = oldLine;
+            this.newLine = newLine;
+        }
+    }
+}
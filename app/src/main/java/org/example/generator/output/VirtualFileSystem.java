@@ -0,0 +1,42 @@
+package org.example.generator.output;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sistema de archivos en memoria para la salida generada. Permite renderizar todo el proyecto
+ * sin tocar el disco (p. ej. para {@code --dry-run}) y recorrer los archivos en orden de ruta.
+ */
+public class VirtualFileSystem {
+
+    private final NavigableMap<Path, String> files = new ConcurrentSkipListMap<>();
+
+    public void write(Path file, String content) {
+        files.put(file.toAbsolutePath().normalize(), content);
+    }
+
+    /**
+     * @return El contenido del archivo, o null si no existe en memoria
+     */
+    public String read(Path file) {
+        return files.get(file.toAbsolutePath().normalize());
+    }
+
+    public boolean exists(Path file) {
+        return files.containsKey(file.toAbsolutePath().normalize());
+    }
+
+    /**
+     * @return Archivos ordenados por ruta (vista de solo lectura)
+     */
+    public Map<Path, String> getFiles() {
+        return Collections.unmodifiableMap(files);
+    }
+
+    public int size() {
+        return files.size();
+    }
+}
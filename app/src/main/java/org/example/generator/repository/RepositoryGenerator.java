@@ -0,0 +1,61 @@
+package org.example.generator.repository;
+
+import org.example.database.model.TableMetadata;
+import org.example.generator.artifact.ArtifactGenerator;
+import org.example.generator.artifact.PrimaryKey;
+import org.example.generator.entity.common.UtilsFactory;
+
+/**
+ * Genera un repositorio de Spring Data JPA por entidad.
+ */
+public class RepositoryGenerator implements ArtifactGenerator {
+
+    public static final String PACKAGE_SUFFIX = "repository";
+
+    @Override
+    public String getDescription() {
+        return "repository classes";
+    }
+
+    @Override
+    public String getPackageSuffix() {
+        return PACKAGE_SUFFIX;
+    }
+
+    @Override
+    public String getClassName(TableMetadata table) {
+        return repositoryName(table);
+    }
+
+    /**
+     * Nombre del repositorio de una tabla, también usado por los servicios que lo inyectan.
+     */
+    public static String repositoryName(TableMetadata table) {
+        return UtilsFactory.generateClassName(table.getTableName()) + "Repository";
+    }
+
+    @Override
+    public String generate(TableMetadata table, String basePackage) {
+        String entityName = UtilsFactory.generateClassName(table.getTableName());
+        PrimaryKey primaryKey = PrimaryKey.of(table);
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("package ").append(basePackage).append('.').append(PACKAGE_SUFFIX).append(";\n\n");
+
+        builder.append("import ").append(basePackage).append('.').append(entityName).append(";\n");
+        builder.append("import org.springframework.data.jpa.repository.JpaRepository;\n");
+        builder.append("import org.springframework.stereotype.Repository;\n");
+        if (primaryKey.getImportStatement() != null) {
+            builder.append(primaryKey.getImportStatement()).append("\n");
+        }
+        builder.append("\n");
+
+        builder.append("@Repository\n")
+            .append("public interface ").append(repositoryName(table))
+            .append(" extends JpaRepository<").append(entityName).append(", ")
+            .append(primaryKey.getJavaType()).append("> {\n")
+            .append("}");
+
+        return builder.toString();
+    }
+}
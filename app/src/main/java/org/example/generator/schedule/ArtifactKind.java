@@ -0,0 +1,31 @@
+package org.example.generator.schedule;
+
+/**
+ * Tipos de artefacto generados por tabla. Cada tipo depende del anterior de la misma tabla:
+ * el repositorio usa la entidad y su clave, el servicio el repositorio y el DTO, y el
+ * controlador el servicio.
+ */
+public enum ArtifactKind {
+    ENTITY(null),
+    REPOSITORY(ENTITY),
+    DTO(REPOSITORY),
+    SERVICE(DTO),
+    CONTROLLER(SERVICE);
+
+    private final ArtifactKind dependsOn;
+
+    ArtifactKind(ArtifactKind dependsOn) {
+        this.dependsOn = dependsOn;
+    }
+
+    /**
+     * Tipo del que depende este artefacto dentro de la misma tabla, o null si no depende de ninguno.
+     */
+    public ArtifactKind getDependsOn() {
+        return dependsOn;
+    }
+
+    public String label() {
+        return name().toLowerCase();
+    }
+}
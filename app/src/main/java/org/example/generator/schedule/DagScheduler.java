@@ -0,0 +1,235 @@
+package org.example.generator.schedule;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ejecuta un grafo acíclico de {@link GenerationTask} sobre un pool de tamaño fijo. Cada tarea
+ * se encola en cuanto terminan sus dependencias, así el repositorio de una tabla empieza en
+ * cuanto su entidad está lista, sin esperar al resto de entidades.
+ * <p>
+ * Entre las tareas listas se ejecuta primero la de mayor nivel inferior (su coste más el del
+ * camino más largo de tareas que dependen de ella), que es la heurística de lista clásica para
+ * acortar el camino crítico. Si una tarea falla, las que dependen de ella se omiten y el resto
+ * del grafo continúa.
+ * <p>
+ * Si el hilo que espera se interrumpe, las tareas que aún no empezaron se marcan como omitidas
+ * y el informe queda marcado como interrumpido ({@link ScheduleReport#isInterrupted()}).
+ */
+public class DagScheduler {
+
+    private final int parallelism;
+
+    /**
+     * @param parallelism Número de hilos; 0 o negativo usa un hilo por procesador disponible
+     */
+    public DagScheduler(int parallelism) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Ejecuta todas las tareas y espera a que terminen.
+     *
+     * @param tasks Tareas del grafo; sus dependencias deben estar también en la lista
+     * @return Informe con los tiempos y el camino crítico; si se interrumpe la espera, las tareas
+     * sin empezar quedan omitidas y el informe marcado como interrumpido
+     * @throws IllegalArgumentException Si el grafo tiene ciclos o dependencias fuera de la lista
+     */
+    public ScheduleReport run(List<GenerationTask> tasks) {
+        computePriorities(tasks);
+        if (tasks.isEmpty()) {
+            return new ScheduleReport(tasks, 0, parallelism);
+        }
+
+        CountDownLatch finished = new CountDownLatch(tasks.size());
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+            new PriorityBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "arch-dag-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        long origin = System.nanoTime();
+        boolean interrupted = false;
+        try {
+            for (GenerationTask task : tasks) {
+                task.remainingDependencies.set(task.getDependencies().size());
+            }
+            // Las tareas iniciales se encolan todas antes de arrancar los hilos, para que también
+            // ellas salgan de la cola por orden de prioridad
+            for (GenerationTask task : tasks) {
+                if (task.getDependencies().isEmpty()) {
+                    executor.getQueue().add(new Job(task, executor, finished, origin));
+                }
+            }
+            executor.prestartAllCoreThreads();
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            interrupted = true;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (interrupted) {
+            skipUnstarted(tasks, System.nanoTime() - origin);
+        }
+        return new ScheduleReport(tasks, System.nanoTime() - origin, parallelism, interrupted);
+    }
+
+    /**
+     * Marca como omitidas las tareas que no llegaron a empezar. Las que estaban en curso reciben
+     * la interrupción del pool y registran su propio resultado al terminar.
+     */
+    private static void skipUnstarted(List<GenerationTask> tasks, long now) {
+        for (GenerationTask task : tasks) {
+            synchronized (task) {
+                if (task.state != GenerationTask.State.PENDING || task.threadName != null) {
+                    continue;
+                }
+                task.state = GenerationTask.State.SKIPPED;
+            }
+            task.startNanos = task.endNanos = now;
+        }
+    }
+
+    /**
+     * Calcula el nivel inferior de cada tarea en orden topológico inverso y comprueba que el
+     * grafo sea acíclico y cerrado.
+     */
+    private static void computePriorities(List<GenerationTask> tasks) {
+        Set<GenerationTask> known = Collections.newSetFromMap(new IdentityHashMap<>());
+        known.addAll(tasks);
+
+        List<GenerationTask> topological = new ArrayList<>(tasks.size());
+        Map<GenerationTask, Integer> inDegree = new IdentityHashMap<>();
+        Deque<GenerationTask> queue = new ArrayDeque<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            GenerationTask task = tasks.get(i);
+            task.order = i;
+            for (GenerationTask dependency : task.getDependencies()) {
+                if (!known.contains(dependency)) {
+                    throw new IllegalArgumentException("Task " + task + " depends on unscheduled task " + dependency);
+                }
+            }
+            inDegree.put(task, task.getDependencies().size());
+            if (task.getDependencies().isEmpty()) {
+                queue.add(task);
+            }
+        }
+        while (!queue.isEmpty()) {
+            GenerationTask task = queue.poll();
+            topological.add(task);
+            for (GenerationTask dependent : task.getDependents()) {
+                if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                    queue.add(dependent);
+                }
+            }
+        }
+        if (topological.size() != tasks.size()) {
+            Set<GenerationTask> cyclic = new HashSet<>(tasks);
+            topological.forEach(cyclic::remove);
+            throw new IllegalArgumentException("Generation tasks contain a dependency cycle: " + cyclic);
+        }
+
+        for (int i = topological.size() - 1; i >= 0; i--) {
+            GenerationTask task = topological.get(i);
+            int longest = 0;
+            for (GenerationTask dependent : task.getDependents()) {
+                longest = Math.max(longest, dependent.priority);
+            }
+            task.priority = task.getCost() + longest;
+        }
+    }
+
+    /**
+     * Ejecución de una tarea. Se ordena por prioridad en la cola del pool.
+     */
+    private static final class Job implements Runnable, Comparable<Job> {
+        private final GenerationTask task;
+        private final ThreadPoolExecutor executor;
+        private final CountDownLatch finished;
+        private final long origin;
+
+        private Job(GenerationTask task, ThreadPoolExecutor executor, CountDownLatch finished, long origin) {
+            this.task = task;
+            this.executor = executor;
+            this.finished = finished;
+            this.origin = origin;
+        }
+
+        @Override
+        public void run() {
+            synchronized (task) {
+                if (task.state != GenerationTask.State.PENDING) {
+                    return;
+                }
+                task.threadName = Thread.currentThread().getName();
+            }
+            task.startNanos = System.nanoTime() - origin;
+            try {
+                task.getAction().run();
+                task.state = GenerationTask.State.DONE;
+            } catch (Throwable e) {
+                task.failure = e;
+                task.state = GenerationTask.State.FAILED;
+            } finally {
+                task.endNanos = System.nanoTime() - origin;
+            }
+
+            if (task.state == GenerationTask.State.DONE) {
+                for (GenerationTask dependent : task.getDependents()) {
+                    // Tras una interrupción el pool ya no acepta tareas
+                    if (executor.isShutdown()) {
+                        break;
+                    }
+                    if (dependent.remainingDependencies.decrementAndGet() == 0) {
+                        executor.execute(new Job(dependent, executor, finished, origin));
+                    }
+                }
+            } else {
+                skipDependents(task);
+            }
+            finished.countDown();
+        }
+
+        /**
+         * Omite las tareas que dependen, directa o indirectamente, de una tarea fallida. Cada una
+         * se omite una sola vez aunque dependa de varias tareas fallidas.
+         */
+        private void skipDependents(GenerationTask failed) {
+            Deque<GenerationTask> pending = new ArrayDeque<>(failed.getDependents());
+            while (!pending.isEmpty()) {
+                GenerationTask dependent = pending.poll();
+                synchronized (dependent) {
+                    if (dependent.state != GenerationTask.State.PENDING) {
+                        continue;
+                    }
+                    dependent.state = GenerationTask.State.SKIPPED;
+                }
+                dependent.startNanos = dependent.endNanos = System.nanoTime() - origin;
+                pending.addAll(dependent.getDependents());
+                finished.countDown();
+            }
+        }
+
+        @Override
+        public int compareTo(Job other) {
+            int byPriority = Integer.compare(other.task.priority, task.priority);
+            return byPriority != 0 ? byPriority : Integer.compare(task.order, other.task.order);
+        }
+    }
+}
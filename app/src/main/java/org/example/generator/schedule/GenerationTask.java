@@ -0,0 +1,130 @@
+package org.example.generator.schedule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Nodo del grafo de generación: un artefacto de una tabla. La tarea no empieza hasta que han
+ * terminado todas sus dependencias; {@link DagScheduler} registra cuándo empezó y terminó.
+ */
+public class GenerationTask {
+
+    /**
+     * Trabajo de la tarea.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public enum State {
+        PENDING,
+        DONE,
+        FAILED,
+        SKIPPED
+    }
+
+    private final ArtifactKind kind;
+    private final String tableName;
+    private final int cost;
+    private final Action action;
+    private final List<GenerationTask> dependencies = new ArrayList<>();
+    private final List<GenerationTask> dependents = new ArrayList<>();
+
+    // Estado de la ejecución, escrito por el planificador
+    final AtomicInteger remainingDependencies = new AtomicInteger();
+    volatile State state = State.PENDING;
+    volatile long startNanos;
+    volatile long endNanos;
+    volatile String threadName;
+    volatile Throwable failure;
+    int priority;
+    int order;
+
+    /**
+     * @param kind      Tipo de artefacto
+     * @param tableName Tabla a la que pertenece
+     * @param cost      Coste estimado relativo, usado para priorizar el camino crítico
+     * @param action    Trabajo a ejecutar
+     */
+    public GenerationTask(ArtifactKind kind, String tableName, int cost, Action action) {
+        this.kind = kind;
+        this.tableName = tableName;
+        this.cost = Math.max(1, cost);
+        this.action = action;
+    }
+
+    /**
+     * Declara que esta tarea no puede empezar hasta que termine {@code dependency}.
+     *
+     * @return Esta tarea, para encadenar llamadas
+     */
+    public GenerationTask dependsOn(GenerationTask dependency) {
+        if (dependency != null) {
+            dependencies.add(dependency);
+            dependency.dependents.add(this);
+        }
+        return this;
+    }
+
+    public ArtifactKind getKind() {
+        return kind;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    Action getAction() {
+        return action;
+    }
+
+    public List<GenerationTask> getDependencies() {
+        return Collections.unmodifiableList(dependencies);
+    }
+
+    List<GenerationTask> getDependents() {
+        return dependents;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Momento de inicio, en nanosegundos desde el comienzo de la planificación.
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Momento de fin, en nanosegundos desde el comienzo de la planificación.
+     */
+    public long getEndNanos() {
+        return endNanos;
+    }
+
+    public long getDurationNanos() {
+        return endNanos - startNanos;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return kind.label() + ":" + tableName;
+    }
+}
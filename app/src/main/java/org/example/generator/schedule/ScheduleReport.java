@@ -0,0 +1,172 @@
+package org.example.generator.schedule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tiempos de una ejecución de {@link DagScheduler}. El camino crítico se reconstruye hacia atrás
+ * desde la última tarea en terminar, siguiendo en cada paso la dependencia que terminó más tarde,
+ * es decir, la que realmente retrasó el inicio de la siguiente.
+ */
+public class ScheduleReport {
+
+    private final List<GenerationTask> tasks;
+    private final long wallNanos;
+    private final int parallelism;
+    private final List<GenerationTask> criticalPath;
+    private final boolean interrupted;
+
+    public ScheduleReport(List<GenerationTask> tasks, long wallNanos, int parallelism) {
+        this(tasks, wallNanos, parallelism, false);
+    }
+
+    /**
+     * @param interrupted Si la ejecución se interrumpió antes de terminar todas las tareas
+     */
+    public ScheduleReport(List<GenerationTask> tasks, long wallNanos, int parallelism, boolean interrupted) {
+        this.tasks = Collections.unmodifiableList(new ArrayList<>(tasks));
+        this.wallNanos = wallNanos;
+        this.parallelism = parallelism;
+        this.criticalPath = computeCriticalPath(tasks);
+        this.interrupted = interrupted;
+    }
+
+    private static List<GenerationTask> computeCriticalPath(List<GenerationTask> tasks) {
+        GenerationTask last = null;
+        for (GenerationTask task : tasks) {
+            if (task.getState() == GenerationTask.State.DONE && (last == null || task.getEndNanos() > last.getEndNanos())) {
+                last = task;
+            }
+        }
+
+        List<GenerationTask> path = new ArrayList<>();
+        while (last != null) {
+            path.add(last);
+            GenerationTask gating = null;
+            for (GenerationTask dependency : last.getDependencies()) {
+                if (gating == null || dependency.getEndNanos() > gating.getEndNanos()) {
+                    gating = dependency;
+                }
+            }
+            last = gating;
+        }
+        Collections.reverse(path);
+        return Collections.unmodifiableList(path);
+    }
+
+    public List<GenerationTask> getTasks() {
+        return tasks;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Cadena de tareas que determinó la duración total, de la primera a la última.
+     */
+    public List<GenerationTask> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * Tiempo de ejecución de las tareas del camino crítico, sin las esperas por un hilo libre.
+     */
+    public long getCriticalPathNanos() {
+        long total = 0;
+        for (GenerationTask task : criticalPath) {
+            total += task.getDurationNanos();
+        }
+        return total;
+    }
+
+    /**
+     * Suma del tiempo de ejecución de todas las tareas.
+     */
+    public long getBusyNanos() {
+        long total = 0;
+        for (GenerationTask task : tasks) {
+            total += task.getDurationNanos();
+        }
+        return total;
+    }
+
+    /**
+     * Si la ejecución se interrumpió: las tareas que no empezaron están omitidas.
+     */
+    public boolean isInterrupted() {
+        return interrupted;
+    }
+
+    /**
+     * Si todas las tareas terminaron bien: sin interrupción, fallos ni tareas omitidas.
+     */
+    public boolean isComplete() {
+        return !interrupted && count(GenerationTask.State.DONE) == tasks.size();
+    }
+
+    public List<GenerationTask> getFailures() {
+        List<GenerationTask> failures = new ArrayList<>();
+        for (GenerationTask task : tasks) {
+            if (task.getState() == GenerationTask.State.FAILED) {
+                failures.add(task);
+            }
+        }
+        return failures;
+    }
+
+    public int count(GenerationTask.State state) {
+        int count = 0;
+        for (GenerationTask task : tasks) {
+            if (task.getState() == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Informe legible: totales por tipo de artefacto, ocupación de los hilos y camino crítico.
+     */
+    public String format() {
+        Map<ArtifactKind, long[]> byKind = new EnumMap<>(ArtifactKind.class);
+        for (GenerationTask task : tasks) {
+            long[] totals = byKind.computeIfAbsent(task.getKind(), k -> new long[2]);
+            totals[0]++;
+            totals[1] += task.getDurationNanos();
+        }
+
+        StringBuilder out = new StringBuilder();
+        out.append("Generation schedule: ").append(tasks.size()).append(" tasks on ").append(parallelism)
+            .append(parallelism == 1 ? " thread in " : " threads in ").append(millis(wallNanos)).append(" ms");
+        if (interrupted) {
+            out.append(", interrupted");
+        }
+        if (wallNanos > 0) {
+            out.append(String.format(Locale.ROOT, " (%.0f%% busy)", 100.0 * getBusyNanos() / ((double) wallNanos * parallelism)));
+        }
+        out.append('\n');
+        byKind.forEach((kind, totals) -> out.append("  ").append(String.format(Locale.ROOT, "%-10s", kind.label()))
+            .append(' ').append(totals[0]).append(" tasks, ").append(millis(totals[1])).append(" ms\n"));
+
+        out.append("Critical path: ").append(millis(getCriticalPathNanos())).append(" ms of work");
+        for (int i = 0; i < criticalPath.size(); i++) {
+            GenerationTask task = criticalPath.get(i);
+            out.append(i == 0 ? "\n  " : " -> ").append(task).append(" (").append(millis(task.getDurationNanos())).append(" ms)");
+        }
+        out.append('\n');
+        return out.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,292 @@
+package org.example.generator.service;
+
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.RelationMetadata;
+import org.example.database.model.TableMetadata;
+import org.example.generator.artifact.ArtifactGenerator;
+import org.example.generator.artifact.PrimaryKey;
+import org.example.generator.dto.DtoGenerator;
+import org.example.generator.entity.EntityGeneratorOptions;
+import org.example.generator.entity.common.TableGenerationContext;
+import org.example.generator.entity.common.UtilsFactory;
+import org.example.generator.repository.RepositoryGenerator;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Genera una clase de servicio por entidad con las operaciones CRUD sobre su repositorio.
+ * Las lecturas se ejecutan en transacciones de solo lectura y las escrituras en transacciones
+ * propias.
+ * <p>
+ * El servicio recibe y devuelve el DTO de la entidad ({@link DtoGenerator}) y hace la
+ * conversión dentro de la transacción: las claves foráneas se leen del proxy sin cargarlo y se
+ * asignan con {@code EntityManager.getReference}. Las actualizaciones modifican la entidad
+ * cargada, así que nunca se insertan como nuevas (p. ej. con {@code Persistable}).
+ */
+public class ServiceGenerator implements ArtifactGenerator {
+
+    public static final String PACKAGE_SUFFIX = "service";
+
+    private final boolean useLombok;
+    private final EntityGeneratorOptions options;
+
+    public ServiceGenerator(boolean useLombok) {
+        this(useLombok, EntityGeneratorOptions.defaults());
+    }
+
+    /**
+     * @param options Políticas con las que se generaron las entidades; deciden los campos y sus tipos
+     */
+    public ServiceGenerator(boolean useLombok, EntityGeneratorOptions options) {
+        this.useLombok = useLombok;
+        this.options = options;
+    }
+
+    @Override
+    public String getDescription() {
+        return "service classes";
+    }
+
+    @Override
+    public String getPackageSuffix() {
+        return PACKAGE_SUFFIX;
+    }
+
+    @Override
+    public String getClassName(TableMetadata table) {
+        return serviceName(table);
+    }
+
+    /**
+     * Nombre del servicio de una tabla, también usado por los controladores que lo inyectan.
+     */
+    public static String serviceName(TableMetadata table) {
+        return UtilsFactory.generateClassName(table.getTableName()) + "Service";
+    }
+
+    @Override
+    public String generate(TableMetadata table, String basePackage) {
+        TableGenerationContext context = TableGenerationContext.of(
+            table, options.getRelationPolicy(), options.getIdPolicy(), options.getEntityPolicy());
+        String entityName = context.getClassName();
+        String entityVariable = Character.toLowerCase(entityName.charAt(0)) + entityName.substring(1);
+        String dtoName = DtoGenerator.dtoName(table);
+        String repositoryName = RepositoryGenerator.repositoryName(table);
+        String repositoryVariable = Character.toLowerCase(repositoryName.charAt(0)) + repositoryName.substring(1);
+        String className = serviceName(table);
+        PrimaryKey primaryKey = PrimaryKey.of(table);
+        String idType = primaryKey.getJavaType();
+
+        // Entidades referenciadas por las asociaciones ManyToOne, que se asignan por referencia
+        Set<String> referencedEntities = new LinkedHashSet<>();
+        for (ColumnMetadata column : table.getColumns()) {
+            RelationMetadata relation = manyToOne(context, column);
+            if (relation != null) {
+                referencedEntities.add(UtilsFactory.generateClassName(relation.getTargetTable()));
+            }
+        }
+        boolean references = !referencedEntities.isEmpty();
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("package ").append(basePackage).append('.').append(PACKAGE_SUFFIX).append(";\n\n");
+
+        // 1. Imports
+        builder.append("import ").append(basePackage).append('.').append(entityName).append(";\n");
+        for (String referenced : referencedEntities) {
+            if (!referenced.equals(entityName)) {
+                builder.append("import ").append(basePackage).append('.').append(referenced).append(";\n");
+            }
+        }
+        builder.append("import ").append(basePackage).append('.').append(DtoGenerator.PACKAGE_SUFFIX)
+            .append('.').append(dtoName).append(";\n");
+        builder.append("import ").append(basePackage).append('.').append(RepositoryGenerator.PACKAGE_SUFFIX)
+            .append('.').append(repositoryName).append(";\n");
+        if (references) {
+            builder.append("import jakarta.persistence.EntityManager;\n");
+        }
+        if (useLombok) {
+            builder.append("import lombok.RequiredArgsConstructor;\n");
+        }
+        builder.append("import org.springframework.stereotype.Service;\n");
+        builder.append("import org.springframework.transaction.annotation.Transactional;\n\n");
+        builder.append("import java.util.List;\n");
+        builder.append("import java.util.Optional;\n");
+        if (primaryKey.getImportStatement() != null) {
+            builder.append(primaryKey.getImportStatement()).append("\n");
+        }
+        builder.append("\n");
+
+        // 2. Declaración de clase
+        builder.append("@Service\n");
+        if (useLombok) {
+            builder.append("@RequiredArgsConstructor\n");
+        }
+        builder.append("@Transactional(readOnly = true)\n")
+            .append("public class ").append(className).append(" {\n\n")
+            .append("    private final ").append(repositoryName).append(" ").append(repositoryVariable).append(";\n");
+        if (references) {
+            builder.append("    private final EntityManager entityManager;\n");
+        }
+        builder.append("\n");
+
+        // 3. Constructor para la inyección del repositorio
+        if (!useLombok) {
+            builder.append("    public ").append(className).append("(").append(repositoryName).append(" ")
+                .append(repositoryVariable);
+            if (references) {
+                builder.append(", EntityManager entityManager");
+            }
+            builder.append(") {\n")
+                .append("        this.").append(repositoryVariable).append(" = ").append(repositoryVariable).append(";\n");
+            if (references) {
+                builder.append("        this.entityManager = entityManager;\n");
+            }
+            builder.append("    }\n\n");
+        }
+
+        // 4. Operaciones CRUD
+        builder.append("    public List<").append(dtoName).append("> findAll() {\n")
+            .append("        return ").append(repositoryVariable).append(".findAll().stream().map(this::toDto).toList();\n")
+            .append("    }\n\n");
+
+        builder.append("    public Optional<").append(dtoName).append("> findById(").append(idType).append(" id) {\n")
+            .append("        return ").append(repositoryVariable).append(".findById(id).map(this::toDto);\n")
+            .append("    }\n\n");
+
+        builder.append("    public boolean existsById(").append(idType).append(" id) {\n")
+            .append("        return ").append(repositoryVariable).append(".existsById(id);\n")
+            .append("    }\n\n");
+
+        builder.append("    @Transactional\n")
+            .append("    public ").append(dtoName).append(" create(").append(dtoName).append(" dto) {\n")
+            .append("        ").append(entityName).append(" ").append(entityVariable).append(" = new ").append(entityName).append("();\n");
+        if (context.isAssignedPrimaryKey()) {
+            // La clave la asigna la aplicación; las generadas las rellena Hibernate
+            builder.append("        ").append(entityVariable).append(".").append(primaryKey.getSetterName())
+                .append("(dto.").append(primaryKey.getFieldName()).append("());\n");
+        }
+        builder.append("        apply(dto, ").append(entityVariable).append(");\n")
+            .append("        return toDto(").append(repositoryVariable).append(".save(").append(entityVariable).append("));\n")
+            .append("    }\n\n");
+
+        builder.append("    @Transactional\n")
+            .append("    public Optional<").append(dtoName).append("> update(").append(idType).append(" id, ")
+            .append(dtoName).append(" dto) {\n")
+            .append("        return ").append(repositoryVariable).append(".findById(id).map(").append(entityVariable).append(" -> {\n")
+            .append("            apply(dto, ").append(entityVariable).append(");\n")
+            .append("            return toDto(").append(repositoryVariable).append(".save(").append(entityVariable).append("));\n")
+            .append("        });\n")
+            .append("    }\n\n");
+
+        builder.append("    @Transactional\n")
+            .append("    public void deleteById(").append(idType).append(" id) {\n")
+            .append("        ").append(repositoryVariable).append(".deleteById(id);\n")
+            .append("    }\n\n");
+
+        // 5. Conversión entre la entidad y el DTO
+        generateToDto(context, entityName, entityVariable, dtoName, builder);
+        generateApply(context, entityName, entityVariable, dtoName, builder);
+
+        builder.append("}");
+        return builder.toString();
+    }
+
+    /**
+     * Construye el DTO con una expresión por columna, en el orden de los componentes del record.
+     */
+    private void generateToDto(TableGenerationContext context, String entityName, String entityVariable, String dtoName,
+                               StringBuilder builder) {
+        builder.append("    private ").append(dtoName).append(" toDto(").append(entityName).append(" ")
+            .append(entityVariable).append(") {\n")
+            .append("        return new ").append(dtoName).append("(");
+        List<ColumnMetadata> columns = context.getTable().getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnMetadata column = columns.get(i);
+            RelationMetadata relation = manyToOne(context, column);
+            builder.append(i > 0 ? ",\n            " : "\n            ");
+            if (relation != null) {
+                // El id de un proxy LAZY se lee sin inicializarlo
+                String association = entityVariable + "." + accessor("get", DtoGenerator.componentName(column)) + "()";
+                String targetId = accessor("get", UtilsFactory.generateFieldName(relation.getTargetColumn())) + "()";
+                builder.append(association).append(" != null ? ").append(association).append(".").append(targetId)
+                    .append(" : null");
+            } else {
+                builder.append(entityVariable).append(".").append(getterName(context, column)).append("()");
+            }
+        }
+        builder.append(");\n")
+            .append("    }\n\n");
+    }
+
+    /**
+     * Copia en la entidad los valores del DTO, salvo la clave primaria y las columnas calculadas.
+     */
+    private void generateApply(TableGenerationContext context, String entityName, String entityVariable, String dtoName,
+                               StringBuilder builder) {
+        builder.append("    private void apply(").append(dtoName).append(" dto, ").append(entityName).append(" ")
+            .append(entityVariable).append(") {\n");
+        for (ColumnMetadata column : context.getTable().getColumns()) {
+            if (context.isPrimaryKey(column.getColumnName()) || column.isComputed()) {
+                continue;
+            }
+            String component = "dto." + DtoGenerator.componentName(column) + "()";
+            RelationMetadata relation = manyToOne(context, column);
+            builder.append("        ").append(entityVariable).append(".");
+            if (relation != null) {
+                String targetClass = UtilsFactory.generateClassName(relation.getTargetTable());
+                builder.append(accessor("set", DtoGenerator.componentName(column))).append("(").append(component)
+                    .append(" != null ? entityManager.getReference(").append(targetClass).append(".class, ")
+                    .append(component).append(") : null);\n");
+            } else {
+                builder.append(setterName(context, column)).append("(").append(component).append(");\n");
+            }
+        }
+        builder.append("    }\n");
+    }
+
+    /**
+     * Relación ManyToOne generada como asociación para la columna, o null si la columna es un
+     * campo simple de la entidad.
+     */
+    private static RelationMetadata manyToOne(TableGenerationContext context, ColumnMetadata column) {
+        if (!context.isManyToOneColumn(column.getColumnName())) {
+            return null;
+        }
+        for (RelationMetadata relation : context.getRelations()) {
+            if (relation.isManyToOne() && relation.getSourceColumn().equals(column.getColumnName())) {
+                return relation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Getter de la columna en la entidad. Lombok usa el prefijo {@code is} en los boolean
+     * primitivos y no lo repite si el campo ya empieza por {@code is}.
+     */
+    private String getterName(TableGenerationContext context, ColumnMetadata column) {
+        String fieldName = DtoGenerator.componentName(column);
+        if (useLombok && "boolean".equals(context.getJavaType(column))) {
+            return hasIsPrefix(fieldName) ? fieldName : accessor("is", fieldName);
+        }
+        return accessor("get", fieldName);
+    }
+
+    private String setterName(TableGenerationContext context, ColumnMetadata column) {
+        String fieldName = DtoGenerator.componentName(column);
+        if (useLombok && "boolean".equals(context.getJavaType(column)) && hasIsPrefix(fieldName)) {
+            return "set" + fieldName.substring(2);
+        }
+        return accessor("set", fieldName);
+    }
+
+    private static boolean hasIsPrefix(String fieldName) {
+        return fieldName.length() > 2 && fieldName.startsWith("is") && Character.isUpperCase(fieldName.charAt(2));
+    }
+
+    private static String accessor(String prefix, String fieldName) {
+        return prefix + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.generator.template;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Pila de ámbitos usada durante el renderizado. Las variables se buscan desde el ámbito más
+ * interno hacia el modelo raíz; dentro de una iteración están disponibles {@code @index},
+ * {@code @first} y {@code @last}.
+ * <p>
+ * Los valores perezosos del modelo ({@link Supplier}) se evalúan una sola vez por renderizado:
+ * cada sección {@code {{#columns}}} reutiliza la misma lista en lugar de reconstruirla.
+ */
+final class RenderContext {
+
+    private static final Object MISSING = new Object();
+
+    private Object[] scopes = new Object[8];
+    private int[] indexes = new int[8];
+    private int[] sizes = new int[8];
+    private int depth;
+    private Map<Supplier<?>, Object> resolved;
+
+    RenderContext(Object model) {
+        scopes[0] = model;
+        indexes[0] = -1;
+        depth = 1;
+    }
+
+    void push(Object scope, int index, int size) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+            indexes = Arrays.copyOf(indexes, depth * 2);
+            sizes = Arrays.copyOf(sizes, depth * 2);
+        }
+        scopes[depth] = scope;
+        indexes[depth] = index;
+        sizes[depth] = size;
+        depth++;
+    }
+
+    void pop() {
+        scopes[--depth] = null;
+    }
+
+    /**
+     * Resuelve una ruta ({@code a.b.c}) ya dividida en partes.
+     */
+    Object lookup(String[] path) {
+        String head = path[0];
+        Object value;
+
+        if (head.equals(".")) {
+            value = scopes[depth - 1];
+        } else if (head.charAt(0) == '@') {
+            return iterationValue(head);
+        } else {
+            value = MISSING;
+            for (int i = depth - 1; i >= 0 && value == MISSING; i--) {
+                value = property(scopes[i], head);
+            }
+            if (value == MISSING) {
+                return null;
+            }
+        }
+
+        for (int i = 1; i < path.length && value != null; i++) {
+            Object next = property(value, path[i]);
+            value = next == MISSING ? null : next;
+        }
+        return value;
+    }
+
+    private Object iterationValue(String name) {
+        for (int i = depth - 1; i > 0; i--) {
+            if (indexes[i] >= 0) {
+                switch (name) {
+                    case "@index":
+                        return indexes[i];
+                    case "@first":
+                        return indexes[i] == 0;
+                    case "@last":
+                        return indexes[i] == sizes[i] - 1;
+                    default:
+                        return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Object property(Object scope, String name) {
+        if (scope instanceof Map<?, ?>) {
+            Map<?, ?> map = (Map<?, ?>) scope;
+            Object value = map.get(name);
+            if (value == null && !map.containsKey(name)) {
+                return MISSING;
+            }
+            return resolve(value);
+        }
+        return MISSING;
+    }
+
+    Object resolve(Object value) {
+        if (value instanceof Supplier<?>) {
+            if (resolved == null) {
+                resolved = new IdentityHashMap<>();
+            }
+            Supplier<?> supplier = (Supplier<?>) value;
+            Object result = resolved.get(supplier);
+            if (result == null && !resolved.containsKey(supplier)) {
+                result = supplier.get();
+                resolved.put(supplier, result);
+            }
+            return result;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.generator.template;
+
+/**
+ * Plantilla compilada e inmutable; puede compartirse entre hilos. Cada hilo reutiliza su
+ * propio buffer de salida, por lo que renderizar no reserva un StringBuilder nuevo por entidad.
+ */
+public final class Template {
+
+    private static final int MIN_BUFFER = 1024;
+    private static final int MAX_RETAINED_BUFFER = 1 << 20;
+
+    private final String name;
+    private final TemplateNode[] nodes;
+    private final int initialCapacity;
+    private final ThreadLocal<StringBuilder> buffers;
+
+    Template(String name, TemplateNode[] nodes, int textLength) {
+        this.name = name;
+        this.nodes = nodes;
+        this.initialCapacity = Math.max(MIN_BUFFER, textLength * 2);
+        this.buffers = ThreadLocal.withInitial(() -> new StringBuilder(initialCapacity));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Renderiza la plantilla con el modelo indicado (normalmente un {@code Map<String, Object>}).
+     */
+    public String render(Object model) {
+        StringBuilder out = buffers.get();
+        out.setLength(0);
+        renderTo(model, out);
+        String result = out.toString();
+
+        // Evita retener buffers enormes tras una entidad excepcionalmente grande
+        if (out.capacity() > MAX_RETAINED_BUFFER) {
+            buffers.remove();
+        }
+        return result;
+    }
+
+    /**
+     * Renderiza la plantilla al final de {@code out}.
+     */
+    public void renderTo(Object model, StringBuilder out) {
+        RenderContext context = new RenderContext(model);
+        for (TemplateNode node : nodes) {
+            node.render(context, out);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.generator.template;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Compila plantillas de estilo Mustache a un árbol de nodos que se recorre sin volver a
+ * interpretar el texto en cada renderizado.
+ * <p>
+ * Etiquetas soportadas:
+ * <ul>
+ *   <li>{@code {{name}}} / {@code {{a.b}}}: variable (los {@link TemplateFragment} escriben directo al buffer)</li>
+ *   <li>{@code {{#name}}...{{/name}}}: sección condicional, o iterada si el valor es una colección</li>
+ *   <li>{@code {{^name}}...{{/name}}}: sección invertida (se renderiza si el valor es falso o vacío)</li>
+ *   <li>{@code {{! comentario}}}</li>
+ * </ul>
+ * Las etiquetas de sección y los comentarios que ocupan una línea completa no dejan líneas vacías.
+ */
+public final class TemplateCompiler {
+
+    /**
+     * Plantilla de entidad incluida en el JAR; reproduce exactamente la salida por defecto.
+     */
+    public static final String DEFAULT_ENTITY_TEMPLATE = "templates/entity.java.tmpl";
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final Pattern DOT = Pattern.compile("\\.");
+
+    private TemplateCompiler() {
+    }
+
+    public static Template compile(Path file) {
+        try {
+            return compile(file.toString(), Files.readString(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new TemplateException("No se pudo leer la plantilla " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Compila una plantilla empaquetada como recurso del classpath.
+     */
+    public static Template compileResource(String resource) {
+        try (InputStream in = TemplateCompiler.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new TemplateException("Plantilla no encontrada en el classpath: " + resource);
+            }
+            return compile(resource, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new TemplateException("No se pudo leer la plantilla " + resource + ": " + e.getMessage(), e);
+        }
+    }
+
+    public static Template compile(String name, String source) {
+        Deque<Frame> stack = new ArrayDeque<>();
+        Frame root = new Frame(null, false);
+        stack.push(root);
+
+        int position = 0;
+        int textLength = 0;
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                textLength += addText(stack.peek(), source.substring(position));
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new TemplateException(name + ": etiqueta sin cerrar en la posición " + open);
+            }
+
+            String tag = source.substring(open + OPEN.length(), close).trim();
+            if (tag.isEmpty()) {
+                throw new TemplateException(name + ": etiqueta vacía en la posición " + open);
+            }
+            char kind = tag.charAt(0);
+            int end = close + CLOSE.length();
+            int textEnd = open;
+
+            // Las etiquetas de bloque solas en su línea se eliminan junto con la línea
+            if (kind == '#' || kind == '^' || kind == '/' || kind == '!') {
+                int lineStart = lineStart(source, open);
+                int lineEnd = lineEnd(source, end);
+                if (lineStart >= position && lineEnd >= 0) {
+                    textEnd = lineStart;
+                    end = lineEnd;
+                }
+            }
+
+            textLength += addText(stack.peek(), source.substring(position, textEnd));
+
+            switch (kind) {
+                case '!':
+                    break;
+                case '#':
+                case '^':
+                    stack.push(new Frame(tag.substring(1).trim(), kind == '^'));
+                    break;
+                case '/': {
+                    String sectionName = tag.substring(1).trim();
+                    Frame frame = stack.pop();
+                    if (frame.name == null || !frame.name.equals(sectionName)) {
+                        throw new TemplateException(name + ": cierre inesperado {{/" + sectionName + "}}"
+                            + (frame.name != null ? ", se esperaba {{/" + frame.name + "}}" : ""));
+                    }
+                    stack.peek().nodes.add(new TemplateNode.Section(
+                        splitPath(frame.name), frame.nodes.toArray(new TemplateNode[0]), frame.inverted));
+                    break;
+                }
+                default:
+                    stack.peek().nodes.add(new TemplateNode.Variable(splitPath(tag)));
+            }
+            position = end;
+        }
+
+        if (stack.size() > 1) {
+            throw new TemplateException(name + ": sección {{#" + stack.peek().name + "}} sin cerrar");
+        }
+        return new Template(name, root.nodes.toArray(new TemplateNode[0]), textLength);
+    }
+
+    private static int addText(Frame frame, String text) {
+        if (!text.isEmpty()) {
+            frame.nodes.add(new TemplateNode.Text(text));
+        }
+        return text.length();
+    }
+
+    /**
+     * Inicio de la línea de {@code index} si antes de la etiqueta solo hay espacios, o -1.
+     */
+    private static int lineStart(String source, int index) {
+        int i = index - 1;
+        while (i >= 0 && (source.charAt(i) == ' ' || source.charAt(i) == '\t')) {
+            i--;
+        }
+        return i < 0 || source.charAt(i) == '\n' ? i + 1 : -1;
+    }
+
+    /**
+     * Posición tras el salto de línea si después de la etiqueta solo hay espacios, o -1.
+     */
+    private static int lineEnd(String source, int index) {
+        int i = index;
+        while (i < source.length() && (source.charAt(i) == ' ' || source.charAt(i) == '\t' || source.charAt(i) == '\r')) {
+            i++;
+        }
+        if (i == source.length()) {
+            return i;
+        }
+        return source.charAt(i) == '\n' ? i + 1 : -1;
+    }
+
+    private static String[] splitPath(String path) {
+        if (path.equals(".")) {
+            return new String[]{"."};
+        }
+        return DOT.split(path);
+    }
+
+    private static final class Frame {
+        private final String name;
+        private final boolean inverted;
+        private final List<TemplateNode> nodes = new ArrayList<>();
+
+        private Frame(String name, boolean inverted) {
+            this.name = name;
+            this.inverted = inverted;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.generator.template;
+
+/**
+ * Valor del modelo que escribe su contenido directamente en el buffer de salida, sin crear
+ * un String intermedio. Permite exponer en una plantilla bloques producidos por los
+ * generadores existentes (imports, campos, getters...).
+ */
+@FunctionalInterface
+public interface TemplateFragment {
+
+    void writeTo(StringBuilder out);
+}
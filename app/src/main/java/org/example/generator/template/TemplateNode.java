@@ -0,0 +1,128 @@
+package org.example.generator.template;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Instrucción compilada de una plantilla. Una plantilla es un arreglo de nodos y las
+ * secciones contienen a su vez el arreglo de nodos de su cuerpo.
+ */
+interface TemplateNode {
+
+    void render(RenderContext context, StringBuilder out);
+
+    /**
+     * Texto literal de la plantilla.
+     */
+    final class Text implements TemplateNode {
+        private final String text;
+
+        Text(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void render(RenderContext context, StringBuilder out) {
+            out.append(text);
+        }
+
+        int length() {
+            return text.length();
+        }
+    }
+
+    /**
+     * {@code {{name}}}: escribe el valor de una variable.
+     */
+    final class Variable implements TemplateNode {
+        private final String[] path;
+
+        Variable(String[] path) {
+            this.path = path;
+        }
+
+        @Override
+        public void render(RenderContext context, StringBuilder out) {
+            Object value = context.lookup(path);
+            if (value == null) {
+                return;
+            }
+            if (value instanceof TemplateFragment) {
+                ((TemplateFragment) value).writeTo(out);
+            } else if (value instanceof CharSequence) {
+                out.append((CharSequence) value);
+            } else {
+                out.append(value);
+            }
+        }
+    }
+
+    /**
+     * {@code {{#name}}...{{/name}}} y {@code {{^name}}...{{/name}}}: cuerpo condicional o iterado.
+     */
+    final class Section implements TemplateNode {
+        private final String[] path;
+        private final TemplateNode[] body;
+        private final boolean inverted;
+
+        Section(String[] path, TemplateNode[] body, boolean inverted) {
+            this.path = path;
+            this.body = body;
+            this.inverted = inverted;
+        }
+
+        @Override
+        public void render(RenderContext context, StringBuilder out) {
+            Object value = context.lookup(path);
+
+            if (inverted) {
+                if (isFalsy(value)) {
+                    renderBody(context, out);
+                }
+                return;
+            }
+            if (isFalsy(value)) {
+                return;
+            }
+
+            if (value instanceof List<?>) {
+                List<?> items = (List<?>) value;
+                int size = items.size();
+                for (int i = 0; i < size; i++) {
+                    context.push(context.resolve(items.get(i)), i, size);
+                    renderBody(context, out);
+                    context.pop();
+                }
+            } else if (value instanceof Collection<?>) {
+                Collection<?> items = (Collection<?>) value;
+                int size = items.size();
+                int i = 0;
+                for (Object item : items) {
+                    context.push(context.resolve(item), i++, size);
+                    renderBody(context, out);
+                    context.pop();
+                }
+            } else if (value instanceof Map<?, ?>) {
+                context.push(value, -1, 0);
+                renderBody(context, out);
+                context.pop();
+            } else {
+                renderBody(context, out);
+            }
+        }
+
+        private void renderBody(RenderContext context, StringBuilder out) {
+            for (TemplateNode node : body) {
+                node.render(context, out);
+            }
+        }
+
+        private static boolean isFalsy(Object value) {
+            return value == null
+                || Boolean.FALSE.equals(value)
+                || (value instanceof Collection<?> && ((Collection<?>) value).isEmpty())
+                || (value instanceof CharSequence && ((CharSequence) value).length() == 0);
+        }
+    }
+}
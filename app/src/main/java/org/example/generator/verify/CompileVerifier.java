@@ -0,0 +1,239 @@
+package org.example.generator.verify;
+
+import org.example.generator.entity.RenderedEntity;
+import org.example.generator.entity.common.UtilsFactory;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compila las entidades generadas en memoria con {@link JavaCompiler} antes de escribirlas.
+ * Las anotaciones de JPA y Lombok se resuelven contra {@link PersistenceStubs}, compilados una
+ * sola vez por proceso. Las entidades se reparten en lotes que se compilan en paralelo; cada
+ * lote ve todas las fuentes generadas para resolver las relaciones entre entidades.
+ */
+public class CompileVerifier {
+
+    private static final int MIN_BATCH_SIZE = 32;
+    private static final List<String> OPTIONS = List.of("-proc:none", "-implicit:none", "-nowarn", "-Xlint:none", "-g:none");
+
+    private final JavaCompiler compiler;
+    private final int parallelism;
+    private final Path sourceRoot;
+
+    /**
+     * @param parallelism Lotes compilados a la vez (0 = uno por procesador)
+     * @param sourceRoot  Raíz de fuentes existente para resolver entidades no regeneradas, o null
+     */
+    public CompileVerifier(int parallelism, Path sourceRoot) {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.sourceRoot = sourceRoot;
+    }
+
+    /**
+     * El compilador solo está disponible cuando se ejecuta sobre un JDK, no sobre un JRE.
+     */
+    public boolean isAvailable() {
+        return compiler != null;
+    }
+
+    /**
+     * Compila las entidades indicadas.
+     *
+     * @param entities    Entidades renderizadas
+     * @param packageName Paquete en el que se generaron
+     * @return Errores agrupados por tabla, en el orden de las entidades
+     */
+    public VerificationResult verify(List<RenderedEntity> entities, String packageName) {
+        return verify(entities, packageName, Map.of());
+    }
+
+    /**
+     * Compila las entidades indicadas junto con clases de soporte generadas en su mismo paquete
+     * (p. ej. el generador UUIDv7).
+     *
+     * @param entities       Entidades renderizadas
+     * @param packageName    Paquete en el que se generaron
+     * @param supportSources Código fuente de las clases de soporte por nombre simple
+     * @return Errores agrupados por tabla, en el orden de las entidades
+     */
+    public VerificationResult verify(List<RenderedEntity> entities, String packageName, Map<String, String> supportSources) {
+        if (compiler == null) {
+            throw new IllegalStateException("No Java compiler available; run Archetype on a JDK to use --verify");
+        }
+        long start = System.currentTimeMillis();
+
+        // Fuentes en memoria y su tabla de origen
+        Map<String, MemoryFileManager.SourceFile> sources = new LinkedHashMap<>();
+        Map<String, String> tableByClass = new HashMap<>();
+        for (RenderedEntity entity : entities) {
+            String className = UtilsFactory.generateClassName(entity.getTable().getTableName());
+            String binaryName = packageName.isEmpty() ? className : packageName + "." + className;
+            sources.put(binaryName, new MemoryFileManager.SourceFile(binaryName, entity.getContent()));
+            tableByClass.put(className, entity.getTable().getTableName());
+        }
+        supportSources.forEach((className, content) -> {
+            String binaryName = packageName.isEmpty() ? className : packageName + "." + className;
+            sources.put(binaryName, new MemoryFileManager.SourceFile(binaryName, content));
+        });
+
+        List<List<MemoryFileManager.SourceFile>> batches = batches(new ArrayList<>(sources.values()));
+        List<VerificationError> errors = new ArrayList<>();
+
+        if (!batches.isEmpty()) {
+            AtomicInteger counter = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, batches.size()), runnable -> {
+                Thread thread = new Thread(runnable, "arch-verify-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<CompletableFuture<List<Diagnostic<? extends JavaFileObject>>>> futures = new ArrayList<>();
+                for (List<MemoryFileManager.SourceFile> batch : batches) {
+                    futures.add(CompletableFuture.supplyAsync(() -> compile(batch, sources), executor));
+                }
+
+                // Un mismo error puede aparecer en varios lotes si la fuente se cargó de forma implícita
+                Set<String> seen = new LinkedHashSet<>();
+                for (CompletableFuture<List<Diagnostic<? extends JavaFileObject>>> future : futures) {
+                    for (Diagnostic<? extends JavaFileObject> diagnostic : future.join()) {
+                        VerificationError error = toError(diagnostic, tableByClass);
+                        if (seen.add(error.getClassName() + ":" + error.getLine() + ":" + error.getMessage())) {
+                            errors.add(error);
+                        }
+                    }
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        List<String> order = new ArrayList<>(tableByClass.values());
+        errors.sort((a, b) -> {
+            int byTable = Integer.compare(indexOf(order, a), indexOf(order, b));
+            return byTable != 0 ? byTable : Long.compare(a.getLine(), b.getLine());
+        });
+        return new VerificationResult(entities.size(), errors, System.currentTimeMillis() - start);
+    }
+
+    private List<List<MemoryFileManager.SourceFile>> batches(List<MemoryFileManager.SourceFile> files) {
+        List<List<MemoryFileManager.SourceFile>> batches = new ArrayList<>();
+        int batchSize = Math.max(MIN_BATCH_SIZE, (files.size() + parallelism - 1) / parallelism);
+        for (int i = 0; i < files.size(); i += batchSize) {
+            batches.add(files.subList(i, Math.min(files.size(), i + batchSize)));
+        }
+        return batches;
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(List<MemoryFileManager.SourceFile> batch,
+                                                               Map<String, MemoryFileManager.SourceFile> sources) {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (MemoryFileManager fileManager = newFileManager(diagnostics, sources, StubClasses.get(compiler))) {
+            compiler.getTask(null, fileManager, diagnostics, OPTIONS, null, batch).call();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic);
+            }
+        }
+        return errors;
+    }
+
+    private MemoryFileManager newFileManager(DiagnosticCollector<JavaFileObject> diagnostics,
+                                             Map<String, ? extends JavaFileObject> sources,
+                                             Map<String, byte[]> classes) throws IOException {
+        StandardJavaFileManager standard = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8);
+        // Sin classpath: las entidades solo deben depender del JDK y de los stubs
+        standard.setLocation(StandardLocation.CLASS_PATH, Collections.emptyList());
+        boolean disk = sourceRoot != null && Files.isDirectory(sourceRoot);
+        if (disk) {
+            standard.setLocation(StandardLocation.SOURCE_PATH, List.of(sourceRoot.toFile()));
+        }
+        return new MemoryFileManager(standard, sources, classes, disk);
+    }
+
+    private static VerificationError toError(Diagnostic<? extends JavaFileObject> diagnostic, Map<String, String> tableByClass) {
+        String className = "?";
+        if (diagnostic.getSource() != null) {
+            String name = diagnostic.getSource().getName();
+            name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+            className = name.endsWith(".java") ? name.substring(0, name.length() - 5) : name;
+        }
+        return new VerificationError(tableByClass.get(className), className,
+            diagnostic.getLineNumber(), diagnostic.getMessage(Locale.ROOT));
+    }
+
+    private static int indexOf(List<String> order, VerificationError error) {
+        int index = error.getTableName() != null ? order.indexOf(error.getTableName()) : -1;
+        return index >= 0 ? index : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Stubs compilados una única vez por proceso y compartidos por todas las compilaciones.
+     */
+    private static final class StubClasses {
+        private static volatile Map<String, byte[]> classes;
+
+        static Map<String, byte[]> get(JavaCompiler compiler) {
+            Map<String, byte[]> result = classes;
+            if (result == null) {
+                synchronized (StubClasses.class) {
+                    result = classes;
+                    if (result == null) {
+                        result = compile(compiler);
+                        classes = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static Map<String, byte[]> compile(JavaCompiler compiler) {
+            List<MemoryFileManager.SourceFile> stubs = new ArrayList<>();
+            PersistenceStubs.sources().forEach((name, source) -> stubs.add(new MemoryFileManager.SourceFile(name, source)));
+
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            StandardJavaFileManager standard = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8);
+            try (MemoryFileManager fileManager = new MemoryFileManager(standard, Map.of(), Map.of(), false)) {
+                if (!compiler.getTask(null, fileManager, diagnostics, List.of("-proc:none", "-nowarn"), null, stubs).call()) {
+                    throw new IllegalStateException("Persistence stubs failed to compile: " + diagnostics.getDiagnostics());
+                }
+                Map<String, byte[]> compiled = new HashMap<>();
+                for (MemoryFileManager.OutputFile output : fileManager.getOutputs()) {
+                    compiled.put(output.getBinaryName(), output.getBytes());
+                }
+                return Collections.unmodifiableMap(compiled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
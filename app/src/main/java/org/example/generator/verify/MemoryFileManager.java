@@ -0,0 +1,203 @@
+package org.example.generator.verify;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Gestor de archivos de javac que trabaja en memoria: las fuentes generadas se sirven desde el
+ * source path, los stubs ya compilados desde el classpath y las clases de salida se descartan.
+ * Si se indica un source path real, sirve para resolver entidades que no se regeneraron.
+ */
+final class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private final Map<String, ? extends JavaFileObject> sources;
+    private final Map<String, byte[]> classes;
+    private final boolean diskSourcePath;
+    private final List<OutputFile> outputs = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * @param delegate       Gestor estándar (un gestor por compilación; no es seguro entre hilos)
+     * @param sources        Fuentes en memoria por nombre binario
+     * @param classes        Clases precompiladas por nombre binario
+     * @param diskSourcePath Si el gestor estándar tiene configurado un source path en disco
+     */
+    MemoryFileManager(StandardJavaFileManager delegate, Map<String, ? extends JavaFileObject> sources,
+                      Map<String, byte[]> classes, boolean diskSourcePath) {
+        super(delegate);
+        this.sources = sources;
+        this.classes = classes;
+        this.diskSourcePath = diskSourcePath;
+    }
+
+    @Override
+    public boolean hasLocation(Location location) {
+        return location == StandardLocation.SOURCE_PATH || super.hasLocation(location);
+    }
+
+    @Override
+    public Iterable<JavaFileObject> list(Location location, String packageName, Set<JavaFileObject.Kind> kinds,
+                                         boolean recurse) throws IOException {
+        List<JavaFileObject> result = new ArrayList<>();
+
+        if (location == StandardLocation.SOURCE_PATH) {
+            if (kinds.contains(JavaFileObject.Kind.SOURCE)) {
+                addInPackage(sources, packageName, recurse, result);
+            }
+            if (diskSourcePath) {
+                // Las fuentes en memoria reemplazan a las del disco con el mismo nombre
+                for (JavaFileObject file : super.list(location, packageName, kinds, recurse)) {
+                    if (!sources.containsKey(super.inferBinaryName(location, file))) {
+                        result.add(file);
+                    }
+                }
+            }
+            return result;
+        }
+
+        if (location == StandardLocation.CLASS_PATH && kinds.contains(JavaFileObject.Kind.CLASS)) {
+            for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                if (inPackage(entry.getKey(), packageName, recurse)) {
+                    result.add(new ClassFile(entry.getKey(), entry.getValue()));
+                }
+            }
+        }
+
+        for (JavaFileObject file : super.list(location, packageName, kinds, recurse)) {
+            result.add(file);
+        }
+        return result;
+    }
+
+    @Override
+    public String inferBinaryName(Location location, JavaFileObject file) {
+        if (file instanceof SourceFile) {
+            return ((SourceFile) file).getBinaryName();
+        }
+        if (file instanceof ClassFile) {
+            return ((ClassFile) file).binaryName;
+        }
+        return super.inferBinaryName(location, file);
+    }
+
+    @Override
+    public boolean isSameFile(FileObject a, FileObject b) {
+        if (a instanceof SourceFile || a instanceof ClassFile || b instanceof SourceFile || b instanceof ClassFile) {
+            return a.toUri().equals(b.toUri());
+        }
+        return super.isSameFile(a, b);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                                               FileObject sibling) {
+        OutputFile output = new OutputFile(className, kind);
+        outputs.add(output);
+        return output;
+    }
+
+    List<OutputFile> getOutputs() {
+        return outputs;
+    }
+
+    private static void addInPackage(Map<String, ? extends JavaFileObject> files, String packageName, boolean recurse,
+                                     List<JavaFileObject> result) {
+        for (Map.Entry<String, ? extends JavaFileObject> entry : files.entrySet()) {
+            if (inPackage(entry.getKey(), packageName, recurse)) {
+                result.add(entry.getValue());
+            }
+        }
+    }
+
+    private static boolean inPackage(String binaryName, String packageName, boolean recurse) {
+        int lastDot = binaryName.lastIndexOf('.');
+        String pkg = lastDot < 0 ? "" : binaryName.substring(0, lastDot);
+        return pkg.equals(packageName) || (recurse && pkg.startsWith(packageName + "."));
+    }
+
+    private static URI uri(String binaryName, JavaFileObject.Kind kind) {
+        return URI.create("mem:///" + binaryName.replace('.', '/') + kind.extension);
+    }
+
+    /**
+     * Fuente Java en memoria.
+     */
+    static final class SourceFile extends SimpleJavaFileObject {
+        private final String binaryName;
+        private final String content;
+
+        SourceFile(String binaryName, String content) {
+            super(uri(binaryName, Kind.SOURCE), Kind.SOURCE);
+            this.binaryName = binaryName;
+            this.content = content;
+        }
+
+        String getBinaryName() {
+            return binaryName;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+
+    /**
+     * Clase compilada en memoria, leída desde el classpath.
+     */
+    private static final class ClassFile extends SimpleJavaFileObject {
+        private final String binaryName;
+        private final byte[] bytes;
+
+        ClassFile(String binaryName, byte[] bytes) {
+            super(uri(binaryName, Kind.CLASS), Kind.CLASS);
+            this.binaryName = binaryName;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public InputStream openInputStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+    }
+
+    /**
+     * Salida de javac. Se conserva solo para poder compilar los stubs una vez y reutilizarlos.
+     */
+    static final class OutputFile extends SimpleJavaFileObject {
+        private final String binaryName;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        OutputFile(String binaryName, Kind kind) {
+            super(uri(binaryName, kind), kind);
+            this.binaryName = binaryName;
+        }
+
+        String getBinaryName() {
+            return binaryName;
+        }
+
+        byte[] getBytes() {
+            return bytes.toByteArray();
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return bytes;
+        }
+    }
+}
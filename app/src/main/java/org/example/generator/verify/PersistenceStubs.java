@@ -0,0 +1,134 @@
+package org.example.generator.verify;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Código fuente mínimo de las APIs que usan las entidades generadas (Jakarta Persistence,
+ * las extensiones de Hibernate, Persistable de Spring Data y Lombok). Solo declara tipos y
+ * atributos, suficiente para que javac compruebe nombres, imports y valores de las anotaciones
+ * sin depender de los JAR reales.
+ */
+final class PersistenceStubs {
+
+    private static final String TYPE = "@java.lang.annotation.Target(java.lang.annotation.ElementType.TYPE)\n";
+    private static final String MEMBER = "@java.lang.annotation.Target({java.lang.annotation.ElementType.FIELD, java.lang.annotation.ElementType.METHOD})\n";
+    private static final String ANY = "";
+    private static final String RUNTIME = "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n";
+
+    private PersistenceStubs() {
+    }
+
+    /**
+     * @return Nombre binario de cada tipo y su código fuente
+     */
+    static Map<String, String> sources() {
+        Map<String, String> sources = new LinkedHashMap<>();
+
+        // jakarta.persistence
+        String jpa = "jakarta.persistence";
+        enumType(sources, jpa, "GenerationType", "TABLE, SEQUENCE, IDENTITY, UUID, AUTO");
+        enumType(sources, jpa, "CascadeType", "ALL, PERSIST, MERGE, REMOVE, REFRESH, DETACH");
+        enumType(sources, jpa, "FetchType", "LAZY, EAGER");
+        enumType(sources, jpa, "ConstraintMode", "CONSTRAINT, NO_CONSTRAINT, PROVIDER_DEFAULT");
+        annotation(sources, jpa, "Entity", TYPE, "String name() default \"\";");
+        annotation(sources, jpa, "Table", TYPE, "String name() default \"\"; String catalog() default \"\"; "
+            + "String schema() default \"\"; UniqueConstraint[] uniqueConstraints() default {}; Index[] indexes() default {};");
+        annotation(sources, jpa, "Embeddable", TYPE, "");
+        annotation(sources, jpa, "IdClass", TYPE, "Class<?> value();");
+        annotation(sources, jpa, "UniqueConstraint", ANY, "String name() default \"\"; String[] columnNames();");
+        annotation(sources, jpa, "Index", ANY, "String name() default \"\"; String columnList(); boolean unique() default false;");
+        annotation(sources, jpa, "Column", MEMBER, "String name() default \"\"; boolean unique() default false; "
+            + "boolean nullable() default true; boolean insertable() default true; boolean updatable() default true; "
+            + "String columnDefinition() default \"\"; String table() default \"\"; int length() default 255; "
+            + "int precision() default 0; int scale() default 0;");
+        annotation(sources, jpa, "Id", MEMBER, "");
+        annotation(sources, jpa, "EmbeddedId", MEMBER, "");
+        annotation(sources, jpa, "Lob", MEMBER, "");
+        annotation(sources, jpa, "Transient", MEMBER, "");
+        annotation(sources, jpa, "Version", MEMBER, "");
+        annotation(sources, jpa, "Basic", MEMBER, "FetchType fetch() default FetchType.EAGER; boolean optional() default true;");
+        annotation(sources, jpa, "GeneratedValue", MEMBER, "GenerationType strategy() default GenerationType.AUTO; "
+            + "String generator() default \"\";");
+        annotation(sources, jpa, "SequenceGenerator", ANY, "String name(); String sequenceName() default \"\"; "
+            + "String catalog() default \"\"; String schema() default \"\"; int initialValue() default 1; "
+            + "int allocationSize() default 50;");
+        annotation(sources, jpa, "MapsId", MEMBER, "String value() default \"\";");
+        annotation(sources, jpa, "ManyToOne", MEMBER, "Class<?> targetEntity() default void.class; "
+            + "CascadeType[] cascade() default {}; FetchType fetch() default FetchType.EAGER; boolean optional() default true;");
+        annotation(sources, jpa, "OneToOne", MEMBER, "Class<?> targetEntity() default void.class; "
+            + "CascadeType[] cascade() default {}; FetchType fetch() default FetchType.EAGER; boolean optional() default true; "
+            + "String mappedBy() default \"\"; boolean orphanRemoval() default false;");
+        annotation(sources, jpa, "OneToMany", MEMBER, "Class<?> targetEntity() default void.class; "
+            + "CascadeType[] cascade() default {}; FetchType fetch() default FetchType.LAZY; "
+            + "String mappedBy() default \"\"; boolean orphanRemoval() default false;");
+        annotation(sources, jpa, "ManyToMany", MEMBER, "Class<?> targetEntity() default void.class; "
+            + "CascadeType[] cascade() default {}; FetchType fetch() default FetchType.LAZY; String mappedBy() default \"\";");
+        annotation(sources, jpa, "ForeignKey", ANY, "String name() default \"\"; "
+            + "ConstraintMode value() default ConstraintMode.PROVIDER_DEFAULT; String foreignKeyDefinition() default \"\";");
+        annotation(sources, jpa, "JoinColumn", MEMBER, "String name() default \"\"; String referencedColumnName() default \"\"; "
+            + "boolean unique() default false; boolean nullable() default true; boolean insertable() default true; "
+            + "boolean updatable() default true; String columnDefinition() default \"\"; String table() default \"\"; "
+            + "ForeignKey foreignKey() default @ForeignKey(ConstraintMode.PROVIDER_DEFAULT);");
+        annotation(sources, jpa, "PrePersist", MEMBER, "");
+        annotation(sources, jpa, "PostPersist", MEMBER, "");
+        annotation(sources, jpa, "PostLoad", MEMBER, "");
+        annotation(sources, jpa, "PreUpdate", MEMBER, "");
+
+        // org.hibernate.annotations
+        String hibernate = "org.hibernate.annotations";
+        enumType(sources, hibernate, "FetchMode", "SELECT, JOIN, SUBSELECT");
+        annotation(sources, hibernate, "Fetch", MEMBER, "FetchMode value();");
+        annotation(sources, hibernate, "BatchSize", ANY, "int size();");
+        annotation(sources, hibernate, "DynamicUpdate", TYPE, "");
+        annotation(sources, hibernate, "DynamicInsert", TYPE, "");
+        annotation(sources, hibernate, "Generated", MEMBER, "org.hibernate.generator.EventType[] event() default "
+            + "{org.hibernate.generator.EventType.INSERT}; String sql() default \"\"; boolean writable() default false;");
+        annotation(sources, hibernate, "IdGeneratorType", ANY, "Class<? extends org.hibernate.generator.Generator> value();");
+
+        // org.hibernate.generator (generadores de ids generados junto a las entidades)
+        String generator = "org.hibernate.generator";
+        enumType(sources, generator, "EventType", "INSERT, UPDATE, FORCE_INCREMENT");
+        type(sources, generator, "Generator", "public interface Generator { java.util.EnumSet<EventType> getEventTypes(); }");
+        type(sources, generator, "BeforeExecutionGenerator", "public interface BeforeExecutionGenerator extends Generator { "
+            + "Object generate(org.hibernate.engine.spi.SharedSessionContractImplementor session, Object owner, "
+            + "Object currentValue, EventType eventType); }");
+        type(sources, generator, "EventTypeSets", "public final class EventTypeSets { "
+            + "public static final java.util.EnumSet<EventType> INSERT_ONLY = java.util.EnumSet.of(EventType.INSERT); }");
+        type(sources, "org.hibernate.engine.spi", "SharedSessionContractImplementor", "public interface SharedSessionContractImplementor { }");
+
+        // org.springframework.data.domain
+        type(sources, "org.springframework.data.domain", "Persistable", "public interface Persistable<ID> { ID getId(); boolean isNew(); }");
+
+        // lombok
+        String lombok = "lombok";
+        enumType(sources, lombok, "AccessLevel", "PUBLIC, MODULE, PROTECTED, PACKAGE, PRIVATE, NONE");
+        annotation(sources, lombok, "Getter", ANY, "AccessLevel value() default AccessLevel.PUBLIC;");
+        annotation(sources, lombok, "Setter", ANY, "AccessLevel value() default AccessLevel.PUBLIC;");
+        annotation(sources, lombok, "Data", TYPE, "");
+        annotation(sources, lombok, "Builder", TYPE, "");
+        annotation(sources, lombok, "NoArgsConstructor", TYPE, "");
+        annotation(sources, lombok, "AllArgsConstructor", TYPE, "");
+        annotation(sources, lombok, "RequiredArgsConstructor", TYPE, "");
+        annotation(sources, lombok, "ToString", ANY, "boolean callSuper() default false; String[] exclude() default {}; "
+            + "boolean onlyExplicitlyIncluded() default false; @interface Exclude {} @interface Include {}");
+        annotation(sources, lombok, "EqualsAndHashCode", ANY, "boolean callSuper() default false; String[] exclude() default {}; "
+            + "boolean onlyExplicitlyIncluded() default false; CacheStrategy cacheStrategy() default CacheStrategy.NEVER; "
+            + "enum CacheStrategy { NEVER, LAZY } @interface Exclude {} @interface Include {}");
+
+        return sources;
+    }
+
+    private static void annotation(Map<String, String> sources, String pkg, String name, String target, String body) {
+        sources.put(pkg + "." + name, "package " + pkg + ";\n" + RUNTIME + target
+            + "public @interface " + name + " { " + body + " }\n");
+    }
+
+    private static void type(Map<String, String> sources, String pkg, String name, String declaration) {
+        sources.put(pkg + "." + name, "package " + pkg + ";\n" + declaration + "\n");
+    }
+
+    private static void enumType(Map<String, String> sources, String pkg, String name, String constants) {
+        sources.put(pkg + "." + name, "package " + pkg + ";\npublic enum " + name + " { " + constants + " }\n");
+    }
+}
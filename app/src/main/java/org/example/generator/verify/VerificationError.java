@@ -0,0 +1,43 @@
+package org.example.generator.verify;
+
+/**
+ * Error de compilación de una entidad generada, asociado a la tabla que la produjo.
+ */
+public class VerificationError {
+    private final String tableName;
+    private final String className;
+    private final long line;
+    private final String message;
+
+    public VerificationError(String tableName, String className, long line, String message) {
+        this.tableName = tableName;
+        this.className = className;
+        this.line = line;
+        this.message = message;
+    }
+
+    /**
+     * Tabla de origen, o null si el error está en un archivo que no se generó en esta ejecución.
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return (tableName != null ? "table '" + tableName + "' (" + className + ".java" : className + ".java")
+            + (line > 0 ? ":" + line : "") + (tableName != null ? ")" : "") + ": " + message;
+    }
+}
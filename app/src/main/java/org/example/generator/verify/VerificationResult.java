@@ -0,0 +1,34 @@
+package org.example.generator.verify;
+
+import java.util.List;
+
+/**
+ * Resultado de compilar en memoria un conjunto de entidades.
+ */
+public class VerificationResult {
+    private final int compiledFiles;
+    private final List<VerificationError> errors;
+    private final long elapsedMillis;
+
+    public VerificationResult(int compiledFiles, List<VerificationError> errors, long elapsedMillis) {
+        this.compiledFiles = compiledFiles;
+        this.errors = errors;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public boolean isSuccess() {
+        return errors.isEmpty();
+    }
+
+    public int getCompiledFiles() {
+        return compiledFiles;
+    }
+
+    public List<VerificationError> getErrors() {
+        return errors;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -1,11 +1,34 @@
 package org.example.cli.command.impl;
 
+import org.example.database.diff.SchemaSnapshot;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 class GenerateCommandTest {
 
     @Test
     void testGenerateModels(){
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRegenerateEverythingWhenTheGeneratorVersionChanges() {
+        String options = "|com.example|lombok=false|build=gradle";
+        SchemaSnapshot snapshot = new SchemaSnapshot(
+            "generator=" + GenerateCommand.generatorVersion(1, "1.0.0") + options, List.of());
+
+        assertTrue(GenerateCommand.isSnapshotCurrent(snapshot,
+            "generator=" + GenerateCommand.generatorVersion(1, "1.0.0") + options));
+        // Un cambio en la salida o una nueva versión del jar invalidan el snapshot
+        assertFalse(GenerateCommand.isSnapshotCurrent(snapshot,
+            "generator=" + GenerateCommand.generatorVersion(2, "1.0.0") + options));
+        assertFalse(GenerateCommand.isSnapshotCurrent(snapshot,
+            "generator=" + GenerateCommand.generatorVersion(1, "1.1.0") + options));
+        assertFalse(GenerateCommand.isSnapshotCurrent(null,
+            "generator=" + GenerateCommand.generatorVersion(1, "1.0.0") + options));
+        assertEquals("1", GenerateCommand.generatorVersion(1, null));
+    }
+}
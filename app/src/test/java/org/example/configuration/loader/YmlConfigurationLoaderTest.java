@@ -0,0 +1,89 @@
+package org.example.configuration.loader;
+
+import org.example.common.exception.ConfigurationException;
+import org.example.configuration.model.AppConfiguration;
+import org.example.configuration.model.RelationConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class YmlConfigurationLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    private static final String CONFIG = """
+        version: "1.0"
+        sql:
+          engine: "postgresql"
+          schema:
+            path: "db/schema.sql"
+        output:
+          basePackage: "com.example"
+          relations:
+        %s
+        """;
+
+    @Test
+    void shouldLoadRelationOptions() throws IOException {
+        AppConfiguration config = load("""
+                fetch: eager
+                fetchOverrides:
+                  orders.customer_id: lazy
+                mode: unidirectional
+                tables:
+                  audit_log: none
+                collectionFetch: subselect
+                collectionFetchOverrides:
+                  customer.orders: 50
+            """);
+
+        RelationConfig relations = config.getOutput().getRelations();
+        assertEquals("EAGER", relations.getFetch());
+        assertEquals(Map.of("orders.customer_id", "LAZY"), relations.getFetchOverrides());
+        assertEquals("unidirectional", relations.getMode());
+        assertEquals(Map.of("audit_log", "none"), relations.getTables());
+        assertEquals("subselect", relations.getCollectionFetch());
+        assertEquals(Map.of("customer.orders", "50"), relations.getCollectionFetchOverrides());
+    }
+
+    @Test
+    void shouldReportTheKeyAndAllowedValuesOfInvalidRelationOptions() {
+        // Un valor erróneo no debe llegar al código generado (p. ej. FetchType.LAZZY)
+        assertError("'output.relations.fetchOverrides.orders.customer_id' must be LAZY or EAGER: LAZZY", """
+                fetchOverrides:
+                  orders.customer_id: LAZZY
+            """);
+        assertError("'output.relations.mode' must be bidirectional, unidirectional or none: bidirectionl", """
+                mode: bidirectionl
+            """);
+        assertError("'output.relations.tables.audit_log' must be bidirectional, unidirectional or none: nothing", """
+                tables:
+                  audit_log: nothing
+            """);
+        assertError("'output.relations.collectionFetch' must be select, batch or subselect: join", """
+                collectionFetch: join
+            """);
+        assertError("'output.relations.collectionFetchOverrides.customer.orders' must be select, batch, subselect or a batch size: bacth", """
+                collectionFetchOverrides:
+                  customer.orders: bacth
+            """);
+    }
+
+    private void assertError(String message, String relations) {
+        ConfigurationException error = assertThrows(ConfigurationException.class, () -> load(relations));
+        assertEquals(message, error.getMessage());
+    }
+
+    private AppConfiguration load(String relations) throws IOException {
+        Path file = directory.resolve("arch.yml");
+        Files.writeString(file, CONFIG.formatted(relations.stripTrailing()));
+        return new YmlConfigurationLoader().loadFromFile(file);
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.database;
+
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaModelTest {
+
+    private static final String SCHEMA = """
+        CREATE TABLE customer (
+            id SERIAL PRIMARY KEY,
+            name VARCHAR(100) NOT NULL
+        );
+        CREATE TABLE orders (
+            id SERIAL PRIMARY KEY,
+            customer_id INTEGER REFERENCES customer(id)
+        );
+        """;
+
+    @Test
+    void shouldExposeTablesByNameAndSharedGraph() {
+        SchemaModel model = SchemaModel.of(new SchemaProcessor().processSchema(SCHEMA));
+
+        assertEquals(2, model.size());
+        assertSame(model.getTables().get(1), model.getTable("ORDERS"));
+        assertNull(model.getTable("missing"));
+        assertSame(model.getTable("customer"), model.getForeignKeyGraph().getTable("customer"));
+    }
+
+    @Test
+    void shouldRejectModificationsOfTheSharedTables() {
+        SchemaModel model = SchemaModel.of(new SchemaProcessor().processSchema(SCHEMA));
+        TableMetadata customer = model.getTable("customer");
+
+        assertThrows(UnsupportedOperationException.class, () -> model.getTables().clear());
+        assertThrows(UnsupportedOperationException.class, () -> customer.getColumns().add(new ColumnMetadata()));
+        assertThrows(UnsupportedOperationException.class, () -> customer.getRelations().clear());
+        assertEquals(List.of("id", "name"), customer.getColumns().stream().map(ColumnMetadata::getColumnName).toList());
+    }
+
+    @Test
+    void shouldCopyTablesWithoutModifyingTheInput() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(SCHEMA);
+        SchemaModel model = SchemaModel.of(tables);
+        TableMetadata customer = tables.get(0);
+
+        // Las tablas recibidas siguen siendo del llamador y sus cambios no llegan al modelo
+        assertNotSame(customer, model.getTable("customer"));
+        customer.getColumns().add(new ColumnMetadata("email", "VARCHAR(255)"));
+        customer.getColumns().get(1).setNotNull(false);
+        tables.get(1).getRelations().clear();
+
+        TableMetadata copy = model.getTable("customer");
+        assertEquals(List.of("id", "name"), copy.getColumns().stream().map(ColumnMetadata::getColumnName).toList());
+        assertTrue(copy.getColumns().get(1).isNotNull());
+        assertEquals("customer_id_seq", copy.getColumns().get(0).getSequenceName());
+        assertEquals(1, model.getTable("orders").getRelations().size());
+        assertThrows(UnsupportedOperationException.class, () -> copy.getPrimaryKeys().add("name"));
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.database.diff;
+
+import org.example.database.converter.AlterTableProcessor;
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.model.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaDiffEngineTest {
+
+    private static final String SCHEMA = """
+        CREATE TABLE customer (
+            id SERIAL PRIMARY KEY,
+            name VARCHAR(100) NOT NULL
+        );
+        CREATE TABLE product (
+            id SERIAL PRIMARY KEY,
+            title VARCHAR(50)
+        );
+        CREATE TABLE orders (
+            id SERIAL PRIMARY KEY,
+            customer_id INTEGER REFERENCES customer(id),
+            total NUMERIC(10,2)
+        );
+        """;
+
+    private final SchemaDiffEngine engine = new SchemaDiffEngine();
+
+    private List<TableMetadata> parse(String sql) {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(sql);
+        new AlterTableProcessor().processAlterStatements(tables, sql);
+        return tables;
+    }
+
+    @Test
+    void shouldReportNoChangesForIdenticalSchemas() {
+        SchemaDiff diff = engine.compare(parse(SCHEMA), parse(SCHEMA));
+
+        assertTrue(diff.isEmpty());
+        assertTrue(diff.getAffectedTables().isEmpty());
+    }
+
+    @Test
+    void shouldLimitAffectedTablesToChangedColumns() {
+        String changed = SCHEMA + "ALTER TABLE product ALTER COLUMN title TYPE VARCHAR(120);";
+
+        SchemaDiff diff = engine.compare(parse(SCHEMA), parse(changed));
+
+        assertEquals(1, diff.getModifiedTables().size());
+        TableDiff productDiff = diff.getModifiedTables().get(0);
+        assertEquals("product", productDiff.getTableName());
+        assertEquals(1, productDiff.getModifiedColumns().size());
+        assertEquals("VARCHAR(120)", productDiff.getModifiedColumns().get(0).getAfter().getColumnType());
+        assertEquals(Set.of("product"), diff.getAffectedTables());
+    }
+
+    @Test
+    void shouldIncludeReferencedTableWhenForeignKeyChanges() {
+        String changed = SCHEMA + """
+            ALTER TABLE orders ADD COLUMN product_id INTEGER;
+            ALTER TABLE orders ADD CONSTRAINT fk_orders_product FOREIGN KEY (product_id) REFERENCES product(id);
+            """;
+
+        SchemaDiff diff = engine.compare(parse(SCHEMA), parse(changed));
+
+        TableDiff ordersDiff = diff.getModifiedTables().get(0);
+        assertEquals("orders", ordersDiff.getTableName());
+        assertEquals(1, ordersDiff.getAddedColumns().size());
+        assertEquals(1, ordersDiff.getAddedRelations().size());
+        // product gana una colección inversa @OneToMany, customer no cambia
+        assertEquals(Set.of("orders", "product"), diff.getAffectedTables());
+    }
+
+    @Test
+    void shouldReportAddedAndRemovedTables() {
+        String previous = SCHEMA + "CREATE TABLE audit_log (id SERIAL PRIMARY KEY, message TEXT);";
+        String current = SCHEMA + """
+            CREATE TABLE review (
+                id SERIAL PRIMARY KEY,
+                customer_id INTEGER REFERENCES customer(id)
+            );
+            """;
+
+        SchemaDiff diff = engine.compare(parse(previous), parse(current));
+
+        assertEquals("review", diff.getAddedTables().get(0).getTableName());
+        assertEquals("audit_log", diff.getRemovedTables().get(0).getTableName());
+        assertEquals(Set.of("review", "customer"), diff.getAffectedTables());
+    }
+
+    @Test
+    void shouldIncludeEveryTableOfACycleClosedByAMigration() {
+        String chain = """
+            CREATE TABLE a (id SERIAL PRIMARY KEY, b_id INTEGER);
+            CREATE TABLE b (id SERIAL PRIMARY KEY, c_id INTEGER);
+            CREATE TABLE c (id SERIAL PRIMARY KEY, a_id INTEGER);
+            ALTER TABLE a ADD CONSTRAINT fk_a_b FOREIGN KEY (b_id) REFERENCES b(id);
+            ALTER TABLE b ADD CONSTRAINT fk_b_c FOREIGN KEY (c_id) REFERENCES c(id);
+            """;
+        String cycle = chain + "ALTER TABLE c ADD CONSTRAINT fk_c_a FOREIGN KEY (a_id) REFERENCES a(id);";
+
+        SchemaDiff closed = engine.compare(parse(chain), parse(cycle));
+        // b no cambia, pero su colección inversa hacia a pasa a estar dentro del ciclo
+        assertEquals(Set.of("a", "b", "c"), closed.getCycleChangedTables());
+        assertEquals(Set.of("c", "a", "b"), closed.getAffectedTables());
+
+        SchemaDiff broken = engine.compare(parse(cycle), parse(chain));
+        assertEquals(Set.of("a", "b", "c"), broken.getAffectedTables());
+    }
+}
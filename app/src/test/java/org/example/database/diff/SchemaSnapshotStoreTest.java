@@ -0,0 +1,60 @@
+package org.example.database.diff;
+
+import org.example.database.extractor.SchemaProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final String SCHEMA = """
+        CREATE TABLE customer (
+            id SERIAL PRIMARY KEY,
+            name VARCHAR(100) NOT NULL
+        );
+        CREATE TABLE invoice (
+            id BIGSERIAL PRIMARY KEY,
+            amount NUMERIC(10,2) NOT NULL,
+            tax NUMERIC(10,2) GENERATED ALWAYS AS (amount * 0.21) STORED
+        );
+        """;
+
+    @Test
+    void shouldKeepSequenceAndComputedMetadataAcrossSaveAndLoad() throws IOException {
+        SchemaSnapshotStore store = new SchemaSnapshotStore(tempDir.resolve("snapshot"));
+        store.save(new SchemaSnapshot("fp", new SchemaProcessor().processSchema(SCHEMA)));
+
+        SchemaSnapshot snapshot = store.load();
+        assertNotNull(snapshot);
+        assertEquals("customer_id_seq", snapshot.getTables().get(0).getColumns().get(0).getSequenceName());
+        assertTrue(snapshot.getTables().get(1).getColumns().get(2).isComputed());
+    }
+
+    @Test
+    void shouldDiscardSnapshotsWrittenBeforeSequenceMetadata() throws IOException {
+        // Un snapshot sin secuencias no detectaría el cambio: se descarta y se regenera todo
+        assertNull(load("/format/snapshot-before-sequences.bin"));
+    }
+
+    @Test
+    void shouldDiscardSnapshotsWrittenBeforeComputedColumns() throws IOException {
+        assertNull(load("/format/snapshot-before-computed-columns.bin"));
+    }
+
+    private SchemaSnapshot load(String resource) throws IOException {
+        Path snapshotPath = tempDir.resolve("snapshot");
+        try (InputStream in = getClass().getResourceAsStream(resource)) {
+            Files.copy(in, snapshotPath);
+        }
+        return new SchemaSnapshotStore(snapshotPath).load();
+    }
+}
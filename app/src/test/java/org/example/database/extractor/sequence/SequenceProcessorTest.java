@@ -0,0 +1,53 @@
+package org.example.database.extractor.sequence;
+
+import org.example.database.converter.AlterTableProcessor;
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SequenceProcessorTest {
+
+    @Test
+    void shouldBindColumnsToTheirSequences() {
+        String schema = """
+            CREATE TABLE orders (
+                id BIGSERIAL PRIMARY KEY,
+                total NUMERIC(10,2)
+            );
+            CREATE TABLE invoice (
+                id BIGINT GENERATED ALWAYS AS IDENTITY (START WITH 1 INCREMENT BY 20) PRIMARY KEY
+            );
+            CREATE TABLE payment (
+                id BIGINT DEFAULT nextval('public.payment_seq'::regclass) PRIMARY KEY
+            );
+            CREATE SEQUENCE public.payment_seq START 1 INCREMENT BY 50;
+            ALTER SEQUENCE orders_id_seq INCREMENT 10;
+            ALTER TABLE orders ADD COLUMN line_no SERIAL;
+            """;
+
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(schema);
+        new AlterTableProcessor().processAlterStatements(tables, schema);
+        new SequenceProcessor().processSequenceStatements(tables, schema);
+
+        ColumnMetadata orderId = tables.get(0).getColumns().get(0);
+        assertEquals("orders_id_seq", orderId.getSequenceName());
+        assertEquals(10, orderId.getSequenceIncrement());
+        assertEquals("orders_line_no_seq", tables.get(0).getColumns().get(2).getSequenceName());
+
+        ColumnMetadata invoiceId = tables.get(1).getColumns().get(0);
+        assertEquals("ALWAYS", invoiceId.getIdentity());
+        assertEquals("invoice_id_seq", invoiceId.getSequenceName());
+        assertEquals(20, invoiceId.getSequenceIncrement());
+        assertNull(invoiceId.getDefaultValue());
+
+        ColumnMetadata paymentId = tables.get(2).getColumns().get(0);
+        assertEquals("payment_seq", paymentId.getSequenceName());
+        assertEquals(50, paymentId.getSequenceIncrement());
+        assertNull(tables.get(0).getColumns().get(1).getSequenceName());
+    }
+}
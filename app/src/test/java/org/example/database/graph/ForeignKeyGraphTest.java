@@ -0,0 +1,108 @@
+package org.example.database.graph;
+
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.model.TableMetadata;
+import org.example.generator.entity.EntityGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForeignKeyGraphTest {
+
+    private static final String SCHEMA = """
+        CREATE TABLE invoice (
+            id SERIAL PRIMARY KEY,
+            order_id INTEGER REFERENCES orders(id)
+        );
+        CREATE TABLE customer (
+            id SERIAL PRIMARY KEY,
+            name VARCHAR(100) NOT NULL
+        );
+        CREATE TABLE orders (
+            id SERIAL PRIMARY KEY,
+            customer_id INTEGER REFERENCES customer(id),
+            last_invoice_id INTEGER REFERENCES invoice(id)
+        );
+        CREATE TABLE employee (
+            id SERIAL PRIMARY KEY,
+            manager_id INTEGER REFERENCES employee(id)
+        );
+        CREATE TABLE product (
+            id SERIAL PRIMARY KEY,
+            title VARCHAR(50)
+        );
+        """;
+
+    private ForeignKeyGraph buildGraph() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(SCHEMA);
+        return ForeignKeyGraph.build(tables);
+    }
+
+    @Test
+    void shouldExposeAdjacencyAndFanInOut() {
+        ForeignKeyGraph graph = buildGraph();
+
+        assertEquals(Set.of("customer", "invoice"), graph.getDependencies("orders"));
+        assertEquals(Set.of("orders"), graph.getDependents("customer"));
+        assertEquals(2, graph.getFanOut("orders"));
+        assertEquals(1, graph.getFanIn("orders"));
+        assertEquals(0, graph.getFanIn("product"));
+        assertTrue(graph.isSelfReferencing("employee"));
+    }
+
+    @Test
+    void shouldDetectCyclesAsStronglyConnectedComponents() {
+        ForeignKeyGraph graph = buildGraph();
+
+        List<List<String>> components = graph.getStronglyConnectedComponents();
+
+        assertTrue(components.contains(List.of("invoice", "orders")));
+        assertTrue(graph.isCyclic("orders"));
+        assertTrue(graph.isCyclic("employee"));
+        assertFalse(graph.isCyclic("customer"));
+        assertTrue(graph.isInSameCycle("invoice", "orders"));
+        assertFalse(graph.isInSameCycle("orders", "customer"));
+    }
+
+    @Test
+    void shouldOrderReferencedTablesFirst() {
+        List<String> order = buildGraph().getTopologicalOrder();
+
+        assertEquals(5, order.size());
+        assertTrue(order.indexOf("customer") < order.indexOf("orders"));
+        assertTrue(order.indexOf("customer") < order.indexOf("invoice"));
+    }
+
+    @Test
+    void shouldGroupIndependentUnitsIntoWaves() {
+        List<List<GenerationUnit>> waves = buildGraph().getGenerationWaves();
+
+        assertEquals(2, waves.size());
+        Set<String> firstWave = waves.get(0).stream()
+            .flatMap(unit -> unit.getTables().stream())
+            .map(TableMetadata::getTableName)
+            .collect(Collectors.toSet());
+        assertEquals(Set.of("customer", "employee", "product"), firstWave);
+
+        GenerationUnit cycle = waves.get(1).get(0);
+        assertTrue(cycle.isCyclic());
+        assertEquals(List.of("invoice", "orders"), cycle.getTables().stream().map(TableMetadata::getTableName).toList());
+    }
+
+    @Test
+    void shouldNotCascadeInverseCollectionsInsideCycles() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(SCHEMA);
+        ForeignKeyGraph graph = ForeignKeyGraph.build(tables);
+        EntityGenerator generator = new EntityGenerator(false, graph);
+
+        String employee = generator.generateEntity(graph.getTable("employee"), "com.example");
+        String customer = generator.generateEntity(graph.getTable("customer"), "com.example");
+
+        assertTrue(employee.contains("@OneToMany(\n        mappedBy = \"managerId\"\n    )"));
+        assertTrue(customer.contains("cascade = CascadeType.ALL"));
+    }
+}
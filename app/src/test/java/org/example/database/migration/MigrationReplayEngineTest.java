@@ -0,0 +1,152 @@
+package org.example.database.migration;
+
+import org.example.database.SqlFileProcessor;
+import org.example.database.model.ColumnMetadata;
+import org.example.database.model.RelationMetadata;
+import org.example.database.model.TableMetadata;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MigrationReplayEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final String V1 = """
+        CREATE TABLE customer (
+            id SERIAL PRIMARY KEY,
+            full_name VARCHAR(100) NOT NULL,
+            legacy_code VARCHAR(20)
+        );
+        """;
+
+    private static final String V2 = """
+        CREATE TABLE orders (
+            id SERIAL PRIMARY KEY,
+            customer_id INTEGER REFERENCES customer(id),
+            total NUMERIC(10,2)
+        );
+        CREATE TABLE audit_log (
+            id SERIAL PRIMARY KEY,
+            message TEXT
+        );
+        """;
+
+    private static final String V10 = """
+        -- Limpieza del esquema
+        ALTER TABLE customer DROP COLUMN legacy_code;
+        ALTER TABLE customer RENAME COLUMN full_name TO name;
+        DROP TABLE audit_log;
+        """;
+
+    @Test
+    void shouldOrderFlywayFilesByVersion() {
+        List<String> sorted = MigrationFile.sortPaths(List.of(
+            "db/V10__cleanup.sql", "db/seed.sql", "db/V2__orders.sql", "db/V1_1__fix.sql", "db/V1__init.sql"));
+
+        assertEquals(List.of(
+            "db/V1__init.sql", "db/V1_1__fix.sql", "db/V2__orders.sql", "db/V10__cleanup.sql", "db/seed.sql"), sorted);
+    }
+
+    @Test
+    void shouldReplayCreateAlterDropAndRenameInVersionOrder() throws IOException {
+        List<String> files = List.of(
+            write("V10__cleanup.sql", V10),
+            write("V1__init.sql", V1),
+            write("V2__orders.sql", V2));
+
+        List<TableMetadata> tables = replay(files);
+
+        assertEquals(List.of("customer", "orders"), tables.stream().map(TableMetadata::getTableName).toList());
+
+        TableMetadata customer = tables.get(0);
+        assertEquals(List.of("id", "name"), customer.getColumns().stream().map(ColumnMetadata::getColumnName).toList());
+        assertTrue(customer.getRelations().stream().anyMatch(RelationMetadata::isInverse));
+    }
+
+    @Test
+    void shouldReplayOnlyNewMigrationsFromCheckpoint() throws IOException {
+        List<String> files = new java.util.ArrayList<>(List.of(
+            write("V1__init.sql", V1),
+            write("V2__orders.sql", V2)));
+        replay(files);
+
+        files.add(write("V3__customer_email.sql", "ALTER TABLE customer ADD COLUMN email VARCHAR(255);"));
+        List<TableMetadata> tables = replay(files);
+
+        MigrationCheckpoint checkpoint = new MigrationCheckpointStore(tempDir.resolve("checkpoint")).load();
+        assertNotNull(checkpoint);
+        assertEquals("3", checkpoint.getLastAppliedVersion());
+        assertEquals(3, checkpoint.getAppliedChecksums().size());
+
+        TableMetadata customer = tables.stream().filter(t -> t.getTableName().equals("customer")).findFirst().orElseThrow();
+        assertTrue(customer.getColumns().stream().anyMatch(c -> c.getColumnName().equals("email")));
+
+        // El checkpoint guarda solo relaciones directas: no deben duplicarse las inversas
+        assertEquals(1, customer.getRelations().stream().filter(RelationMetadata::isInverse).count());
+    }
+
+    @Test
+    void shouldReplayEverythingWhenAnAppliedMigrationChanges() throws IOException {
+        List<String> files = List.of(write("V1__init.sql", V1), write("V2__orders.sql", V2));
+        replay(files);
+
+        write("V1__init.sql", V1.replace("legacy_code VARCHAR(20)", "nickname VARCHAR(20)"));
+        List<TableMetadata> tables = replay(files);
+
+        TableMetadata customer = tables.get(0);
+        assertTrue(customer.getColumns().stream().anyMatch(c -> c.getColumnName().equals("nickname")));
+        assertFalse(customer.getColumns().stream().anyMatch(c -> c.getColumnName().equals("legacy_code")));
+    }
+
+    @Test
+    void shouldDiscardCheckpointsWrittenBeforeSequenceMetadata() throws IOException {
+        Path checkpointPath = tempDir.resolve("checkpoint");
+        try (InputStream in = getClass().getResourceAsStream("/format/checkpoint-before-sequences.bin")) {
+            Files.copy(in, checkpointPath);
+        }
+
+        // Cargarlo dejaría sin secuencia las columnas SERIAL de las tablas ya replicadas
+        assertNull(new MigrationCheckpointStore(checkpointPath).load());
+
+        List<TableMetadata> tables = replay(List.of(write("V1__init.sql", V1)));
+        assertEquals("customer_id_seq", tables.get(0).getColumns().get(0).getSequenceName());
+        MigrationCheckpoint checkpoint = new MigrationCheckpointStore(checkpointPath).load();
+        assertEquals("customer_id_seq", checkpoint.getTables().get(0).getColumns().get(0).getSequenceName());
+    }
+
+    @Test
+    void shouldDiscardCheckpointsWrittenBeforeComputedColumns() throws IOException {
+        Path checkpointPath = tempDir.resolve("checkpoint");
+        try (InputStream in = getClass().getResourceAsStream("/format/checkpoint-before-computed-columns.bin")) {
+            Files.copy(in, checkpointPath);
+        }
+
+        // Cargarlo haría que las columnas GENERATED ALWAYS se mapeasen como escribibles
+        assertNull(new MigrationCheckpointStore(checkpointPath).load());
+    }
+
+    private List<TableMetadata> replay(List<String> files) {
+        SqlFileProcessor processor = new SqlFileProcessor();
+        try {
+            MigrationCheckpointStore store = new MigrationCheckpointStore(tempDir.resolve("checkpoint"));
+            return new MigrationReplayEngine(processor, store).replay(files).join();
+        } finally {
+            processor.shutdown();
+        }
+    }
+
+    private String write(String fileName, String content) throws IOException {
+        Path file = tempDir.resolve(fileName);
+        Files.writeString(file, content);
+        return file.toString();
+    }
+}
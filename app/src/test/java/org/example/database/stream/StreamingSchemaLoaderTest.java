@@ -0,0 +1,131 @@
+package org.example.database.stream;
+
+import org.example.database.SqlFileProcessor;
+import org.example.database.converter.AlterTableProcessor;
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.extractor.index.CreateIndexProcessor;
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.model.RelationMetadata;
+import org.example.database.model.TableMetadata;
+import org.example.generator.entity.EntityGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingSchemaLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final String TABLES = """
+        -- Tablas base
+        CREATE TABLE customer (
+            id SERIAL PRIMARY KEY,
+            full_name VARCHAR(100) NOT NULL,
+            legacy_code VARCHAR(20)
+        );
+        CREATE TABLE orders (
+            id SERIAL PRIMARY KEY,
+            customer_id INTEGER REFERENCES customer(id),
+            total NUMERIC(10,2)
+        );
+        CREATE TABLE order_line (
+            id SERIAL PRIMARY KEY,
+            order_id INTEGER NOT NULL REFERENCES orders(id),
+            quantity INTEGER
+        );
+        """;
+
+    private static final String CHANGES = """
+        ALTER TABLE customer DROP COLUMN legacy_code;
+        ALTER TABLE customer RENAME COLUMN full_name TO name;
+        ALTER TABLE orders RENAME TO purchase_order;
+        ALTER TABLE purchase_order ADD COLUMN notes TEXT;
+        CREATE UNIQUE INDEX idx_customer_name ON customer (name);
+        CREATE INDEX idx_order_total ON purchase_order (total);
+        """;
+
+    @Test
+    void shouldIndexDirectAndInverseRelationsAfterAlterations() throws IOException {
+        SqlFileProcessor processor = new SqlFileProcessor();
+        try (StreamingSchemaLoader loader = new StreamingSchemaLoader(processor)) {
+            RelationIndex index = loader.indexRelations(writeSchema());
+
+            assertEquals(List.of("customer", "purchase_order", "order_line"), index.getTableNames());
+
+            List<RelationMetadata> orderRelations = index.relationsOf("purchase_order");
+            assertEquals(2, orderRelations.size());
+            assertEquals("customer", orderRelations.get(0).getTargetTable());
+            assertFalse(orderRelations.get(0).isInverse());
+            assertEquals("order_line", orderRelations.get(1).getTargetTable());
+            assertTrue(orderRelations.get(1).isInverse());
+
+            // El renombrado de la tabla se propaga a las claves foráneas que la referencian
+            assertEquals("purchase_order", index.relationsOf("order_line").get(0).getTargetTable());
+        } finally {
+            processor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldGenerateSameEntitiesAsConsolidatedLoading() throws IOException {
+        List<String> files = writeSchema();
+        List<TableMetadata> expected = loadConsolidated();
+        EntityGenerator standard = new EntityGenerator(false, ForeignKeyGraph.build(expected));
+
+        Map<String, String> streamed = new LinkedHashMap<>();
+        SqlFileProcessor processor = new SqlFileProcessor();
+        try (StreamingSchemaLoader loader = new StreamingSchemaLoader(processor)) {
+            EntityGenerator generator = new EntityGenerator(false, loader.indexRelations(files).toGraph());
+            loader.forEachTable(table -> streamed.put(table.getTableName(), generator.generateEntity(table, "com.example")));
+        } finally {
+            processor.shutdown();
+        }
+
+        assertEquals(expected.size(), streamed.size());
+        for (TableMetadata table : expected) {
+            assertEquals(standard.generateEntity(table, "com.example"), streamed.get(table.getTableName()),
+                "Entity differs for " + table.getTableName());
+        }
+        assertTrue(streamed.get("customer").contains("name"));
+        assertFalse(streamed.get("customer").contains("legacyCode"));
+    }
+
+    @Test
+    void shouldRejectAlterOnUnknownTable() throws IOException {
+        Path file = tempDir.resolve("schema.sql");
+        Files.writeString(file, TABLES + "ALTER TABLE missing ADD COLUMN x INTEGER;\n");
+
+        SqlFileProcessor processor = new SqlFileProcessor();
+        try (StreamingSchemaLoader loader = new StreamingSchemaLoader(processor)) {
+            assertThrows(IllegalArgumentException.class, () -> loader.indexRelations(List.of(file.toString())));
+        } finally {
+            processor.shutdown();
+        }
+    }
+
+    private List<String> writeSchema() throws IOException {
+        Path tables = tempDir.resolve("01_tables.sql");
+        Path changes = tempDir.resolve("02_changes.sql");
+        Files.writeString(tables, TABLES);
+        Files.writeString(changes, CHANGES);
+        return List.of(tables.toString(), changes.toString());
+    }
+
+    private List<TableMetadata> loadConsolidated() {
+        String schema = TABLES + CHANGES;
+        List<TableMetadata> tables = new ArrayList<>(new SchemaProcessor().processSchema(schema));
+        new AlterTableProcessor().processAlterStatements(tables, schema);
+        new CreateIndexProcessor().processCreateIndexStatements(tables, schema);
+        return tables;
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.generator.artifact;
+
+import org.example.configuration.model.EntityConfig;
+import org.example.database.SchemaModel;
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.model.TableMetadata;
+import org.example.generator.controller.ControllerGenerator;
+import org.example.generator.dto.DtoGenerator;
+import org.example.generator.entity.EntityGenerator;
+import org.example.generator.entity.EntityGeneratorOptions;
+import org.example.generator.entity.common.EntityPolicy;
+import org.example.generator.repository.RepositoryGenerator;
+import org.example.generator.service.ServiceGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtifactGeneratorTest {
+
+    private static final String SCHEMA = """
+        CREATE TABLE account (
+            id UUID PRIMARY KEY,
+            email VARCHAR(100) NOT NULL
+        );
+        CREATE TABLE account_role (
+            account_id UUID REFERENCES account(id),
+            role VARCHAR(20),
+            PRIMARY KEY (account_id, role)
+        );
+        CREATE TABLE account_profile (
+            account_id UUID PRIMARY KEY,
+            bio TEXT,
+            FOREIGN KEY (account_id) REFERENCES account(id)
+        );
+        CREATE TABLE audit_entry (
+            message TEXT
+        );
+        CREATE TABLE account_session (
+            id BIGSERIAL PRIMARY KEY,
+            account_id UUID NOT NULL REFERENCES account(id),
+            started_at TIMESTAMP
+        );
+        """;
+
+    private final SchemaModel schema = SchemaModel.of(new SchemaProcessor().processSchema(SCHEMA));
+
+    @Test
+    void shouldResolveSimplePrimaryKeysOnly() {
+        PrimaryKey key = PrimaryKey.of(schema.getTable("account"));
+
+        assertNotNull(key);
+        assertEquals("UUID", key.getJavaType());
+        assertEquals("import java.util.UUID;", key.getImportStatement());
+        assertEquals("setId", key.getSetterName());
+        assertNull(PrimaryKey.of(schema.getTable("account_role")));
+        assertEquals("composite primary keys are not supported", PrimaryKey.unsupportedReason(schema.getTable("account_role")));
+    }
+
+    @Test
+    void shouldGenerateRepositoryServiceAndControllerForEntity() {
+        String repository = new RepositoryGenerator().generate(schema.getTable("account"), "com.example");
+        String service = new ServiceGenerator(false).generate(schema.getTable("account"), "com.example");
+        String controller = new ControllerGenerator(true).generate(schema.getTable("account"), "com.example");
+
+        assertTrue(repository.startsWith("package com.example.repository;"));
+        assertTrue(repository.contains("public interface AccountRepository extends JpaRepository<Account, UUID> {"));
+        assertTrue(repository.contains("import org.springframework.stereotype.Repository;\nimport java.util.UUID;\n\n@Repository"));
+
+        assertTrue(service.contains("import com.example.repository.AccountRepository;"));
+        assertTrue(service.contains("public AccountService(AccountRepository accountRepository) {"));
+        assertTrue(service.contains("public Optional<AccountDto> findById(UUID id) {"));
+
+        assertTrue(controller.contains("@RequiredArgsConstructor\n@RequestMapping(\"/api/accounts\")"));
+        assertTrue(controller.contains("import com.example.dto.AccountDto;"));
+        assertFalse(controller.contains("import com.example.Account;"));
+        assertFalse(controller.contains("public AccountController("));
+    }
+
+    @Test
+    void shouldExposeRelationsAsIdsInsteadOfSerializingEntities() {
+        TableMetadata session = schema.getTable("account_session");
+        String dto = new DtoGenerator().generate(session, "com.example");
+        String service = new ServiceGenerator(true).generate(session, "com.example");
+        String controller = new ControllerGenerator(true).generate(session, "com.example");
+
+        // La clave foránea viaja como el id de la cuenta, no como la entidad (proxy LAZY)
+        assertEquals("""
+            package com.example.dto;
+
+            import java.time.LocalDateTime;
+            import java.util.UUID;
+
+            public record AccountSessionDto(
+                Long id,
+                UUID accountId,
+                LocalDateTime startedAt
+            ) {
+            }""", dto);
+
+        assertTrue(service.contains("private final EntityManager entityManager;"));
+        assertTrue(service.contains("accountSession.getAccountId() != null ? accountSession.getAccountId().getId() : null"));
+        assertTrue(service.contains("accountSession.setAccountId(dto.accountId() != null "
+            + "? entityManager.getReference(Account.class, dto.accountId()) : null);"));
+        // Clave generada: el id del DTO no se copia al crear
+        assertFalse(service.contains("accountSession.setId("));
+
+        assertTrue(controller.contains("public List<AccountSessionDto> findAll() {"));
+        assertTrue(controller.contains("public ResponseEntity<AccountSessionDto> findById(@PathVariable Long id) {"));
+        assertTrue(controller.contains("@RequestBody AccountSessionDto accountSession"));
+        assertFalse(controller.contains("import com.example.AccountSession;"));
+    }
+
+    @Test
+    void shouldUpdatePersistableEntitiesThroughTheLoadedInstance() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema("""
+            CREATE TABLE country (
+                code VARCHAR(2) PRIMARY KEY,
+                name VARCHAR(100)
+            );
+            """);
+        EntityConfig config = new EntityConfig();
+        config.setPersistable(true);
+        EntityGeneratorOptions options = EntityGeneratorOptions.defaults().withEntityPolicy(EntityPolicy.of(config));
+        String entity = new EntityGenerator(false, ForeignKeyGraph.build(tables), options)
+            .generateEntity(tables.get(0), "com.example");
+        String service = new ServiceGenerator(false, options).generate(tables.get(0), "com.example");
+
+        // Una instancia nueva con isNew = true haría persist en un PUT y fallaría por clave
+        // duplicada: la actualización modifica la entidad cargada, que @PostLoad marca como existente
+        assertTrue(entity.contains("    @PostLoad\n    @PostPersist\n    void markNotNew() {\n        this.isNew = false;"));
+        assertTrue(service.contains("""
+                public Optional<CountryDto> update(String id, CountryDto dto) {
+                    return countryRepository.findById(id).map(country -> {
+                        apply(dto, country);
+                        return toDto(countryRepository.save(country));
+                    });
+                }
+            """));
+        // Solo el alta crea una instancia, y es la única que copia la clave asignada del DTO
+        assertEquals(1, service.split("new Country\\(\\)", -1).length - 1);
+        assertEquals(1, service.split("setCode\\(", -1).length - 1);
+        assertTrue(service.contains("        Country country = new Country();\n        country.setCode(dto.code());\n"));
+    }
+
+    @Test
+    void shouldRenderInInputOrderRegardlessOfParallelism() {
+        RepositoryGenerator generator = new RepositoryGenerator();
+        List<RenderedArtifact> sequential = new ParallelArtifactGenerator(generator, 1).render(List.of(
+            schema.getTable("account"), schema.getTable("account"), schema.getTable("account")), "com.example");
+        List<RenderedArtifact> parallel = new ParallelArtifactGenerator(generator, 3).render(List.of(
+            schema.getTable("account"), schema.getTable("account"), schema.getTable("account")), "com.example");
+
+        assertEquals(3, parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals("AccountRepository", parallel.get(i).getClassName());
+            assertEquals(sequential.get(i).getContent(), parallel.get(i).getContent());
+        }
+    }
+
+    @Test
+    void shouldSkipTablesWithoutASimplePrimaryKeyWithAWarning() {
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(err, true, StandardCharsets.UTF_8));
+        List<TableMetadata> supported;
+        try {
+            supported = new ParallelArtifactGenerator(new RepositoryGenerator(), 1).supportedTables(schema.getTables());
+        } finally {
+            System.setErr(originalErr);
+        }
+
+        assertEquals(List.of(schema.getTable("account"), schema.getTable("account_session")), supported);
+        String warnings = err.toString(StandardCharsets.UTF_8);
+        assertTrue(warnings.contains("Skipping AccountRoleRepository: composite primary keys are not supported"), warnings);
+        assertTrue(warnings.contains("Skipping AccountProfileRepository: its primary key is also a foreign key"), warnings);
+        assertTrue(warnings.contains("Skipping AuditEntryRepository: it has no primary key"), warnings);
+    }
+}
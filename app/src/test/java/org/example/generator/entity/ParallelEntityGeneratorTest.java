@@ -0,0 +1,79 @@
+package org.example.generator.entity;
+
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.graph.GenerationUnit;
+import org.example.database.model.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelEntityGeneratorTest {
+
+    private static final String SCHEMA = """
+        CREATE TABLE customer (
+            id SERIAL PRIMARY KEY,
+            name VARCHAR(100) NOT NULL UNIQUE,
+            email VARCHAR(150),
+            phone VARCHAR(20),
+            created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        );
+        CREATE TABLE product (
+            id SERIAL PRIMARY KEY,
+            title VARCHAR(50) NOT NULL,
+            price DECIMAL(10,2) NOT NULL
+        );
+        CREATE TABLE orders (
+            id SERIAL PRIMARY KEY,
+            customer_id INTEGER REFERENCES customer(id),
+            total NUMERIC(10,2)
+        );
+        CREATE TABLE order_item (
+            order_id INTEGER REFERENCES orders(id),
+            product_id INTEGER REFERENCES product(id),
+            quantity INTEGER NOT NULL,
+            PRIMARY KEY (order_id, product_id)
+        );
+        CREATE TABLE employee (
+            id SERIAL PRIMARY KEY,
+            department_id INTEGER
+        );
+        CREATE TABLE department (
+            id SERIAL PRIMARY KEY,
+            manager_id INTEGER REFERENCES employee(id)
+        );
+        ALTER TABLE employee ADD CONSTRAINT fk_employee_department FOREIGN KEY (department_id) REFERENCES department(id);
+        CREATE INDEX idx_orders_total ON orders (total);
+        """;
+
+    @Test
+    void shouldProduceTheSequentialOutputWhateverTheThreadCount() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(SCHEMA);
+        ForeignKeyGraph graph = ForeignKeyGraph.build(tables);
+        List<GenerationUnit> units = new ArrayList<>();
+        graph.getGenerationWaves().forEach(units::addAll);
+        EntityGenerator generator = new EntityGenerator(false, graph);
+
+        // Referencia: el generador de entidades llamado en orden, sin pool
+        List<String> expectedTables = new ArrayList<>();
+        List<String> expectedContent = new ArrayList<>();
+        for (GenerationUnit unit : units) {
+            for (TableMetadata table : unit.getTables()) {
+                expectedTables.add(table.getTableName());
+                expectedContent.add(generator.generateEntity(table, "com.example"));
+            }
+        }
+
+        for (int parallelism : new int[]{1, 2, 4, 16}) {
+            List<RenderedEntity> rendered = new ParallelEntityGenerator(generator, parallelism).render(units, "com.example");
+            assertEquals(expectedTables.size(), rendered.size());
+            for (int i = 0; i < rendered.size(); i++) {
+                assertEquals(expectedTables.get(i), rendered.get(i).getTable().getTableName(), "parallelism=" + parallelism);
+                assertEquals(expectedContent.get(i), rendered.get(i).getContent(), "parallelism=" + parallelism);
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.example.generator.entity.common;
+
+import org.example.configuration.model.EntityConfig;
+import org.example.configuration.model.RelationConfig;
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.model.TableMetadata;
+import org.example.generator.entity.BytecodeEnhancementSnippet;
+import org.example.generator.entity.EntityGenerator;
+import org.example.generator.entity.EntityGeneratorOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityPolicyTest {
+
+    private static final String SCHEMA = """
+        CREATE TABLE customer (
+            id BIGINT PRIMARY KEY
+        );
+        CREATE TABLE orders (
+            id INTEGER PRIMARY KEY,
+            customer_id BIGINT NOT NULL REFERENCES customer(id),
+            quantity INTEGER NOT NULL,
+            weight DOUBLE NOT NULL,
+            active BOOLEAN NOT NULL,
+            discount REAL,
+            total NUMERIC(10,2) NOT NULL
+        );
+        """;
+
+    @Test
+    void shouldGeneratePrimitivesForNotNullColumnsOnly() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(SCHEMA);
+        EntityConfig config = new EntityConfig();
+        config.setPrimitives(true);
+        RelationPolicy none = RelationPolicy.of(relationMode("none"));
+        EntityGenerator generator = new EntityGenerator(false, ForeignKeyGraph.build(tables),
+            EntityGeneratorOptions.defaults().withRelationPolicy(none).withEntityPolicy(EntityPolicy.of(config)));
+
+        String orders = generator.generateEntity(tables.get(1), "com.example");
+        assertTrue(orders.contains("private int quantity;"));
+        assertTrue(orders.contains("private double weight;"));
+        assertTrue(orders.contains("private boolean active;"));
+        assertTrue(orders.contains("public int getQuantity() {"));
+        assertTrue(orders.contains("public void setActive(boolean active) {"));
+        assertTrue(orders.contains("int quantity, double weight, boolean active"));
+        // Nullable, no primitivos y claves conservan el wrapper
+        assertTrue(orders.contains("private Float discount;"));
+        assertTrue(orders.contains("private BigDecimal total;"));
+        assertTrue(orders.contains("private Integer id;"));
+        assertTrue(orders.contains("private Long customerId;"));
+
+        // Por defecto todo sigue con wrappers
+        String defaults = new EntityGenerator(false, ForeignKeyGraph.build(tables)).generateEntity(tables.get(1), "com.example");
+        assertTrue(defaults.contains("private Integer quantity;"));
+        assertTrue(defaults.contains("private Boolean active;"));
+    }
+
+    private static RelationConfig relationMode(String mode) {
+        RelationConfig config = new RelationConfig();
+        config.setMode(mode);
+        return config;
+    }
+
+    @Test
+    void shouldImplementPersistableForAssignedKeys() {
+        String schema = """
+            CREATE TABLE country (
+                code VARCHAR(2) PRIMARY KEY,
+                name VARCHAR(100)
+            );
+            """;
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(schema);
+        EntityConfig config = new EntityConfig();
+        config.setPersistable(true);
+        EntityGenerator generator = new EntityGenerator(true, ForeignKeyGraph.build(tables),
+            EntityGeneratorOptions.defaults().withEntityPolicy(EntityPolicy.of(config)));
+
+        String country = generator.generateEntity(tables.get(0), "com.example");
+        assertTrue(country.contains("public class Country implements Persistable<String> {"));
+        assertTrue(country.contains("import org.springframework.data.domain.Persistable;"));
+        // El flag no es parte del constructor, del setter público ni de toString
+        assertTrue(country.contains("    @Transient\n    @Setter(AccessLevel.NONE)\n    private boolean isNew = true;"));
+        assertTrue(country.contains("import lombok.AccessLevel;"));
+        assertTrue(country.contains("@ToString(exclude = {\"isNew\"})\n@NoArgsConstructor\n@Table"));
+        assertFalse(country.contains("@AllArgsConstructor"));
+        assertTrue(country.contains("    public Country(String code, String name) {\n"
+            + "        this.code = code;\n        this.name = name;\n    }"));
+        // Con Lombok getId() se declara explícitamente
+        assertTrue(country.contains("    public String getId() {\n        return code;\n    }"));
+        assertTrue(country.contains("    public boolean isNew() {\n        return isNew;\n    }"));
+    }
+
+    @Test
+    void shouldGenerateLazyBasicAttributesAndEnhancementSnippet() {
+        String schema = """
+            CREATE TABLE document (
+                code TEXT PRIMARY KEY,
+                title VARCHAR(200) NOT NULL,
+                summary VARCHAR(4000),
+                body TEXT,
+                content BYTEA,
+                metadata JSONB
+            );
+            CREATE TABLE tag (
+                id SERIAL PRIMARY KEY,
+                name VARCHAR(50)
+            );
+            """;
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(schema);
+        EntityConfig config = new EntityConfig();
+        config.setLazyColumns(true);
+        config.setLazyLengthThreshold(1000);
+        EntityPolicy policy = EntityPolicy.of(config);
+        EntityGenerator generator = new EntityGenerator(true, ForeignKeyGraph.build(tables),
+            EntityGeneratorOptions.defaults().withEntityPolicy(policy));
+
+        String document = generator.generateEntity(tables.get(0), "com.example");
+        assertTrue(document.contains("import jakarta.persistence.Basic;"));
+        assertTrue(document.contains("    @Basic(fetch = FetchType.LAZY)\n    @Column(name = \"summary\""));
+        assertTrue(document.contains("    @Basic(fetch = FetchType.LAZY)\n    @Column(name = \"body\""));
+        assertTrue(document.contains("    @Lob\n    @Basic(fetch = FetchType.LAZY)\n    @Column(name = \"content\""));
+        assertTrue(document.contains("    @Basic(fetch = FetchType.LAZY)\n    @Column(name = \"metadata\""));
+        assertFalse(document.contains("    @Basic(fetch = FetchType.LAZY)\n    @Column(name = \"title\""));
+        // La clave primaria se carga siempre con la fila
+        assertFalse(document.contains("    @Basic(fetch = FetchType.LAZY)\n    @Column(name = \"code\""));
+        assertTrue(document.contains("@ToString(exclude = {\"summary\", \"body\", \"content\", \"metadata\"})"));
+
+        BytecodeEnhancementSnippet gradle = new BytecodeEnhancementSnippet(policy, "gradle");
+        tables.forEach(gradle::add);
+        assertTrue(gradle.render().contains("Entities with lazy attributes: document\n"));
+        assertTrue(gradle.render().contains("id(\"org.hibernate.orm\")"));
+        assertTrue(gradle.render().contains("enableLazyInitialization = true"));
+
+        BytecodeEnhancementSnippet maven = new BytecodeEnhancementSnippet(policy, "maven");
+        tables.forEach(maven::add);
+        assertTrue(maven.render().contains("<artifactId>hibernate-enhance-maven-plugin</artifactId>"));
+
+        // Sin la opción no hay nada que añadir al build
+        BytecodeEnhancementSnippet none = new BytecodeEnhancementSnippet(EntityPolicy.defaults(), "gradle");
+        tables.forEach(none::add);
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    void shouldMapDynamicStatementsAndDatabaseWrittenColumns() {
+        String schema = """
+            CREATE TABLE invoice (
+                id SERIAL PRIMARY KEY,
+                number VARCHAR(20) NOT NULL,
+                amount NUMERIC(10,2) NOT NULL,
+                tax NUMERIC(10,2) GENERATED ALWAYS AS (amount * 0.21) STORED,
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            );
+            CREATE TABLE audit_log (
+                id BIGINT PRIMARY KEY,
+                message TEXT
+            );
+            """;
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(schema);
+        EntityConfig config = new EntityConfig();
+        config.setDynamicStatements("update");
+        config.getDynamicStatementTables().put("AUDIT_LOG", "both");
+        config.setGeneratedColumns(true);
+        config.setImmutableKeys(true);
+        config.setImmutableColumns(List.of("invoice.number"));
+        EntityGenerator generator = new EntityGenerator(false, ForeignKeyGraph.build(tables),
+            EntityGeneratorOptions.defaults().withEntityPolicy(EntityPolicy.of(config)));
+
+        String invoice = generator.generateEntity(tables.get(0), "com.example");
+        assertTrue(invoice.contains("@Entity\n@DynamicUpdate\n@Table(name = \"invoice\")"));
+        assertFalse(invoice.contains("@DynamicInsert"));
+        assertTrue(invoice.contains("    @Column(name = \"id\", updatable = false)"));
+        assertTrue(invoice.contains("    @Column(name = \"number\", nullable = false, length = 20, updatable = false)"));
+        assertTrue(invoice.contains("    @Column(name = \"amount\", nullable = false)"));
+        assertTrue(invoice.contains("    @Generated(event = {EventType.INSERT, EventType.UPDATE})\n"
+            + "    @Column(name = \"tax\", insertable = false, updatable = false)"));
+        assertTrue(invoice.contains("    @Generated\n    @Column(name = \"created_at\", insertable = false, columnDefinition"));
+        assertTrue(invoice.contains("import org.hibernate.annotations.Generated;"));
+        assertTrue(invoice.contains("import org.hibernate.generator.EventType;"));
+
+        String auditLog = generator.generateEntity(tables.get(1), "com.example");
+        assertTrue(auditLog.contains("@DynamicUpdate\n@DynamicInsert\n"));
+        assertFalse(auditLog.contains("import org.hibernate.annotations.Generated;"));
+
+        // Por defecto solo las columnas calculadas quedan fuera del INSERT y del UPDATE
+        String defaults = new EntityGenerator(false, ForeignKeyGraph.build(tables)).generateEntity(tables.get(0), "com.example");
+        assertFalse(defaults.contains("@DynamicUpdate"));
+        assertFalse(defaults.contains("import org.hibernate.annotations.Generated;"));
+        assertTrue(defaults.contains("    @Column(name = \"tax\", insertable = false, updatable = false)"));
+        assertTrue(defaults.contains("    @Column(name = \"id\")"));
+        assertTrue(defaults.contains("    @Column(name = \"created_at\", columnDefinition"));
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.generator.entity.common;
+
+import org.example.configuration.model.IdConfig;
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.extractor.sequence.SequenceProcessor;
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.model.TableMetadata;
+import org.example.generator.entity.EntityGenerator;
+import org.example.generator.entity.EntityGeneratorOptions;
+import org.example.generator.entity.SequenceAlignmentScript;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdPolicyTest {
+
+    private static final String SCHEMA = """
+        CREATE SEQUENCE customer_seq INCREMENT BY 25;
+        CREATE TABLE customer (
+            id INTEGER DEFAULT nextval('customer_seq') PRIMARY KEY,
+            name VARCHAR(100)
+        );
+        CREATE TABLE orders (
+            id SERIAL PRIMARY KEY,
+            customer_id INTEGER REFERENCES customer(id)
+        );
+        CREATE TABLE invoice (
+            id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY
+        );
+        """;
+
+    @Test
+    void shouldGeneratePooledSequencesAndAlignmentScript() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(SCHEMA);
+        new SequenceProcessor().processSequenceStatements(tables, SCHEMA);
+
+        IdConfig config = new IdConfig();
+        config.setStrategy("sequence");
+        IdPolicy policy = IdPolicy.of(config);
+        EntityGenerator generator = new EntityGenerator(false, ForeignKeyGraph.build(tables), EntityGeneratorOptions.defaults().withIdPolicy(policy));
+
+        String customer = generator.generateEntity(tables.get(0), "com.example");
+        assertTrue(customer.contains("import jakarta.persistence.SequenceGenerator;"));
+        assertTrue(customer.contains("@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = \"customer_seq\")\n"
+            + "    @SequenceGenerator(name = \"customer_seq\", sequenceName = \"customer_seq\", allocationSize = 25)"));
+
+        String orders = generator.generateEntity(tables.get(1), "com.example");
+        assertTrue(orders.contains("sequenceName = \"orders_id_seq\", allocationSize = 50)"));
+        assertFalse(orders.contains("GenerationType.IDENTITY"));
+
+        SequenceAlignmentScript script = new SequenceAlignmentScript(policy);
+        tables.forEach(script::add);
+        String sql = script.render();
+        assertFalse(sql.contains("customer_seq"));
+        assertTrue(sql.contains("ALTER SEQUENCE orders_id_seq INCREMENT BY 50;"));
+        assertTrue(sql.contains("ALTER TABLE invoice ALTER COLUMN id SET INCREMENT BY 50;\n"
+            + "ALTER TABLE invoice ALTER COLUMN id SET GENERATED BY DEFAULT;"));
+
+        // Por defecto SERIAL sigue usando IDENTITY y no hay nada que alinear
+        String identity = new EntityGenerator(false, ForeignKeyGraph.build(tables)).generateEntity(tables.get(1), "com.example");
+        assertTrue(identity.contains("@GeneratedValue(strategy = GenerationType.IDENTITY)"));
+        SequenceAlignmentScript none = new SequenceAlignmentScript(IdPolicy.defaults());
+        tables.forEach(none::add);
+        assertTrue(none.isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.generator.entity.common;
+
+import org.example.configuration.model.NamingConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NamingEngineTest {
+
+    @Test
+    void shouldKeepDefaultConventions() {
+        NamingEngine engine = new NamingEngine(new NamingConfig());
+
+        assertEquals("OrderItem", engine.className("order_item"));
+        assertEquals("OrderItem", engine.className("Order-Item"));
+        assertEquals("customerId", engine.fieldName("CUSTOMER_ID"));
+        assertEquals("id", engine.fieldName("id"));
+        assertEquals("customeres", engine.plural("customer"));
+        assertEquals("people", engine.plural("person"));
+        assertEquals("orderItems", engine.collectionFieldName("order_item"));
+        assertEquals("", engine.fingerprint());
+    }
+
+    @Test
+    void shouldReuseMemoizedNames() {
+        NamingEngine engine = new NamingEngine(new NamingConfig());
+
+        assertSame(engine.className("order_item"), engine.className("order_item"));
+        assertSame(engine.fieldName("created_at"), engine.fieldName("created_at"));
+        assertSame(engine.plural("orderItem"), engine.plural("orderItem"));
+    }
+
+    @Test
+    void shouldApplyUserRules() {
+        NamingConfig rules = new NamingConfig();
+        rules.getStripPrefixes().add("tbl_");
+        rules.getStripPrefixes().add("tbl_app_");
+        rules.getClasses().put("tbl_address", "PostalAddress");
+        rules.getFields().put("usr_nm", "userName");
+        rules.getPlurals().put("person", "people");
+        NamingEngine engine = new NamingEngine(rules);
+
+        assertEquals("Customer", engine.className("tbl_customer"));
+        assertEquals("Setting", engine.className("TBL_APP_SETTING"));
+        assertEquals("PostalAddress", engine.className("TBL_ADDRESS"));
+        assertEquals("Tbl", engine.className("tbl_"));
+        assertEquals("userName", engine.fieldName("USR_NM"));
+        assertEquals("salesPeople", engine.collectionFieldName("tbl_sales_person"));
+        assertEquals("sales_people", engine.plural("sales_person"));
+        assertFalse(engine.fingerprint().isEmpty());
+    }
+
+    @Test
+    void shouldStartEachRunWithTheActivatedRules() {
+        try {
+            NamingConfig rules = new NamingConfig();
+            rules.getClasses().put("orders", "PurchaseOrder");
+            NamingEngine engine = NamingEngine.activate(rules);
+
+            assertSame(engine, NamingEngine.current());
+            assertEquals("PurchaseOrder", UtilsFactory.generateClassName("orders"));
+
+            NamingEngine.activate(null);
+            assertEquals("Orders", UtilsFactory.generateClassName("orders"));
+        } finally {
+            NamingEngine.activate(new NamingConfig());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.generator.entity.common;
+
+import org.example.common.exception.ConfigurationException;
+import org.example.configuration.model.RelationConfig;
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.model.RelationMetadata;
+import org.example.database.model.TableMetadata;
+import org.example.generator.entity.EntityGenerator;
+import org.example.generator.entity.EntityGeneratorOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RelationPolicyTest {
+
+    private static final String SCHEMA = """
+        CREATE TABLE customer (
+            id SERIAL PRIMARY KEY,
+            name VARCHAR(100)
+        );
+        CREATE TABLE orders (
+            id SERIAL PRIMARY KEY,
+            customer_id INTEGER NOT NULL REFERENCES customer(id),
+            billing_id INTEGER REFERENCES customer(id)
+        );
+        CREATE TABLE review (
+            id SERIAL PRIMARY KEY,
+            customer_id INTEGER REFERENCES customer(id)
+        );
+        """;
+
+    @Test
+    void shouldResolveFetchTypeFromOverrides() {
+        RelationConfig config = new RelationConfig();
+        config.getFetchOverrides().put("orders", "EAGER");
+        config.getFetchOverrides().put("orders.billing_id", "LAZY");
+        RelationPolicy policy = RelationPolicy.of(config);
+
+        RelationMetadata customer = new RelationMetadata("customer_id", "customer", "id", true);
+        RelationMetadata billing = new RelationMetadata("billing_id", "customer", "id", true);
+
+        assertEquals("EAGER", policy.fetchType("ORDERS", customer));
+        assertEquals("LAZY", policy.fetchType("orders", billing));
+        assertEquals("LAZY", policy.fetchType("invoice", customer));
+        assertNotEquals(RelationPolicy.defaults().fingerprint(), policy.fingerprint());
+    }
+
+    @Test
+    void shouldRejectInvalidValuesNamingTheKey() {
+        // La configuración puede construirse sin pasar por el cargador de arch.yml
+        RelationConfig fetch = new RelationConfig();
+        fetch.getFetchOverrides().put("orders.customer_id", "LAZZY");
+        ConfigurationException error = assertThrows(ConfigurationException.class, () -> RelationPolicy.of(fetch));
+        assertEquals("'output.relations.fetchOverrides.orders.customer_id' must be LAZY or EAGER: LAZZY", error.getMessage());
+
+        RelationConfig mode = new RelationConfig();
+        mode.getTables().put("review", "unidirectinal");
+        error = assertThrows(ConfigurationException.class, () -> RelationPolicy.of(mode));
+        assertEquals("'output.relations.tables.review' must be bidirectional, unidirectional or none: unidirectinal",
+            error.getMessage());
+
+        RelationConfig collection = new RelationConfig();
+        collection.setCollectionFetch("join");
+        error = assertThrows(ConfigurationException.class, () -> RelationPolicy.of(collection));
+        assertEquals("'output.relations.collectionFetch' must be select, batch or subselect: join", error.getMessage());
+    }
+
+    @Test
+    void shouldGenerateLazyAssociationsExcludedFromToString() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(SCHEMA);
+        EntityGenerator generator = new EntityGenerator(true, ForeignKeyGraph.build(tables));
+
+        String orders = generator.generateEntity(tables.get(1), "com.example");
+        String customer = generator.generateEntity(tables.get(0), "com.example");
+
+        assertTrue(orders.contains("import jakarta.persistence.FetchType;"));
+        assertTrue(orders.contains("@ManyToOne(fetch = FetchType.LAZY)"));
+        assertFalse(orders.contains("@ManyToOne\n"));
+        assertTrue(orders.contains("@ToString(exclude = {\"customerId\", \"billingId\"})"));
+        assertTrue(customer.contains("@ToString(exclude = {\"orders\", \"reviews\"})"));
+    }
+
+    @Test
+    void shouldLimitInverseCollectionsByModeAndFanIn() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(SCHEMA);
+        TableMetadata customer = tables.get(0);
+
+        RelationConfig config = new RelationConfig();
+        config.getTables().put("review", "none");
+        config.setCascade(List.of("PERSIST", "MERGE"));
+        config.setOrphanRemoval(false);
+        EntityGenerator generator = new EntityGenerator(false, ForeignKeyGraph.build(tables), EntityGeneratorOptions.defaults().withRelationPolicy(RelationPolicy.of(config)));
+
+        String parent = generator.generateEntity(customer, "com.example");
+        assertTrue(parent.contains("private Set<Orders> orders"));
+        assertFalse(parent.contains("Set<Review>"));
+        assertTrue(parent.contains("cascade = {CascadeType.PERSIST, CascadeType.MERGE}\n    )"));
+        assertFalse(parent.contains("orphanRemoval"));
+
+        String review = generator.generateEntity(tables.get(2), "com.example");
+        assertFalse(review.contains("@ManyToOne"));
+        assertTrue(review.contains("private Integer customerId;"));
+
+        // customer está referenciada por dos tablas: con un máximo de una no recibe colecciones
+        config.setMaxInverseCollections(1);
+        TableGenerationContext limited = TableGenerationContext.of(customer, RelationPolicy.of(config));
+        assertTrue(limited.getRelations().isEmpty());
+
+        config.getTables().put("customer", "unidirectional");
+        config.setMaxInverseCollections(0);
+        assertTrue(TableGenerationContext.of(customer, RelationPolicy.of(config)).getRelations().isEmpty());
+    }
+
+    @Test
+    void shouldLoadInverseCollectionsInBulk() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(SCHEMA);
+
+        RelationConfig config = new RelationConfig();
+        config.setCollectionFetch("batch");
+        config.setBatchSize(25);
+        config.getCollectionFetchOverrides().put("customer.review", "subselect");
+        RelationPolicy policy = RelationPolicy.of(config);
+        EntityGenerator generator = new EntityGenerator(false, ForeignKeyGraph.build(tables), EntityGeneratorOptions.defaults().withRelationPolicy(policy));
+
+        String customer = generator.generateEntity(tables.get(0), "com.example");
+        assertTrue(customer.contains("import org.hibernate.annotations.BatchSize;"));
+        assertTrue(customer.contains("    @BatchSize(size = 25)\n    @OneToMany(\n        mappedBy = \"customerId\""));
+        assertTrue(customer.contains("    @Fetch(FetchMode.SUBSELECT)\n    @OneToMany("));
+
+        config.getCollectionFetchOverrides().put("customer", "50");
+        policy = RelationPolicy.of(config);
+        assertEquals(RelationPolicy.CollectionFetch.SUBSELECT, policy.collectionFetch("customer", "review"));
+        assertEquals(RelationPolicy.CollectionFetch.BATCH, policy.collectionFetch("CUSTOMER", "orders"));
+        assertEquals(50, policy.batchSize("customer", "orders"));
+        assertEquals(RelationPolicy.CollectionFetch.SELECT, RelationPolicy.defaults().collectionFetch("customer", "orders"));
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.generator.entity.common;
+
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.model.TableMetadata;
+import org.example.generator.entity.EntityGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableGenerationContextTest {
+
+    private static final String SCHEMA = """
+        CREATE TABLE product (
+            id UUID PRIMARY KEY,
+            name VARCHAR(100) NOT NULL
+        );
+        CREATE TABLE order_item (
+            order_id INTEGER NOT NULL,
+            product_id UUID NOT NULL REFERENCES product(id),
+            quantity INTEGER,
+            PRIMARY KEY (order_id, product_id)
+        );
+        """;
+
+    @Test
+    void shouldPrecomputeKeysAndColumnLookups() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(SCHEMA);
+        TableGenerationContext product = TableGenerationContext.of(tables.get(0));
+        TableGenerationContext item = TableGenerationContext.of(tables.get(1));
+
+        assertEquals("Product", product.getClassName());
+        assertFalse(product.isCompositeKey());
+        assertTrue(product.hasGeneratedPrimaryKey());
+
+        assertEquals("OrderItem", item.getClassName());
+        assertTrue(item.isCompositeKey());
+        assertTrue(item.isPrimaryKey("order_id"));
+        assertFalse(item.isPrimaryKey("quantity"));
+        assertTrue(item.isManyToOneColumn("product_id"));
+        assertFalse(item.isManyToOneColumn("order_id"));
+        assertSame(item.getTable().getColumns().get(2), item.findColumnIgnoreCase("QUANTITY"));
+        assertNull(item.getColumn("QUANTITY"));
+    }
+
+    @Test
+    void shouldGenerateWideTablesInLinearTime() {
+        StringBuilder sql = new StringBuilder("CREATE TABLE wide (\n    id SERIAL PRIMARY KEY");
+        for (int i = 0; i < 800; i++) {
+            sql.append(",\n    col_").append(i).append(" VARCHAR(20)");
+        }
+        sql.append("\n);\n");
+        TableMetadata wide = new SchemaProcessor().processSchema(sql.toString()).get(0);
+
+        String entity = new EntityGenerator(false).generateEntity(wide, "com.example");
+
+        assertTrue(entity.contains("private String col799;"));
+        assertTrue(entity.contains("public void setCol0(String col0)"));
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.generator.output;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchFileWriterTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Escritor que registra el hilo de cada escritura y tarda más en los primeros archivos,
+     * para que los lotes terminen en otro orden que el de envío.
+     */
+    private static class RecordingWriter extends IncrementalFileWriter {
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+        private final Path failing;
+
+        RecordingWriter(Path manifest, Path failing) {
+            super(manifest);
+            this.failing = failing;
+        }
+
+        @Override
+        public Status write(Path file, String content) throws IOException {
+            threads.add(Thread.currentThread().getName());
+            if (file.equals(failing)) {
+                throw new IOException("disk full");
+            }
+            int index = Integer.parseInt(file.getFileName().toString().replaceAll("\\D+", ""));
+            try {
+                Thread.sleep(Math.max(0, 20 - index));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.write(file, content);
+        }
+    }
+
+    @Test
+    void shouldReturnResultsInSubmissionOrderAcrossBatches() throws Exception {
+        RecordingWriter writer = new RecordingWriter(directory.resolve("manifest"), null);
+        List<Path> submitted = new ArrayList<>();
+        List<BatchFileWriter.Result> results;
+        try (BatchFileWriter batchWriter = new BatchFileWriter(writer, 4, 3)) {
+            for (int i = 0; i < 20; i++) {
+                Path file = directory.resolve("Entity" + i + ".java");
+                submitted.add(file);
+                batchWriter.submit(file, "class Entity" + i + " {}");
+            }
+            results = batchWriter.finish();
+        }
+
+        assertEquals(20, results.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(submitted.get(i), results.get(i).getFile());
+            assertEquals(IncrementalFileWriter.Status.CREATED, results.get(i).getStatus());
+            assertEquals("class Entity" + i + " {}", Files.readString(submitted.get(i)));
+        }
+    }
+
+    @Test
+    void shouldUseAtMostFourIoThreadsByDefault() throws Exception {
+        RecordingWriter writer = new RecordingWriter(directory.resolve("manifest"), null);
+        try (BatchFileWriter batchWriter = new BatchFileWriter(writer)) {
+            for (int i = 0; i < 20 * BatchFileWriter.DEFAULT_BATCH_SIZE; i++) {
+                batchWriter.submit(directory.resolve("Entity" + i + ".java"), "class Entity" + i + " {}");
+            }
+            assertEquals(20 * BatchFileWriter.DEFAULT_BATCH_SIZE, batchWriter.finish().size());
+        }
+
+        assertFalse(writer.threads.isEmpty());
+        assertTrue(writer.threads.size() <= Math.min(4, Runtime.getRuntime().availableProcessors()), writer.threads.toString());
+        assertTrue(writer.threads.stream().allMatch(name -> name.startsWith("arch-writer-")), writer.threads.toString());
+    }
+
+    @Test
+    void shouldPropagateAFailedWriteToTheCaller() {
+        Path failing = directory.resolve("Entity7.java");
+        RecordingWriter writer = new RecordingWriter(directory.resolve("manifest"), failing);
+        try (BatchFileWriter batchWriter = new BatchFileWriter(writer, 2, 4)) {
+            for (int i = 0; i < 12; i++) {
+                batchWriter.submit(directory.resolve("Entity" + i + ".java"), "class Entity" + i + " {}");
+            }
+            IOException error = assertThrows(IOException.class, batchWriter::finish);
+            assertTrue(error.getMessage().contains("Entity7.java"), error.getMessage());
+            assertEquals("disk full", error.getCause().getMessage());
+
+            // El escritor sigue disponible tras el error
+            batchWriter.submit(directory.resolve("Entity20.java"), "class Entity20 {}");
+            assertDoesNotThrow(batchWriter::finish);
+        }
+    }
+}
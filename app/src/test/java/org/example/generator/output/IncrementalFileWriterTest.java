@@ -0,0 +1,112 @@
+package org.example.generator.output;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalFileWriterTest {
+
+    @TempDir
+    Path directory;
+
+    private Path manifest() {
+        return directory.resolve(".arch/manifest");
+    }
+
+    @Test
+    void shouldSkipFilesWhoseHashIsUnchanged() throws Exception {
+        Path file = directory.resolve("src/Customer.java");
+        IncrementalFileWriter writer = new IncrementalFileWriter(manifest());
+        assertEquals(IncrementalFileWriter.Status.CREATED, writer.write(file, "class Customer {}"));
+        writer.save();
+
+        FileTime written = Files.getLastModifiedTime(file);
+        IncrementalFileWriter next = new IncrementalFileWriter(manifest());
+        assertEquals(IncrementalFileWriter.Status.UNCHANGED, next.write(file, "class Customer {}"));
+        assertEquals(written, Files.getLastModifiedTime(file));
+
+        // Tamaño y fecha coinciden con el manifest: se decide por hash y un contenido nuevo se escribe
+        assertEquals(IncrementalFileWriter.Status.UPDATED, next.write(file, "class Customer {1}"));
+        assertEquals("class Customer {1}", Files.readString(file));
+    }
+
+    @Test
+    void shouldRewriteFilesChangedOnDiskWhenSizeAndDateDoNotMatch() throws Exception {
+        Path file = directory.resolve("Customer.java");
+        IncrementalFileWriter writer = new IncrementalFileWriter(manifest());
+        writer.write(file, "class Customer {}");
+        writer.save();
+
+        // Edición a mano del mismo tamaño con otra fecha: el manifest ya no sirve y se compara el disco
+        Files.writeString(file, "class Customxr {}");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 5_000));
+
+        IncrementalFileWriter next = new IncrementalFileWriter(manifest());
+        assertEquals(IncrementalFileWriter.Status.UPDATED, next.write(file, "class Customer {}"));
+        assertEquals("class Customer {}", Files.readString(file));
+
+        // Sin manifest también se compara con el disco
+        Files.delete(manifest());
+        assertEquals(IncrementalFileWriter.Status.UNCHANGED, new IncrementalFileWriter(manifest()).write(file, "class Customer {}"));
+    }
+
+    @Test
+    void shouldDeleteStaleGeneratedFiles() throws Exception {
+        Path kept = directory.resolve("Customer.java");
+        Path stale = directory.resolve("Legacy.java");
+        Path otherDirectory = directory.resolve("sub/Other.java");
+        IncrementalFileWriter writer = new IncrementalFileWriter(manifest());
+        writer.write(kept, "class Customer {}");
+        writer.write(stale, "class Legacy {}");
+        writer.write(otherDirectory, "class Other {}");
+        writer.save();
+
+        IncrementalFileWriter next = new IncrementalFileWriter(manifest());
+        assertEquals(List.of(stale), next.findStale(directory, Set.of(kept)));
+        assertTrue(Files.exists(stale));
+
+        assertEquals(List.of(stale), next.removeStale(directory, Set.of(kept)));
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(kept));
+        // La limpieza no es recursiva
+        assertTrue(Files.exists(otherDirectory));
+
+        next.save();
+        assertTrue(new IncrementalFileWriter(manifest()).findStale(directory, Set.of(kept)).isEmpty());
+    }
+
+    @Test
+    void shouldKeepStaleFilesEditedByHandWithAWarning() throws Exception {
+        Path edited = directory.resolve("Legacy.java");
+        IncrementalFileWriter writer = new IncrementalFileWriter(manifest());
+        writer.write(edited, "class Legacy {}");
+        writer.save();
+        Files.writeString(edited, "class Legacy { int custom; }");
+
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(err, true, StandardCharsets.UTF_8));
+        List<Path> removed;
+        try {
+            IncrementalFileWriter next = new IncrementalFileWriter(manifest());
+            assertTrue(next.findStale(directory, Set.of()).isEmpty());
+            removed = next.removeStale(directory, Set.of());
+        } finally {
+            System.setErr(originalErr);
+        }
+
+        assertTrue(removed.isEmpty());
+        assertEquals("class Legacy { int custom; }", Files.readString(edited));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Keeping " + edited));
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.generator.output;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SourceZipWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldWriteTheSameBytesInAnyTimeZone() throws IOException {
+        TimeZone original = TimeZone.getDefault();
+        byte[] utc;
+        byte[] santiago;
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            utc = write("utc.zip");
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Santiago"));
+            santiago = write("santiago.zip");
+        } finally {
+            TimeZone.setDefault(original);
+        }
+
+        assertArrayEquals(utc, santiago);
+    }
+
+    private byte[] write(String fileName) throws IOException {
+        Path target = directory.resolve(fileName);
+        try (SourceZipWriter writer = new SourceZipWriter(target)) {
+            writer.add("com/example/User.java", "package com.example;\n\npublic class User {\n}");
+            writer.add("com/example/Order.java", "package com.example;\n\npublic class Order {\n}");
+            assertEquals(2, writer.finish());
+        }
+        return Files.readAllBytes(target);
+    }
+}
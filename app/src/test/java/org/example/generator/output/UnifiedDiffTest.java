@@ -0,0 +1,46 @@
+package org.example.generator.output;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnifiedDiffTest {
+
+    @Test
+    void identicalContentHasNoDiff() {
+        assertEquals("", UnifiedDiff.diff("a/x", "b/x", "a\nb\n", "a\nb\n", 3));
+    }
+
+    @Test
+    void matchesDiffUFormat() {
+        String before = "a\nb\nc\nd\ne\nf\ng\nh\ni\nj\nk\nl\nm\n";
+        String after = "a\nb\nX\nd\ne\nf\ng\nh\ni\nj\nk\nl\nm\nn\n";
+
+        String expected = """
+            --- a/x
+            +++ b/x
+            @@ -1,6 +1,6 @@
+             a
+             b
+            -c
+            +X
+             d
+             e
+             f
+            @@ -11,3 +11,4 @@
+             k
+             l
+             m
+            +n
+            """;
+        assertEquals(expected, UnifiedDiff.diff("a/x", "b/x", before, after, 3));
+    }
+
+    @Test
+    void newAndDeletedFiles() {
+        assertEquals("--- /dev/null\n+++ b/x\n@@ -0,0 +1,2 @@\n+a\n+b\n",
+            UnifiedDiff.diff("/dev/null", "b/x", null, "a\nb", 3));
+        assertEquals("--- a/x\n+++ /dev/null\n@@ -1 +0,0 @@\n-a\n",
+            UnifiedDiff.diff("a/x", "/dev/null", "a\n", null, 3));
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.generator.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DagSchedulerTest {
+
+    @Test
+    void shouldRunEachTaskAfterItsDependencies() {
+        Map<String, Long> finished = new ConcurrentHashMap<>();
+        List<GenerationTask> tasks = new ArrayList<>();
+        for (String table : List.of("customer", "orders", "product")) {
+            GenerationTask previous = null;
+            for (ArtifactKind kind : ArtifactKind.values()) {
+                String id = kind.label() + ":" + table;
+                GenerationTask task = new GenerationTask(kind, table, 1, () -> finished.put(id, System.nanoTime()))
+                    .dependsOn(previous);
+                tasks.add(task);
+                previous = task;
+            }
+        }
+
+        ScheduleReport report = new DagScheduler(4).run(tasks);
+
+        assertEquals(3 * ArtifactKind.values().length, report.count(GenerationTask.State.DONE));
+        assertTrue(report.isComplete());
+        for (GenerationTask task : tasks) {
+            for (GenerationTask dependency : task.getDependencies()) {
+                assertTrue(finished.get(dependency.toString()) <= finished.get(task.toString()),
+                    dependency + " must finish before " + task);
+            }
+        }
+        assertEquals(ArtifactKind.values().length, report.getCriticalPath().size());
+        assertEquals(ArtifactKind.ENTITY, report.getCriticalPath().get(0).getKind());
+        assertEquals(ArtifactKind.CONTROLLER, report.getCriticalPath().get(ArtifactKind.values().length - 1).getKind());
+    }
+
+    @Test
+    void shouldStartLongestChainFirstOnSingleThread() {
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        GenerationTask small = new GenerationTask(ArtifactKind.ENTITY, "small", 1, () -> order.add("small"));
+        GenerationTask large = new GenerationTask(ArtifactKind.ENTITY, "large", 50, () -> order.add("large"));
+        GenerationTask repository = new GenerationTask(ArtifactKind.REPOSITORY, "small", 1, () -> order.add("repo"))
+            .dependsOn(small);
+
+        new DagScheduler(1).run(List.of(small, repository, large));
+
+        assertEquals(List.of("large", "small", "repo"), order);
+    }
+
+    @Test
+    void shouldSkipDependentsOfFailedTasksAndContinueWithTheRest() {
+        GenerationTask failing = new GenerationTask(ArtifactKind.ENTITY, "broken", 1, () -> {
+            throw new IllegalStateException("boom");
+        });
+        GenerationTask dependent = new GenerationTask(ArtifactKind.REPOSITORY, "broken", 1, () -> fail("must not run"))
+            .dependsOn(failing);
+        GenerationTask transitive = new GenerationTask(ArtifactKind.SERVICE, "broken", 1, () -> fail("must not run"))
+            .dependsOn(dependent);
+        GenerationTask independent = new GenerationTask(ArtifactKind.ENTITY, "fine", 1, () -> { });
+
+        ScheduleReport report = new DagScheduler(2).run(List.of(failing, dependent, transitive, independent));
+
+        assertEquals(List.of(failing), report.getFailures());
+        assertEquals("boom", failing.getFailure().getMessage());
+        assertEquals(GenerationTask.State.SKIPPED, dependent.getState());
+        assertEquals(GenerationTask.State.SKIPPED, transitive.getState());
+        assertEquals(GenerationTask.State.DONE, independent.getState());
+        assertFalse(report.isComplete());
+    }
+
+    @Test
+    void shouldReportUnstartedTasksAsSkippedWhenInterrupted() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch never = new CountDownLatch(1);
+        GenerationTask blocking = new GenerationTask(ArtifactKind.ENTITY, "slow", 10, () -> {
+            started.countDown();
+            never.await();
+        });
+        GenerationTask dependent = new GenerationTask(ArtifactKind.REPOSITORY, "slow", 1, () -> fail("must not run"))
+            .dependsOn(blocking);
+        GenerationTask queued = new GenerationTask(ArtifactKind.ENTITY, "queued", 1, () -> fail("must not run"));
+
+        AtomicReference<ScheduleReport> report = new AtomicReference<>();
+        Thread runner = new Thread(() -> report.set(new DagScheduler(1).run(List.of(blocking, dependent, queued))));
+        runner.start();
+        started.await();
+        runner.interrupt();
+        runner.join(5_000);
+
+        assertFalse(runner.isAlive());
+        assertTrue(report.get().isInterrupted());
+        assertFalse(report.get().isComplete());
+        assertEquals(GenerationTask.State.SKIPPED, dependent.getState());
+        assertEquals(GenerationTask.State.SKIPPED, queued.getState());
+        assertTrue(report.get().format().contains(", interrupted"));
+    }
+
+    @Test
+    void shouldRejectCyclesAndUnscheduledDependencies() {
+        GenerationTask a = new GenerationTask(ArtifactKind.ENTITY, "a", 1, () -> { });
+        GenerationTask b = new GenerationTask(ArtifactKind.ENTITY, "b", 1, () -> { }).dependsOn(a);
+        a.dependsOn(b);
+        assertThrows(IllegalArgumentException.class, () -> new DagScheduler(1).run(List.of(a, b)));
+
+        GenerationTask outside = new GenerationTask(ArtifactKind.ENTITY, "outside", 1, () -> { });
+        GenerationTask inside = new GenerationTask(ArtifactKind.REPOSITORY, "inside", 1, () -> { }).dependsOn(outside);
+        assertThrows(IllegalArgumentException.class, () -> new DagScheduler(1).run(List.of(inside)));
+    }
+}
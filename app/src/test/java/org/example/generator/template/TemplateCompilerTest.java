@@ -0,0 +1,129 @@
+package org.example.generator.template;
+
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.model.TableMetadata;
+import org.example.generator.entity.EntityGenerator;
+import org.example.generator.entity.EntityGeneratorOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemplateCompilerTest {
+
+    @Test
+    void rendersVariablesAndNestedPaths() {
+        Template template = TemplateCompiler.compile("t", "Hola {{name}} de {{address.city}}!{{missing}}");
+
+        String result = template.render(Map.of("name", "Ana", "address", Map.of("city", "Lima")));
+
+        assertEquals("Hola Ana de Lima!", result);
+    }
+
+    @Test
+    void rendersConditionalAndInvertedSections() {
+        Template template = TemplateCompiler.compile("t", "{{#lombok}}@Data{{/lombok}}{{^lombok}}getters{{/lombok}}");
+
+        assertEquals("@Data", template.render(Map.of("lombok", true)));
+        assertEquals("getters", template.render(Map.of("lombok", false)));
+        assertEquals("getters", template.render(Map.of()));
+    }
+
+    @Test
+    void iteratesListsWithIterationMarkers() {
+        Template template = TemplateCompiler.compile("t",
+            "({{#items}}{{@index}}={{name}}{{^@last}}, {{/@last}}{{/items}}){{#items}}{{#@first}}[{{prefix}}]{{/@first}}{{/items}}");
+
+        String result = template.render(Map.of(
+            "prefix", "p",
+            "items", List.of(Map.of("name", "a"), Map.of("name", "b"), Map.of("name", "c"))));
+
+        assertEquals("(0=a, 1=b, 2=c)[p]", result);
+    }
+
+    @Test
+    void evaluatesLazyValuesOncePerRender() {
+        Template template = TemplateCompiler.compile("t", "{{#items}}{{name}}{{/items}}|{{#items}}{{name}}{{/items}}");
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<List<Map<String, Object>>> items = () -> {
+            calls.incrementAndGet();
+            return List.of(Map.of("name", "a"), Map.of("name", "b"));
+        };
+
+        assertEquals("ab|ab", template.render(Map.of("items", items)));
+        assertEquals(1, calls.get());
+
+        // Cada renderizado vuelve a evaluarlo
+        template.render(Map.of("items", items));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void standaloneTagsDoNotLeaveBlankLines() {
+        Template template = TemplateCompiler.compile("t", """
+            class A {
+            {{! campos }}
+            {{#fields}}
+                int {{.}};
+            {{/fields}}
+            }
+            """);
+
+        assertEquals("class A {\n    int x;\n    int y;\n}\n", template.render(Map.of("fields", List.of("x", "y"))));
+    }
+
+    @Test
+    void rejectsUnbalancedSections() {
+        assertThrows(TemplateException.class, () -> TemplateCompiler.compile("t", "{{#a}}x"));
+        assertThrows(TemplateException.class, () -> TemplateCompiler.compile("t", "{{#a}}x{{/b}}"));
+        assertThrows(TemplateException.class, () -> TemplateCompiler.compile("t", "{{a"));
+    }
+
+    @Test
+    void defaultEntityTemplateMatchesHandWrittenOutput() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema("""
+            CREATE TABLE category (
+                id SERIAL PRIMARY KEY,
+                name VARCHAR(100) NOT NULL
+            );
+            CREATE TABLE product (
+                id SERIAL PRIMARY KEY,
+                price DECIMAL(10,2) NOT NULL,
+                category_id INTEGER REFERENCES category(id)
+            );
+            CREATE TABLE product_tag (
+                product_id INTEGER REFERENCES product(id),
+                tag VARCHAR(20),
+                PRIMARY KEY (product_id, tag)
+            );
+            """);
+        ForeignKeyGraph graph = ForeignKeyGraph.build(tables);
+        Template template = TemplateCompiler.compileResource(TemplateCompiler.DEFAULT_ENTITY_TEMPLATE);
+
+        for (boolean lombok : new boolean[]{false, true}) {
+            EntityGenerator handWritten = new EntityGenerator(lombok, graph);
+            EntityGenerator templated = new EntityGenerator(lombok, graph, EntityGeneratorOptions.defaults().withTemplate(template));
+            for (TableMetadata table : tables) {
+                assertEquals(handWritten.generateEntity(table, "com.example"),
+                    templated.generateEntity(table, "com.example"), table.getTableName());
+            }
+        }
+    }
+
+    @Test
+    void exposesColumnsToCustomTemplates() {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(
+            "CREATE TABLE item (id SERIAL PRIMARY KEY, unit_price DECIMAL(10,2) NOT NULL);");
+        Template template = TemplateCompiler.compile("t",
+            "{{className}}:{{#columns}} {{javaType}} {{fieldName}}{{#notNull}}!{{/notNull}}{{/columns}}");
+
+        String result = new EntityGenerator(false, null, EntityGeneratorOptions.defaults().withTemplate(template)).generateEntity(tables.get(0), "com.example");
+
+        assertEquals("Item: Integer id BigDecimal unitPrice!", result);
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.generator.verify;
+
+import org.example.configuration.model.EntityConfig;
+import org.example.configuration.model.IdConfig;
+import org.example.database.converter.AlterTableProcessor;
+import org.example.database.extractor.SchemaProcessor;
+import org.example.database.graph.ForeignKeyGraph;
+import org.example.database.model.TableMetadata;
+import org.example.generator.entity.EntityGenerator;
+import org.example.generator.entity.EntityGeneratorOptions;
+import org.example.generator.entity.RenderedEntity;
+import org.example.generator.entity.UuidV7GeneratorSources;
+import org.example.generator.entity.common.EntityPolicy;
+import org.example.generator.entity.common.IdPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompileVerifierTest {
+
+    private static final String SCHEMA = """
+        CREATE TABLE category (
+            id SERIAL PRIMARY KEY,
+            name VARCHAR(100) NOT NULL UNIQUE,
+            parent_id INTEGER REFERENCES category(id)
+        );
+        CREATE TABLE product (
+            id UUID PRIMARY KEY,
+            price DECIMAL(10,2) NOT NULL,
+            picture BYTEA,
+            created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+            category_id INTEGER REFERENCES category(id)
+        );
+        CREATE TABLE product_tag (
+            product_id UUID REFERENCES product(id),
+            tag VARCHAR(20),
+            PRIMARY KEY (product_id, tag)
+        );
+        CREATE INDEX idx_product_price ON product (price);
+        """;
+
+    private List<RenderedEntity> render(boolean lombok) {
+        return render(lombok, IdPolicy.defaults());
+    }
+
+    private List<RenderedEntity> render(boolean lombok, IdPolicy idPolicy) {
+        return render(lombok, idPolicy, EntityPolicy.defaults());
+    }
+
+    private List<RenderedEntity> render(boolean lombok, IdPolicy idPolicy, EntityPolicy entityPolicy) {
+        List<TableMetadata> tables = new SchemaProcessor().processSchema(SCHEMA);
+        new AlterTableProcessor().processAlterStatements(tables, SCHEMA);
+        EntityGenerator generator = new EntityGenerator(lombok, ForeignKeyGraph.build(tables),
+            EntityGeneratorOptions.defaults().withIdPolicy(idPolicy).withEntityPolicy(entityPolicy));
+
+        List<RenderedEntity> rendered = new ArrayList<>();
+        for (TableMetadata table : tables) {
+            rendered.add(new RenderedEntity(table, generator.generateEntity(table, "com.example.model")));
+        }
+        return rendered;
+    }
+
+    @Test
+    void generatedEntitiesCompile() {
+        CompileVerifier verifier = new CompileVerifier(2, null);
+
+        for (boolean lombok : new boolean[]{false, true}) {
+            VerificationResult result = verifier.verify(render(lombok), "com.example.model");
+
+            assertTrue(result.isSuccess(), "lombok=" + lombok + ": " + result.getErrors());
+            assertEquals(3, result.getCompiledFiles());
+        }
+    }
+
+    @Test
+    void errorsAreReportedByTable() {
+        List<RenderedEntity> rendered = render(false);
+        RenderedEntity product = rendered.get(1);
+        String broken = product.getContent().replace("import jakarta.persistence.Lob;\n", "");
+        rendered.set(1, new RenderedEntity(product.getTable(), broken));
+
+        VerificationResult result = new CompileVerifier(2, null).verify(rendered, "com.example.model");
+
+        assertFalse(result.isSuccess());
+        VerificationError error = result.getErrors().get(0);
+        assertEquals("product", error.getTableName());
+        assertEquals("Product", error.getClassName());
+        assertTrue(error.getLine() > 0);
+        assertTrue(result.getErrors().stream().allMatch(e -> "product".equals(e.getTableName())));
+    }
+
+    @Test
+    void uuidV7EntitiesCompileWithTheGeneratedIdGenerator() {
+        IdConfig config = new IdConfig();
+        config.setUuid("v7");
+        config.setStrategy("sequence");
+        List<RenderedEntity> rendered = render(false, IdPolicy.of(config));
+        assertTrue(rendered.get(1).getContent().contains("    @Id\n    @UuidV7\n"));
+        assertFalse(rendered.get(1).getContent().contains("GenerationType"));
+
+        CompileVerifier verifier = new CompileVerifier(2, null);
+        assertFalse(verifier.verify(rendered, "com.example.model").isSuccess());
+
+        VerificationResult result = verifier.verify(rendered, "com.example.model", UuidV7GeneratorSources.render("com.example.model"));
+        assertTrue(result.isSuccess(), result.getErrors().toString());
+    }
+
+    @Test
+    void compositeKeysWithCachedHashCompile() {
+        EntityConfig config = new EntityConfig();
+        config.setCacheKeyHash(true);
+        CompileVerifier verifier = new CompileVerifier(2, null);
+
+        for (boolean lombok : new boolean[]{false, true}) {
+            List<RenderedEntity> rendered = render(lombok, IdPolicy.defaults(), EntityPolicy.of(config));
+            String productTag = rendered.get(2).getContent();
+            assertTrue(productTag.contains("static final class ProductTagId implements Serializable"));
+            if (lombok) {
+                assertTrue(productTag.contains("@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)"));
+                String idClass = productTag.substring(productTag.indexOf("@Embeddable"));
+                assertFalse(idClass.contains("@Setter"), idClass);
+                assertTrue(idClass.contains("@AllArgsConstructor"));
+            } else {
+                assertTrue(productTag.contains("private transient int hash;"));
+                assertTrue(productTag.contains("result = 31 * result + (productId != null ? productId.hashCode() : 0);\n"
+                    + "                result = 31 * result + (tag != null ? tag.hashCode() : 0);"));
+                assertFalse(productTag.contains("Objects.hash"));
+            }
+
+            VerificationResult result = verifier.verify(rendered, "com.example.model");
+            assertTrue(result.isSuccess(), "lombok=" + lombok + ": " + result.getErrors());
+        }
+    }
+
+    @Test
+    void persistableAndLazyEntitiesCompile() {
+        EntityConfig config = new EntityConfig();
+        config.setPersistable(true);
+        config.setLazyColumns(true);
+        CompileVerifier verifier = new CompileVerifier(2, null);
+
+        for (boolean lombok : new boolean[]{false, true}) {
+            List<RenderedEntity> rendered = render(lombok, IdPolicy.defaults(), EntityPolicy.of(config));
+            // Solo la clave compuesta es asignada; SERIAL y UUID se generan
+            assertFalse(rendered.get(0).getContent().contains("Persistable"));
+            assertFalse(rendered.get(1).getContent().contains("Persistable"));
+            String productTag = rendered.get(2).getContent();
+            assertTrue(productTag.contains("public class ProductTag implements Persistable<ProductTag.ProductTagId> {"));
+            assertTrue(productTag.contains("    @PostLoad\n    @PostPersist\n    void markNotNew() {"));
+            assertTrue(rendered.get(1).getContent().contains("    @Lob\n    @Basic(fetch = FetchType.LAZY)\n"));
+
+            VerificationResult result = verifier.verify(rendered, "com.example.model");
+            assertTrue(result.isSuccess(), "lombok=" + lombok + ": " + result.getErrors());
+        }
+    }
+
+    @Test
+    void dynamicStatementsAndGeneratedColumnsCompile() {
+        EntityConfig config = new EntityConfig();
+        config.setDynamicStatements("both");
+        config.setGeneratedColumns(true);
+        config.setImmutableKeys(true);
+        config.setImmutableColumns(List.of("parent_id"));
+        CompileVerifier verifier = new CompileVerifier(2, null);
+
+        for (boolean lombok : new boolean[]{false, true}) {
+            List<RenderedEntity> rendered = render(lombok, IdPolicy.defaults(), EntityPolicy.of(config));
+            assertTrue(rendered.get(0).getContent().contains("        nullable = true,\n        updatable = false,\n"));
+            assertTrue(rendered.get(1).getContent().contains("    @Generated\n    @Column(name = \"created_at\", insertable = false"));
+            assertTrue(rendered.get(2).getContent().contains("        @Column(name = \"tag\", updatable = false)"));
+
+            VerificationResult result = verifier.verify(rendered, "com.example.model");
+            assertTrue(result.isSuccess(), "lombok=" + lombok + ": " + result.getErrors());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.generator.verify;
+
+import org.example.generator.entity.UuidV7GeneratorSources;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    private static final String PACKAGE = "com.example.model";
+
+    @Test
+    void shouldGenerateIncreasingVersion7Uuids() throws Exception {
+        Method next = compile().loadClass(PACKAGE + "." + UuidV7GeneratorSources.GENERATOR).getMethod("next");
+
+        int sameMillisecond = 0;
+        UUID previous = (UUID) next.invoke(null);
+        for (int i = 0; i < 10_000; i++) {
+            UUID current = (UUID) next.invoke(null);
+            assertEquals(7, current.version());
+            assertEquals(2, current.variant());
+            // Los bits altos son la marca de tiempo y el contador: deben crecer siempre
+            assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0,
+                previous + " -> " + current);
+            if (current.getMostSignificantBits() >>> 16 == previous.getMostSignificantBits() >>> 16) {
+                sameMillisecond++;
+            }
+            previous = current;
+        }
+        assertTrue(sameMillisecond > 0, "no ids were generated within the same millisecond");
+    }
+
+    /**
+     * Compila el generador junto a los stubs de Hibernate y carga el resultado en memoria.
+     */
+    private static ClassLoader compile() {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler, "a JDK is required to run the generated code");
+
+        List<MemoryFileManager.SourceFile> sources = new ArrayList<>();
+        PersistenceStubs.sources().forEach((name, source) -> sources.add(new MemoryFileManager.SourceFile(name, source)));
+        UuidV7GeneratorSources.render(PACKAGE).forEach((name, source) ->
+            sources.add(new MemoryFileManager.SourceFile(PACKAGE + "." + name, source)));
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager standard = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8);
+        Map<String, byte[]> classes = new HashMap<>();
+        try (MemoryFileManager fileManager = new MemoryFileManager(standard, Map.of(), Map.of(), false)) {
+            assertTrue(compiler.getTask(null, fileManager, diagnostics, List.of("-proc:none", "-nowarn"), null, sources).call(),
+                diagnostics.getDiagnostics().toString());
+            for (MemoryFileManager.OutputFile output : fileManager.getOutputs()) {
+                classes.put(output.getBinaryName(), output.getBytes());
+            }
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+
+        return new ClassLoader(UuidV7GeneratorTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                byte[] bytes = classes.get(name);
+                if (bytes == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+    }
+}